@@ -0,0 +1,240 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.maven;
+
+import lombok.NonNull;
+import lombok.val;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import ru.progrm_jarvis.reflector.bytecode.asm.PrecompiledAccessors;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Member;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Generates accessors of the project's members ahead of time
+ * so that Reflector loads them instead of generating them at runtime (see {@link PrecompiledAccessors}).
+ * Members are either declared explicitly (see {@link MemberParser} for the format)
+ * or are members of the project's classes annotated by any of the given annotations.
+ * <p>
+ * Only accessors of members accessible from any class (public members of public classes)
+ * can be precompiled, other members are skipped.
+ */
+@Mojo(
+        name = "generate-accessors", defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+        requiresDependencyResolution = ResolutionScope.COMPILE, threadSafe = true
+)
+public class GenerateAccessorsMojo extends AbstractMojo {
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    /**
+     * Directory of the project's classes to which the accessors and their index are written
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File outputDirectory;
+
+    /**
+     * Members whose accessors should be generated
+     */
+    @Parameter
+    private List<String> members = new ArrayList<>();
+
+    /**
+     * Names of annotations (retained at runtime) marking members of the project's classes
+     * whose accessors should be generated
+     */
+    @Parameter
+    private List<String> annotations = new ArrayList<>();
+
+    /**
+     * Whether the build should fail if an accessor of a member cannot be precompiled instead of skipping it
+     */
+    @Parameter(defaultValue = "false")
+    private boolean failOnUnsupported;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (members.isEmpty() && annotations.isEmpty()) {
+            getLog().info("No members to generate accessors for");
+            return;
+        }
+
+        try (val classLoader = createProjectClassLoader()) {
+            final Set<Member> resolvedMembers = new LinkedHashSet<>();
+            for (val member : members) try {
+                resolvedMembers.add(MemberParser.parse(member, classLoader));
+            } catch (final IllegalArgumentException e) {
+                throw new MojoExecutionException(e.getMessage(), e);
+            }
+            if (!annotations.isEmpty()) resolvedMembers.addAll(findAnnotatedMembers(classLoader));
+
+            // sorted so that the index is the same for the same members
+            final Map<String, String> index = new TreeMap<>();
+            for (val member : resolvedMembers) {
+                if (!PrecompiledAccessors.isPrecompilable(member)) {
+                    val message = "Accessor of " + member + " cannot be precompiled as it is not accessible directly";
+                    if (failOnUnsupported) throw new MojoExecutionException(message);
+                    getLog().warn(message);
+                    continue;
+                }
+
+                val className = PrecompiledAccessors.className(member);
+                val classFile = outputDirectory.toPath().resolve(className.replace('.', '/').concat(".class"));
+                Files.createDirectories(classFile.getParent());
+                Files.write(classFile, PrecompiledAccessors.generateBytecode(member));
+                index.put(PrecompiledAccessors.key(member), className);
+            }
+
+            writeIndex(index);
+            getLog().info("Generated " + index.size() + " accessors");
+        } catch (final IOException | DependencyResolutionRequiredException e) {
+            throw new MojoExecutionException("Could not generate accessors", e);
+        }
+    }
+
+    /**
+     * Creates the class loader of the project's classes and their dependencies
+     * whose parent is the class loader of this plugin so that they share Reflector's classes.
+     *
+     * @return created class loader
+     * @throws DependencyResolutionRequiredException if the project's dependencies are not resolved
+     * @throws IOException if a classpath element cannot be converted to URL
+     */
+    private URLClassLoader createProjectClassLoader() throws DependencyResolutionRequiredException, IOException {
+        val classpathElements = project.getCompileClasspathElements();
+        val urls = new URL[classpathElements.size()];
+        for (int i = 0; i < urls.length; i++) urls[i] = new File(classpathElements.get(i)).toURI().toURL();
+
+        return new URLClassLoader(urls, getClass().getClassLoader());
+    }
+
+    /**
+     * Finds members of the project's classes annotated by any of the {@link #annotations}.
+     *
+     * @param classLoader class loader of the project's classes
+     * @return found members
+     * @throws MojoExecutionException if an annotation cannot be loaded
+     * @throws IOException if the classes cannot be listed
+     */
+    @SuppressWarnings("unchecked")
+    private List<Member> findAnnotatedMembers(@NonNull final ClassLoader classLoader)
+            throws MojoExecutionException, IOException {
+        final List<Class<? extends Annotation>> annotationClasses = new ArrayList<>();
+        for (val annotation : annotations) try {
+            annotationClasses.add((Class<? extends Annotation>) Class.forName(annotation, false, classLoader));
+        } catch (final ClassNotFoundException | LinkageError e) {
+            throw new MojoExecutionException("Cannot load annotation " + annotation, e);
+        }
+
+        final List<Member> annotatedMembers = new ArrayList<>();
+        if (!outputDirectory.isDirectory()) return annotatedMembers;
+
+        val root = outputDirectory.toPath();
+        final List<Path> classFiles;
+        try (val paths = Files.walk(root)) {
+            classFiles = paths
+                    .filter(path -> path.toString().endsWith(".class"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        for (val classFile : classFiles) {
+            val relativePath = root.relativize(classFile).toString();
+            val className = relativePath.substring(0, relativePath.length() - ".class".length())
+                    .replace(File.separatorChar, '.');
+            if (className.startsWith(PrecompiledAccessors.CLASS_NAME_PREFIX)) continue;
+
+            final Class<?> clazz;
+            try {
+                clazz = Class.forName(className, false, classLoader);
+            } catch (final ClassNotFoundException | LinkageError e) {
+                getLog().debug("Skipping class " + className + " which cannot be loaded", e);
+                continue;
+            }
+
+            final List<AccessibleObject> classMembers = new ArrayList<>();
+            Collections.addAll(classMembers, clazz.getDeclaredFields());
+            Collections.addAll(classMembers, clazz.getDeclaredMethods());
+            Collections.addAll(classMembers, clazz.getDeclaredConstructors());
+            for (val member : classMembers) if (!((Member) member).isSynthetic()
+                    && annotationClasses.stream().anyMatch(member::isAnnotationPresent)) {
+                annotatedMembers.add((Member) member);
+            }
+        }
+
+        return annotatedMembers;
+    }
+
+    /**
+     * Writes the index of the generated accessors.
+     *
+     * @param index map of members' keys to names of their accessors' classes
+     * @throws IOException if the index cannot be written
+     */
+    private void writeIndex(@NonNull final Map<String, String> index) throws IOException {
+        val indexFile = outputDirectory.toPath().resolve(PrecompiledAccessors.INDEX_RESOURCE);
+        if (index.isEmpty()) {
+            Files.deleteIfExists(indexFile);
+            return;
+        }
+
+        // not using Properties#store(...) as it writes current date making the output not reproducible
+        val content = new StringBuilder("# accessors generated by reflector-maven-plugin\n");
+        for (val entry : index.entrySet()) content
+                .append(escape(entry.getKey())).append('=').append(escape(entry.getValue())).append('\n');
+
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, content.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Escapes the string to be written as a key or a value of properties.
+     *
+     * @param string string to escape
+     * @return escaped string
+     */
+    private static String escape(@NonNull final String string) {
+        val escaped = new StringBuilder(string.length());
+        for (val character : string.toCharArray()) {
+            if (character > 0x7E || character < 0x20) escaped.append(String.format("\\u%04X", (int) character));
+            else {
+                if ("\\:=#! ".indexOf(character) != -1) escaped.append('\\');
+                escaped.append(character);
+            }
+        }
+
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.maven;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Member;
+
+/**
+ * Parser of members declared in plugin configuration.
+ * Members are written as {@code <class>#<field>} for fields, {@code <class>#<method>(<parameter types>)}
+ * for methods and {@code <class>#<init>(<parameter types>)} for constructors
+ * where parameter types are comma-separated names of classes (with {@code $} for nested ones),
+ * primitive types and arrays of them (with trailing {@code []}), for example
+ * {@code java.util.Map$Entry#setValue(java.lang.Object)} or {@code java.lang.String#<init>(char[],int,int)}.
+ */
+@UtilityClass
+public class MemberParser {
+
+    /**
+     * Name of constructors
+     */
+    private final String CONSTRUCTOR_NAME = "<init>";
+
+    /**
+     * Parses the member.
+     *
+     * @param member member's declaration
+     * @param classLoader class loader used for loading the classes
+     * @return parsed member
+     * @throws IllegalArgumentException if the declaration is malformed or the member does not exist
+     */
+    public Member parse(@NonNull final String member, @NonNull final ClassLoader classLoader) {
+        val declaration = member.replaceAll("\\s", "");
+        val separatorIndex = declaration.indexOf('#');
+        if (separatorIndex <= 0) throw new IllegalArgumentException(
+                "Member " + member + " should be declared as <class>#<name>[(<parameter types>)]"
+        );
+
+        val declaringClass = loadClass(declaration.substring(0, separatorIndex), classLoader);
+        val parametersIndex = declaration.indexOf('(', separatorIndex);
+        try {
+            if (parametersIndex == -1) return declaringClass
+                    .getDeclaredField(declaration.substring(separatorIndex + 1));
+
+            if (!declaration.endsWith(")")) throw new IllegalArgumentException(
+                    "Parameter types of member " + member + " should be enclosed in parentheses"
+            );
+            val name = declaration.substring(separatorIndex + 1, parametersIndex);
+            val parameterTypes = parseParameterTypes(
+                    declaration.substring(parametersIndex + 1, declaration.length() - 1), classLoader
+            );
+
+            return name.equals(CONSTRUCTOR_NAME)
+                    ? declaringClass.getDeclaredConstructor(parameterTypes)
+                    : declaringClass.getDeclaredMethod(name, parameterTypes);
+        } catch (final NoSuchFieldException | NoSuchMethodException e) {
+            throw new IllegalArgumentException("Member " + member + " does not exist", e);
+        }
+    }
+
+    private Class<?>[] parseParameterTypes(@NonNull final String parameterTypes,
+                                           @NonNull final ClassLoader classLoader) {
+        if (parameterTypes.isEmpty()) return new Class<?>[0];
+
+        val names = parameterTypes.split(",");
+        val types = new Class<?>[names.length];
+        for (int i = 0; i < names.length; i++) types[i] = loadClass(names[i], classLoader);
+
+        return types;
+    }
+
+    /**
+     * Loads the class by its name which may be the name of a primitive type or an array.
+     *
+     * @param name name of the class
+     * @param classLoader class loader used for loading the class
+     * @return loaded class
+     * @throws IllegalArgumentException if there is no such class
+     */
+    private Class<?> loadClass(@NonNull final String name, @NonNull final ClassLoader classLoader) {
+        if (name.endsWith("[]")) return Array.newInstance(
+                loadClass(name.substring(0, name.length() - 2), classLoader), 0
+        ).getClass();
+
+        switch (name) {
+            case "boolean": return boolean.class;
+            case "byte": return byte.class;
+            case "char": return char.class;
+            case "short": return short.class;
+            case "int": return int.class;
+            case "long": return long.class;
+            case "float": return float.class;
+            case "double": return double.class;
+            default: try {
+                return Class.forName(name, false, classLoader);
+            } catch (final ClassNotFoundException | LinkageError e) {
+                throw new IllegalArgumentException("Cannot load class " + name, e);
+            }
+        }
+    }
+}
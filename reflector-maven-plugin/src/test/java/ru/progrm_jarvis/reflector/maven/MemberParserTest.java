@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.maven;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberParserTest {
+
+    private static final ClassLoader CLASS_LOADER = MemberParserTest.class.getClassLoader();
+
+    @Test
+    void testParse() throws NoSuchMethodException, NoSuchFieldException {
+        assertEquals(
+                Map.Entry.class.getDeclaredMethod("setValue", Object.class),
+                MemberParser.parse("java.util.Map$Entry#setValue(java.lang.Object)", CLASS_LOADER)
+        );
+        assertEquals(
+                String.class.getDeclaredConstructor(char[].class, int.class, int.class),
+                MemberParser.parse("java.lang.String#<init>(char[], int, int)", CLASS_LOADER)
+        );
+        assertEquals(
+                ArrayList.class.getDeclaredConstructor(),
+                MemberParser.parse("java.util.ArrayList#<init>()", CLASS_LOADER)
+        );
+        assertEquals(
+                ArrayList.class.getDeclaredField("size"),
+                MemberParser.parse("java.util.ArrayList#size", CLASS_LOADER)
+        );
+        assertEquals(
+                TestClass.class.getDeclaredMethod("sum", int[][].class),
+                MemberParser.parse(TestClass.class.getName() + "#sum(int[][])", CLASS_LOADER)
+        );
+    }
+
+    @Test
+    void testParseInvalid() {
+        for (val member : new String[]{
+                "size", "java.util.ArrayList#", "java.util.ArrayList#get(int", "java.util.ArrayList#get(long)",
+                "foo.Bar#baz"
+        }) assertThrows(IllegalArgumentException.class, () -> MemberParser.parse(member, CLASS_LOADER));
+    }
+
+    private static class TestClass {
+
+        private static int sum(final int[][] values) {
+            return values.length;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import lombok.val;
+import org.jetbrains.annotations.Nullable;
 import ru.progrm_jarvis.reflector.util.function.CheckedConsumer;
 import ru.progrm_jarvis.reflector.util.function.CheckedFunction;
 
@@ -33,15 +34,74 @@ public class AccessHelper {
 
     /**
      * {@code modifiers} field of {@link Field} class used for manipulating its flags
+     * or {@code null} if it is not available (as it is hidden from reflection since Java 12)
      */
-    private static final Field FIELD_MODIFIERS;
+    @Nullable private static final Field FIELD_MODIFIERS;
 
     static {
+        Field fieldModifiers;
         try {
-            FIELD_MODIFIERS = Field.class.getDeclaredField("modifiers");
+            fieldModifiers = Field.class.getDeclaredField("modifiers");
         } catch (final NoSuchFieldException e) {
-            throw new RuntimeException("Could not initialize reflector's AccessHelper due to exception", e);
+            fieldModifiers = null;
         }
+        FIELD_MODIFIERS = fieldModifiers;
+    }
+
+    /**
+     * Creates a copy of the field which is permanently accessible.
+     * Unlike toggling accessibility of the field on each operation, this performs access checks only once
+     * and never changes the state of the original field (which may be shared by other threads),
+     * so the copy should be created once and then used privately.
+     *
+     * @param field field whose copy to create
+     * @return accessible copy of the field
+     */
+    @SneakyThrows
+    public Field accessibleCopy(@NonNull final Field field) {
+        val copy = field.getDeclaringClass().getDeclaredField(field.getName());
+        copy.setAccessible(true);
+
+        return copy;
+    }
+
+    /**
+     * Creates a copy of the method which is permanently accessible.
+     * Unlike toggling accessibility of the method on each operation, this performs access checks only once
+     * and never changes the state of the original method (which may be shared by other threads),
+     * so the copy should be created once and then used privately.
+     *
+     * @param method method whose copy to create
+     * @return accessible copy of the method
+     */
+    @SneakyThrows
+    public Method accessibleCopy(@NonNull final Method method) {
+        // methods are compared including return types as there may be bridge methods with the same parameters
+        for (val copy : method.getDeclaringClass().getDeclaredMethods()) if (copy.equals(method)) {
+            copy.setAccessible(true);
+
+            return copy;
+        }
+
+        throw new NoSuchMethodException(method.toString());
+    }
+
+    /**
+     * Creates a copy of the constructor which is permanently accessible.
+     * Unlike toggling accessibility of the constructor on each operation, this performs access checks only once
+     * and never changes the state of the original constructor (which may be shared by other threads),
+     * so the copy should be created once and then used privately.
+     *
+     * @param constructor constructor whose copy to create
+     * @param <T> type of object created by the constructor
+     * @return accessible copy of the constructor
+     */
+    @SneakyThrows
+    public <T> Constructor<T> accessibleCopy(@NonNull final Constructor<T> constructor) {
+        val copy = constructor.getDeclaringClass().getDeclaredConstructor(constructor.getParameterTypes());
+        copy.setAccessible(true);
+
+        return copy;
     }
 
     public  <T extends AccessibleObject, R> R accessAndGet(final T object, final CheckedFunction<T, R> checkedFunction)
@@ -60,17 +120,29 @@ public class AccessHelper {
         if (object.isAccessible()) checkedConsumer.consume(object);
         else try {
             object.setAccessible(true);
-            FIELD_MODIFIERS.setAccessible(true);
             checkedConsumer.consume(object);
         } finally {
             object.setAccessible(false);
         }
     }
 
+    /**
+     * Performs the operation on the field making it temporarily accessible and non-final.
+     *
+     * @param field field on which to operate
+     * @param checkedFunction operation to perform on the field
+     * @param <R> type of the result of the operation
+     * @return result of the operation
+     * @deprecated the field's modifiers and accessibility are changed and restored on each call which is slow,
+     * races with other threads using the same field and does not work since Java 12;
+     * use {@link FinalFieldWriter} for writing (possibly final) fields
+     * or {@link #accessibleCopy(Field)} for other operations
+     */
+    @Deprecated
     @SneakyThrows
     public <R> R operateAndGet(@NonNull final Field field, @NonNull final CheckedFunction<Field, R> checkedFunction) {
         val modifiers = field.getModifiers();
-        if (Modifier.isFinal(modifiers)) {
+        if (FIELD_MODIFIERS != null && Modifier.isFinal(modifiers)) {
             if (!FIELD_MODIFIERS.isAccessible()) FIELD_MODIFIERS.setAccessible(true);
             try {
                 FIELD_MODIFIERS.set(field, modifiers & ~Modifier.FINAL);
@@ -82,10 +154,21 @@ public class AccessHelper {
         return accessAndGet(field, checkedFunction);
     }
 
+    /**
+     * Performs the operation on the field making it temporarily accessible and non-final.
+     *
+     * @param field field on which to operate
+     * @param checkedConsumer operation to perform on the field
+     * @deprecated the field's modifiers and accessibility are changed and restored on each call which is slow,
+     * races with other threads using the same field and does not work since Java 12;
+     * use {@link FinalFieldWriter} for writing (possibly final) fields
+     * or {@link #accessibleCopy(Field)} for other operations
+     */
+    @Deprecated
     @SneakyThrows
     public void operate(@NonNull final Field field, @NonNull final CheckedConsumer<Field> checkedConsumer) {
         val modifiers = field.getModifiers();
-        if (Modifier.isFinal(modifiers)) {
+        if (FIELD_MODIFIERS != null && Modifier.isFinal(modifiers)) {
             if (!FIELD_MODIFIERS.isAccessible()) FIELD_MODIFIERS.setAccessible(true);
             try {
                 FIELD_MODIFIERS.set(field, modifiers & ~Modifier.FINAL);
@@ -96,24 +179,64 @@ public class AccessHelper {
         } else access(field, checkedConsumer);
     }
 
+    /**
+     * Performs the operation on the method making it temporarily accessible.
+     *
+     * @param method method on which to operate
+     * @param checkedFunction operation to perform on the method
+     * @param <R> type of the result of the operation
+     * @return result of the operation
+     * @deprecated the method's accessibility is changed and restored on each call which is slow
+     * and races with other threads using the same method; use {@link #accessibleCopy(Method)} instead
+     */
+    @Deprecated
     @SneakyThrows
     public <R> R operateAndGet(@NonNull final Method method,
                                @NonNull final CheckedFunction<Method, R> checkedFunction) {
         return accessAndGet(method, checkedFunction);
     }
 
+    /**
+     * Performs the operation on the method making it temporarily accessible.
+     *
+     * @param method method on which to operate
+     * @param checkedConsumer operation to perform on the method
+     * @deprecated the method's accessibility is changed and restored on each call which is slow
+     * and races with other threads using the same method; use {@link #accessibleCopy(Method)} instead
+     */
+    @Deprecated
     @SneakyThrows
     public void operate(@NonNull final Method method,
                         @NonNull final CheckedConsumer<Method> checkedConsumer) {
         access(method, checkedConsumer);
     }
 
+    /**
+     * Performs the operation on the constructor making it temporarily accessible.
+     *
+     * @param constructor constructor on which to operate
+     * @param checkedFunction operation to perform on the constructor
+     * @param <R> type of the result of the operation
+     * @return result of the operation
+     * @deprecated the constructor's accessibility is changed and restored on each call which is slow
+     * and races with other threads using the same constructor; use {@link #accessibleCopy(Constructor)} instead
+     */
+    @Deprecated
     @SneakyThrows
     public <R> R operateAndGet(@NonNull final Constructor constructor,
                                @NonNull final CheckedFunction<Constructor, R> checkedFunction) {
         return accessAndGet(constructor, checkedFunction);
     }
 
+    /**
+     * Performs the operation on the constructor making it temporarily accessible.
+     *
+     * @param constructor constructor on which to operate
+     * @param checkedConsumer operation to perform on the constructor
+     * @deprecated the constructor's accessibility is changed and restored on each call which is slow
+     * and races with other threads using the same constructor; use {@link #accessibleCopy(Constructor)} instead
+     */
+    @Deprecated
     @SneakyThrows
     public void operate(@NonNull final Constructor constructor,
                         @NonNull final CheckedConsumer<Constructor> checkedConsumer) {
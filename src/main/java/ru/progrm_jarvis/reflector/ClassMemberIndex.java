@@ -0,0 +1,403 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.invoke.MethodHandleUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of members of a class and all its parents by their names and parameter types.
+ * The members are the same as the ones which would be first found by {@link RecursiveClassDigger}
+ * (including interfaces for methods) so that repeated lookups do not walk the hierarchy
+ * and copy arrays of declared members. Each part of the index is lazily built once
+ * (reusing the indices of parents) and is cached per class using {@link ClassValue}.
+ * <p>
+ * The index stores the resolved members but never exposes them, so each lookup returns a new copy of the member
+ * (as {@link Class#getDeclaredField(String)} and similar methods do) whose state may be freely changed.
+ * The copies are created by the JDK's own (package-private) {@code copy()} methods of the members if they are
+ * accessible (Java 8) which only allocates the copy and by looking the member up in its declaring class otherwise.
+ */
+final class ClassMemberIndex {
+
+    /**
+     * Indices of classes
+     */
+    private static final ClassValue<ClassMemberIndex> INDICES = new ClassValue<ClassMemberIndex>() {
+        @Override
+        protected ClassMemberIndex computeValue(final Class<?> type) {
+            return new ClassMemberIndex(type);
+        }
+    };
+
+    /**
+     * Method handle of {@code Field#copy()} of type {@code (Field)Field}
+     * or {@code null} if it is not accessible (as {@code java.lang.reflect} is not open since Java 9)
+     */
+    @Nullable private static final MethodHandle FIELD_COPY;
+
+    /**
+     * Getter of {@code Field#root} of type {@code (Field)Field} or {@code null} if {@link #FIELD_COPY} is not available
+     */
+    @Nullable private static final MethodHandle FIELD_ROOT;
+
+    /**
+     * Method handle of {@code Method#copy()} of type {@code (Method)Method}
+     * or {@code null} if it is not accessible (as {@code java.lang.reflect} is not open since Java 9)
+     */
+    @Nullable private static final MethodHandle METHOD_COPY;
+
+    /**
+     * Getter of {@code Method#root} of type {@code (Method)Method}
+     * or {@code null} if {@link #METHOD_COPY} is not available
+     */
+    @Nullable private static final MethodHandle METHOD_ROOT;
+
+    /**
+     * Method handle of {@code Constructor#copy()} of type {@code (Constructor)Constructor}
+     * or {@code null} if it is not accessible (as {@code java.lang.reflect} is not open since Java 9)
+     */
+    @Nullable private static final MethodHandle CONSTRUCTOR_COPY;
+
+    /**
+     * Getter of {@code Constructor#root} of type {@code (Constructor)Constructor}
+     * or {@code null} if {@link #CONSTRUCTOR_COPY} is not available
+     */
+    @Nullable private static final MethodHandle CONSTRUCTOR_ROOT;
+
+    static {
+        MethodHandle fieldCopy = null, fieldRoot = null, methodCopy = null, methodRoot = null,
+                constructorCopy = null, constructorRoot = null;
+        if (!modulesSupported()) try {
+            MethodHandles.Lookup lookup = MethodHandleUtil.privateLookupIn(Field.class);
+            fieldCopy = lookup.findVirtual(Field.class, "copy", MethodType.methodType(Field.class));
+            fieldRoot = lookup.findGetter(Field.class, "root", Field.class);
+
+            lookup = MethodHandleUtil.privateLookupIn(Method.class);
+            methodCopy = lookup.findVirtual(Method.class, "copy", MethodType.methodType(Method.class));
+            methodRoot = lookup.findGetter(Method.class, "root", Method.class);
+
+            lookup = MethodHandleUtil.privateLookupIn(Constructor.class);
+            constructorCopy = lookup.findVirtual(Constructor.class, "copy", MethodType.methodType(Constructor.class));
+            constructorRoot = lookup.findGetter(Constructor.class, "root", Constructor.class);
+        } catch (final Exception e) {
+            // members are copied by looking them up in their declaring classes
+            fieldCopy = fieldRoot = methodCopy = methodRoot = constructorCopy = constructorRoot = null;
+        }
+
+        FIELD_COPY = fieldCopy;
+        FIELD_ROOT = fieldRoot;
+        METHOD_COPY = methodCopy;
+        METHOD_ROOT = methodRoot;
+        CONSTRUCTOR_COPY = constructorCopy;
+        CONSTRUCTOR_ROOT = constructorRoot;
+    }
+
+    /**
+     * Class whose members are indexed
+     */
+    @NonNull private final Class<?> clazz;
+
+    /**
+     * Fields by their names or {@code null} if it is not yet built
+     */
+    @Nullable private volatile Map<String, Field> fields;
+
+    /**
+     * Parameter types of methods by their names or {@code null} if it is not yet built
+     */
+    @Nullable private volatile Map<String, List<Class<?>>> methods;
+
+    /**
+     * Methods by their names and parameter types or {@code null} if it is not yet built
+     */
+    @Nullable private volatile Map<String, Map<List<Class<?>>, Method>> methodsBySignature;
+
+    /**
+     * Constructors by their parameter types or {@code null} if it is not yet built
+     */
+    @Nullable private volatile Map<List<Class<?>>, Constructor<?>> constructors;
+
+    private ClassMemberIndex(@NonNull final Class<?> clazz) {
+        this.clazz = clazz;
+    }
+
+    /**
+     * Gets the index of the class.
+     *
+     * @param clazz class whose index to get
+     * @return index of the class
+     */
+    static ClassMemberIndex of(@NonNull final Class<?> clazz) {
+        return INDICES.get(clazz);
+    }
+
+    /**
+     * Gets the field declared by the class or its nearest superclass.
+     *
+     * @param name name of the field
+     * @return copy of the found field or {@code null} if there is none
+     */
+    @Nullable
+    Field field(@NonNull final String name) {
+        val field = fields().get(name);
+
+        return field == null ? null : copy(field);
+    }
+
+    /**
+     * Gets the method declared by the class, its superclasses or interfaces.
+     * If there are multiple methods with the name, the first one found by
+     * {@link RecursiveClassDigger} (checking interfaces after superclasses) is returned.
+     *
+     * @param name name of the method
+     * @return copy of the found method or {@code null} if there is none
+     */
+    @Nullable
+    Method method(@NonNull final String name) {
+        val parameterTypes = methods().get(name);
+
+        return parameterTypes == null ? null : method(name, parameterTypes);
+    }
+
+    /**
+     * Gets the method declared by the class, its superclasses or interfaces.
+     *
+     * @param name name of the method
+     * @param parameterTypes parameter types of the method
+     * @return copy of the found method or {@code null} if there is none
+     */
+    @Nullable
+    Method method(@NonNull final String name, @NonNull final Class<?>[] parameterTypes) {
+        return method(name, Arrays.asList(parameterTypes));
+    }
+
+    @Nullable
+    private Method method(@NonNull final String name, @NonNull final List<Class<?>> parameterTypes) {
+        val methods = methodsBySignature().get(name);
+        if (methods == null) return null;
+
+        val method = methods.get(parameterTypes);
+        return method == null ? null : copy(method);
+    }
+
+    /**
+     * Gets the constructor declared by the class or its nearest superclass.
+     *
+     * @param parameterTypes parameter types of the constructor
+     * @return copy of the found constructor or {@code null} if there is none
+     */
+    @Nullable
+    Constructor<?> constructor(@NonNull final Class<?>[] parameterTypes) {
+        val constructor = constructors().get(Arrays.asList(parameterTypes));
+
+        return constructor == null ? null : copy(constructor);
+    }
+
+    private Map<String, Field> fields() {
+        Map<String, Field> fields = this.fields;
+        if (fields == null) {
+            fields = new HashMap<>();
+            for (val field : clazz.getDeclaredFields()) fields.putIfAbsent(field.getName(), root(field));
+
+            final Class<?> superclass = clazz.getSuperclass();
+            if (superclass != null) for (val entry : of(superclass).fields().entrySet()) fields
+                    .putIfAbsent(entry.getKey(), entry.getValue());
+
+            this.fields = fields;
+        }
+
+        return fields;
+    }
+
+    private Map<String, List<Class<?>>> methods() {
+        Map<String, List<Class<?>>> methods = this.methods;
+        if (methods == null) {
+            methods = new HashMap<>();
+            for (val method : clazz.getDeclaredMethods()) methods
+                    .putIfAbsent(method.getName(), Arrays.asList(method.getParameterTypes()));
+
+            final Class<?> superclass = clazz.getSuperclass();
+            if (superclass != null) for (val entry : of(superclass).methods().entrySet()) methods
+                    .putIfAbsent(entry.getKey(), entry.getValue());
+            for (val superInterface : clazz.getInterfaces()) for (val entry : of(superInterface).methods()
+                    .entrySet()) methods.putIfAbsent(entry.getKey(), entry.getValue());
+
+            this.methods = methods;
+        }
+
+        return methods;
+    }
+
+    private Map<String, Map<List<Class<?>>, Method>> methodsBySignature() {
+        Map<String, Map<List<Class<?>>, Method>> methods = methodsBySignature;
+        if (methods == null) {
+            methods = new HashMap<>();
+            // as Class#getDeclaredMethod(String, Class[]) does, the method with the most specific return type
+            // is chosen among the ones having the same parameter types (which differ from it by bridge methods)
+            for (val method : clazz.getDeclaredMethods()) methods
+                    .computeIfAbsent(method.getName(), name -> new HashMap<>())
+                    .merge(Arrays.asList(method.getParameterTypes()), root(method), (chosen, candidate) -> chosen
+                            .getReturnType().isAssignableFrom(candidate.getReturnType()) ? candidate : chosen);
+
+            final Class<?> superclass = clazz.getSuperclass();
+            if (superclass != null) mergeMethods(methods, of(superclass).methodsBySignature());
+            for (val superInterface : clazz.getInterfaces()) mergeMethods(
+                    methods, of(superInterface).methodsBySignature()
+            );
+
+            methodsBySignature = methods;
+        }
+
+        return methods;
+    }
+
+    private static void mergeMethods(@NonNull final Map<String, Map<List<Class<?>>, Method>> methods,
+                                     @NonNull final Map<String, Map<List<Class<?>>, Method>> parentMethods) {
+        for (val entry : parentMethods.entrySet()) {
+            val overloads = methods.computeIfAbsent(entry.getKey(), name -> new HashMap<>());
+            for (val overload : entry.getValue().entrySet()) overloads
+                    .putIfAbsent(overload.getKey(), overload.getValue());
+        }
+    }
+
+    private Map<List<Class<?>>, Constructor<?>> constructors() {
+        Map<List<Class<?>>, Constructor<?>> constructors = this.constructors;
+        if (constructors == null) {
+            constructors = new HashMap<>();
+            for (val constructor : clazz.getDeclaredConstructors()) constructors
+                    .putIfAbsent(Arrays.asList(constructor.getParameterTypes()), root(constructor));
+
+            final Class<?> superclass = clazz.getSuperclass();
+            if (superclass != null) for (val entry : of(superclass).constructors().entrySet()) constructors
+                    .putIfAbsent(entry.getKey(), entry.getValue());
+
+            this.constructors = constructors;
+        }
+
+        return constructors;
+    }
+
+    /**
+     * Checks whether modules are supported by current JVM (so {@code java.lang.reflect} is not open).
+     *
+     * @return {@code true} if modules are supported by current JVM and {@code false} otherwise
+     */
+    private static boolean modulesSupported() {
+        try {
+            Class.forName("java.lang.Module");
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the JDK's root of the field, which is the only one which may be copied, if it is available.
+     *
+     * @param field field whose root to get
+     * @return root of the field or the field itself if the root is not available
+     */
+    @SneakyThrows
+    private static Field root(@NonNull final Field field) {
+        if (FIELD_ROOT == null) return field;
+
+        val root = (Field) FIELD_ROOT.invokeExact(field);
+        return root == null ? field : root;
+    }
+
+    /**
+     * Gets the JDK's root of the method, which is the only one which may be copied, if it is available.
+     *
+     * @param method method whose root to get
+     * @return root of the method or the method itself if the root is not available
+     */
+    @SneakyThrows
+    private static Method root(@NonNull final Method method) {
+        if (METHOD_ROOT == null) return method;
+
+        val root = (Method) METHOD_ROOT.invokeExact(method);
+        return root == null ? method : root;
+    }
+
+    /**
+     * Gets the JDK's root of the constructor, which is the only one which may be copied, if it is available.
+     *
+     * @param constructor constructor whose root to get
+     * @return root of the constructor or the constructor itself if the root is not available
+     */
+    @SneakyThrows
+    private static Constructor<?> root(@NonNull final Constructor<?> constructor) {
+        if (CONSTRUCTOR_ROOT == null) return constructor;
+
+        val root = (Constructor<?>) CONSTRUCTOR_ROOT.invokeExact(constructor);
+        return root == null ? constructor : root;
+    }
+
+    /**
+     * Creates a copy of the indexed field.
+     *
+     * @param field indexed field
+     * @return copy of the field
+     */
+    @SneakyThrows
+    private static Field copy(@NonNull final Field field) {
+        if (FIELD_COPY != null) return (Field) FIELD_COPY.invokeExact(field);
+
+        return field.getDeclaringClass().getDeclaredField(field.getName());
+    }
+
+    /**
+     * Creates a copy of the indexed method.
+     *
+     * @param method indexed method
+     * @return copy of the method
+     */
+    @SneakyThrows
+    private static Method copy(@NonNull final Method method) {
+        if (METHOD_COPY != null) return (Method) METHOD_COPY.invokeExact(method);
+
+        return method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes());
+    }
+
+    /**
+     * Creates a copy of the indexed constructor.
+     *
+     * @param constructor indexed constructor
+     * @return copy of the constructor
+     */
+    @SneakyThrows
+    private static Constructor<?> copy(@NonNull final Constructor<?> constructor) {
+        if (CONSTRUCTOR_COPY != null) return (Constructor<?>) CONSTRUCTOR_COPY.invokeExact(constructor);
+
+        return constructor.getDeclaringClass().getDeclaredConstructor(constructor.getParameterTypes());
+    }
+}
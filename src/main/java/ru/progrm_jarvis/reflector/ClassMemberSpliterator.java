@@ -0,0 +1,197 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector;
+
+import lombok.NonNull;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Spliterator over members of classes of a hierarchy.
+ * Members of each class are got only when they are needed (either for traversal or for splitting).
+ * It is split by classes at first and then (if only one class is left) by members of the class,
+ * at which point its size is known exactly.
+ *
+ * @param <R> type of members
+ */
+final class ClassMemberSpliterator<R> implements Spliterator<ClassMember<?, R>> {
+
+    /**
+     * Number of members which are expected to be declared by a class whose members are not yet got
+     */
+    private static final int ESTIMATED_MEMBERS_PER_CLASS = 16;
+
+    /**
+     * Classes of the hierarchy
+     */
+    @NonNull private final Class<?>[] classes;
+
+    /**
+     * Function getting members declared by the class
+     */
+    @NonNull private final Function<Class<?>, R[]> membersGetter;
+
+    /**
+     * Index of the next class whose members are not yet got
+     */
+    private int classIndex;
+
+    /**
+     * Index of the class after the last one covered by this spliterator
+     */
+    private final int classEnd;
+
+    /**
+     * Class whose members are currently traversed or {@code null} if there is none
+     */
+    @Nullable private Class<?> owner;
+
+    /**
+     * Members of the class currently traversed or {@code null} if there is none
+     */
+    @Nullable private R[] members;
+
+    /**
+     * Index of the next member to traverse
+     */
+    private int memberIndex;
+
+    /**
+     * Index of the member after the last one covered by this spliterator
+     */
+    private int memberEnd;
+
+    /**
+     * Whether or not all members covered by this spliterator are already got so that its size is known exactly
+     */
+    private boolean sized;
+
+    /**
+     * Creates new spliterator over members of the classes.
+     *
+     * @param classes classes of the hierarchy
+     * @param membersGetter function getting members declared by the class
+     */
+    ClassMemberSpliterator(@NonNull final Class<?>[] classes, @NonNull final Function<Class<?>, R[]> membersGetter) {
+        this.classes = classes;
+        this.membersGetter = membersGetter;
+        classEnd = classes.length;
+        sized = classEnd == 0;
+    }
+
+    private ClassMemberSpliterator(@NonNull final ClassMemberSpliterator<R> parent,
+                                   final int classEnd, final int memberEnd) {
+        classes = parent.classes;
+        membersGetter = parent.membersGetter;
+        classIndex = parent.classIndex;
+        this.classEnd = classEnd;
+        owner = parent.owner;
+        members = parent.members;
+        memberIndex = parent.memberIndex;
+        this.memberEnd = memberEnd;
+        sized = classIndex == classEnd;
+    }
+
+    /**
+     * Starts traversing members of the next class.
+     *
+     * @return {@code true} if there was the next class and {@code false} otherwise
+     */
+    private boolean nextClass() {
+        if (classIndex == classEnd) return false;
+
+        owner = classes[classIndex++];
+        members = membersGetter.apply(owner);
+        memberIndex = 0;
+        memberEnd = members.length;
+
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("ConstantConditions") // members are non-null while there are members to traverse
+    public boolean tryAdvance(@NonNull final Consumer<? super ClassMember<?, R>> action) {
+        while (memberIndex == memberEnd) if (!nextClass()) return false;
+
+        action.accept(new ClassMember<>(owner, members[memberIndex++]));
+
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("ConstantConditions") // members are non-null while there are members to traverse
+    public void forEachRemaining(@NonNull final Consumer<? super ClassMember<?, R>> action) {
+        do {
+            while (memberIndex < memberEnd) action.accept(new ClassMember<>(owner, members[memberIndex++]));
+        } while (nextClass());
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<ClassMember<?, R>> trySplit() {
+        val remainingClasses = classEnd - classIndex;
+        if (remainingClasses > 1) {
+            // the prefix takes the current class's remaining members and the first half of the classes
+            val prefix = new ClassMemberSpliterator<R>(this, classIndex + (remainingClasses >>> 1), memberEnd);
+            classIndex = prefix.classEnd;
+            owner = null;
+            members = null;
+            memberIndex = memberEnd = 0;
+            sized = classIndex == classEnd;
+
+            return prefix;
+        }
+
+        if (remainingClasses == 1) {
+            if (memberIndex == memberEnd) nextClass();
+            else {
+                // the prefix takes the current class's remaining members and this takes the last class
+                val prefix = new ClassMemberSpliterator<R>(this, classIndex, memberEnd);
+                owner = null;
+                members = null;
+                memberIndex = memberEnd = 0;
+
+                return prefix;
+            }
+        }
+
+        sized = true;
+
+        val remainingMembers = memberEnd - memberIndex;
+        if (remainingMembers < 2) return null;
+
+        val prefix = new ClassMemberSpliterator<R>(this, classEnd, memberIndex + (remainingMembers >>> 1));
+        memberIndex = prefix.memberEnd;
+
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return (memberEnd - memberIndex) + (long) (classEnd - classIndex) * ESTIMATED_MEMBERS_PER_CLASS;
+    }
+
+    @Override
+    public int characteristics() {
+        return sized ? ORDERED | DISTINCT | NONNULL | IMMUTABLE | SIZED | SUBSIZED
+                : ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+}
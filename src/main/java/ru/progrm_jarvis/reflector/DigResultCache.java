@@ -0,0 +1,157 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of results (including empty ones) of digging for class members identified by the class being digged,
+ * the bound of digging and the key of the condition.
+ * <p>
+ * Condition keys are stored per their classes using {@link ClassValue} and each of them has its own
+ * {@link ClassValue} storing the results per class being digged. Thus neither the keys are referenced
+ * by the classes being digged nor the results (referencing members of the classes being digged)
+ * are referenced by the keys' classes so the cache does not prevent any class loader from being unloaded.
+ * Bounds which are not parents of the class being digged (so that they are never reached) are not stored.
+ * <p>
+ * Members of cached results are copied each time they are returned so that changes of their state
+ * (such as accessibility) made by one caller are not seen by others.
+ * <p>
+ * If multiple threads concurrently dig with the same key,
+ * the digging may happen more than once but only one of the results gets cached and returned.
+ */
+final class DigResultCache {
+
+    /**
+     * Results of digging by condition keys per classes of the keys
+     */
+    private final ClassValue<ConcurrentMap<Object, ClassValue<ConcurrentMap<Class<?>, Optional<?>>>>> results
+            = new ClassValue<ConcurrentMap<Object, ClassValue<ConcurrentMap<Class<?>, Optional<?>>>>>() {
+        @Override
+        protected ConcurrentMap<Object, ClassValue<ConcurrentMap<Class<?>, Optional<?>>>> computeValue(
+                final Class<?> type
+        ) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Gets the cached result of digging or digs and caches it if there is none.
+     *
+     * @param clazz class from which the digging starts
+     * @param bound bound of digging
+     * @param conditionKey key uniquely identifying the condition of digging
+     * @param digger function performing the digging
+     * @param <R> type of result of digging
+     * @return cached or computed result of digging
+     */
+    @SuppressWarnings("unchecked")
+    <R extends Optional<?>> R get(@NonNull final Class<?> clazz, @NonNull final Class<?> bound,
+                                  @NonNull final Object conditionKey, @NonNull final Supplier<R> digger) {
+        final ConcurrentMap<Class<?>, Optional<?>> classResults = keyResults(conditionKey).get(clazz);
+        // bounds which are not parents of the class are never reached just as the last one (Object)
+        final Class<?> effectiveBound = bound.isAssignableFrom(clazz) ? bound : Object.class;
+
+        Optional<?> result = classResults.get(effectiveBound);
+        if (result == null) {
+            result = digger.get();
+            // the digger is not called inside of map's methods as it may use the cache itself
+            val existingResult = classResults.putIfAbsent(effectiveBound, result);
+            if (existingResult != null) result = existingResult;
+        }
+
+        return (R) copy(result);
+    }
+
+    /**
+     * Gets the results of digging with the condition key creating them if there are none.
+     *
+     * @param conditionKey key uniquely identifying the condition of digging
+     * @return results of digging with the key per class being digged
+     */
+    private ClassValue<ConcurrentMap<Class<?>, Optional<?>>> keyResults(@NonNull final Object conditionKey) {
+        val keys = results.get(conditionKey.getClass());
+
+        ClassValue<ConcurrentMap<Class<?>, Optional<?>>> keyResults = keys.get(conditionKey);
+        if (keyResults == null) {
+            keyResults = new ClassValue<ConcurrentMap<Class<?>, Optional<?>>>() {
+                @Override
+                protected ConcurrentMap<Class<?>, Optional<?>> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+            val existingKeyResults = keys.putIfAbsent(conditionKey, keyResults);
+            if (existingKeyResults != null) keyResults = existingKeyResults;
+        }
+
+        return keyResults;
+    }
+
+    /**
+     * Copies the result of digging so that its member is not shared.
+     *
+     * @param result result of digging
+     * @return copy of the result
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Optional<?> copy(@NonNull final Optional<?> result) {
+        if (!result.isPresent()) return result;
+
+        val classMember = (ClassMember) result.get();
+        return Optional.of(new ClassMember(classMember.getOwner(), copy(classMember.getValue())));
+    }
+
+    /**
+     * Copies the member as if it was got from its declaring class once again.
+     *
+     * @param member member to copy
+     * @return copy of the member or the given object if it is not a field, a method or a constructor
+     */
+    @Nullable
+    @SneakyThrows
+    private static Object copy(@Nullable final Object member) {
+        if (member instanceof Field) {
+            val field = (Field) member;
+            return field.getDeclaringClass().getDeclaredField(field.getName());
+        }
+        if (member instanceof Constructor) {
+            val constructor = (Constructor<?>) member;
+            return constructor.getDeclaringClass().getDeclaredConstructor(constructor.getParameterTypes());
+        }
+        if (member instanceof Method) {
+            val method = (Method) member;
+            val declaringClass = method.getDeclaringClass();
+            val copy = declaringClass.getDeclaredMethod(method.getName(), method.getParameterTypes());
+            if (copy.equals(method)) return copy;
+            // bridge methods differ from others with the same parameters only by their return types
+            for (val candidate : declaringClass.getDeclaredMethods()) if (candidate.equals(method)) return candidate;
+        }
+
+        return member;
+    }
+}
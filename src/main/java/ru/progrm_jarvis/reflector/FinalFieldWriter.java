@@ -0,0 +1,363 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector;
+
+import com.google.common.primitives.Primitives;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import sun.misc.Unsafe;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Writer of a field which may be {@code final} (including {@code static final}) using {@link Unsafe}.
+ * Unlike setting the field via reflection, this does not require the field's modifiers to be changed
+ * and the offset of the field is computed only once.
+ * <p>
+ * Note that JVM may assume that values of {@code static final} fields never change
+ * so the new value may not be seen by already compiled code (and constant expressions are inlined by compiler).
+ */
+public final class FinalFieldWriter {
+
+    /**
+     * Registry of field writers
+     */
+    private static final ClassMemberRegistry<Field, FinalFieldWriter> REGISTRY = ClassMemberRegistry.fields();
+
+    /**
+     * Unsafe used for writing fields
+     */
+    private static final Unsafe UNSAFE = UnsafeUtil.UNSAFE;
+
+    /**
+     * Field written by this writer
+     */
+    @NonNull private final Field field;
+
+    /**
+     * Type of the field
+     */
+    @NonNull private final Class<?> type;
+
+    /**
+     * Class declaring the field
+     */
+    @NonNull private final Class<?> declaringClass;
+
+    /**
+     * Base of the field if it is static or {@code null} otherwise
+     */
+    @Nullable private final Object staticBase;
+
+    /**
+     * Offset of the field
+     */
+    private final long offset;
+
+    /**
+     * Whether or not the field is volatile
+     */
+    private final boolean isVolatile;
+
+    private FinalFieldWriter(@NonNull final Field field) {
+        if (UNSAFE == null) throw new UnsupportedOperationException("Unsafe is not available");
+
+        this.field = field;
+        type = field.getType();
+        declaringClass = field.getDeclaringClass();
+
+        val modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers)) {
+            // the value would be overwritten by class initialization if it happened later
+            UNSAFE.ensureClassInitialized(declaringClass);
+            staticBase = UNSAFE.staticFieldBase(field);
+            offset = UNSAFE.staticFieldOffset(field);
+        } else {
+            staticBase = null;
+            offset = UNSAFE.objectFieldOffset(field);
+        }
+        isVolatile = Modifier.isVolatile(modifiers);
+    }
+
+    /**
+     * Creates new field writer for the field given or gets it from cache if one already exists.
+     *
+     * @param field field to be written
+     * @return field writer created or got from cache
+     * @throws UnsupportedOperationException if {@link Unsafe} is not available
+     */
+    public static FinalFieldWriter of(@NonNull final Field field) {
+        return REGISTRY.get(field, FinalFieldWriter::new);
+    }
+
+    /**
+     * Gets the object to which the field belongs.
+     *
+     * @param instance instance whose field is written, ignored if the field is static
+     * @return the base of the field if it is static or the instance otherwise
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     * @throws IllegalArgumentException if {@code instance} is not an instance of the class declaring the field
+     */
+    private Object target(@Nullable final Object instance) {
+        if (staticBase != null) return staticBase;
+
+        if (instance == null) throw new NullPointerException("Instance is null but field " + field + " is not static");
+        if (!declaringClass.isInstance(instance)) throw new IllegalArgumentException(
+                "Object of " + instance.getClass() + " is not an instance of " + declaringClass
+        );
+
+        return instance;
+    }
+
+    /**
+     * Checks that the field is of the given primitive type.
+     *
+     * @param primitiveType expected type of the field
+     * @throws IllegalArgumentException if the field is of other type
+     */
+    private void checkType(@NonNull final Class<?> primitiveType) {
+        if (type != primitiveType) throw new IllegalArgumentException(
+                "Field " + field + " is not of type " + primitiveType.getName()
+        );
+    }
+
+    /**
+     * Gets the rank of the numeric primitive type in the order of widening primitive conversions
+     * ({@code char} is not ranked as it may only be widened to {@code int} and wider types).
+     *
+     * @param type type whose rank to get
+     * @return rank of the type or {@code 0} if it is not a numeric primitive type except {@code char}
+     */
+    private static int wideningRank(@NonNull final Class<?> type) {
+        if (type == byte.class) return 1;
+        if (type == short.class) return 2;
+        if (type == int.class) return 3;
+        if (type == long.class) return 4;
+        if (type == float.class) return 5;
+        if (type == double.class) return 6;
+
+        return 0;
+    }
+
+    /**
+     * Checks whether or not the value of the given primitive type may be assigned to the field
+     * as specified by JLS 5.1.2 (Widening Primitive Conversion).
+     *
+     * @param valueType primitive type of the value
+     * @return {@code true} if the value of the given type may be widened to the field's type
+     */
+    private boolean isWidenedFrom(@NonNull final Class<?> valueType) {
+        if (valueType == char.class) return wideningRank(type) >= wideningRank(int.class);
+
+        val valueRank = wideningRank(valueType);
+        return valueRank != 0 && wideningRank(type) > valueRank;
+    }
+
+    /**
+     * Sets the value of the field unboxing it if the field is primitive.
+     * Just as {@link Field#set(Object, Object)} does, the unboxed value may be of a narrower primitive type
+     * in which case it gets widened to the field's type.
+     *
+     * @param instance instance whose field should be set, ignored if the field is static
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     * @throws IllegalArgumentException if {@code instance} is not an instance of the class declaring the field
+     * or the value is not of the field's type nor may be widened to it ({@code null} for primitive fields)
+     */
+    public void set(@Nullable final Object instance, @Nullable final Object value) {
+        if (type.isPrimitive()) {
+            val valueType = value == null ? null : Primitives.unwrap(value.getClass());
+            if (valueType != type && (valueType == null || !isWidenedFrom(valueType))) {
+                throw new IllegalArgumentException(
+                        "Cannot set field " + field + " to " + (value == null ? "null" : value.getClass().getName())
+                );
+            }
+
+            if (type == boolean.class) setBoolean(instance, (Boolean) value);
+            else if (type == byte.class) setByte(instance, (Byte) value);
+            else if (type == char.class) setChar(instance, (Character) value);
+            else {
+                // the value is either of the same type or of a narrower one
+                val number = value instanceof Character ? Integer.valueOf((Character) value) : (Number) value;
+                if (type == short.class) setShort(instance, number.shortValue());
+                else if (type == int.class) setInt(instance, number.intValue());
+                else if (type == long.class) setLong(instance, number.longValue());
+                else if (type == float.class) setFloat(instance, number.floatValue());
+                else setDouble(instance, number.doubleValue());
+            }
+        } else {
+            if (value != null && !type.isInstance(value)) throw new IllegalArgumentException(
+                    "Cannot set field " + field + " to " + value.getClass().getName()
+            );
+
+            if (isVolatile) UNSAFE.putObjectVolatile(target(instance), offset, value);
+            else UNSAFE.putObject(target(instance), offset, value);
+        }
+    }
+
+    /**
+     * Sets the value of the {@code boolean} field.
+     *
+     * @param instance instance whose field should be set, ignored if the field is static
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     * @throws IllegalArgumentException if {@code instance} is not an instance of the class declaring the field
+     * or the field is not of type {@code boolean}
+     */
+    public void setBoolean(@Nullable final Object instance, final boolean value) {
+        checkType(boolean.class);
+        if (isVolatile) UNSAFE.putBooleanVolatile(target(instance), offset, value);
+        else UNSAFE.putBoolean(target(instance), offset, value);
+    }
+
+    /**
+     * Sets the value of the {@code byte} field.
+     *
+     * @param instance instance whose field should be set, ignored if the field is static
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     * @throws IllegalArgumentException if {@code instance} is not an instance of the class declaring the field
+     * or the field is not of type {@code byte}
+     */
+    public void setByte(@Nullable final Object instance, final byte value) {
+        checkType(byte.class);
+        if (isVolatile) UNSAFE.putByteVolatile(target(instance), offset, value);
+        else UNSAFE.putByte(target(instance), offset, value);
+    }
+
+    /**
+     * Sets the value of the {@code char} field.
+     *
+     * @param instance instance whose field should be set, ignored if the field is static
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     * @throws IllegalArgumentException if {@code instance} is not an instance of the class declaring the field
+     * or the field is not of type {@code char}
+     */
+    public void setChar(@Nullable final Object instance, final char value) {
+        checkType(char.class);
+        if (isVolatile) UNSAFE.putCharVolatile(target(instance), offset, value);
+        else UNSAFE.putChar(target(instance), offset, value);
+    }
+
+    /**
+     * Sets the value of the {@code short} field.
+     *
+     * @param instance instance whose field should be set, ignored if the field is static
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     * @throws IllegalArgumentException if {@code instance} is not an instance of the class declaring the field
+     * or the field is not of type {@code short}
+     */
+    public void setShort(@Nullable final Object instance, final short value) {
+        checkType(short.class);
+        if (isVolatile) UNSAFE.putShortVolatile(target(instance), offset, value);
+        else UNSAFE.putShort(target(instance), offset, value);
+    }
+
+    /**
+     * Sets the value of the {@code int} field.
+     *
+     * @param instance instance whose field should be set, ignored if the field is static
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     * @throws IllegalArgumentException if {@code instance} is not an instance of the class declaring the field
+     * or the field is not of type {@code int}
+     */
+    public void setInt(@Nullable final Object instance, final int value) {
+        checkType(int.class);
+        if (isVolatile) UNSAFE.putIntVolatile(target(instance), offset, value);
+        else UNSAFE.putInt(target(instance), offset, value);
+    }
+
+    /**
+     * Sets the value of the {@code long} field.
+     *
+     * @param instance instance whose field should be set, ignored if the field is static
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     * @throws IllegalArgumentException if {@code instance} is not an instance of the class declaring the field
+     * or the field is not of type {@code long}
+     */
+    public void setLong(@Nullable final Object instance, final long value) {
+        checkType(long.class);
+        if (isVolatile) UNSAFE.putLongVolatile(target(instance), offset, value);
+        else UNSAFE.putLong(target(instance), offset, value);
+    }
+
+    /**
+     * Sets the value of the {@code float} field.
+     *
+     * @param instance instance whose field should be set, ignored if the field is static
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     * @throws IllegalArgumentException if {@code instance} is not an instance of the class declaring the field
+     * or the field is not of type {@code float}
+     */
+    public void setFloat(@Nullable final Object instance, final float value) {
+        checkType(float.class);
+        if (isVolatile) UNSAFE.putFloatVolatile(target(instance), offset, value);
+        else UNSAFE.putFloat(target(instance), offset, value);
+    }
+
+    /**
+     * Sets the value of the {@code double} field.
+     *
+     * @param instance instance whose field should be set, ignored if the field is static
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     * @throws IllegalArgumentException if {@code instance} is not an instance of the class declaring the field
+     * or the field is not of type {@code double}
+     */
+    public void setDouble(@Nullable final Object instance, final double value) {
+        checkType(double.class);
+        if (isVolatile) UNSAFE.putDoubleVolatile(target(instance), offset, value);
+        else UNSAFE.putDouble(target(instance), offset, value);
+    }
+
+    /**
+     * Creates a method handle setting the field using this writer.
+     * Its type is the same as the one of the handle created by {@link MethodHandles.Lookup#unreflectSetter(Field)}
+     * that is {@code (V)void} for static fields and {@code (T, V)void} for others.
+     *
+     * @return method handle setting the field
+     */
+    @SneakyThrows
+    public MethodHandle toMethodHandle() {
+        val valueType = type.isPrimitive() ? type : Object.class;
+        final String setterName;
+        if (type.isPrimitive()) {
+            val typeName = type.getName();
+            setterName = "set" + Character.toUpperCase(typeName.charAt(0)) + typeName.substring(1);
+        } else setterName = "set";
+
+        val setter = MethodHandles.lookup().findVirtual(
+                FinalFieldWriter.class, setterName, MethodType.methodType(void.class, Object.class, valueType)
+        ).bindTo(this);
+        if (staticBase != null) return MethodHandles.insertArguments(setter, 0, (Object) null)
+                .asType(MethodType.methodType(void.class, type));
+
+        return setter.asType(MethodType.methodType(void.class, declaringClass, type));
+    }
+}
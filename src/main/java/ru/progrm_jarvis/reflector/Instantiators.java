@@ -0,0 +1,153 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.bytecode.asm.AsmClassGenerator;
+import ru.progrm_jarvis.reflector.bytecode.asm.ClassGenerator;
+import ru.progrm_jarvis.reflector.bytecode.asm.EmptyConstructorCreator;
+import sun.misc.Unsafe;
+import sun.reflect.ReflectionFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+/**
+ * Creators of instances of classes which do not invoke their constructors.
+ * The creator of a class is the first one available of the following:
+ * <ol>
+ *     <li>generated by {@link AsmClassGenerator} (requires {@link Unsafe} and permission to define classes)</li>
+ *     <li>calling {@link Unsafe#allocateInstance(Class)} (requires {@link Unsafe})</li>
+ *     <li>calling the constructor created by {@link ReflectionFactory#newConstructorForSerialization(Class,
+ *     Constructor)} which invokes only the constructor of {@link Object}</li>
+ * </ol>
+ * Creators are cached per class using {@link ClassValue}.
+ */
+@UtilityClass
+class Instantiators {
+
+    /**
+     * Unsafe used for allocating instances
+     */
+    @Nullable private final Unsafe UNSAFE = UnsafeUtil.UNSAFE;
+
+    /**
+     * Generator of instance creators
+     */
+    private final ClassGenerator GENERATOR = new AsmClassGenerator(Reflector.getCLASS_DEFINER());
+
+    /**
+     * Creators of instances of classes
+     */
+    private final ClassValue<EmptyConstructorCreator<?>> INSTANTIATORS
+            = new ClassValue<EmptyConstructorCreator<?>>() {
+        @Override
+        protected EmptyConstructorCreator<?> computeValue(final Class<?> type) {
+            return create(type);
+        }
+    };
+
+    /**
+     * Gets the creator of instances of the class creating it if it was not yet created.
+     *
+     * @param clazz class whose instances are to be created
+     * @param <T> type of created instances
+     * @return creator of instances of the class
+     * @throws IllegalArgumentException if the class is primitive, array, interface or abstract
+     * @throws UnsupportedOperationException if there is no way to create instances without invoking constructors
+     */
+    @SuppressWarnings("unchecked")
+    <T> EmptyConstructorCreator<T> of(@NonNull final Class<T> clazz) {
+        return (EmptyConstructorCreator<T>) INSTANTIATORS.get(clazz);
+    }
+
+    private <T> EmptyConstructorCreator<T> create(@NonNull final Class<T> clazz) {
+        if (clazz.isPrimitive() || clazz.isArray()
+                || Modifier.isAbstract(clazz.getModifiers())) throw new IllegalArgumentException(
+                clazz + " cannot be instantiated"
+        );
+
+        if (UNSAFE != null) {
+            try {
+                return GENERATOR.newClassInstanceManipulator(clazz);
+            } catch (final Exception | LinkageError e) {
+                // definition of the class is not permitted so Unsafe is called without the class being a constant
+                return unsafeInstantiator(clazz);
+            }
+        }
+
+        val instantiator = serializationInstantiator(clazz);
+        if (instantiator == null) throw new UnsupportedOperationException(
+                "There is no way to create an instance of " + clazz + " without invoking its constructors"
+        );
+
+        return instantiator;
+    }
+
+    /**
+     * Creates the creator of instances of the class which uses {@link Unsafe#allocateInstance(Class)}.
+     *
+     * @param clazz class whose instances are to be created
+     * @param <T> type of created instances
+     * @return creator of instances of the class
+     * @throws UnsupportedOperationException if {@link Unsafe} is not available
+     */
+    <T> EmptyConstructorCreator<T> unsafeInstantiator(@NonNull final Class<T> clazz) {
+        if (UNSAFE == null) throw new UnsupportedOperationException("Unsafe is not available");
+
+        return () -> allocateInstance(clazz);
+    }
+
+    @SneakyThrows
+    @SuppressWarnings({"unchecked", "ConstantConditions"}) // Unsafe is checked when creating the creator
+    private <T> T allocateInstance(@NonNull final Class<T> clazz) {
+        return (T) UNSAFE.allocateInstance(clazz);
+    }
+
+    /**
+     * Creates the creator of instances of the class which uses the constructor
+     * created by {@link ReflectionFactory#newConstructorForSerialization(Class, Constructor)}
+     * invoking only the constructor of {@link Object}.
+     *
+     * @param clazz class whose instances are to be created
+     * @param <T> type of created instances
+     * @return creator of instances of the class or {@code null} if the constructor cannot be created
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    <T> EmptyConstructorCreator<T> serializationInstantiator(@NonNull final Class<T> clazz) {
+        final Constructor<?> constructor;
+        try {
+            constructor = ReflectionFactory.getReflectionFactory()
+                    .newConstructorForSerialization(clazz, Object.class.getDeclaredConstructor());
+            constructor.setAccessible(true);
+        } catch (final Exception | LinkageError e) {
+            return null;
+        }
+
+        return () -> newInstance((Constructor<T>) constructor);
+    }
+
+    @SneakyThrows
+    private <T> T newInstance(@NonNull final Constructor<T> constructor) {
+        return constructor.newInstance();
+    }
+}
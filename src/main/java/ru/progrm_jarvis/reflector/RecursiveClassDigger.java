@@ -23,7 +23,10 @@ import org.jetbrains.annotations.Nullable;
 import ru.progrm_jarvis.reflector.util.ValueContainer;
 import ru.progrm_jarvis.reflector.util.function.ThrowingFunction;
 
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility to recursively find class members
@@ -32,6 +35,16 @@ import java.util.Optional;
 @SuppressWarnings("WeakerAccess")
 public class RecursiveClassDigger {
 
+    /**
+     * Hierarchies of classes (including interfaces) in the order in which they are digged
+     */
+    private final ClassValue<Class<?>[]> HIERARCHIES_WITH_INTERFACES = new ClassValue<Class<?>[]>() {
+        @Override
+        protected Class<?>[] computeValue(final Class<?> type) {
+            return linearizeHierarchyWithInterfaces(type, null);
+        }
+    };
+
     /**
      * Recursively "digs" for some value in class.
      * <i>Digging</i> here means scanning class and then it's parents (excluding interfaces) until the value is found
@@ -53,29 +66,30 @@ public class RecursiveClassDigger {
      *
      * @see #digWithInterfaces(Class, ThrowingFunction, Class) digs including interfaces
      */
+    @SuppressWarnings("unchecked")
     public <T, R, E extends Throwable> Optional<ClassMember<? super T, R>> dig(
             @NonNull final Class<? super T> clazz,
             @NonNull final ThrowingFunction<Class<? super T>, ValueContainer<R>, E> digger,
             @Nullable final Class<? super T> bound
     ) throws E {
-        // try find in clazz
-        {
-            val possible = digger.use(clazz);
+        Class<? super T> owner = clazz;
+        do {
+            val possible = digger.use(owner);
             // if something was found then return it
-            if (possible != null) return Optional.of(new ClassMember<>(clazz, possible.getValue()));
-        }
+            if (possible != null) return Optional.of(new ClassMember<>(owner, possible.getValue()));
+            // if bound is reached then stop digging
+            if (owner == bound) break;
+        } while ((owner = owner.getSuperclass()) != null);
 
-        // if bound is reached then return what was found here
-        if (clazz == bound) return Optional.empty();
-        // try dig in superclass if not found
-        val superClass = (Class<? super T>) clazz.getSuperclass();
-        return superClass == null ? Optional.empty() : dig(superClass, digger, bound);
+        return Optional.empty();
     }
 
     /**
      * Recursively "digs" for some value in class.
      * <i>Digging</i> here means scanning class and then it's parents (including interfaces) until the value is found
      * or the bound is reached.
+     * Parents are scanned in depth-first order with the superclass preceding interfaces,
+     * each one (such as an interface implemented multiple times in the hierarchy) being scanned at most once.
      * Digger here is a function taking class which is clazz or its parent trying to find something in it,
      * returning value container if something was found
      * or {@code null} if nothing was found (and so digging should be continued is possible).
@@ -97,31 +111,137 @@ public class RecursiveClassDigger {
             @NonNull final ThrowingFunction<Class<?>, ValueContainer<R>, E> digger,
             @Nullable final Class<?> bound
     ) throws E {
-        // try find in clazz
-        {
-            val possible = digger.use(clazz);
-            // if something was found then return it
-            if (possible != null) return Optional.of(new ClassMember<>(clazz, possible.getValue()));
+        // bounds having no parents do not cut any part of the hierarchy so the cached one can be used
+        if (bound == null || bound == Object.class) {
+            for (val owner : HIERARCHIES_WITH_INTERFACES.get(clazz)) {
+                val possible = digger.use(owner);
+                if (possible != null) return Optional.of(new ClassMember<>(owner, possible.getValue()));
+            }
+
+            return Optional.empty();
         }
 
-        // if bound is reached then return what was found here
-        if (clazz == bound) return Optional.empty();
+        val owners = new ArrayDeque<Class<?>>();
+        val visited = new HashSet<Class<?>>();
+        owners.push(clazz);
+        while (!owners.isEmpty()) {
+            val owner = owners.pop();
+            if (!visited.add(owner)) continue;
+
+            val possible = digger.use(owner);
+            if (possible != null) return Optional.of(new ClassMember<>(owner, possible.getValue()));
 
-        Optional<ClassMember<?, R>> dug;
-        {
-            // try dig in superclass if not found
-            val superClass = (Class<?>) clazz.getSuperclass();
-            if (superClass != null) dug = digWithInterfaces(superClass, digger, bound);
-            else dug = Optional.empty();
+            // parents of the bound are not digged
+            if (owner != bound) pushParents(owners, owner);
         }
 
-        if (dug.isPresent()) return dug;
+        return Optional.empty();
+    }
+
+    /**
+     * Lazily streams members of the class and it's parents (excluding interfaces) until the bound.
+     * Members of each class are got only when the stream reaches them, and the stream may be efficiently
+     * split for parallel processing both by classes and by members of a single class.
+     *
+     * @param clazz class from which to start streaming
+     * @param membersGetter function getting the members declared by the class
+     * @param bound class after reaching which no more classes should be streamed (inclusive)
+     * @param <T> type of class streamed
+     * @param <R> type of members
+     * @return sequential ordered stream of members of the class and it's parents
+     * each associated with the class declaring it
+     *
+     * @see #dig(Class, ThrowingFunction, Class) digs for a single value in the same classes
+     */
+    @SuppressWarnings("unchecked")
+    public <T, R> Stream<ClassMember<? super T, R>> stream(
+            @NonNull final Class<? super T> clazz,
+            @NonNull final Function<Class<? super T>, R[]> membersGetter,
+            @Nullable final Class<? super T> bound
+    ) {
+        val hierarchy = new ArrayList<Class<?>>();
+        Class<?> owner = clazz;
+        do {
+            hierarchy.add(owner);
+            if (owner == bound) break;
+        } while ((owner = owner.getSuperclass()) != null);
+
+        return StreamSupport.stream((Spliterator<ClassMember<? super T, R>>) (Spliterator<?>)
+                new ClassMemberSpliterator<>(
+                        hierarchy.toArray(new Class<?>[0]), (Function<Class<?>, R[]>) (Function<?, R[]>) membersGetter
+                ), false);
+    }
+
+    /**
+     * Lazily streams members of the class and it's parents (including interfaces) until the bound.
+     * Parents are streamed in the same order in which
+     * {@link #digWithInterfaces(Class, ThrowingFunction, Class)} scans them.
+     * Members of each class are got only when the stream reaches them, and the stream may be efficiently
+     * split for parallel processing both by classes and by members of a single class.
+     *
+     * @param clazz class from which to start streaming
+     * @param membersGetter function getting the members declared by the class
+     * @param bound class after reaching which its parents should not be streamed (inclusive)
+     * @param <R> type of members
+     * @return sequential ordered stream of members of the class and it's parents
+     * each associated with the class declaring it
+     */
+    public <R> Stream<ClassMember<?, R>> streamWithInterfaces(
+            @NonNull final Class<?> clazz,
+            @NonNull final Function<Class<?>, R[]> membersGetter,
+            @Nullable final Class<?> bound
+    ) {
+        return StreamSupport.stream(new ClassMemberSpliterator<>(
+                bound == null || bound == Object.class
+                        ? HIERARCHIES_WITH_INTERFACES.get(clazz) : linearizeHierarchyWithInterfaces(clazz, bound),
+                membersGetter
+        ), false);
+    }
+
+    /**
+     * Gets the hierarchy of the class (including interfaces) in the order
+     * in which {@link #digWithInterfaces(Class, ThrowingFunction, Class)} scans it without bound.
+     *
+     * @param clazz class whose hierarchy to get
+     * @return unmodifiable list of the class and all its parents each present once
+     */
+    public List<Class<?>> getHierarchyWithInterfaces(@NonNull final Class<?> clazz) {
+        return Collections.unmodifiableList(Arrays.asList(HIERARCHIES_WITH_INTERFACES.get(clazz)));
+    }
 
-        for (val superInterface : clazz.getInterfaces()) {
-            dug = digWithInterfaces(superInterface, digger, bound);
-            if (dug.isPresent()) return dug;
+    /**
+     * Computes the hierarchy of the class (including interfaces) in depth-first order
+     * with the superclass preceding interfaces, each class being present once.
+     *
+     * @param clazz class whose hierarchy to compute
+     * @param bound class whose parents should not be included or {@code null} if there is none
+     * @return hierarchy of the class
+     */
+    private Class<?>[] linearizeHierarchyWithInterfaces(@NonNull final Class<?> clazz,
+                                                        @Nullable final Class<?> bound) {
+        val hierarchy = new LinkedHashSet<Class<?>>();
+        val owners = new ArrayDeque<Class<?>>();
+        owners.push(clazz);
+        while (!owners.isEmpty()) {
+            val owner = owners.pop();
+            if (hierarchy.add(owner) && owner != bound) pushParents(owners, owner);
         }
 
-        return Optional.empty();
+        return hierarchy.toArray(new Class<?>[0]);
+    }
+
+    /**
+     * Pushes direct parents of the class onto the stack so that the superclass gets popped first
+     * and the interfaces get popped in the order in which they are declared.
+     *
+     * @param owners stack of classes to dig
+     * @param owner class whose parents to push
+     */
+    private void pushParents(@NonNull final Deque<Class<?>> owners, @NonNull final Class<?> owner) {
+        val interfaces = owner.getInterfaces();
+        for (int i = interfaces.length - 1; i >= 0; i--) owners.push(interfaces[i]);
+
+        final Class<?> superClass = owner.getSuperclass();
+        if (superClass != null) owners.push(superClass);
     }
 }
@@ -21,17 +21,32 @@ import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import lombok.val;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.bytecode.asm.AsmClassGenerator;
+import ru.progrm_jarvis.reflector.bytecode.asm.AsmFieldCopierGenerator;
+import ru.progrm_jarvis.reflector.bytecode.asm.AsmMethodDispatcherGenerator;
+import ru.progrm_jarvis.reflector.bytecode.asm.AsmPropertyAccessorGenerator;
+import ru.progrm_jarvis.reflector.bytecode.asm.ClassDefiner;
+import ru.progrm_jarvis.reflector.bytecode.asm.ClassGenerator;
+import ru.progrm_jarvis.reflector.bytecode.asm.EmptyConstructorCreator;
+import ru.progrm_jarvis.reflector.bytecode.asm.FieldCopier;
+import ru.progrm_jarvis.reflector.bytecode.asm.HiddenClassDefiner;
+import ru.progrm_jarvis.reflector.bytecode.asm.MethodDispatcher;
+import ru.progrm_jarvis.reflector.bytecode.asm.PropertyAccessor;
 import ru.progrm_jarvis.reflector.bytecode.asm.SafeClassDefiner;
+import ru.progrm_jarvis.reflector.profile.AccessProfile;
+import ru.progrm_jarvis.reflector.util.ObjectUtil;
 import ru.progrm_jarvis.reflector.util.ValueContainer;
 import ru.progrm_jarvis.reflector.util.function.ThrowingFunction;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Main reflector class which wraps {@link Class} methods with methods which don't throw checked exceptions
@@ -44,6 +59,69 @@ public class Reflector {
 
     @Getter private static final SafeClassDefiner SAFE_CLASS_DEFINER = new SafeClassDefiner();
 
+    /**
+     * Definer of classes which can be unloaded as soon as they are unreachable,
+     * it should be checked to be {@link HiddenClassDefiner#isAvailable() available} before being used
+     */
+    @Getter private static final HiddenClassDefiner HIDDEN_CLASS_DEFINER = new HiddenClassDefiner();
+
+    /**
+     * Definer of classes generated on demand which is {@link #getHIDDEN_CLASS_DEFINER() hidden class definer}
+     * if it is available so that generated classes do not outlive the ones they access
+     * and {@link #getSAFE_CLASS_DEFINER() safe class definer} otherwise,
+     * the latter can be forced by setting system property
+     * {@code ru.progrm_jarvis.reflector.Reflector.HiddenClasses} to {@code false}
+     */
+    @Getter private static final ClassDefiner CLASS_DEFINER = HiddenClassDefiner.isAvailable()
+            && Boolean.parseBoolean(ObjectUtil.orDefault(System.getProperty(
+                    Reflector.class.getName().concat(".HiddenClasses")), "true"
+            )) ? HIDDEN_CLASS_DEFINER : SAFE_CLASS_DEFINER;
+
+    /**
+     * Caches of results of digging for constructors, fields and methods with condition keys
+     */
+    private static final DigResultCache CONSTRUCTOR_DIG_RESULTS = new DigResultCache(),
+            FIELD_DIG_RESULTS = new DigResultCache(),
+            METHOD_DIG_RESULTS = new DigResultCache();
+
+    /**
+     * Field copiers of classes generated on demand
+     */
+    private static final ClassValue<FieldCopier<?>> FIELD_COPIERS = new ClassValue<FieldCopier<?>>() {
+
+        /**
+         * Generator of field copiers
+         */
+        private final AsmFieldCopierGenerator generator = new AsmFieldCopierGenerator(CLASS_DEFINER);
+
+        @Override
+        protected FieldCopier<?> computeValue(final Class<?> type) {
+            return generator.generate(type);
+        }
+    };
+
+    /**
+     * Generator of method dispatchers
+     */
+    private static final AsmMethodDispatcherGenerator METHOD_DISPATCHER_GENERATOR
+            = new AsmMethodDispatcherGenerator(CLASS_DEFINER);
+
+    /**
+     * Property accessors of classes generated on demand
+     */
+    private static final ClassValue<PropertyAccessor<?>> PROPERTY_ACCESSORS = new ClassValue<PropertyAccessor<?>>() {
+
+        /**
+         * Generator of property accessors
+         */
+        private final AsmPropertyAccessorGenerator generator = new AsmPropertyAccessorGenerator(CLASS_DEFINER);
+
+        @Override
+        protected PropertyAccessor<?> computeValue(final Class<?> type) {
+            return generator.generate(type);
+        }
+    };
+
     ///////////////////////////////////////////////////////////////////////////
     // Digging
     ///////////////////////////////////////////////////////////////////////////
@@ -75,24 +153,29 @@ public class Reflector {
                 }, bound);
     }
 
-    /*
-    public ClassGenerator newAsmClassGenerator(){
-        return newAsmClassGenerator(SAFE_CLASS_DEFINER, null);
-    }
-
-    public ClassGenerator newAsmClassGenerator(final ClassDefiner classDefiner){
-        return newAsmClassGenerator(classDefiner, null);
-    }
-
-    public ClassGenerator newAsmClassGenerator(final ClassLoader classLoader){
-        return newAsmClassGenerator(SAFE_CLASS_DEFINER, classLoader);
-    }
-
-    public ClassGenerator newAsmClassGenerator(@NonNull final ClassDefiner classDefiner,
-                                               @Nullable final ClassLoader classLoader){
-        return new AsmClassGenerator(classDefiner, classLoader);
+    /**
+     * Digs for constructor following the given condition in class specified and all its parents until the bound
+     * caching the result (even if none was found) so that further digging with the same key
+     * in the same class and with the same bound does not check the constructors again.
+     *
+     * @param clazz class from which to start the search
+     * @param condition condition by which to check each constructor
+     * @param bound bounding of class, the one after reaching of which digging ends (inclusive)
+     * @param conditionKey key uniquely identifying the condition, it should implement
+     * {@link Object#equals(Object)} and {@link Object#hashCode()} and should not reference classes
+     * which may be unloaded while the class being digged is still used
+     * @param <T> type of class being digged
+     * @return {@link Optional} of found constructor or {@link Optional#empty()} if none was found
+     */
+    public <T> Optional<ClassMember<? super T, Constructor<? super T>>> digForConstructor(
+            @NonNull final Class<T> clazz,
+            @NonNull final Predicate<Constructor<? super T>> condition,
+            @NonNull final Class<? super T> bound,
+            @NonNull final Object conditionKey
+    ) {
+        return CONSTRUCTOR_DIG_RESULTS
+                .get(clazz, bound, conditionKey, () -> digForConstructor(clazz, condition, bound));
     }
-    */
 
     /**
      * Digs for field following the given condition in class specified and all its parents until the bound.
@@ -117,6 +200,29 @@ public class Reflector {
                     }, bound);
     }
 
+    /**
+     * Digs for field following the given condition in class specified and all its parents until the bound
+     * caching the result (even if none was found) so that further digging with the same key
+     * in the same class and with the same bound does not check the fields again.
+     *
+     * @param clazz class from which to start the search
+     * @param condition condition by which to check each field
+     * @param bound bounding of class, the one after reaching of which digging ends (inclusive)
+     * @param conditionKey key uniquely identifying the condition, it should implement
+     * {@link Object#equals(Object)} and {@link Object#hashCode()} and should not reference classes
+     * which may be unloaded while the class being digged is still used
+     * @param <T> type of class being digged
+     * @return {@link Optional} of found field or {@link Optional#empty()} if none was found
+     */
+    public <T> Optional<ClassMember<? super T, Field>> digForField(
+            @NonNull final Class<T> clazz,
+            @NonNull final Predicate<Field> condition,
+            @NonNull final Class<? super T> bound,
+            @NonNull final Object conditionKey
+    ) {
+        return FIELD_DIG_RESULTS.get(clazz, bound, conditionKey, () -> digForField(clazz, condition, bound));
+    }
+
     /**
      * Digs for method following the given condition in class specified and all its parents until the bound.
      *
@@ -139,6 +245,82 @@ public class Reflector {
                     }, bound);
     }
 
+    /**
+     * Digs for method following the given condition in class specified and all its parents until the bound
+     * caching the result (even if none was found) so that further digging with the same key
+     * in the same class and with the same bound does not check the methods again.
+     *
+     * @param clazz class from which to start the search
+     * @param condition condition by which to check each method
+     * @param bound bounding of class, the one after reaching of which digging ends (inclusive)
+     * @param conditionKey key uniquely identifying the condition, it should implement
+     * {@link Object#equals(Object)} and {@link Object#hashCode()} and should not reference classes
+     * which may be unloaded while the class being digged is still used
+     * @return {@link Optional} of found method or {@link Optional#empty()} if none was found
+     */
+    public Optional<ClassMember<?, Method>> digForMethod(
+            @NonNull final Class<?> clazz,
+            @NonNull final Predicate<Method> condition,
+            @NonNull final Class<?> bound,
+            @NonNull final Object conditionKey
+    ) {
+        return METHOD_DIG_RESULTS.get(clazz, bound, conditionKey, () -> digForMethod(clazz, condition, bound));
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Streaming
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Lazily streams constructors of class specified and all its parents until the bound.
+     *
+     * @param clazz class from which to start streaming
+     * @param bound bounding of class, the one after reaching of which streaming ends (inclusive)
+     * @param <T> type of class being streamed
+     * @return stream of constructors each associated with the class declaring it
+     *
+     * @see RecursiveClassDigger#stream(Class, java.util.function.Function, Class)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Stream<ClassMember<? super T, Constructor<? super T>>> streamConstructors(
+            @NonNull final Class<T> clazz,
+            @NonNull final Class<? super T> bound
+    ) {
+        return RecursiveClassDigger.stream(
+                clazz, owner -> (Constructor<? super T>[]) owner.getDeclaredConstructors(), bound
+        );
+    }
+
+    /**
+     * Lazily streams fields of class specified and all its parents until the bound.
+     *
+     * @param clazz class from which to start streaming
+     * @param bound bounding of class, the one after reaching of which streaming ends (inclusive)
+     * @param <T> type of class being streamed
+     * @return stream of fields each associated with the class declaring it
+     *
+     * @see RecursiveClassDigger#stream(Class, java.util.function.Function, Class)
+     */
+    public <T> Stream<ClassMember<? super T, Field>> streamFields(
+            @NonNull final Class<T> clazz,
+            @NonNull final Class<? super T> bound
+    ) {
+        return RecursiveClassDigger.stream(clazz, Class::getDeclaredFields, bound);
+    }
+
+    /**
+     * Lazily streams methods of class specified and all its parents (including interfaces) until the bound.
+     *
+     * @param clazz class from which to start streaming
+     * @param bound bounding of class, the one after reaching of which streaming ends (inclusive)
+     * @return stream of methods each associated with the class declaring it
+     *
+     * @see RecursiveClassDigger#streamWithInterfaces(Class, java.util.function.Function, Class)
+     */
+    public Stream<ClassMember<?, Method>> streamMethods(@NonNull final Class<?> clazz, @NonNull final Class<?> bound) {
+        return RecursiveClassDigger.streamWithInterfaces(clazz, Class::getDeclaredMethods, bound);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Class
     ///////////////////////////////////////////////////////////////////////////
@@ -183,7 +365,7 @@ public class Reflector {
      */
     @SneakyThrows
     public <T, R> Field getField(@NonNull final Class<T> clazz, @NonNull final String name) {
-        return clazz.getField(name);
+        return AccessProfile.recorded(clazz.getField(name));
     }
 
     /**
@@ -211,7 +393,7 @@ public class Reflector {
      */
     @SneakyThrows
     public <T, R> Field getDeclaredField(@NonNull final Class<T> clazz, @NonNull final String name) {
-        return clazz.getDeclaredField(name);
+        return AccessProfile.recorded(clazz.getDeclaredField(name));
     }
 
     /**
@@ -229,7 +411,7 @@ public class Reflector {
     }
 
     public <T, R> Optional<Field> getFieldOptional(@NonNull final Class<T> clazz, @NonNull final Predicate<Field> predicate) {
-        return digForField(clazz, predicate, Object.class).map(ClassMember::getValue);
+        return digForField(clazz, predicate, Object.class).map(ClassMember::getValue).map(AccessProfile::recorded);
     }
 
     public <T, R> Optional<Field> getFieldOptional(@NonNull final T object, @NonNull final Predicate<Field> predicate) {
@@ -238,7 +420,9 @@ public class Reflector {
 
     @SuppressWarnings("ConstantConditions")
     public <T, R> Field getField(@NonNull final Class<T> clazz, @NonNull final Predicate<Field> predicate) {
-        return digForField(clazz, predicate, Object.class).orElseThrow(NoSuchElementException::new).getValue();
+        return AccessProfile.recorded(
+                digForField(clazz, predicate, Object.class).orElseThrow(NoSuchElementException::new).getValue()
+        );
     }
 
     public <T, R> Field getField(@NonNull final T object, @NonNull final Predicate<Field> predicate) {
@@ -246,7 +430,7 @@ public class Reflector {
     }
 
     public <T, R> Optional<Field> getAnyFieldOptional(@NonNull final Class<T> clazz, @NonNull final String name) {
-        return getFieldOptional(clazz, field -> name.equals(field.getName()));
+        return Optional.ofNullable(AccessProfile.recorded(ClassMemberIndex.of(clazz).field(name)));
     }
 
     public <T, R> Optional<Field> getAnyFieldOptional(@NonNull final T object, @NonNull final String name) {
@@ -254,7 +438,10 @@ public class Reflector {
     }
 
     public <T, R> Field getAnyField(@NonNull final Class<T> clazz, @NonNull final String name) {
-        return getField(clazz, field -> name.equals(field.getName()));
+        val field = AccessProfile.recorded(ClassMemberIndex.of(clazz).field(name));
+        if (field == null) throw new NoSuchElementException();
+
+        return field;
     }
 
     public <T, R> Field getAnyField(@NonNull final T object, @NonNull final String name) {
@@ -268,7 +455,7 @@ public class Reflector {
     @SneakyThrows
     public <T, R> Method getMethod(@NonNull final Class<T> clazz, @NonNull final String name,
                                    @NonNull final Class<?>... parameterTypes) {
-        return clazz.getMethod(name, parameterTypes);
+        return AccessProfile.recorded(clazz.getMethod(name, parameterTypes));
     }
 
     public <T, R> Method getMethod(@NonNull final T object, @NonNull final String name,
@@ -279,7 +466,7 @@ public class Reflector {
     @SneakyThrows
     public <T, R> Method getDeclaredMethod(@NonNull final Class<T> clazz, @NonNull final String name,
                                            @NonNull final Class<?>... parameterTypes) {
-        return clazz.getDeclaredMethod(name, parameterTypes);
+        return AccessProfile.recorded(clazz.getDeclaredMethod(name, parameterTypes));
     }
 
     public <T, R> Method getDeclaredMethod(@NonNull final T object, @NonNull final String name,
@@ -289,7 +476,7 @@ public class Reflector {
 
     public <T, R> Optional<Method> getMethodOptional(@NonNull final Class<T> clazz,
                                                      @NonNull final Predicate<Method> predicate) {
-        return digForMethod(clazz, predicate, Object.class).map(ClassMember::getValue);
+        return digForMethod(clazz, predicate, Object.class).map(ClassMember::getValue).map(AccessProfile::recorded);
     }
 
     public <T, R> Optional<Method> getMethodOptional(@NonNull final T object,
@@ -299,7 +486,9 @@ public class Reflector {
 
     @SuppressWarnings("ConstantConditions")
     public <T, R> Method getMethod(@NonNull final Class<T> clazz, @NonNull final Predicate<Method> predicate) {
-        return digForMethod(clazz, predicate, Object.class).orElseThrow(NullPointerException::new).getValue();
+        return AccessProfile.recorded(
+                digForMethod(clazz, predicate, Object.class).orElseThrow(NullPointerException::new).getValue()
+        );
     }
 
     public <T, R> Method getMethod(@NonNull final T object, @NonNull final Predicate<Method> predicate) {
@@ -307,7 +496,7 @@ public class Reflector {
     }
 
     public <T, R> Optional<Method> getAnyMethodOptional(@NonNull final Class<T> clazz, @NonNull final String name) {
-        return getMethodOptional(clazz, field -> name.equals(field.getName()));
+        return Optional.ofNullable(AccessProfile.recorded(ClassMemberIndex.of(clazz).method(name)));
     }
 
     public <T, R> Optional<Method> getAnyMethodOptional(@NonNull final T object, @NonNull final String name) {
@@ -315,20 +504,46 @@ public class Reflector {
     }
 
     public <T, R> Method getAnyMethod(@NonNull final Class<T> clazz, @NonNull final String name) {
-        return getMethod(clazz, field -> name.equals(field.getName()));
+        val method = AccessProfile.recorded(ClassMemberIndex.of(clazz).method(name));
+        if (method == null) throw new NullPointerException();
+
+        return method;
     }
 
     public <T, R> Method getAnyMethod(@NonNull final T object, @NonNull final String name) {
         return getAnyMethod(classOf(object), name);
     }
 
+    public <T, R> Optional<Method> getAnyMethodOptional(@NonNull final Class<T> clazz, @NonNull final String name,
+                                                        @NonNull final Class<?>... parameterTypes) {
+        return Optional.ofNullable(AccessProfile.recorded(ClassMemberIndex.of(clazz).method(name, parameterTypes)));
+    }
+
+    public <T, R> Optional<Method> getAnyMethodOptional(@NonNull final T object, @NonNull final String name,
+                                                        @NonNull final Class<?>... parameterTypes) {
+        return getAnyMethodOptional(classOf(object), name, parameterTypes);
+    }
+
+    public <T, R> Method getAnyMethod(@NonNull final Class<T> clazz, @NonNull final String name,
+                                      @NonNull final Class<?>... parameterTypes) {
+        val method = AccessProfile.recorded(ClassMemberIndex.of(clazz).method(name, parameterTypes));
+        if (method == null) throw new NullPointerException();
+
+        return method;
+    }
+
+    public <T, R> Method getAnyMethod(@NonNull final T object, @NonNull final String name,
+                                      @NonNull final Class<?>... parameterTypes) {
+        return getAnyMethod(classOf(object), name, parameterTypes);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Constructor
     ///////////////////////////////////////////////////////////////////////////
 
     @SneakyThrows
     public <T> Constructor<T> getConstructor(@NonNull final Class<T> clazz, @NonNull final Class<?>... parameterTypes) {
-        return clazz.getConstructor(parameterTypes);
+        return AccessProfile.recorded(clazz.getConstructor(parameterTypes));
     }
 
     public <T> Constructor<T> getConstructor(@NonNull final T object, @NonNull final Class<?>... parameterTypes) {
@@ -338,7 +553,7 @@ public class Reflector {
     @SneakyThrows
     public <T> Constructor<T> getDeclaredConstructor(@NonNull final Class<T> clazz,
                                                      @NonNull final Class<?>... parameterTypes) {
-        return clazz.getDeclaredConstructor(parameterTypes);
+        return AccessProfile.recorded(clazz.getDeclaredConstructor(parameterTypes));
     }
 
     public <T> Constructor<T> getDeclaredConstructor(@NonNull final T object,
@@ -349,7 +564,9 @@ public class Reflector {
     public <T> Optional<Constructor<? super T>> getConstructorOptional(@NonNull final Class<T> clazz,
                                                                        @NonNull final Predicate<Constructor<? super T>>
                                                                         predicate) {
-        return digForConstructor(clazz, predicate, Object.class).map(ClassMember::getValue);
+        return digForConstructor(clazz, predicate, Object.class)
+                .map(ClassMember::getValue)
+                .map(AccessProfile::recorded);
     }
 
     public <T> Optional<Constructor<? super T>> getConstructorOptional(@NonNull final T object,
@@ -361,7 +578,9 @@ public class Reflector {
     @SuppressWarnings("ConstantConditions")
     public <T> Constructor<? super T> getConstructor(@NonNull final Class<T> clazz,
                                                      @NonNull final Predicate<Constructor<? super T>> predicate) {
-        return digForConstructor(clazz, predicate, Object.class).orElseThrow(NullPointerException::new).getValue();
+        return AccessProfile.recorded(
+                digForConstructor(clazz, predicate, Object.class).orElseThrow(NullPointerException::new).getValue()
+        );
     }
 
     public <T> Constructor<? super T> getConstructor(@NonNull final T object,
@@ -371,8 +590,7 @@ public class Reflector {
 
     public <T> Optional<Constructor<? super T>> getAnyConstructorOptional(@NonNull final Class<T> clazz,
                                                                           @NonNull final Class<?>... parameterTypes) {
-        return getConstructorOptional(clazz, (Predicate<Constructor<? super T>>)
-                constructor -> Arrays.equals(parameterTypes, constructor.getParameterTypes()));
+        return Optional.ofNullable(anyConstructor(clazz, parameterTypes));
     }
 
     public <T> Optional<Constructor<? super T>> getAnyConstructorOptional(@NonNull final T object,
@@ -382,8 +600,10 @@ public class Reflector {
 
     public <T> Constructor<? super T> getAnyConstructor(@NonNull final Class<T> clazz,
                                                         @NonNull final Class<?>... parameterTypes) {
-        return getConstructor(clazz, (Predicate<Constructor<? super T>>)
-                constructor -> Arrays.equals(parameterTypes, constructor.getParameterTypes()));
+        val constructor = anyConstructor(clazz, parameterTypes);
+        if (constructor == null) throw new NullPointerException();
+
+        return constructor;
     }
 
     public <T> Constructor<? super T> getAnyConstructor(@NonNull final T object,
@@ -391,6 +611,151 @@ public class Reflector {
         return getAnyConstructor(classOf(object), parameterTypes);
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> Constructor<? super T> anyConstructor(@NonNull final Class<T> clazz,
+                                                      @NonNull final Class<?>[] parameterTypes) {
+        return (Constructor<? super T>) AccessProfile.recorded(ClassMemberIndex.of(clazz).constructor(parameterTypes));
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Instantiation
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Gets the creator of instances of the class which does not invoke any of its constructors
+     * creating it if it was not yet created.
+     * The creator is generated if possible and otherwise falls back to {@link sun.misc.Unsafe}
+     * and then to the serialization constructor invoking only the constructor of {@link Object}.
+     *
+     * @param clazz class whose instances are to be created
+     * @param <T> type of created instances
+     * @return creator of instances of the class
+     * @throws IllegalArgumentException if the class is primitive, array, interface or abstract
+     * @throws UnsupportedOperationException if there is no way to create instances without invoking constructors
+     */
+    public <T> EmptyConstructorCreator<T> getInstantiator(@NonNull final Class<T> clazz) {
+        return Instantiators.of(clazz);
+    }
+
+    /**
+     * Creates new instance of the class without invoking any of its constructors
+     * using its {@link #getInstantiator(Class) instantiator}.
+     *
+     * @param clazz class whose instance is to be created
+     * @param <T> type of created instance
+     * @return created instance
+     * @throws IllegalArgumentException if the class is primitive, array, interface or abstract
+     * @throws UnsupportedOperationException if there is no way to create instances without invoking constructors
+     */
+    public <T> T newEmptyInstance(@NonNull final Class<T> clazz) {
+        return Instantiators.of(clazz).newInstance();
+    }
+
+    /**
+     * Creates new generator of instance creators using {@link #getSAFE_CLASS_DEFINER() safe class definer}.
+     *
+     * @return created class generator
+     */
+    public ClassGenerator newAsmClassGenerator() {
+        return newAsmClassGenerator(SAFE_CLASS_DEFINER, null);
+    }
+
+    /**
+     * Creates new generator of instance creators.
+     *
+     * @param classDefiner class definer to use for defining generated classes
+     * @return created class generator
+     */
+    public ClassGenerator newAsmClassGenerator(final ClassDefiner classDefiner) {
+        return newAsmClassGenerator(classDefiner, null);
+    }
+
+    /**
+     * Creates new generator of instance creators using {@link #getSAFE_CLASS_DEFINER() safe class definer}.
+     *
+     * @param classLoader class loader in which to define generated classes
+     * @return created class generator
+     */
+    public ClassGenerator newAsmClassGenerator(final ClassLoader classLoader) {
+        return newAsmClassGenerator(SAFE_CLASS_DEFINER, classLoader);
+    }
+
+    /**
+     * Creates new generator of instance creators.
+     *
+     * @param classDefiner class definer to use for defining generated classes
+     * @param classLoader class loader in which to define generated classes
+     * or {@code null} if it should be chosen by the instantiated class
+     * @return created class generator
+     */
+    public ClassGenerator newAsmClassGenerator(@NonNull final ClassDefiner classDefiner,
+                                               @Nullable final ClassLoader classLoader) {
+        return new AsmClassGenerator(classDefiner, classLoader);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Bulk access
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Gets the copier of all non-static fields declared by the class and its superclasses
+     * generating it if it was not yet generated.
+     *
+     * @param clazz class whose fields are to be copied
+     * @param <T> type of objects whose fields are copied
+     * @return field copier of the class
+     * @throws IllegalArgumentException if the class is primitive, array or interface
+     */
+    @SuppressWarnings("unchecked")
+    public <T> FieldCopier<T> getFieldCopier(@NonNull final Class<T> clazz) {
+        return (FieldCopier<T>) FIELD_COPIERS.get(clazz);
+    }
+
+    /**
+     * Creates a shallow copy of the object without invoking its constructor
+     * copying all its non-static fields using {@link #getFieldCopier(Class) field copier} of its class.
+     *
+     * @param object object to copy
+     * @param <T> type of object
+     * @return copy of the object
+     * @throws IllegalArgumentException if the object is an array
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T shallowCopy(@NonNull final T object) {
+        val clazz = (Class<T>) object.getClass();
+        val copy = newEmptyInstance(clazz);
+        getFieldCopier(clazz).copy(object, copy);
+
+        return copy;
+    }
+
+    /**
+     * Gets the accessor of all non-static fields declared by the class and its superclasses by their indices
+     * generating it if it was not yet generated.
+     *
+     * @param clazz class whose fields are to be accessed
+     * @param <T> type of objects whose fields are accessed
+     * @return property accessor of the class
+     * @throws IllegalArgumentException if the class is primitive, array or interface
+     */
+    @SuppressWarnings("unchecked")
+    public <T> PropertyAccessor<T> getPropertyAccessor(@NonNull final Class<T> clazz) {
+        return (PropertyAccessor<T>) PROPERTY_ACCESSORS.get(clazz);
+    }
+
+    /**
+     * Generates new dispatcher of the given methods of the class.
+     * Dispatchers are not cached so the generated one should be reused.
+     *
+     * @param clazz class whose methods are to be invoked
+     * @param methods methods to be invoked whose indices become their identifiers
+     * @return generated method dispatcher
+     * @throws IllegalArgumentException if any of the methods is not a member of the class
+     */
+    public MethodDispatcher newMethodDispatcher(@NonNull final Class<?> clazz, @NonNull final List<Method> methods) {
+        return METHOD_DISPATCHER_GENERATOR.generate(clazz, methods);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     // Unsafe
     ///////////////////////////////////////////////////////////////////////////
@@ -5,71 +5,113 @@ import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.val;
 import org.jetbrains.annotations.Nullable;
-import org.objectweb.asm.ClassWriter;
-import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import ru.progrm_jarvis.reflector.UnsafeUtil;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Modifier;
 
 import static org.objectweb.asm.Opcodes.*;
 
+/**
+ * Generator of {@link EmptyConstructorCreator} implementations using ASM.
+ * The generated creator allocates instances using {@link Unsafe#allocateInstance(Class)}
+ * so that no constructor of the class is invoked,
+ * the class being a constant of the generated class lets JIT compile the allocation as if it was {@code new}.
+ * <p>
+ * The generated class is defined in the class loader of the instantiated class if the creator is visible from it
+ * (so that they can be unloaded together) or in the class loader of {@link EmptyConstructorCreator} otherwise
+ * unless the class loader is specified explicitly.
+ */
 @AllArgsConstructor
 public class AsmClassGenerator implements ClassGenerator {
 
     public static final String[] EMPTY_CONSTRUCTOR_CREATOR_CLASS_NAME_STRING_ARRAY = {
-            EmptyConstructorCreator.class.getTypeName().replace('.', '/')
+            Type.getInternalName(EmptyConstructorCreator.class)
     };
 
+    private static final String NEW_INSTANCE_METHOD_DESCRIPTOR = "()Ljava/lang/Object;",
+            ALLOCATE_INSTANCE_METHOD_DESCRIPTOR = "(Ljava/lang/Class;)Ljava/lang/Object;",
+            UNSAFE_INTERNAL_NAME = Type.getInternalName(Unsafe.class),
+            CLASS_DESCRIPTOR = Type.getDescriptor(Class.class),
+            UNSAFE_DESCRIPTOR = Type.getDescriptor(Unsafe.class);
+
     @NonNull private ClassDefiner classDefiner;
     @NonNull private GeneratedClassNameSupplier classNameSupplier;
     @Nullable private ClassLoader classLoader;
 
     public AsmClassGenerator(final ClassDefiner classDefiner) {
+        this(classDefiner, (ClassLoader) null);
+    }
+
+    public AsmClassGenerator(final ClassDefiner classDefiner, @Nullable final ClassLoader classLoader) {
         this(classDefiner, IncrementingNameIdGeneratedClassNameSupplier
                 .from(AsmClassGenerator.class.getPackage().getName()
-                        .concat(".$$generated$$.emptyconstructor.EmptyConstructorCreator$")), null);
+                        .concat(".$$generated$$.emptyconstructor.EmptyConstructorCreator$")), classLoader);
     }
 
+    /**
+     * Generates new creator of instances of the given class.
+     *
+     * @param clazz class whose instances are to be created
+     * @param <T> type of created instances
+     * @return generated creator of instances
+     * @throws IllegalArgumentException if the class is primitive, array, interface or abstract
+     * @throws UnsupportedOperationException if {@link Unsafe} is not available
+     */
+    @Override
     @SneakyThrows
-    public EmptyConstructorCreator newClassInstanceManipulator(@NonNull final Class<?> clazz) {
-        val className = classNameSupplier.get();
+    @SuppressWarnings("unchecked")
+    public <T> EmptyConstructorCreator<T> newClassInstanceManipulator(@NonNull final Class<T> clazz) {
+        if (clazz.isPrimitive() || clazz.isArray()
+                || Modifier.isAbstract(clazz.getModifiers())) throw new IllegalArgumentException(
+                clazz + " cannot be instantiated"
+        );
+        if (UnsafeUtil.UNSAFE == null) throw new UnsupportedOperationException("Unsafe is not available");
 
-        val dotClassName = className.replace("/", ".");
-        val targetClassName = clazz.getName().replace(".", "/");
-        val superClassName = "sun/reflect/MagicAccessorImpl";
-        val classWriter = new ClassWriter(0);
-        MethodVisitor mv;
+        val className = classNameSupplier.get();
+        val internalClassName = AsmUtil.internalName(className);
+        val classWriter = AsmUtil.newClassWriter();
 
         classWriter.visit(
-                52, ACC_PUBLIC + ACC_SUPER, className, null, superClassName,
-                EMPTY_CONSTRUCTOR_CREATOR_CLASS_NAME_STRING_ARRAY
+                V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, internalClassName, null,
+                AsmUtil.OBJECT_INTERNAL_NAME, EMPTY_CONSTRUCTOR_CREATOR_CLASS_NAME_STRING_ARRAY
         );
+        AsmUtil.generateEmptyConstructor(classWriter);
+
+        // constants are: c0 - Unsafe, c1 - instantiated class
+        GeneratedClassData.put(className, new Object[]{UnsafeUtil.UNSAFE, clazz});
+        GeneratedClassData.generateConstants(classWriter, internalClassName, className, Unsafe.class, Class.class);
 
-        generateEmptyConstructor(classWriter, superClassName);
         {
-            mv = classWriter.visitMethod(ACC_PUBLIC, "newInstance", "()Ljava/lang/Object;", null, null);
-            mv.visitCode();
-            mv.visitTypeInsn(NEW, targetClassName);
-            mv.visitInsn(DUP);
-            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
-            mv.visitInsn(ARETURN);
-            mv.visitMaxs(2, 2);
-            mv.visitEnd();
+            val creator = classWriter.visitMethod(
+                    ACC_PUBLIC | ACC_FINAL, "newInstance", NEW_INSTANCE_METHOD_DESCRIPTOR, null, null
+            );
+            creator.visitCode();
+            creator.visitFieldInsn(GETSTATIC, internalClassName, GeneratedClassData.constantName(0), UNSAFE_DESCRIPTOR);
+            creator.visitFieldInsn(GETSTATIC, internalClassName, GeneratedClassData.constantName(1), CLASS_DESCRIPTOR);
+            creator.visitMethodInsn(
+                    INVOKEVIRTUAL, UNSAFE_INTERNAL_NAME, "allocateInstance", ALLOCATE_INSTANCE_METHOD_DESCRIPTOR, false
+            );
+            creator.visitInsn(ARETURN);
+            creator.visitMaxs(0, 0);
+            creator.visitEnd();
         }
 
         classWriter.visitEnd();
 
-        val bytes = classWriter.toByteArray();
-        val definedClass = classDefiner.defineClass(classLoader == null
-                        ? getClass().getClassLoader() : classLoader, dotClassName, bytes);
-
-        return (EmptyConstructorCreator) definedClass.newInstance();
-    }
+        ClassLoader classLoader = this.classLoader;
+        if (classLoader == null) {
+            classLoader = AsmUtil.findCommonClassLoader(clazz, EmptyConstructorCreator.class);
+            if (classLoader == null) classLoader = EmptyConstructorCreator.class.getClassLoader();
+        }
 
-    private void generateEmptyConstructor(@NonNull final ClassWriter cw, @NonNull final String superClassName) {
-        val methodVisitor = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
-        methodVisitor.visitCode();
-        methodVisitor.visitVarInsn(ALOAD, 0);
-        methodVisitor.visitMethodInsn(INVOKESPECIAL, superClassName, "<init>", "()V", false);
-        methodVisitor.visitInsn(RETURN);
-        methodVisitor.visitMaxs(1, 1);
-        methodVisitor.visitEnd();
+        try {
+            return (EmptyConstructorCreator<T>) classDefiner
+                    .defineClass(classLoader, className, classWriter.toByteArray())
+                    .newInstance();
+        } finally {
+            GeneratedClassData.discard(className);
+        }
     }
 }
@@ -0,0 +1,231 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import ru.progrm_jarvis.reflector.invoke.MethodHandleUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.function.IntConsumer;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generator of {@link ConstructorInvoker} implementations using ASM.
+ * If the constructor is accessible from the generated class,
+ * the invoker uses direct {@code NEW}/{@code DUP}/{@code INVOKESPECIAL} instructions,
+ * otherwise it uses {@link MethodHandle#invokeExact(Object...)} on a method handle stored as a constant.
+ * Exceptions thrown by the constructor are rethrown as they are (without being wrapped).
+ */
+@AllArgsConstructor
+public class AsmConstructorInvokerGenerator {
+
+    private static final String[] CONSTRUCTOR_INVOKER_CLASS_NAME_STRING_ARRAY = {
+            Type.getInternalName(ConstructorInvoker.class)
+    };
+
+    private static final String CONSTRUCT_METHOD_DESCRIPTOR = "([Ljava/lang/Object;)Ljava/lang/Object;",
+            METHOD_HANDLE_INTERNAL_NAME = Type.getInternalName(MethodHandle.class),
+            METHOD_HANDLE_DESCRIPTOR = Type.getDescriptor(MethodHandle.class);
+
+    @NonNull private ClassDefiner classDefiner;
+    @NonNull private GeneratedClassNameSupplier classNameSupplier;
+
+    public AsmConstructorInvokerGenerator(final ClassDefiner classDefiner) {
+        this(classDefiner, IncrementingNameIdGeneratedClassNameSupplier
+                .from(AsmConstructorInvokerGenerator.class.getPackage().getName()
+                        .concat(".$$generated$$.constructorinvoker.ConstructorInvoker$")));
+    }
+
+    /**
+     * Generates new constructor invoker for the given constructor.
+     *
+     * @param constructor constructor for which to generate the invoker
+     * @return generated constructor invoker
+     * @throws IllegalArgumentException if the constructor belongs to an abstract class
+     */
+    @SneakyThrows
+    public ConstructorInvoker generate(@NonNull final Constructor<?> constructor) {
+        checkNotAbstract(constructor);
+
+        val className = classNameSupplier.get();
+
+        val classLoader = findDirectAccessClassLoader(constructor);
+        val direct = classLoader != null;
+        // constants are: c0 - method handle of type (Object...)Object
+        if (!direct) GeneratedClassData.put(className, new Object[]{
+                MethodHandleUtil.methodHandleFrom(constructor)
+                        .asType(MethodType.genericMethodType(constructor.getParameterCount()))
+        });
+
+        try {
+            return (ConstructorInvoker) classDefiner.defineClass(
+                    direct ? classLoader : ConstructorInvoker.class.getClassLoader(), className,
+                    generateBytecode(constructor, className, direct)
+            ).newInstance();
+        } finally {
+            GeneratedClassData.discard(className);
+        }
+    }
+
+    /**
+     * Generates bytecode of the invoker invoking the constructor directly
+     * so that it does not depend on any runtime data and thus may be generated ahead of time.
+     *
+     * @param constructor constructor for which to generate the invoker
+     * @param className name of the generated class
+     * @return bytecode of the generated invoker
+     * @throws IllegalArgumentException if the constructor belongs to an abstract class or cannot be invoked directly
+     */
+    public static byte[] generateDirectBytecode(@NonNull final Constructor<?> constructor,
+                                                @NonNull final String className) {
+        checkNotAbstract(constructor);
+        if (findDirectAccessClassLoader(constructor) == null) throw new IllegalArgumentException(
+                "Constructor " + constructor + " cannot be invoked directly"
+        );
+
+        return generateBytecode(constructor, className, true);
+    }
+
+    /**
+     * Checks that the constructor does not belong to an abstract class.
+     *
+     * @param constructor constructor to check
+     * @throws IllegalArgumentException if the constructor belongs to an abstract class
+     */
+    private static void checkNotAbstract(@NonNull final Constructor<?> constructor) {
+        if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) throw new IllegalArgumentException(
+                "Cannot generate invoker of constructor " + constructor + " of an abstract class"
+        );
+    }
+
+    /**
+     * Generates bytecode of the invoker.
+     *
+     * @param constructor constructor for which to generate the invoker
+     * @param className name of the generated class
+     * @param direct whether the constructor should be invoked directly or using the method handle stored as a constant
+     * @return bytecode of the generated invoker
+     */
+    private static byte[] generateBytecode(@NonNull final Constructor<?> constructor, @NonNull final String className,
+                                           final boolean direct) {
+        val internalClassName = AsmUtil.internalName(className);
+        val classWriter = AsmUtil.newClassWriter();
+
+        classWriter.visit(
+                V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, internalClassName, null,
+                AsmUtil.OBJECT_INTERNAL_NAME, CONSTRUCTOR_INVOKER_CLASS_NAME_STRING_ARRAY
+        );
+        AsmUtil.generateEmptyConstructor(classWriter);
+
+        val arity = constructor.getParameterCount();
+
+        if (!direct) GeneratedClassData.generateConstants(
+                classWriter, internalClassName, className, MethodHandle.class
+        );
+
+        {
+            val invoker = classWriter.visitMethod(
+                    ACC_PUBLIC | ACC_FINAL, "construct", CONSTRUCT_METHOD_DESCRIPTOR, null, null
+            );
+            invoker.visitCode();
+            AsmMethodInvokerGenerator.visitArrayLengthCheck(invoker, 1, arity);
+            visitConstruction(invoker, internalClassName, constructor, direct, 0, index -> {
+                invoker.visitVarInsn(ALOAD, 1);
+                AsmUtil.pushInt(invoker, index);
+                invoker.visitInsn(AALOAD);
+            });
+            invoker.visitInsn(ARETURN);
+            invoker.visitMaxs(0, 0);
+            invoker.visitEnd();
+        }
+
+        if (arity <= ConstructorInvoker.MAX_SPECIALIZED_ARITY) {
+            val invoker = classWriter.visitMethod(
+                    ACC_PUBLIC | ACC_FINAL, "construct".concat(Integer.toString(arity)),
+                    MethodType.genericMethodType(arity).toMethodDescriptorString(), null, null
+            );
+            invoker.visitCode();
+            // arguments follow `this`
+            visitConstruction(
+                    invoker, internalClassName, constructor, direct, 0, index -> invoker.visitVarInsn(ALOAD, index + 1)
+            );
+            invoker.visitInsn(ARETURN);
+            invoker.visitMaxs(0, 0);
+            invoker.visitEnd();
+        }
+
+        classWriter.visitEnd();
+
+        return classWriter.toByteArray();
+    }
+
+    /**
+     * Finds the class loader in which the generated class may invoke the constructor directly.
+     *
+     * @param constructor constructor to be invoked
+     * @return class loader for the generated class or {@code null} if the constructor cannot be invoked directly
+     */
+    static ClassLoader findDirectAccessClassLoader(@NonNull final Constructor<?> constructor) {
+        if (!AsmUtil.isAccessible(constructor)) return null;
+
+        val parameterTypes = constructor.getParameterTypes();
+        val classes = new Class<?>[parameterTypes.length + 2];
+        classes[0] = constructor.getDeclaringClass();
+        classes[1] = ConstructorInvoker.class;
+        for (int i = 0; i < parameterTypes.length; i++) {
+            val parameterType = parameterTypes[i];
+            if (!AsmUtil.isAccessible(parameterType)) return null;
+            classes[i + 2] = parameterType;
+        }
+
+        return AsmUtil.findCommonClassLoader(classes);
+    }
+
+    /**
+     * Invokes the constructor leaving the created instance on top of the stack.
+     *
+     * @param method method visitor
+     * @param internalClassName internal name of the generated class
+     * @param target constructor to invoke
+     * @param direct whether the constructor should be invoked directly
+     * @param methodHandleConstant index of the constant holding the method handle used if it is not invoked directly
+     * @param argumentLoader function pushing the argument by its index onto the stack as {@link Object}
+     */
+    static void visitConstruction(@NonNull final MethodVisitor method, @NonNull final String internalClassName,
+                                  @NonNull final Constructor<?> target, final boolean direct,
+                                  final int methodHandleConstant, @NonNull final IntConsumer argumentLoader) {
+        val parameterTypes = target.getParameterTypes();
+
+        if (direct) {
+            val owner = AsmUtil.internalName(target.getDeclaringClass());
+            method.visitTypeInsn(NEW, owner);
+            method.visitInsn(DUP);
+            for (int i = 0; i < parameterTypes.length; i++) {
+                argumentLoader.accept(i);
+                AsmUtil.checkPrimitiveArgument(method, parameterTypes[i], i);
+                AsmUtil.unboxOrCast(method, parameterTypes[i]);
+            }
+            method.visitMethodInsn(INVOKESPECIAL, owner, "<init>", Type.getConstructorDescriptor(target), false);
+        } else {
+            method.visitFieldInsn(
+                    GETSTATIC, internalClassName, GeneratedClassData.constantName(methodHandleConstant),
+                    METHOD_HANDLE_DESCRIPTOR
+            );
+            for (int i = 0; i < parameterTypes.length; i++) {
+                argumentLoader.accept(i);
+                AsmUtil.checkPrimitiveArgument(method, parameterTypes[i], i);
+            }
+            method.visitMethodInsn(
+                    INVOKEVIRTUAL, METHOD_HANDLE_INTERNAL_NAME, "invokeExact",
+                    MethodType.genericMethodType(parameterTypes.length).toMethodDescriptorString(), false
+            );
+        }
+    }
+}
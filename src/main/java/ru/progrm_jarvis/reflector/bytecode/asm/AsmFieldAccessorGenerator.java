@@ -0,0 +1,268 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import ru.progrm_jarvis.reflector.UnsafeUtil;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generator of {@link FieldAccessor} implementations using ASM.
+ * If the field is accessible from the generated class and is not {@code final},
+ * the accessor uses direct {@code GETFIELD}/{@code PUTFIELD}/{@code GETSTATIC}/{@code PUTSTATIC} instructions,
+ * otherwise it uses {@link Unsafe} with the field's offset being a constant.
+ */
+@AllArgsConstructor
+public class AsmFieldAccessorGenerator {
+
+    private static final String[] FIELD_ACCESSOR_CLASS_NAME_STRING_ARRAY = {
+            Type.getInternalName(FieldAccessor.class)
+    };
+
+    private static final String GET_METHOD_DESCRIPTOR = "(Ljava/lang/Object;)Ljava/lang/Object;",
+            SET_METHOD_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;)V",
+            OBJECT_TO_OBJECT_METHOD_DESCRIPTOR = "(Ljava/lang/Object;)Ljava/lang/Object;",
+            UNSAFE_INTERNAL_NAME = Type.getInternalName(Unsafe.class),
+            CLASS_INTERNAL_NAME = Type.getInternalName(Class.class),
+            CLASS_DESCRIPTOR = Type.getDescriptor(Class.class),
+            OBJECT_DESCRIPTOR = Type.getDescriptor(Object.class),
+            UNSAFE_DESCRIPTOR = Type.getDescriptor(Unsafe.class);
+
+    @NonNull private ClassDefiner classDefiner;
+    @NonNull private GeneratedClassNameSupplier classNameSupplier;
+
+    public AsmFieldAccessorGenerator(final ClassDefiner classDefiner) {
+        this(classDefiner, IncrementingNameIdGeneratedClassNameSupplier
+                .from(AsmFieldAccessorGenerator.class.getPackage().getName()
+                        .concat(".$$generated$$.fieldaccessor.FieldAccessor$")));
+    }
+
+    /**
+     * Generates new field accessor for the given field.
+     *
+     * @param field field for which to generate the accessor
+     * @return generated field accessor
+     */
+    @SneakyThrows
+    public FieldAccessor generate(@NonNull final Field field) {
+        val className = classNameSupplier.get();
+        val internalClassName = AsmUtil.internalName(className);
+        val classWriter = newAccessorClassWriter(internalClassName);
+
+        ClassLoader classLoader = findDirectAccessClassLoader(field);
+        if (classLoader == null) {
+            classLoader = FieldAccessor.class.getClassLoader();
+            generateUnsafeAccessors(classWriter, internalClassName, className, field);
+        } else generateDirectAccessors(classWriter, field);
+
+        classWriter.visitEnd();
+
+        try {
+            return (FieldAccessor) classDefiner
+                    .defineClass(classLoader, className, classWriter.toByteArray()).newInstance();
+        } finally {
+            GeneratedClassData.discard(className);
+        }
+    }
+
+    /**
+     * Generates bytecode of the accessor accessing the field directly
+     * so that it does not depend on any runtime data and thus may be generated ahead of time.
+     *
+     * @param field field for which to generate the accessor
+     * @param className name of the generated class
+     * @return bytecode of the generated accessor
+     * @throws IllegalArgumentException if the field cannot be accessed directly
+     */
+    public static byte[] generateDirectBytecode(@NonNull final Field field, @NonNull final String className) {
+        if (findDirectAccessClassLoader(field) == null) throw new IllegalArgumentException(
+                "Field " + field + " cannot be accessed directly"
+        );
+
+        val classWriter = newAccessorClassWriter(AsmUtil.internalName(className));
+        generateDirectAccessors(classWriter, field);
+        classWriter.visitEnd();
+
+        return classWriter.toByteArray();
+    }
+
+    /**
+     * Finds the class loader in which the generated class may access the field directly.
+     *
+     * @param field field to be accessed
+     * @return class loader for the generated class or {@code null} if the field cannot be accessed directly
+     */
+    static ClassLoader findDirectAccessClassLoader(@NonNull final Field field) {
+        val type = field.getType();
+        if (Modifier.isFinal(field.getModifiers()) || !AsmUtil.isAccessible(field)
+                || !AsmUtil.isAccessible(type)) return null;
+
+        return AsmUtil.findCommonClassLoader(field.getDeclaringClass(), type, FieldAccessor.class);
+    }
+
+    /**
+     * Creates the class writer of the accessor with its header and constructor visited.
+     *
+     * @param internalClassName internal name of the generated class
+     * @return created class writer
+     */
+    private static ClassWriter newAccessorClassWriter(@NonNull final String internalClassName) {
+        val classWriter = AsmUtil.newClassWriter();
+        classWriter.visit(
+                V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, internalClassName, null,
+                AsmUtil.OBJECT_INTERNAL_NAME, FIELD_ACCESSOR_CLASS_NAME_STRING_ARRAY
+        );
+        AsmUtil.generateEmptyConstructor(classWriter);
+
+        return classWriter;
+    }
+
+    private static void generateDirectAccessors(@NonNull final ClassWriter classWriter, @NonNull final Field field) {
+        val isStatic = Modifier.isStatic(field.getModifiers());
+        val owner = AsmUtil.internalName(field.getDeclaringClass());
+        val name = field.getName();
+        val type = field.getType();
+        val descriptor = Type.getDescriptor(type);
+
+        {
+            val getter = classWriter.visitMethod(ACC_PUBLIC | ACC_FINAL, "get", GET_METHOD_DESCRIPTOR, null, null);
+            getter.visitCode();
+            if (isStatic) getter.visitFieldInsn(GETSTATIC, owner, name, descriptor);
+            else {
+                getter.visitVarInsn(ALOAD, 1);
+                getter.visitTypeInsn(CHECKCAST, owner);
+                getter.visitFieldInsn(GETFIELD, owner, name, descriptor);
+            }
+            AsmUtil.box(getter, type);
+            getter.visitInsn(ARETURN);
+            getter.visitMaxs(0, 0);
+            getter.visitEnd();
+        }
+
+        {
+            val setter = classWriter.visitMethod(ACC_PUBLIC | ACC_FINAL, "set", SET_METHOD_DESCRIPTOR, null, null);
+            setter.visitCode();
+            if (isStatic) {
+                setter.visitVarInsn(ALOAD, 2);
+                AsmUtil.unboxOrCast(setter, type);
+                setter.visitFieldInsn(PUTSTATIC, owner, name, descriptor);
+            } else {
+                setter.visitVarInsn(ALOAD, 1);
+                setter.visitTypeInsn(CHECKCAST, owner);
+                setter.visitVarInsn(ALOAD, 2);
+                AsmUtil.unboxOrCast(setter, type);
+                setter.visitFieldInsn(PUTFIELD, owner, name, descriptor);
+            }
+            setter.visitInsn(RETURN);
+            setter.visitMaxs(0, 0);
+            setter.visitEnd();
+        }
+    }
+
+    private static void generateUnsafeAccessors(@NonNull final ClassWriter classWriter,
+                                                @NonNull final String internalClassName,
+                                                @NonNull final String className,
+                                                @NonNull final Field field) {
+        val unsafe = UnsafeUtil.UNSAFE;
+        val isStatic = Modifier.isStatic(field.getModifiers());
+        val type = field.getType();
+
+        // constants are: c0 - Unsafe, c1 - static base or declaring class, c2 - field type
+        final long offset;
+        if (isStatic) {
+            unsafe.ensureClassInitialized(field.getDeclaringClass());
+            offset = unsafe.staticFieldOffset(field);
+            GeneratedClassData.put(className, new Object[]{unsafe, unsafe.staticFieldBase(field), type});
+            GeneratedClassData.generateConstants(
+                    classWriter, internalClassName, className, Unsafe.class, Object.class, Class.class
+            );
+        } else {
+            offset = unsafe.objectFieldOffset(field);
+            GeneratedClassData.put(className, new Object[]{unsafe, field.getDeclaringClass(), type});
+            GeneratedClassData.generateConstants(
+                    classWriter, internalClassName, className, Unsafe.class, Class.class, Class.class
+            );
+        }
+
+        val unsafeMethodSuffix = AsmUtil.unsafeMethodSuffix(type, Modifier.isVolatile(field.getModifiers()));
+        val unsafeTypeDescriptor = type.isPrimitive() ? Type.getDescriptor(type) : OBJECT_DESCRIPTOR;
+
+        {
+            val getter = classWriter.visitMethod(ACC_PUBLIC | ACC_FINAL, "get", GET_METHOD_DESCRIPTOR, null, null);
+            getter.visitCode();
+            visitUnsafeTarget(getter, internalClassName, isStatic, offset);
+            getter.visitMethodInsn(
+                    INVOKEVIRTUAL, UNSAFE_INTERNAL_NAME, "get".concat(unsafeMethodSuffix),
+                    "(Ljava/lang/Object;J)".concat(unsafeTypeDescriptor), false
+            );
+            AsmUtil.box(getter, type);
+            getter.visitInsn(ARETURN);
+            getter.visitMaxs(0, 0);
+            getter.visitEnd();
+        }
+
+        {
+            val setter = classWriter.visitMethod(ACC_PUBLIC | ACC_FINAL, "set", SET_METHOD_DESCRIPTOR, null, null);
+            setter.visitCode();
+            visitUnsafeTarget(setter, internalClassName, isStatic, offset);
+            if (type.isPrimitive()) {
+                setter.visitVarInsn(ALOAD, 2);
+                AsmUtil.unboxOrCast(setter, type);
+            } else if (type == Object.class) setter.visitVarInsn(ALOAD, 2);
+            else {
+                // check the type of the value as Unsafe does not do it
+                setter.visitFieldInsn(
+                        GETSTATIC, internalClassName, GeneratedClassData.constantName(2), CLASS_DESCRIPTOR
+                );
+                setter.visitVarInsn(ALOAD, 2);
+                setter.visitMethodInsn(
+                        INVOKEVIRTUAL, CLASS_INTERNAL_NAME, "cast", OBJECT_TO_OBJECT_METHOD_DESCRIPTOR, false
+                );
+            }
+            setter.visitMethodInsn(
+                    INVOKEVIRTUAL, UNSAFE_INTERNAL_NAME, "put".concat(unsafeMethodSuffix),
+                    "(Ljava/lang/Object;J".concat(unsafeTypeDescriptor).concat(")V"), false
+            );
+            setter.visitInsn(RETURN);
+            setter.visitMaxs(0, 0);
+            setter.visitEnd();
+        }
+    }
+
+    /**
+     * Pushes {@link Unsafe}, the object whose field is accessed and the offset of the field onto the stack.
+     * The object is checked to be non-null instance of the declaring class as Unsafe does not check it.
+     *
+     * @param method method visitor
+     * @param internalClassName internal name of the generated class
+     * @param isStatic whether the field is static
+     * @param offset offset of the field
+     */
+    private static void visitUnsafeTarget(@NonNull final MethodVisitor method, @NonNull final String internalClassName,
+                                          final boolean isStatic, final long offset) {
+        method.visitFieldInsn(GETSTATIC, internalClassName, GeneratedClassData.constantName(0), UNSAFE_DESCRIPTOR);
+        if (isStatic) method.visitFieldInsn(
+                GETSTATIC, internalClassName, GeneratedClassData.constantName(1), OBJECT_DESCRIPTOR
+        );
+        else {
+            method.visitFieldInsn(GETSTATIC, internalClassName, GeneratedClassData.constantName(1), CLASS_DESCRIPTOR);
+            method.visitVarInsn(ALOAD, 1);
+            method.visitMethodInsn(
+                    INVOKESTATIC, "java/util/Objects", "requireNonNull", OBJECT_TO_OBJECT_METHOD_DESCRIPTOR, false
+            );
+            method.visitMethodInsn(
+                    INVOKEVIRTUAL, CLASS_INTERNAL_NAME, "cast", OBJECT_TO_OBJECT_METHOD_DESCRIPTOR, false
+            );
+        }
+        method.visitLdcInsn(offset);
+    }
+}
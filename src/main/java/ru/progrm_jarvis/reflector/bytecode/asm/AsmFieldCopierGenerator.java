@@ -0,0 +1,157 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import ru.progrm_jarvis.reflector.ClassMember;
+import ru.progrm_jarvis.reflector.Reflector;
+import ru.progrm_jarvis.reflector.UnsafeUtil;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generator of {@link FieldCopier} implementations using ASM.
+ * The copier is a single straight-line method copying each field using {@link Unsafe}
+ * with the field's offset being a constant so that private and final fields of any class can be copied.
+ */
+@AllArgsConstructor
+public class AsmFieldCopierGenerator {
+
+    private static final String[] FIELD_COPIER_CLASS_NAME_STRING_ARRAY = {
+            Type.getInternalName(FieldCopier.class)
+    };
+
+    private static final String COPY_METHOD_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;)V",
+            OBJECT_TO_OBJECT_METHOD_DESCRIPTOR = "(Ljava/lang/Object;)Ljava/lang/Object;",
+            UNSAFE_INTERNAL_NAME = Type.getInternalName(Unsafe.class),
+            CLASS_INTERNAL_NAME = Type.getInternalName(Class.class),
+            CLASS_DESCRIPTOR = Type.getDescriptor(Class.class),
+            OBJECT_DESCRIPTOR = Type.getDescriptor(Object.class),
+            UNSAFE_DESCRIPTOR = Type.getDescriptor(Unsafe.class);
+
+    @NonNull private ClassDefiner classDefiner;
+    @NonNull private GeneratedClassNameSupplier classNameSupplier;
+
+    public AsmFieldCopierGenerator(final ClassDefiner classDefiner) {
+        this(classDefiner, IncrementingNameIdGeneratedClassNameSupplier
+                .from(AsmFieldCopierGenerator.class.getPackage().getName()
+                        .concat(".$$generated$$.fieldcopier.FieldCopier$")));
+    }
+
+    /**
+     * Generates new field copier for the given class.
+     *
+     * @param clazz class whose fields (including the ones declared by its superclasses) are to be copied
+     * @param <T> type of objects whose fields are copied
+     * @return generated field copier
+     */
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public <T> FieldCopier<T> generate(@NonNull final Class<T> clazz) {
+        if (clazz.isPrimitive() || clazz.isArray() || clazz.isInterface()) throw new IllegalArgumentException(
+                clazz + " cannot have its fields copied"
+        );
+
+        val className = classNameSupplier.get();
+        val internalClassName = AsmUtil.internalName(className);
+        val classWriter = AsmUtil.newClassWriter();
+
+        classWriter.visit(
+                V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, internalClassName, null,
+                AsmUtil.OBJECT_INTERNAL_NAME, FIELD_COPIER_CLASS_NAME_STRING_ARRAY
+        );
+        AsmUtil.generateEmptyConstructor(classWriter);
+
+        // constants are: c0 - Unsafe, c1 - copied class
+        GeneratedClassData.put(className, new Object[]{UnsafeUtil.UNSAFE, clazz});
+        GeneratedClassData.generateConstants(classWriter, internalClassName, className, Unsafe.class, Class.class);
+
+        {
+            val copier = classWriter.visitMethod(ACC_PUBLIC | ACC_FINAL, "copy", COPY_METHOD_DESCRIPTOR, null, null);
+            copier.visitCode();
+            // objects are checked once as Unsafe does not check them
+            visitCheckedObject(copier, internalClassName, 1);
+            visitCheckedObject(copier, internalClassName, 2);
+
+            val fields = Reflector.streamFields(clazz, Object.class)
+                    .map(ClassMember::getValue)
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                    .toArray(Field[]::new);
+            for (val field : fields) visitFieldCopy(copier, internalClassName, field);
+
+            copier.visitInsn(RETURN);
+            copier.visitMaxs(0, 0);
+            copier.visitEnd();
+        }
+
+        classWriter.visitEnd();
+
+        // the copier is defined in the class's loader (if possible) so that it does not prevent it from being unloaded
+        ClassLoader classLoader = AsmUtil.findCommonClassLoader(clazz, FieldCopier.class);
+        if (classLoader == null) classLoader = FieldCopier.class.getClassLoader();
+
+        try {
+            return (FieldCopier<T>) classDefiner
+                    .defineClass(classLoader, className, classWriter.toByteArray())
+                    .newInstance();
+        } finally {
+            GeneratedClassData.discard(className);
+        }
+    }
+
+    /**
+     * Checks that the object in the local variable is non-null instance of the copied class.
+     *
+     * @param method method visitor
+     * @param internalClassName internal name of the generated class
+     * @param index index of the local variable
+     */
+    private static void visitCheckedObject(@NonNull final MethodVisitor method,
+                                           @NonNull final String internalClassName, final int index) {
+        method.visitFieldInsn(GETSTATIC, internalClassName, GeneratedClassData.constantName(1), CLASS_DESCRIPTOR);
+        method.visitVarInsn(ALOAD, index);
+        method.visitMethodInsn(
+                INVOKESTATIC, "java/util/Objects", "requireNonNull", OBJECT_TO_OBJECT_METHOD_DESCRIPTOR, false
+        );
+        method.visitMethodInsn(INVOKEVIRTUAL, CLASS_INTERNAL_NAME, "cast", OBJECT_TO_OBJECT_METHOD_DESCRIPTOR, false);
+        method.visitInsn(POP);
+    }
+
+    /**
+     * Copies the value of the field from the source (local variable 1) to the target (local variable 2).
+     *
+     * @param method method visitor
+     * @param internalClassName internal name of the generated class
+     * @param field copied field
+     */
+    private static void visitFieldCopy(@NonNull final MethodVisitor method, @NonNull final String internalClassName,
+                                       @NonNull final Field field) {
+        val type = field.getType();
+        val offset = UnsafeUtil.UNSAFE.objectFieldOffset(field);
+        val unsafeMethodSuffix = AsmUtil.unsafeMethodSuffix(type, Modifier.isVolatile(field.getModifiers()));
+        val unsafeTypeDescriptor = type.isPrimitive() ? Type.getDescriptor(type) : OBJECT_DESCRIPTOR;
+
+        // Unsafe.put(target, offset, Unsafe.get(source, offset))
+        method.visitFieldInsn(GETSTATIC, internalClassName, GeneratedClassData.constantName(0), UNSAFE_DESCRIPTOR);
+        method.visitVarInsn(ALOAD, 2);
+        method.visitLdcInsn(offset);
+        method.visitFieldInsn(GETSTATIC, internalClassName, GeneratedClassData.constantName(0), UNSAFE_DESCRIPTOR);
+        method.visitVarInsn(ALOAD, 1);
+        method.visitLdcInsn(offset);
+        method.visitMethodInsn(
+                INVOKEVIRTUAL, UNSAFE_INTERNAL_NAME, "get".concat(unsafeMethodSuffix),
+                "(Ljava/lang/Object;J)".concat(unsafeTypeDescriptor), false
+        );
+        method.visitMethodInsn(
+                INVOKEVIRTUAL, UNSAFE_INTERNAL_NAME, "put".concat(unsafeMethodSuffix),
+                "(Ljava/lang/Object;J".concat(unsafeTypeDescriptor).concat(")V"), false
+        );
+    }
+}
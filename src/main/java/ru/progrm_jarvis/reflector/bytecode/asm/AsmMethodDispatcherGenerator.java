@@ -0,0 +1,294 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generator of {@link MethodDispatcher} implementations using ASM.
+ * The dispatcher is a {@code TABLESWITCH} over identifiers of the methods
+ * whose branches call small static methods invoking the methods the same way as {@link AsmMethodInvokerGenerator}
+ * does, that is directly if the method is accessible from the generated class
+ * or using a method handle stored as a constant otherwise.
+ * If there are more than {@value #MAX_SWITCH_CASES} methods, the switch is split into chunks
+ * each being a separate method so that none of the generated methods exceeds the size limit
+ * above which it is not compiled by JIT ({@code -XX:HugeMethodLimit}, 8000 bytes by default).
+ */
+@AllArgsConstructor
+public class AsmMethodDispatcherGenerator {
+
+    private static final String[] METHOD_DISPATCHER_CLASS_NAME_STRING_ARRAY = {
+            Type.getInternalName(MethodDispatcher.class)
+    };
+
+    /**
+     * Binary logarithm of the maximal number of cases of a single {@code TABLESWITCH}
+     */
+    private static final int CHUNK_SHIFT = 6;
+
+    /**
+     * Maximal number of cases of a single {@code TABLESWITCH}
+     */
+    private static final int MAX_SWITCH_CASES = 1 << CHUNK_SHIFT;
+
+    private static final String INVOKE_METHOD_DESCRIPTOR
+            = "(ILjava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;",
+            TARGET_METHOD_DESCRIPTOR = "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;",
+            INDEX_OUT_OF_BOUNDS_EXCEPTION_INTERNAL_NAME = Type.getInternalName(IndexOutOfBoundsException.class),
+            LIST_DESCRIPTOR = Type.getDescriptor(List.class);
+
+    @NonNull private ClassDefiner classDefiner;
+    @NonNull private GeneratedClassNameSupplier classNameSupplier;
+
+    public AsmMethodDispatcherGenerator(final ClassDefiner classDefiner) {
+        this(classDefiner, IncrementingNameIdGeneratedClassNameSupplier
+                .from(AsmMethodDispatcherGenerator.class.getPackage().getName()
+                        .concat(".$$generated$$.methoddispatcher.MethodDispatcher$")));
+    }
+
+    /**
+     * Generates new method dispatcher for the given methods of the class.
+     *
+     * @param clazz class whose methods are to be invoked
+     * @param methods methods to be invoked whose indices become their identifiers
+     * @return generated method dispatcher
+     * @throws IllegalArgumentException if any of the methods is not a member of the class
+     */
+    @SneakyThrows
+    public MethodDispatcher generate(@NonNull final Class<?> clazz, @NonNull final List<Method> methods) {
+        val methodCount = methods.size();
+        val methodArray = methods.toArray(new Method[methodCount]);
+        for (val method : methodArray) if (!method.getDeclaringClass().isAssignableFrom(clazz)) {
+            throw new IllegalArgumentException("Method " + method + " is not a member of " + clazz);
+        }
+
+        val className = classNameSupplier.get();
+        val internalClassName = AsmUtil.internalName(className);
+        val classWriter = AsmUtil.newClassWriter();
+
+        classWriter.visit(
+                V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, internalClassName, null,
+                AsmUtil.OBJECT_INTERNAL_NAME, METHOD_DISPATCHER_CLASS_NAME_STRING_ARRAY
+        );
+        AsmUtil.generateEmptyConstructor(classWriter);
+
+        // the generated class should see as many methods as possible so that they are invoked directly
+        final ClassLoader classLoader;
+        {
+            val classes = new ArrayList<Class<?>>();
+            for (val method : methodArray) if (AsmMethodInvokerGenerator.findDirectAccessClassLoader(method) != null) {
+                classes.add(method.getDeclaringClass());
+                classes.add(method.getReturnType());
+                Collections.addAll(classes, method.getParameterTypes());
+            }
+            classes.add(MethodDispatcher.class);
+
+            val commonClassLoader = AsmUtil.findCommonClassLoader(classes.toArray(new Class<?>[0]));
+            classLoader = commonClassLoader == null ? MethodDispatcher.class.getClassLoader() : commonClassLoader;
+        }
+
+        // constants are: c0 - list of methods, c1... - method handles of methods which are not invoked directly
+        val direct = new boolean[methodCount];
+        val methodHandleConstants = new int[methodCount];
+        {
+            val constants = new ArrayList<Object>();
+            val constantTypes = new ArrayList<Class<?>>();
+            constants.add(Collections.unmodifiableList(new ArrayList<>(methods)));
+            constantTypes.add(List.class);
+            for (int i = 0; i < methodCount; i++) {
+                val method = methodArray[i];
+                direct[i] = isDirectlyInvocable(method, classLoader);
+                if (direct[i]) continue;
+
+                methodHandleConstants[i] = constants.size();
+                constants.add(AsmMethodInvokerGenerator.genericMethodHandle(method));
+                constantTypes.add(MethodHandle.class);
+            }
+            GeneratedClassData.put(className, constants.toArray());
+            GeneratedClassData.generateConstants(
+                    classWriter, internalClassName, className, constantTypes.toArray(new Class<?>[0])
+            );
+        }
+
+        {
+            val getter = classWriter.visitMethod(
+                    ACC_PUBLIC | ACC_FINAL, "getMethods", "()".concat(LIST_DESCRIPTOR), null, null
+            );
+            getter.visitCode();
+            getter.visitFieldInsn(GETSTATIC, internalClassName, GeneratedClassData.constantName(0), LIST_DESCRIPTOR);
+            getter.visitInsn(ARETURN);
+            getter.visitMaxs(0, 0);
+            getter.visitEnd();
+        }
+
+        // each method is invoked by its own method so that the switches stay small
+        for (int i = 0; i < methodCount; i++) {
+            val method = methodArray[i];
+            val target = classWriter.visitMethod(
+                    ACC_PRIVATE | ACC_STATIC | ACC_SYNTHETIC, targetMethodName(i), TARGET_METHOD_DESCRIPTOR, null, null
+            );
+            target.visitCode();
+            AsmMethodInvokerGenerator.visitArrayLengthCheck(target, 1, method.getParameterCount());
+            AsmMethodInvokerGenerator.visitInvocation(
+                    target, internalClassName, method, direct[i], methodHandleConstants[i], 0, index -> {
+                        target.visitVarInsn(ALOAD, 1);
+                        AsmUtil.pushInt(target, index);
+                        target.visitInsn(AALOAD);
+                    }
+            );
+            target.visitInsn(ARETURN);
+            target.visitMaxs(0, 0);
+            target.visitEnd();
+        }
+
+        {
+            val invoker = classWriter.visitMethod(
+                    ACC_PUBLIC | ACC_FINAL, "invoke", INVOKE_METHOD_DESCRIPTOR, null, null
+            );
+            invoker.visitCode();
+            invoker.visitVarInsn(ILOAD, 1);
+            if (methodCount <= MAX_SWITCH_CASES) visitSwitch(
+                    invoker, 1, 0, methodCount - 1, id -> visitTargetCall(invoker, internalClassName, 1, id)
+            );
+            else {
+                val chunkCount = (methodCount + MAX_SWITCH_CASES - 1) >> CHUNK_SHIFT;
+                // negative identifiers stay negative after the arithmetic shift so they fall to the default branch
+                AsmUtil.pushInt(invoker, CHUNK_SHIFT);
+                invoker.visitInsn(ISHR);
+                visitSwitch(invoker, 1, 0, chunkCount - 1, chunk -> {
+                    invoker.visitVarInsn(ILOAD, 1);
+                    invoker.visitVarInsn(ALOAD, 2);
+                    invoker.visitVarInsn(ALOAD, 3);
+                    invoker.visitMethodInsn(
+                            INVOKESTATIC, internalClassName, chunkMethodName(chunk), INVOKE_METHOD_DESCRIPTOR, false
+                    );
+                });
+
+                for (int chunk = 0; chunk < chunkCount; chunk++) {
+                    val chunkInvoker = classWriter.visitMethod(
+                            ACC_PRIVATE | ACC_STATIC | ACC_SYNTHETIC, chunkMethodName(chunk),
+                            INVOKE_METHOD_DESCRIPTOR, null, null
+                    );
+                    chunkInvoker.visitCode();
+                    chunkInvoker.visitVarInsn(ILOAD, 0);
+                    val firstId = chunk << CHUNK_SHIFT;
+                    visitSwitch(
+                            chunkInvoker, 0, firstId, Math.min(firstId + MAX_SWITCH_CASES, methodCount) - 1,
+                            id -> visitTargetCall(chunkInvoker, internalClassName, 0, id)
+                    );
+                    chunkInvoker.visitMaxs(0, 0);
+                    chunkInvoker.visitEnd();
+                }
+            }
+            invoker.visitMaxs(0, 0);
+            invoker.visitEnd();
+        }
+
+        classWriter.visitEnd();
+
+        try {
+            return (MethodDispatcher) classDefiner
+                    .defineClass(classLoader, className, classWriter.toByteArray())
+                    .newInstance();
+        } finally {
+            GeneratedClassData.discard(className);
+        }
+    }
+
+    /**
+     * Gets the name of the generated method invoking the method with the given identifier.
+     *
+     * @param id identifier of the invoked method
+     * @return name of the generated method
+     */
+    private static String targetMethodName(final int id) {
+        return "invoke$".concat(Integer.toString(id));
+    }
+
+    /**
+     * Gets the name of the generated method dispatching the methods of the given chunk.
+     *
+     * @param chunk index of the chunk of methods
+     * @return name of the generated method
+     */
+    private static String chunkMethodName(final int chunk) {
+        return "dispatch$".concat(Integer.toString(chunk));
+    }
+
+    /**
+     * Visits the {@code TABLESWITCH} over the key on top of the stack
+     * whose cases return the value pushed by the case visitor
+     * and whose default branch throws {@link IndexOutOfBoundsException}.
+     *
+     * @param method method visitor
+     * @param idIndex index of the local variable holding the identifier of the invoked method
+     * @param low the lowest key of the switch
+     * @param high the highest key of the switch, there are no cases if it is less than {@code low}
+     * @param caseVisitor function visiting the case by its key
+     */
+    private static void visitSwitch(@NonNull final MethodVisitor method, final int idIndex,
+                                    final int low, final int high, @NonNull final IntConsumer caseVisitor) {
+        val unknownMethod = new Label();
+        if (high < low) method.visitInsn(POP);
+        else {
+            val labels = new Label[high - low + 1];
+            for (int i = 0; i < labels.length; i++) labels[i] = new Label();
+
+            method.visitTableSwitchInsn(low, high, unknownMethod, labels);
+            for (int i = 0; i < labels.length; i++) {
+                method.visitLabel(labels[i]);
+                caseVisitor.accept(low + i);
+                method.visitInsn(ARETURN);
+            }
+        }
+        method.visitLabel(unknownMethod);
+        AsmUtil.throwException(method, INDEX_OUT_OF_BOUNDS_EXCEPTION_INTERNAL_NAME, "Method id: ", idIndex, "");
+    }
+
+    /**
+     * Calls the generated method invoking the method with the given identifier.
+     *
+     * @param method method visitor
+     * @param internalClassName internal name of the generated class
+     * @param idIndex index of the local variable holding the identifier
+     * followed by the ones holding the instance and the arguments
+     * @param id identifier of the invoked method
+     */
+    private static void visitTargetCall(@NonNull final MethodVisitor method, @NonNull final String internalClassName,
+                                        final int idIndex, final int id) {
+        method.visitVarInsn(ALOAD, idIndex + 1);
+        method.visitVarInsn(ALOAD, idIndex + 2);
+        method.visitMethodInsn(INVOKESTATIC, internalClassName, targetMethodName(id), TARGET_METHOD_DESCRIPTOR, false);
+    }
+
+    /**
+     * Checks whether the method may be invoked directly by the class defined in the given class loader.
+     *
+     * @param method method to be invoked
+     * @param classLoader class loader of the generated class
+     * @return {@code true} if the method may be invoked directly and {@code false} otherwise
+     */
+    private static boolean isDirectlyInvocable(@NonNull final Method method, final ClassLoader classLoader) {
+        if (AsmMethodInvokerGenerator.findDirectAccessClassLoader(method) == null
+                || !AsmUtil.isVisible(classLoader, method.getDeclaringClass())
+                || !AsmUtil.isVisible(classLoader, method.getReturnType())) return false;
+        for (val parameterType : method.getParameterTypes()) if (!AsmUtil.isVisible(classLoader, parameterType)) {
+            return false;
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,266 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import ru.progrm_jarvis.reflector.invoke.MethodHandleUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.IntConsumer;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generator of {@link MethodInvoker} implementations using ASM.
+ * If the method is accessible from the generated class,
+ * the invoker uses direct {@code INVOKEVIRTUAL}/{@code INVOKEINTERFACE}/{@code INVOKESTATIC} instructions,
+ * otherwise it uses {@link MethodHandle#invokeExact(Object...)} on a method handle stored as a constant.
+ * Exceptions thrown by the method are rethrown as they are (without being wrapped).
+ */
+@AllArgsConstructor
+public class AsmMethodInvokerGenerator {
+
+    private static final String[] METHOD_INVOKER_CLASS_NAME_STRING_ARRAY = {
+            Type.getInternalName(MethodInvoker.class)
+    };
+
+    private static final String INVOKE_METHOD_DESCRIPTOR = "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;",
+            METHOD_HANDLE_INTERNAL_NAME = Type.getInternalName(MethodHandle.class),
+            METHOD_HANDLE_DESCRIPTOR = Type.getDescriptor(MethodHandle.class),
+            ILLEGAL_ARGUMENT_EXCEPTION_INTERNAL_NAME = Type.getInternalName(IllegalArgumentException.class);
+
+    @NonNull private ClassDefiner classDefiner;
+    @NonNull private GeneratedClassNameSupplier classNameSupplier;
+
+    public AsmMethodInvokerGenerator(final ClassDefiner classDefiner) {
+        this(classDefiner, IncrementingNameIdGeneratedClassNameSupplier
+                .from(AsmMethodInvokerGenerator.class.getPackage().getName()
+                        .concat(".$$generated$$.methodinvoker.MethodInvoker$")));
+    }
+
+    /**
+     * Generates new method invoker for the given method.
+     *
+     * @param method method for which to generate the invoker
+     * @return generated method invoker
+     */
+    @SneakyThrows
+    public MethodInvoker generate(@NonNull final Method method) {
+        val className = classNameSupplier.get();
+
+        val classLoader = findDirectAccessClassLoader(method);
+        val direct = classLoader != null;
+        // constants are: c0 - method handle of type (Object, Object...)Object
+        if (!direct) GeneratedClassData.put(className, new Object[]{genericMethodHandle(method)});
+
+        try {
+            return (MethodInvoker) classDefiner.defineClass(
+                    direct ? classLoader : MethodInvoker.class.getClassLoader(), className,
+                    generateBytecode(method, className, direct)
+            ).newInstance();
+        } finally {
+            GeneratedClassData.discard(className);
+        }
+    }
+
+    /**
+     * Generates bytecode of the invoker invoking the method directly
+     * so that it does not depend on any runtime data and thus may be generated ahead of time.
+     *
+     * @param method method for which to generate the invoker
+     * @param className name of the generated class
+     * @return bytecode of the generated invoker
+     * @throws IllegalArgumentException if the method cannot be invoked directly
+     */
+    public static byte[] generateDirectBytecode(@NonNull final Method method, @NonNull final String className) {
+        if (findDirectAccessClassLoader(method) == null) throw new IllegalArgumentException(
+                "Method " + method + " cannot be invoked directly"
+        );
+
+        return generateBytecode(method, className, true);
+    }
+
+    /**
+     * Generates bytecode of the invoker.
+     *
+     * @param method method for which to generate the invoker
+     * @param className name of the generated class
+     * @param direct whether the method should be invoked directly or using the method handle stored as a constant
+     * @return bytecode of the generated invoker
+     */
+    private static byte[] generateBytecode(@NonNull final Method method, @NonNull final String className,
+                                           final boolean direct) {
+        val internalClassName = AsmUtil.internalName(className);
+        val classWriter = AsmUtil.newClassWriter();
+
+        classWriter.visit(
+                V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, internalClassName, null,
+                AsmUtil.OBJECT_INTERNAL_NAME, METHOD_INVOKER_CLASS_NAME_STRING_ARRAY
+        );
+        AsmUtil.generateEmptyConstructor(classWriter);
+
+        val arity = method.getParameterCount();
+
+        if (!direct) GeneratedClassData.generateConstants(
+                classWriter, internalClassName, className, MethodHandle.class
+        );
+
+        {
+            val invoker = classWriter.visitMethod(
+                    ACC_PUBLIC | ACC_FINAL, "invoke", INVOKE_METHOD_DESCRIPTOR, null, null
+            );
+            invoker.visitCode();
+            visitArrayLengthCheck(invoker, 2, arity);
+            visitInvocation(invoker, internalClassName, method, direct, 0, 1, index -> {
+                invoker.visitVarInsn(ALOAD, 2);
+                AsmUtil.pushInt(invoker, index);
+                invoker.visitInsn(AALOAD);
+            });
+            invoker.visitInsn(ARETURN);
+            invoker.visitMaxs(0, 0);
+            invoker.visitEnd();
+        }
+
+        if (arity <= MethodInvoker.MAX_SPECIALIZED_ARITY) {
+            val invoker = classWriter.visitMethod(
+                    ACC_PUBLIC | ACC_FINAL, "invoke".concat(Integer.toString(arity)),
+                    MethodType.genericMethodType(arity + 1).toMethodDescriptorString(), null, null
+            );
+            invoker.visitCode();
+            // arguments follow `this` and the instance
+            visitInvocation(
+                    invoker, internalClassName, method, direct, 0, 1, index -> invoker.visitVarInsn(ALOAD, index + 2)
+            );
+            invoker.visitInsn(ARETURN);
+            invoker.visitMaxs(0, 0);
+            invoker.visitEnd();
+        }
+
+        classWriter.visitEnd();
+
+        return classWriter.toByteArray();
+    }
+
+    /**
+     * Finds the class loader in which the generated class may invoke the method directly.
+     *
+     * @param method method to be invoked
+     * @return class loader for the generated class or {@code null} if the method cannot be invoked directly
+     */
+    static ClassLoader findDirectAccessClassLoader(@NonNull final Method method) {
+        if (!AsmUtil.isAccessible(method)) return null;
+
+        val parameterTypes = method.getParameterTypes();
+        val classes = new Class<?>[parameterTypes.length + 3];
+        classes[0] = method.getDeclaringClass();
+        classes[1] = method.getReturnType();
+        classes[2] = MethodInvoker.class;
+        for (int i = 0; i < parameterTypes.length; i++) {
+            val parameterType = parameterTypes[i];
+            if (!AsmUtil.isAccessible(parameterType)) return null;
+            classes[i + 3] = parameterType;
+        }
+
+        return AsmUtil.findCommonClassLoader(classes);
+    }
+
+    /**
+     * Creates the method handle of the method adapted to type {@code (Object, Object...)Object}
+     * where the first parameter is the instance (ignored for static methods).
+     *
+     * @param method method for which to create the method handle
+     * @return method handle of generic type
+     */
+    static MethodHandle genericMethodHandle(@NonNull final Method method) {
+        MethodHandle methodHandle = MethodHandleUtil.methodHandleFrom(method);
+        if (Modifier.isStatic(method.getModifiers())) methodHandle = MethodHandles
+                .dropArguments(methodHandle, 0, Object.class);
+
+        return methodHandle.asType(MethodType.genericMethodType(method.getParameterCount() + 1));
+    }
+
+    /**
+     * Throws {@link IllegalArgumentException} if the length of the arguments array differs from the arity.
+     *
+     * @param method method visitor
+     * @param argumentsIndex index of the local variable holding the arguments array
+     * @param arity number of the method's parameters
+     */
+    static void visitArrayLengthCheck(@NonNull final MethodVisitor method, final int argumentsIndex, final int arity) {
+        val valid = new Label();
+        method.visitVarInsn(ALOAD, argumentsIndex);
+        method.visitInsn(ARRAYLENGTH);
+        AsmUtil.pushInt(method, arity);
+        method.visitJumpInsn(IF_ICMPEQ, valid);
+        method.visitTypeInsn(NEW, ILLEGAL_ARGUMENT_EXCEPTION_INTERNAL_NAME);
+        method.visitInsn(DUP);
+        method.visitLdcInsn("wrong number of arguments");
+        method.visitMethodInsn(
+                INVOKESPECIAL, ILLEGAL_ARGUMENT_EXCEPTION_INTERNAL_NAME, "<init>", "(Ljava/lang/String;)V", false
+        );
+        method.visitInsn(ATHROW);
+        method.visitLabel(valid);
+    }
+
+    /**
+     * Invokes the method leaving its (boxed) result on top of the stack.
+     *
+     * @param method method visitor
+     * @param internalClassName internal name of the generated class
+     * @param target method to invoke
+     * @param direct whether the method should be invoked directly
+     * @param methodHandleConstant index of the constant holding the method handle used if it is not invoked directly
+     * @param instanceIndex index of the local variable holding the instance
+     * @param argumentLoader function pushing the argument by its index onto the stack as {@link Object}
+     */
+    static void visitInvocation(@NonNull final MethodVisitor method, @NonNull final String internalClassName,
+                                @NonNull final Method target, final boolean direct, final int methodHandleConstant,
+                                final int instanceIndex, @NonNull final IntConsumer argumentLoader) {
+        val parameterTypes = target.getParameterTypes();
+
+        if (direct) {
+            val isStatic = Modifier.isStatic(target.getModifiers());
+            val declaringClass = target.getDeclaringClass();
+            val owner = AsmUtil.internalName(declaringClass);
+            if (!isStatic) {
+                method.visitVarInsn(ALOAD, instanceIndex);
+                method.visitTypeInsn(CHECKCAST, owner);
+            }
+            for (int i = 0; i < parameterTypes.length; i++) {
+                argumentLoader.accept(i);
+                AsmUtil.checkPrimitiveArgument(method, parameterTypes[i], i);
+                AsmUtil.unboxOrCast(method, parameterTypes[i]);
+            }
+
+            val isInterface = declaringClass.isInterface();
+            method.visitMethodInsn(
+                    isStatic ? INVOKESTATIC : isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                    owner, target.getName(), Type.getMethodDescriptor(target), isInterface
+            );
+            AsmUtil.box(method, target.getReturnType());
+        } else {
+            method.visitFieldInsn(
+                    GETSTATIC, internalClassName, GeneratedClassData.constantName(methodHandleConstant),
+                    METHOD_HANDLE_DESCRIPTOR
+            );
+            method.visitVarInsn(ALOAD, instanceIndex);
+            for (int i = 0; i < parameterTypes.length; i++) {
+                argumentLoader.accept(i);
+                AsmUtil.checkPrimitiveArgument(method, parameterTypes[i], i);
+            }
+            method.visitMethodInsn(
+                    INVOKEVIRTUAL, METHOD_HANDLE_INTERNAL_NAME, "invokeExact",
+                    MethodType.genericMethodType(parameterTypes.length + 1).toMethodDescriptorString(), false
+            );
+        }
+    }
+}
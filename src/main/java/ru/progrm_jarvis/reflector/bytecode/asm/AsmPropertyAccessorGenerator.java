@@ -0,0 +1,492 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import ru.progrm_jarvis.reflector.ClassMember;
+import ru.progrm_jarvis.reflector.Reflector;
+import ru.progrm_jarvis.reflector.UnsafeUtil;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generator of {@link PropertyAccessor} implementations using ASM.
+ * Each accessor method is a {@code TABLESWITCH} over indices of the fields
+ * whose branches call small static methods accessing the fields using {@link Unsafe}
+ * with the fields' offsets being constants so that private and final fields of any class can be accessed.
+ * If there are more than {@value #MAX_SWITCH_CASES} fields, the switch is split into chunks
+ * each being a separate method so that none of the generated methods exceeds the size limit
+ * above which it is not compiled by JIT ({@code -XX:HugeMethodLimit}, 8000 bytes by default).
+ */
+@AllArgsConstructor
+public class AsmPropertyAccessorGenerator {
+
+    private static final String[] PROPERTY_ACCESSOR_CLASS_NAME_STRING_ARRAY = {
+            Type.getInternalName(PropertyAccessor.class)
+    };
+
+    /**
+     * Primitive types for which typed accessor methods are generated
+     */
+    private static final Class<?>[] PRIMITIVE_TYPES = {
+            boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class
+    };
+
+    /**
+     * Binary logarithm of the maximal number of cases of a single {@code TABLESWITCH}
+     */
+    private static final int CHUNK_SHIFT = 6;
+
+    /**
+     * Maximal number of cases of a single {@code TABLESWITCH}
+     */
+    private static final int MAX_SWITCH_CASES = 1 << CHUNK_SHIFT;
+
+    /**
+     * Number of constants preceding the constants of fields' types
+     */
+    private static final int FIELD_TYPE_CONSTANTS_OFFSET = 3;
+
+    private static final String OBJECT_TO_OBJECT_METHOD_DESCRIPTOR = "(Ljava/lang/Object;)Ljava/lang/Object;",
+            UNSAFE_INTERNAL_NAME = Type.getInternalName(Unsafe.class),
+            CLASS_INTERNAL_NAME = Type.getInternalName(Class.class),
+            INDEX_OUT_OF_BOUNDS_EXCEPTION_INTERNAL_NAME = Type.getInternalName(IndexOutOfBoundsException.class),
+            ILLEGAL_ARGUMENT_EXCEPTION_INTERNAL_NAME = Type.getInternalName(IllegalArgumentException.class),
+            CLASS_DESCRIPTOR = Type.getDescriptor(Class.class),
+            OBJECT_DESCRIPTOR = Type.getDescriptor(Object.class),
+            LIST_DESCRIPTOR = Type.getDescriptor(List.class),
+            UNSAFE_DESCRIPTOR = Type.getDescriptor(Unsafe.class);
+
+    @NonNull private ClassDefiner classDefiner;
+    @NonNull private GeneratedClassNameSupplier classNameSupplier;
+
+    public AsmPropertyAccessorGenerator(final ClassDefiner classDefiner) {
+        this(classDefiner, IncrementingNameIdGeneratedClassNameSupplier
+                .from(AsmPropertyAccessorGenerator.class.getPackage().getName()
+                        .concat(".$$generated$$.propertyaccessor.PropertyAccessor$")));
+    }
+
+    /**
+     * Generates new property accessor for the given class.
+     *
+     * @param clazz class whose fields (including the ones declared by its superclasses) are to be accessed
+     * @param <T> type of objects whose fields are accessed
+     * @return generated property accessor
+     */
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public <T> PropertyAccessor<T> generate(@NonNull final Class<T> clazz) {
+        if (clazz.isPrimitive() || clazz.isArray() || clazz.isInterface()) throw new IllegalArgumentException(
+                clazz + " cannot have its fields accessed"
+        );
+
+        val className = classNameSupplier.get();
+        val internalClassName = AsmUtil.internalName(className);
+        val classWriter = AsmUtil.newClassWriter();
+
+        classWriter.visit(
+                V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, internalClassName, null,
+                AsmUtil.OBJECT_INTERNAL_NAME, PROPERTY_ACCESSOR_CLASS_NAME_STRING_ARRAY
+        );
+        AsmUtil.generateEmptyConstructor(classWriter);
+
+        val fields = Reflector.streamFields(clazz, Object.class)
+                .map(ClassMember::getValue)
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .toArray(Field[]::new);
+
+        // constants are: c0 - Unsafe, c1 - accessed class, c2 - list of fields, c3... - types of fields
+        {
+            val constants = new Object[FIELD_TYPE_CONSTANTS_OFFSET + fields.length];
+            val constantTypes = new Class<?>[constants.length];
+            constants[0] = UnsafeUtil.UNSAFE;
+            constantTypes[0] = Unsafe.class;
+            constants[1] = clazz;
+            constantTypes[1] = Class.class;
+            constants[2] = Collections.unmodifiableList(Arrays.asList(fields.clone()));
+            constantTypes[2] = List.class;
+            for (int i = 0; i < fields.length; i++) {
+                constants[FIELD_TYPE_CONSTANTS_OFFSET + i] = fields[i].getType();
+                constantTypes[FIELD_TYPE_CONSTANTS_OFFSET + i] = Class.class;
+            }
+            GeneratedClassData.put(className, constants);
+            GeneratedClassData.generateConstants(classWriter, internalClassName, className, constantTypes);
+        }
+
+        {
+            val getter = classWriter.visitMethod(
+                    ACC_PUBLIC | ACC_FINAL, "getFields", "()".concat(LIST_DESCRIPTOR), null, null
+            );
+            getter.visitCode();
+            getter.visitFieldInsn(GETSTATIC, internalClassName, GeneratedClassData.constantName(2), LIST_DESCRIPTOR);
+            getter.visitInsn(ARETURN);
+            getter.visitMaxs(0, 0);
+            getter.visitEnd();
+        }
+
+        generateAccessors(classWriter, internalClassName, fields, null);
+        for (val type : PRIMITIVE_TYPES) generateAccessors(classWriter, internalClassName, fields, type);
+
+        classWriter.visitEnd();
+
+        // the accessor is defined in the class's loader (if possible) so that it does not prevent its unloading
+        ClassLoader classLoader = AsmUtil.findCommonClassLoader(clazz, PropertyAccessor.class);
+        if (classLoader == null) classLoader = PropertyAccessor.class.getClassLoader();
+
+        try {
+            return (PropertyAccessor<T>) classDefiner
+                    .defineClass(classLoader, className, classWriter.toByteArray())
+                    .newInstance();
+        } finally {
+            GeneratedClassData.discard(className);
+        }
+    }
+
+    /**
+     * Generates the getter and the setter of the fields.
+     *
+     * @param classWriter class writer of the generated class
+     * @param internalClassName internal name of the generated class
+     * @param fields accessed fields
+     * @param type primitive type of the fields accessed by the methods
+     * or {@code null} if the methods access fields of any type boxing primitives
+     */
+    private static void generateAccessors(@NonNull final ClassWriter classWriter,
+                                          @NonNull final String internalClassName,
+                                          @NonNull final Field[] fields, @Nullable final Class<?> type) {
+        // each field is accessed by its own methods so that the switches stay small
+        for (int i = 0; i < fields.length; i++) {
+            val field = fields[i];
+            val fieldType = field.getType();
+            if (type != null && fieldType != type) continue;
+
+            {
+                val getter = classWriter.visitMethod(
+                        ACC_PRIVATE | ACC_STATIC | ACC_SYNTHETIC, targetMethodName(type, false, i),
+                        targetMethodDescriptor(type, false), null, null
+                );
+                getter.visitCode();
+                visitUnsafeTarget(getter, internalClassName, field);
+                getter.visitMethodInsn(
+                        INVOKEVIRTUAL, UNSAFE_INTERNAL_NAME,
+                        "get".concat(AsmUtil.unsafeMethodSuffix(fieldType, Modifier.isVolatile(field.getModifiers()))),
+                        "(Ljava/lang/Object;J)".concat(unsafeTypeDescriptor(fieldType)), false
+                );
+                if (type == null) {
+                    AsmUtil.box(getter, fieldType);
+                    getter.visitInsn(ARETURN);
+                } else getter.visitInsn(AsmUtil.returnOpcode(type));
+                getter.visitMaxs(0, 0);
+                getter.visitEnd();
+            }
+
+            {
+                val setter = classWriter.visitMethod(
+                        ACC_PRIVATE | ACC_STATIC | ACC_SYNTHETIC, targetMethodName(type, true, i),
+                        targetMethodDescriptor(type, true), null, null
+                );
+                setter.visitCode();
+                visitUnsafeTarget(setter, internalClassName, field);
+                if (type != null) setter.visitVarInsn(AsmUtil.loadOpcode(type), 1);
+                else if (fieldType.isPrimitive()) {
+                    setter.visitVarInsn(ALOAD, 1);
+                    AsmUtil.unboxOrCast(setter, fieldType);
+                } else if (fieldType == Object.class) setter.visitVarInsn(ALOAD, 1);
+                else {
+                    // check the type of the value as Unsafe does not do it
+                    setter.visitFieldInsn(
+                            GETSTATIC, internalClassName,
+                            GeneratedClassData.constantName(FIELD_TYPE_CONSTANTS_OFFSET + i), CLASS_DESCRIPTOR
+                    );
+                    setter.visitVarInsn(ALOAD, 1);
+                    setter.visitMethodInsn(
+                            INVOKEVIRTUAL, CLASS_INTERNAL_NAME, "cast", OBJECT_TO_OBJECT_METHOD_DESCRIPTOR, false
+                    );
+                }
+                setter.visitMethodInsn(
+                        INVOKEVIRTUAL, UNSAFE_INTERNAL_NAME,
+                        "put".concat(AsmUtil.unsafeMethodSuffix(fieldType, Modifier.isVolatile(field.getModifiers()))),
+                        "(Ljava/lang/Object;J".concat(unsafeTypeDescriptor(fieldType)).concat(")V"), false
+                );
+                setter.visitInsn(RETURN);
+                setter.visitMaxs(0, 0);
+                setter.visitEnd();
+            }
+        }
+
+        generateDispatcher(classWriter, internalClassName, fields, type, false);
+        generateDispatcher(classWriter, internalClassName, fields, type, true);
+    }
+
+    /**
+     * Generates the accessor method calling the methods accessing the fields by their indices.
+     *
+     * @param classWriter class writer of the generated class
+     * @param internalClassName internal name of the generated class
+     * @param fields accessed fields
+     * @param type primitive type of the fields accessed by the method
+     * or {@code null} if the method accesses fields of any type boxing primitives
+     * @param setter {@code true} if the method is the setter and {@code false} if it is the getter
+     */
+    private static void generateDispatcher(@NonNull final ClassWriter classWriter,
+                                           @NonNull final String internalClassName, @NonNull final Field[] fields,
+                                           @Nullable final Class<?> type, final boolean setter) {
+        val name = methodName(type, setter);
+        val descriptor = dispatcherMethodDescriptor(type, setter);
+        val returnOpcode = returnOpcode(type, setter);
+
+        val dispatcher = classWriter.visitMethod(ACC_PUBLIC | ACC_FINAL, name, descriptor, null, null);
+        dispatcher.visitCode();
+        visitCheckedInstance(dispatcher, internalClassName);
+        if (fields.length <= MAX_SWITCH_CASES) visitSwitch(
+                dispatcher, internalClassName, fields, type, setter, 1, 0, fields.length - 1
+        );
+        else {
+            val chunkCount = (fields.length + MAX_SWITCH_CASES - 1) >> CHUNK_SHIFT;
+            val outOfBounds = new Label();
+            val labels = new Label[chunkCount];
+            for (int chunk = 0; chunk < chunkCount; chunk++) labels[chunk] = new Label();
+
+            // negative indices stay negative after the arithmetic shift so they fall to the default branch
+            dispatcher.visitVarInsn(ILOAD, 2);
+            AsmUtil.pushInt(dispatcher, CHUNK_SHIFT);
+            dispatcher.visitInsn(ISHR);
+            dispatcher.visitTableSwitchInsn(0, chunkCount - 1, outOfBounds, labels);
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                dispatcher.visitLabel(labels[chunk]);
+                dispatcher.visitVarInsn(ALOAD, 1);
+                dispatcher.visitVarInsn(ILOAD, 2);
+                if (setter) dispatcher.visitVarInsn(valueLoadOpcode(type), 3);
+                dispatcher.visitMethodInsn(
+                        INVOKESTATIC, internalClassName, chunkMethodName(name, chunk), descriptor, false
+                );
+                dispatcher.visitInsn(returnOpcode);
+            }
+            dispatcher.visitLabel(outOfBounds);
+            AsmUtil.throwException(dispatcher, INDEX_OUT_OF_BOUNDS_EXCEPTION_INTERNAL_NAME, "Index: ", 2, "");
+
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                val chunkDispatcher = classWriter.visitMethod(
+                        ACC_PRIVATE | ACC_STATIC | ACC_SYNTHETIC, chunkMethodName(name, chunk), descriptor, null, null
+                );
+                chunkDispatcher.visitCode();
+                val firstIndex = chunk << CHUNK_SHIFT;
+                visitSwitch(
+                        chunkDispatcher, internalClassName, fields, type, setter, 0,
+                        firstIndex, Math.min(firstIndex + MAX_SWITCH_CASES, fields.length) - 1
+                );
+                chunkDispatcher.visitMaxs(0, 0);
+                chunkDispatcher.visitEnd();
+            }
+        }
+        dispatcher.visitMaxs(0, 0);
+        dispatcher.visitEnd();
+    }
+
+    /**
+     * Gets the name of the accessor method.
+     *
+     * @param type primitive type of the fields accessed by the method or {@code null} if it accesses any fields
+     * @param setter {@code true} if the method is the setter and {@code false} if it is the getter
+     * @return name of the accessor method
+     */
+    private static String methodName(@Nullable final Class<?> type, final boolean setter) {
+        val name = setter ? "set" : "get";
+
+        return type == null ? name : name.concat(AsmUtil.unsafeMethodSuffix(type, false));
+    }
+
+    /**
+     * Gets the descriptor of the accessor method taking the instance and the index of the field.
+     *
+     * @param type primitive type of the fields accessed by the method or {@code null} if it accesses any fields
+     * @param setter {@code true} if the method is the setter and {@code false} if it is the getter
+     * @return descriptor of the accessor method
+     */
+    private static String dispatcherMethodDescriptor(@Nullable final Class<?> type, final boolean setter) {
+        val valueDescriptor = valueDescriptor(type);
+
+        return setter ? "(Ljava/lang/Object;I".concat(valueDescriptor).concat(")V")
+                : "(Ljava/lang/Object;I)".concat(valueDescriptor);
+    }
+
+    /**
+     * Gets the descriptor of the generated method taking the instance and accessing the field.
+     *
+     * @param type primitive type of the fields accessed by the method or {@code null} if it accesses any fields
+     * @param setter {@code true} if the method is the setter and {@code false} if it is the getter
+     * @return descriptor of the generated method
+     */
+    private static String targetMethodDescriptor(@Nullable final Class<?> type, final boolean setter) {
+        val valueDescriptor = valueDescriptor(type);
+
+        return setter ? "(Ljava/lang/Object;".concat(valueDescriptor).concat(")V")
+                : "(Ljava/lang/Object;)".concat(valueDescriptor);
+    }
+
+    /**
+     * Gets the descriptor of the values accessed by the accessor method.
+     *
+     * @param type primitive type of the fields accessed by the method or {@code null} if it accesses any fields
+     * @return descriptor of the accessed values
+     */
+    private static String valueDescriptor(@Nullable final Class<?> type) {
+        return type == null ? OBJECT_DESCRIPTOR : Type.getDescriptor(type);
+    }
+
+    /**
+     * Gets the opcode loading the value set by the accessor method.
+     *
+     * @param type primitive type of the fields accessed by the method or {@code null} if it accesses any fields
+     * @return opcode loading the value
+     */
+    private static int valueLoadOpcode(@Nullable final Class<?> type) {
+        return type == null ? ALOAD : AsmUtil.loadOpcode(type);
+    }
+
+    /**
+     * Gets the opcode returning from the accessor method.
+     *
+     * @param type primitive type of the fields accessed by the method or {@code null} if it accesses any fields
+     * @param setter {@code true} if the method is the setter and {@code false} if it is the getter
+     * @return opcode returning from the method
+     */
+    private static int returnOpcode(@Nullable final Class<?> type, final boolean setter) {
+        return setter ? RETURN : type == null ? ARETURN : AsmUtil.returnOpcode(type);
+    }
+
+    /**
+     * Gets the name of the generated method accessing the field with the given index.
+     *
+     * @param type primitive type of the fields accessed by the method or {@code null} if it accesses any fields
+     * @param setter {@code true} if the method is the setter and {@code false} if it is the getter
+     * @param index index of the accessed field
+     * @return name of the generated method
+     */
+    private static String targetMethodName(@Nullable final Class<?> type, final boolean setter, final int index) {
+        return methodName(type, setter).concat("$").concat(Integer.toString(index));
+    }
+
+    /**
+     * Gets the name of the generated method accessing the fields of the given chunk.
+     *
+     * @param name name of the accessor method
+     * @param chunk index of the chunk of fields
+     * @return name of the generated method
+     */
+    private static String chunkMethodName(@NonNull final String name, final int chunk) {
+        return name.concat("$chunk$").concat(Integer.toString(chunk));
+    }
+
+    /**
+     * Checks that the instance (local variable 1) is non-null instance of the accessed class.
+     *
+     * @param method method visitor
+     * @param internalClassName internal name of the generated class
+     */
+    private static void visitCheckedInstance(@NonNull final MethodVisitor method,
+                                             @NonNull final String internalClassName) {
+        method.visitFieldInsn(GETSTATIC, internalClassName, GeneratedClassData.constantName(1), CLASS_DESCRIPTOR);
+        method.visitVarInsn(ALOAD, 1);
+        method.visitMethodInsn(
+                INVOKESTATIC, "java/util/Objects", "requireNonNull", OBJECT_TO_OBJECT_METHOD_DESCRIPTOR, false
+        );
+        method.visitMethodInsn(INVOKEVIRTUAL, CLASS_INTERNAL_NAME, "cast", OBJECT_TO_OBJECT_METHOD_DESCRIPTOR, false);
+        method.visitInsn(POP);
+    }
+
+    /**
+     * Generates the switch by the index of the field whose branches call the methods accessing the fields.
+     * Branches of fields not of the given type throw {@link IllegalArgumentException}
+     * and indices of no fields lead to {@link IndexOutOfBoundsException}.
+     *
+     * @param method method visitor
+     * @param internalClassName internal name of the generated class
+     * @param fields accessed fields
+     * @param type type of the fields which have their branches generated or {@code null} if all fields have them
+     * @param setter {@code true} if the fields' values are set and {@code false} if they are got
+     * @param instanceIndex index of the local variable holding the instance
+     * followed by the ones holding the index of the field and the value
+     * @param low the lowest index of the switch
+     * @param high the highest index of the switch, there are no cases if it is less than {@code low}
+     */
+    private static void visitSwitch(@NonNull final MethodVisitor method, @NonNull final String internalClassName,
+                                    @NonNull final Field[] fields, @Nullable final Class<?> type, final boolean setter,
+                                    final int instanceIndex, final int low, final int high) {
+        val indexIndex = instanceIndex + 1;
+        val outOfBounds = new Label();
+        if (high >= low) {
+            final Label wrongType = new Label();
+            boolean hasWrongType = false;
+            val labels = new Label[high - low + 1];
+            for (int i = 0; i < labels.length; i++) if (type == null || fields[low + i].getType() == type) {
+                labels[i] = new Label();
+            } else {
+                labels[i] = wrongType;
+                hasWrongType = true;
+            }
+
+            method.visitVarInsn(ILOAD, indexIndex);
+            method.visitTableSwitchInsn(low, high, outOfBounds, labels);
+            for (int i = 0; i < labels.length; i++) if (labels[i] != wrongType) {
+                method.visitLabel(labels[i]);
+                method.visitVarInsn(ALOAD, instanceIndex);
+                if (setter) method.visitVarInsn(valueLoadOpcode(type), indexIndex + 1);
+                method.visitMethodInsn(
+                        INVOKESTATIC, internalClassName, targetMethodName(type, setter, low + i),
+                        targetMethodDescriptor(type, setter), false
+                );
+                method.visitInsn(returnOpcode(type, setter));
+            }
+
+            if (hasWrongType) {
+                method.visitLabel(wrongType);
+                // type is non-null here as branches are generated for all fields if it is null
+                AsmUtil.throwException(
+                        method, ILLEGAL_ARGUMENT_EXCEPTION_INTERNAL_NAME,
+                        "Field #", indexIndex, " is not of type ".concat(type.getName())
+                );
+            }
+        }
+
+        method.visitLabel(outOfBounds);
+        AsmUtil.throwException(method, INDEX_OUT_OF_BOUNDS_EXCEPTION_INTERNAL_NAME, "Index: ", indexIndex, "");
+    }
+
+    /**
+     * Pushes {@link Unsafe}, the instance (local variable 0) and the offset of the field onto the stack.
+     *
+     * @param method method visitor
+     * @param internalClassName internal name of the generated class
+     * @param field accessed field
+     */
+    private static void visitUnsafeTarget(@NonNull final MethodVisitor method, @NonNull final String internalClassName,
+                                          @NonNull final Field field) {
+        method.visitFieldInsn(GETSTATIC, internalClassName, GeneratedClassData.constantName(0), UNSAFE_DESCRIPTOR);
+        method.visitVarInsn(ALOAD, 0);
+        method.visitLdcInsn(UnsafeUtil.UNSAFE.objectFieldOffset(field));
+    }
+
+    /**
+     * Gets the descriptor of the type used by {@link Unsafe}'s methods for accessing fields of the given type.
+     *
+     * @param type type of the field
+     * @return descriptor of the type used by {@link Unsafe}
+     */
+    private static String unsafeTypeDescriptor(@NonNull final Class<?> type) {
+        return type.isPrimitive() ? Type.getDescriptor(type) : OBJECT_DESCRIPTOR;
+    }
+}
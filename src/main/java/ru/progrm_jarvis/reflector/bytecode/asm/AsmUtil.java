@@ -0,0 +1,361 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import com.google.common.primitives.Primitives;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Utilities used for generation of bytecode using ASM
+ */
+@UtilityClass
+public class AsmUtil {
+
+    /**
+     * Internal name of {@link Object}
+     */
+    public final String OBJECT_INTERNAL_NAME = Type.getInternalName(Object.class);
+
+    /**
+     * Descriptor of a method having no parameters and returning {@code void}
+     */
+    public final String VOID_METHOD_DESCRIPTOR = "()V";
+
+    /**
+     * Internal name of {@link IllegalArgumentException}
+     */
+    private final String ILLEGAL_ARGUMENT_EXCEPTION_INTERNAL_NAME
+            = Type.getInternalName(IllegalArgumentException.class);
+
+    /**
+     * Method handle of {@code Class#getModule()} or {@code null} if modules are not supported by current JVM
+     */
+    @Nullable private final MethodHandle CLASS_GET_MODULE;
+
+    /**
+     * Method handle of {@code Module#isExported(String)} or {@code null} if modules are not supported by current JVM
+     */
+    @Nullable private final MethodHandle MODULE_IS_EXPORTED;
+
+    static {
+        MethodHandle classGetModule, moduleIsExported;
+        try {
+            val moduleClass = Class.forName("java.lang.Module");
+            val lookup = MethodHandles.publicLookup();
+            classGetModule = lookup.findVirtual(Class.class, "getModule", MethodType.methodType(moduleClass));
+            moduleIsExported = lookup.findVirtual(
+                    moduleClass, "isExported", MethodType.methodType(boolean.class, String.class)
+            );
+        } catch (final ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            classGetModule = null;
+            moduleIsExported = null;
+        }
+
+        CLASS_GET_MODULE = classGetModule;
+        MODULE_IS_EXPORTED = moduleIsExported;
+    }
+
+    /**
+     * Creates a new class writer computing frames and maximal stack and locals sizes.
+     * As generated classes are not expected to merge frames of different non-{@link Object} types
+     * it does not load any classes to compute their common super-class.
+     *
+     * @return created class writer
+     */
+    public ClassWriter newClassWriter() {
+        return new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+            @Override
+            protected String getCommonSuperClass(final String type1, final String type2) {
+                return OBJECT_INTERNAL_NAME;
+            }
+        };
+    }
+
+    /**
+     * Gets the internal name of the class given.
+     *
+     * @param clazz class whose internal name to get
+     * @return internal name of the class
+     */
+    public String internalName(@NonNull final Class<?> clazz) {
+        return Type.getInternalName(clazz);
+    }
+
+    /**
+     * Gets the internal name of the class whose name is given.
+     *
+     * @param className name of a class
+     * @return internal name of the class
+     */
+    public String internalName(@NonNull final String className) {
+        return className.replace('.', '/');
+    }
+
+    /**
+     * Generates the default public constructor invoking {@link Object}'s constructor.
+     *
+     * @param classWriter class writer to which to add the constructor
+     */
+    public void generateEmptyConstructor(@NonNull final ClassWriter classWriter) {
+        val constructor = classWriter.visitMethod(ACC_PUBLIC, "<init>", VOID_METHOD_DESCRIPTOR, null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, OBJECT_INTERNAL_NAME, "<init>", VOID_METHOD_DESCRIPTOR, false);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+    }
+
+    /**
+     * Gets the suffix of {@link sun.misc.Unsafe}'s {@code get*} and {@code put*} methods for the given type.
+     *
+     * @param type type of the field
+     * @param isVolatile whether volatile access should be used
+     * @return suffix of {@link sun.misc.Unsafe}'s method name
+     */
+    public String unsafeMethodSuffix(@NonNull final Class<?> type, final boolean isVolatile) {
+        val typeName = type.isPrimitive()
+                ? Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1) : "Object";
+
+        return isVolatile ? typeName.concat("Volatile") : typeName;
+    }
+
+    /**
+     * Throws the exception whose message consists of the prefix, the value of the {@code int} local variable
+     * and the suffix.
+     *
+     * @param methodVisitor method visitor to use
+     * @param exceptionInternalName internal name of the thrown exception having a constructor accepting message
+     * @param prefix prefix of the message
+     * @param index index of the {@code int} local variable
+     * @param suffix suffix of the message
+     */
+    public void throwException(@NonNull final MethodVisitor methodVisitor, @NonNull final String exceptionInternalName,
+                               @NonNull final String prefix, final int index, @NonNull final String suffix) {
+        methodVisitor.visitTypeInsn(NEW, exceptionInternalName);
+        methodVisitor.visitInsn(DUP);
+        methodVisitor.visitLdcInsn(prefix);
+        methodVisitor.visitVarInsn(ILOAD, index);
+        methodVisitor.visitMethodInsn(INVOKESTATIC, "java/lang/String", "valueOf", "(I)Ljava/lang/String;", false);
+        methodVisitor.visitMethodInsn(
+                INVOKEVIRTUAL, "java/lang/String", "concat", "(Ljava/lang/String;)Ljava/lang/String;", false
+        );
+        if (!suffix.isEmpty()) {
+            methodVisitor.visitLdcInsn(suffix);
+            methodVisitor.visitMethodInsn(
+                    INVOKEVIRTUAL, "java/lang/String", "concat", "(Ljava/lang/String;)Ljava/lang/String;", false
+            );
+        }
+        methodVisitor.visitMethodInsn(
+                INVOKESPECIAL, exceptionInternalName, "<init>", "(Ljava/lang/String;)V", false
+        );
+        methodVisitor.visitInsn(ATHROW);
+    }
+
+    /**
+     * Pushes the {@code int} constant onto the stack using the most compact instruction.
+     *
+     * @param methodVisitor method visitor to use
+     * @param value value to push
+     */
+    public void pushInt(@NonNull final MethodVisitor methodVisitor, final int value) {
+        if (value >= -1 && value <= 5) methodVisitor.visitInsn(ICONST_0 + value);
+        else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) methodVisitor.visitIntInsn(BIPUSH, value);
+        else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) methodVisitor.visitIntInsn(SIPUSH, value);
+        else methodVisitor.visitLdcInsn(value);
+    }
+
+    /**
+     * Boxes the value of the given type on top of the stack if it is primitive.
+     * Value of type {@code void} is represented as {@code null}.
+     *
+     * @param methodVisitor method visitor to use
+     * @param type type of the value on top of the stack
+     */
+    public void box(@NonNull final MethodVisitor methodVisitor, @NonNull final Class<?> type) {
+        if (type == void.class) methodVisitor.visitInsn(ACONST_NULL);
+        else if (type.isPrimitive()) {
+            val wrapperType = Primitives.wrap(type);
+            methodVisitor.visitMethodInsn(
+                    INVOKESTATIC, internalName(wrapperType), "valueOf",
+                    Type.getMethodDescriptor(Type.getType(wrapperType), Type.getType(type)), false
+            );
+        }
+    }
+
+    /**
+     * Throws {@link IllegalArgumentException} if the {@link Object} on top of the stack is {@code null}
+     * leaving the stack unchanged otherwise.
+     *
+     * @param methodVisitor method visitor to use
+     * @param message message of the thrown exception
+     */
+    public void checkNotNull(@NonNull final MethodVisitor methodVisitor, @NonNull final String message) {
+        val notNull = new Label();
+        methodVisitor.visitInsn(DUP);
+        methodVisitor.visitJumpInsn(IFNONNULL, notNull);
+        methodVisitor.visitTypeInsn(NEW, ILLEGAL_ARGUMENT_EXCEPTION_INTERNAL_NAME);
+        methodVisitor.visitInsn(DUP);
+        methodVisitor.visitLdcInsn(message);
+        methodVisitor.visitMethodInsn(
+                INVOKESPECIAL, ILLEGAL_ARGUMENT_EXCEPTION_INTERNAL_NAME, "<init>", "(Ljava/lang/String;)V", false
+        );
+        methodVisitor.visitInsn(ATHROW);
+        methodVisitor.visitLabel(notNull);
+    }
+
+    /**
+     * Checks that the argument on top of the stack is not {@code null} if the parameter is primitive
+     * so that it is rejected with {@link IllegalArgumentException} (as by {@link Method#invoke(Object, Object...)})
+     * instead of {@link NullPointerException} on unboxing.
+     *
+     * @param methodVisitor method visitor to use
+     * @param parameterType type of the parameter
+     * @param index index of the argument
+     */
+    public void checkPrimitiveArgument(@NonNull final MethodVisitor methodVisitor,
+                                       @NonNull final Class<?> parameterType, final int index) {
+        if (parameterType.isPrimitive()) checkNotNull(
+                methodVisitor, "Argument " + index + " of primitive type " + parameterType.getName() + " is null"
+        );
+    }
+
+    /**
+     * Converts the {@link Object} on top of the stack to the given type
+     * either by unboxing it (if the type is primitive) or by casting it.
+     * The type should be accessible from the generated class unless it is primitive.
+     *
+     * @param methodVisitor method visitor to use
+     * @param type type to which to convert the value on top of the stack
+     */
+    public void unboxOrCast(@NonNull final MethodVisitor methodVisitor, @NonNull final Class<?> type) {
+        if (type.isPrimitive()) {
+            val wrapperInternalName = internalName(Primitives.wrap(type));
+            methodVisitor.visitTypeInsn(CHECKCAST, wrapperInternalName);
+            methodVisitor.visitMethodInsn(
+                    INVOKEVIRTUAL, wrapperInternalName, type.getName().concat("Value"),
+                    Type.getMethodDescriptor(Type.getType(type)), false
+            );
+        } else if (type != Object.class) methodVisitor.visitTypeInsn(CHECKCAST, internalName(type));
+    }
+
+    /**
+     * Gets the opcode to load a local variable of the given type.
+     *
+     * @param type type of local variable
+     * @return opcode used to load the local variable
+     */
+    public int loadOpcode(@NonNull final Class<?> type) {
+        return Type.getType(type).getOpcode(ILOAD);
+    }
+
+    /**
+     * Gets the opcode to return a value of the given type.
+     *
+     * @param type type of returned value
+     * @return opcode used to return the value
+     */
+    public int returnOpcode(@NonNull final Class<?> type) {
+        return Type.getType(type).getOpcode(IRETURN);
+    }
+
+    /**
+     * Gets the number of local variable slots taken by the value of the given type.
+     *
+     * @param type type of value
+     * @return size of the value in local variable slots
+     */
+    public int size(@NonNull final Class<?> type) {
+        return Type.getType(type).getSize();
+    }
+
+    /**
+     * Checks whether the class is accessible from any other class,
+     * which means that it is public and (if modules are supported) is located in exported package.
+     *
+     * @param clazz class to check
+     * @return {@code true} if the class is accessible from any class and {@code false} otherwise
+     */
+    public boolean isAccessible(@NonNull Class<?> clazz) {
+        while (clazz.isArray()) clazz = clazz.getComponentType();
+        if (clazz.isPrimitive()) return true;
+        if (!Modifier.isPublic(clazz.getModifiers())) return false;
+        if (CLASS_GET_MODULE == null || MODULE_IS_EXPORTED == null) return true;
+
+        val packageName = clazz.getPackage() == null ? "" : clazz.getPackage().getName();
+        try {
+            return (boolean) MODULE_IS_EXPORTED.invoke(CLASS_GET_MODULE.invoke(clazz), packageName);
+        } catch (final Throwable throwable) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the member is accessible from any other class,
+     * which means that both it and its declaring class are {@link #isAccessible(Class) accessible}.
+     *
+     * @param member member to check
+     * @return {@code true} if the member is accessible from any class and {@code false} otherwise
+     */
+    public boolean isAccessible(@NonNull final Member member) {
+        return Modifier.isPublic(member.getModifiers()) && isAccessible(member.getDeclaringClass());
+    }
+
+    /**
+     * Checks whether the class is visible from the class loader, which means that loading the class by its name
+     * using the class loader results in the very same class.
+     *
+     * @param classLoader class loader from which the class should be visible, {@code null} for bootstrap loader
+     * @param clazz class to check
+     * @return {@code true} if the class is visible from the class loader and {@code false} otherwise
+     */
+    public boolean isVisible(@Nullable final ClassLoader classLoader, @NonNull Class<?> clazz) {
+        while (clazz.isArray()) clazz = clazz.getComponentType();
+        if (clazz.isPrimitive()) return true;
+
+        val ownLoader = clazz.getClassLoader();
+        if (ownLoader == null || ownLoader == classLoader) return true;
+
+        try {
+            return Class.forName(clazz.getName(), false, classLoader) == clazz;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Finds the class loader from which all of the given classes are visible
+     * trying loaders of the given classes in the order they are specified.
+     *
+     * @param classes classes which should be visible from the class loader
+     * @return class loader from which all of the classes are visible or {@code null} if there is no such loader
+     */
+    @Nullable
+    public ClassLoader findCommonClassLoader(@NonNull final Class<?>... classes) {
+        candidates:
+        for (val candidate : classes) {
+            val classLoader = candidate.getClassLoader();
+            if (classLoader == null) continue;
+
+            for (val clazz : classes) if (!isVisible(classLoader, clazz)) continue candidates;
+
+            return classLoader;
+        }
+
+        return null;
+    }
+}
@@ -1,5 +1,10 @@
 package ru.progrm_jarvis.reflector.bytecode.asm;
 
+import lombok.val;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * An object to define classes at runtime from their bytecode
  */
@@ -15,4 +20,21 @@ public interface ClassDefiner {
      * @return defined class
      */
     Class<?> defineClass(ClassLoader parentLoader, String className, byte[] bytecode);
+
+    /**
+     * Defines multiple classes at runtime from their bytecode.
+     * By default, the classes are defined one by one in iteration order of the map.
+     *
+     * @param parentLoader parent class loader
+     * @param classes bytecode of classes by their names
+     * @return defined classes by their names in iteration order of the given map
+     */
+    default Map<String, Class<?>> defineClasses(final ClassLoader parentLoader, final Map<String, byte[]> classes) {
+        val definedClasses = new LinkedHashMap<String, Class<?>>();
+        for (val entry : classes.entrySet()) definedClasses.put(
+                entry.getKey(), defineClass(parentLoader, entry.getKey(), entry.getValue())
+        );
+
+        return definedClasses;
+    }
 }
@@ -1,6 +1,19 @@
 package ru.progrm_jarvis.reflector.bytecode.asm;
 
+import lombok.NonNull;
+
+/**
+ * Generator of classes creating instances of other classes without invoking their constructors.
+ */
 public interface ClassGenerator {
 
-    EmptyConstructorCreator newClassInstanceManipulator(Class<?> clazz);
+    /**
+     * Generates new creator of instances of the given class.
+     *
+     * @param clazz class whose instances are to be created
+     * @param <T> type of created instances
+     * @return generated creator of instances
+     * @throws IllegalArgumentException if the class is primitive, array, interface or abstract
+     */
+    <T> EmptyConstructorCreator<T> newClassInstanceManipulator(@NonNull Class<T> clazz);
 }
@@ -0,0 +1,117 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+/**
+ * Invoker of a particular constructor whose implementations are generated at runtime.
+ * Besides the generic {@link #construct(Object[])} it provides arity-specialized methods
+ * which do not require an array of arguments to be allocated,
+ * the ones not matching the constructor's number of parameters throw {@link IllegalArgumentException}.
+ */
+public interface ConstructorInvoker {
+
+    /**
+     * Maximal number of constructor parameters for which there is an arity-specialized method
+     */
+    int MAX_SPECIALIZED_ARITY = 6;
+
+    /**
+     * Creates new instance using the constructor.
+     *
+     * @param arguments arguments to be passed to the constructor
+     * @return created instance
+     * @throws IllegalArgumentException if the number of arguments differs from the number of parameters
+     */
+    Object construct(Object[] arguments);
+
+    /**
+     * Creates new instance using the constructor having no parameters.
+     *
+     * @return created instance
+     * @throws IllegalArgumentException if the constructor's number of parameters is not 0
+     */
+    default Object construct0() {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    /**
+     * Creates new instance using the constructor having 1 parameter.
+     *
+     * @param argument1 first argument to be passed to the constructor
+     * @return created instance
+     * @throws IllegalArgumentException if the constructor's number of parameters is not 1
+     */
+    default Object construct1(Object argument1) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    /**
+     * Creates new instance using the constructor having 2 parameters.
+     *
+     * @param argument1 first argument to be passed to the constructor
+     * @param argument2 second argument to be passed to the constructor
+     * @return created instance
+     * @throws IllegalArgumentException if the constructor's number of parameters is not 2
+     */
+    default Object construct2(Object argument1, Object argument2) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    /**
+     * Creates new instance using the constructor having 3 parameters.
+     *
+     * @param argument1 first argument to be passed to the constructor
+     * @param argument2 second argument to be passed to the constructor
+     * @param argument3 third argument to be passed to the constructor
+     * @return created instance
+     * @throws IllegalArgumentException if the constructor's number of parameters is not 3
+     */
+    default Object construct3(Object argument1, Object argument2, Object argument3) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    /**
+     * Creates new instance using the constructor having 4 parameters.
+     *
+     * @param argument1 first argument to be passed to the constructor
+     * @param argument2 second argument to be passed to the constructor
+     * @param argument3 third argument to be passed to the constructor
+     * @param argument4 fourth argument to be passed to the constructor
+     * @return created instance
+     * @throws IllegalArgumentException if the constructor's number of parameters is not 4
+     */
+    default Object construct4(Object argument1, Object argument2, Object argument3, Object argument4) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    /**
+     * Creates new instance using the constructor having 5 parameters.
+     *
+     * @param argument1 first argument to be passed to the constructor
+     * @param argument2 second argument to be passed to the constructor
+     * @param argument3 third argument to be passed to the constructor
+     * @param argument4 fourth argument to be passed to the constructor
+     * @param argument5 fifth argument to be passed to the constructor
+     * @return created instance
+     * @throws IllegalArgumentException if the constructor's number of parameters is not 5
+     */
+    default Object construct5(Object argument1, Object argument2, Object argument3, Object argument4,
+                              Object argument5) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    /**
+     * Creates new instance using the constructor having 6 parameters.
+     *
+     * @param argument1 first argument to be passed to the constructor
+     * @param argument2 second argument to be passed to the constructor
+     * @param argument3 third argument to be passed to the constructor
+     * @param argument4 fourth argument to be passed to the constructor
+     * @param argument5 fifth argument to be passed to the constructor
+     * @param argument6 sixth argument to be passed to the constructor
+     * @return created instance
+     * @throws IllegalArgumentException if the constructor's number of parameters is not 6
+     */
+    default Object construct6(Object argument1, Object argument2, Object argument3, Object argument4,
+                              Object argument5, Object argument6) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+}
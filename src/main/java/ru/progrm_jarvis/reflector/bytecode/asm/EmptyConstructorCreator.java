@@ -1,6 +1,18 @@
 package ru.progrm_jarvis.reflector.bytecode.asm;
 
+/**
+ * Creator of instances of a particular class which does not invoke any of its constructors
+ * so that all fields of the created instance have their default values.
+ *
+ * @param <T> type of created instances
+ */
+@FunctionalInterface
 public interface EmptyConstructorCreator<T> {
 
+    /**
+     * Creates new instance of the class without invoking its constructors.
+     *
+     * @return created instance
+     */
     T newInstance();
 }
@@ -0,0 +1,26 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+/**
+ * Accessor of a particular field whose implementations are generated at runtime.
+ * Both methods ignore the instance if the field is {@code static}.
+ */
+public interface FieldAccessor {
+
+    /**
+     * Gets the value of the field.
+     *
+     * @param instance instance whose field's value to get, may be {@code null} for {@code static} field
+     * @return value of the field
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     */
+    Object get(Object instance);
+
+    /**
+     * Sets the value of the field.
+     *
+     * @param instance instance whose field's value to set, may be {@code null} for {@code static} field
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     */
+    void set(Object instance, Object value);
+}
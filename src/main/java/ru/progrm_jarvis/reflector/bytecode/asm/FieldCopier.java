@@ -0,0 +1,23 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+/**
+ * Copier of all non-static fields declared by a particular class and its superclasses
+ * whose implementations are generated at runtime.
+ *
+ * @param <T> type of objects whose fields are copied
+ */
+@FunctionalInterface
+public interface FieldCopier<T> {
+
+    /**
+     * Copies values of all non-static fields (including private and final ones)
+     * declared by the class and its superclasses from the source object to the target one.
+     * Values of non-primitive fields are copied by reference (this is a shallow copy).
+     *
+     * @param source object from which to copy the values of fields
+     * @param target object to which to copy the values of fields
+     * @throws NullPointerException if {@code source} or {@code target} is {@code null}
+     * @throws ClassCastException if {@code source} or {@code target} is not an instance of the class
+     */
+    void copy(T source, T target);
+}
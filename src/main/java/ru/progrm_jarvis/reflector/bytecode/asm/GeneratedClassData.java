@@ -0,0 +1,118 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Type;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Storage of objects passed to generated classes as their {@code static final} constants.
+ * Data is stored before the class gets initialized and is taken by its static initializer so that
+ * JIT is able to treat it as true constants (which is not the case for instance fields).
+ */
+@UtilityClass
+public class GeneratedClassData {
+
+    /**
+     * Internal name of this class
+     */
+    private final String INTERNAL_NAME = Type.getInternalName(GeneratedClassData.class);
+
+    /**
+     * Descriptor of {@link #take(String)} method
+     */
+    private final String TAKE_METHOD_DESCRIPTOR = "(Ljava/lang/String;)[Ljava/lang/Object;";
+
+    /**
+     * Data not yet taken by generated classes
+     */
+    private final Map<String, Object[]> DATA = new ConcurrentHashMap<>();
+
+    /**
+     * Stores the data to be taken by the generated class.
+     *
+     * @param key unique key by which the data will be taken, normally the name of the generated class
+     * @param data data to store
+     * @throws IllegalStateException if there already is data stored by the key
+     */
+    public void put(@NonNull final String key, @NonNull final Object[] data) {
+        if (DATA.putIfAbsent(key, data) != null) throw new IllegalStateException(
+                "There already is data stored by key ".concat(key)
+        );
+    }
+
+    /**
+     * Takes the data stored by the key so that it is no longer stored.
+     * This is meant to be called by generated classes' static initializers.
+     *
+     * @param key key by which the data was stored
+     * @return data stored by the key
+     * @throws IllegalStateException if there is no data stored by the key
+     */
+    public Object[] take(@NonNull final String key) {
+        val data = DATA.remove(key);
+        if (data == null) throw new IllegalStateException("There is no data stored by key ".concat(key));
+
+        return data;
+    }
+
+    /**
+     * Removes the data stored by the key if it was not taken (for example if class generation has failed).
+     *
+     * @param key key by which the data was stored
+     */
+    public void discard(@NonNull final String key) {
+        DATA.remove(key);
+    }
+
+    /**
+     * Generates {@code private static final} fields named {@code c0}, {@code c1} etc.
+     * and the static initializer which {@link #take(String) takes} the data by the key and assigns it to them.
+     *
+     * @param classWriter class writer of the generated class
+     * @param className internal name of the generated class
+     * @param key key by which the data is to be taken
+     * @param types types of the stored objects which are used as types of the fields
+     */
+    public void generateConstants(@NonNull final ClassWriter classWriter, @NonNull final String className,
+                                  @NonNull final String key, @NonNull final Class<?>... types) {
+        val initializer = classWriter.visitMethod(ACC_STATIC, "<clinit>", AsmUtil.VOID_METHOD_DESCRIPTOR, null, null);
+        initializer.visitCode();
+        initializer.visitLdcInsn(key);
+        initializer.visitMethodInsn(INVOKESTATIC, INTERNAL_NAME, "take", TAKE_METHOD_DESCRIPTOR, false);
+        for (int i = 0; i < types.length; i++) {
+            val name = constantName(i);
+            val type = types[i];
+            val descriptor = Type.getDescriptor(type);
+
+            classWriter.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, name, descriptor, null, null).visitEnd();
+
+            initializer.visitInsn(DUP);
+            AsmUtil.pushInt(initializer, i);
+            initializer.visitInsn(AALOAD);
+            AsmUtil.unboxOrCast(initializer, type);
+            initializer.visitFieldInsn(PUTSTATIC, className, name, descriptor);
+        }
+        initializer.visitInsn(POP);
+        initializer.visitInsn(RETURN);
+        initializer.visitMaxs(0, 0);
+        initializer.visitEnd();
+    }
+
+    /**
+     * Gets the name of the constant field generated
+     * by {@link #generateConstants(ClassWriter, String, String, Class[])}.
+     *
+     * @param index index of the constant
+     * @return name of the constant field
+     */
+    public String constantName(final int index) {
+        return "c".concat(Integer.toString(index));
+    }
+}
@@ -0,0 +1,215 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Type;
+import ru.progrm_jarvis.reflector.UnsafeUtil;
+import sun.misc.Unsafe;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Class definer defining classes which are not bound to their class loader
+ * so that they can be unloaded as soon as they are unreachable.
+ * It uses {@code MethodHandles.Lookup#defineHiddenClass(byte[], boolean, ClassOption...)} if it is available
+ * (Java 15+) and {@code Unsafe#defineAnonymousClass(Class, byte[], Object[])} otherwise.
+ * <p>
+ * Defined classes cannot be found by their names so the names do not have to be unique
+ * (the actual name of the defined class is the given one with a suffix appended).
+ * Each class is defined in the package of its name using a host class defined once per package
+ * by a class loader created for the parent loader which is only weakly referenced by this definer
+ * so that neither of them prevents the parent loader from being unloaded.
+ */
+@NoArgsConstructor
+public class HiddenClassDefiner implements ClassDefiner {
+
+    /**
+     * Simple name of host classes
+     */
+    private static final String HOST_CLASS_SIMPLE_NAME = "$$Host";
+
+    private static final String LOOKUP_METHOD_DESCRIPTOR = Type.getMethodDescriptor(
+            Type.getType(MethodHandles.Lookup.class)
+    );
+
+    /**
+     * Method handle of {@code MethodHandles.Lookup#defineHiddenClass(byte[], boolean, ClassOption...)}
+     * of type {@code (Lookup, byte[], boolean, Object)Lookup} or {@code null} if it is not available
+     */
+    @Nullable private static final MethodHandle DEFINE_HIDDEN_CLASS;
+
+    /**
+     * Empty array of {@code ClassOption} or {@code null} if hidden classes are not available
+     */
+    @Nullable private static final Object CLASS_OPTIONS;
+
+    /**
+     * Method handle of {@code Unsafe#defineAnonymousClass(Class, byte[], Object[])} bound to {@link Unsafe}
+     * or {@code null} if it is not available or not needed
+     */
+    @Nullable private static final MethodHandle DEFINE_ANONYMOUS_CLASS;
+
+    static {
+        MethodHandle defineHiddenClass;
+        Object classOptions;
+        try {
+            val classOptionClass = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            classOptions = Array.newInstance(classOptionClass, 0);
+            defineHiddenClass = MethodHandles.publicLookup().findVirtual(
+                    MethodHandles.Lookup.class, "defineHiddenClass", MethodType.methodType(
+                            MethodHandles.Lookup.class, byte[].class, boolean.class, classOptions.getClass()
+                    )
+            ).asFixedArity().asType(MethodType.methodType(
+                    MethodHandles.Lookup.class, MethodHandles.Lookup.class, byte[].class, boolean.class, Object.class
+            ));
+        } catch (final ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            defineHiddenClass = null;
+            classOptions = null;
+        }
+        DEFINE_HIDDEN_CLASS = defineHiddenClass;
+        CLASS_OPTIONS = classOptions;
+
+        MethodHandle defineAnonymousClass = null;
+        if (defineHiddenClass == null && UnsafeUtil.UNSAFE != null) try {
+            defineAnonymousClass = MethodHandles.publicLookup().findVirtual(
+                    Unsafe.class, "defineAnonymousClass",
+                    MethodType.methodType(Class.class, Class.class, byte[].class, Object[].class)
+            ).bindTo(UnsafeUtil.UNSAFE);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            defineAnonymousClass = null;
+        }
+        DEFINE_ANONYMOUS_CLASS = defineAnonymousClass;
+    }
+
+    /**
+     * Class loaders of host classes by their parent loaders
+     */
+    private final Map<ClassLoader, WeakReference<HostClassLoader>> hostLoaders = new WeakHashMap<>();
+
+    /**
+     * Checks whether this definer can define classes in the current JVM.
+     *
+     * @return {@code true} if hidden or anonymous classes are supported and {@code false} otherwise
+     */
+    public static boolean isAvailable() {
+        return DEFINE_HIDDEN_CLASS != null || DEFINE_ANONYMOUS_CLASS != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param className name of a class which is ignored as the name is read from the bytecode
+     * @throws UnsupportedOperationException if neither hidden nor anonymous classes are supported
+     */
+    @Override
+    @SneakyThrows
+    public Class<?> defineClass(@NonNull final ClassLoader parentLoader, @Nullable final String className,
+                                @NonNull final byte[] bytecode) {
+        if (!isAvailable()) throw new UnsupportedOperationException(
+                "Neither hidden nor anonymous classes are supported"
+        );
+
+        val internalName = new ClassReader(bytecode).getClassName();
+        val separatorIndex = internalName.lastIndexOf('/');
+        val lookup = hostLoader(parentLoader).hostLookup(
+                separatorIndex == -1 ? "" : internalName.substring(0, separatorIndex).replace('/', '.')
+        );
+
+        if (DEFINE_HIDDEN_CLASS != null) return ((MethodHandles.Lookup) DEFINE_HIDDEN_CLASS
+                .invokeExact(lookup, bytecode, false, CLASS_OPTIONS)).lookupClass();
+
+        // anonymous classes are available if hidden ones are not
+        return (Class<?>) DEFINE_ANONYMOUS_CLASS.invokeExact(lookup.lookupClass(), bytecode, (Object[]) null);
+    }
+
+    /**
+     * Gets the class loader of host classes for the parent loader creating it if there is none.
+     *
+     * @param parentLoader parent class loader
+     * @return class loader of host classes
+     */
+    private HostClassLoader hostLoader(@NonNull final ClassLoader parentLoader) {
+        synchronized (hostLoaders) {
+            val reference = hostLoaders.get(parentLoader);
+            HostClassLoader loader = reference == null ? null : reference.get();
+            if (loader == null) hostLoaders.put(parentLoader, new WeakReference<>(
+                    loader = new HostClassLoader(parentLoader)
+            ));
+
+            return loader;
+        }
+    }
+
+    /**
+     * Class loader defining host classes which is strongly reachable only from classes defined using them.
+     */
+    private static final class HostClassLoader extends ClassLoader {
+
+        static {
+            ClassLoader.registerAsParallelCapable();
+        }
+
+        /**
+         * Full-privilege lookups of host classes by their package names
+         */
+        private final Map<String, MethodHandles.Lookup> hostLookups = new ConcurrentHashMap<>();
+
+        private HostClassLoader(@NonNull final ClassLoader parent) {
+            super(parent);
+        }
+
+        /**
+         * Gets the lookup of the host class of the package defining it if there is none.
+         *
+         * @param packageName name of the package
+         * @return full-privilege lookup of the host class
+         */
+        private MethodHandles.Lookup hostLookup(@NonNull final String packageName) {
+            return hostLookups.computeIfAbsent(packageName, this::defineHost);
+        }
+
+        @SneakyThrows
+        private MethodHandles.Lookup defineHost(@NonNull final String packageName) {
+            val className = packageName.isEmpty()
+                    ? HOST_CLASS_SIMPLE_NAME : packageName.concat(".").concat(HOST_CLASS_SIMPLE_NAME);
+            val classWriter = AsmUtil.newClassWriter();
+            classWriter.visit(
+                    V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, AsmUtil.internalName(className), null,
+                    AsmUtil.OBJECT_INTERNAL_NAME, null
+            );
+            {
+                // the lookup is created by the host itself so that it has full privilege access
+                val lookup = classWriter.visitMethod(
+                        ACC_PUBLIC | ACC_STATIC, "lookup", LOOKUP_METHOD_DESCRIPTOR, null, null
+                );
+                lookup.visitCode();
+                lookup.visitMethodInsn(
+                        INVOKESTATIC, Type.getInternalName(MethodHandles.class), "lookup", LOOKUP_METHOD_DESCRIPTOR,
+                        false
+                );
+                lookup.visitInsn(ARETURN);
+                lookup.visitMaxs(0, 0);
+                lookup.visitEnd();
+            }
+            classWriter.visitEnd();
+
+            val bytecode = classWriter.toByteArray();
+            val host = defineClass(className, bytecode, 0, bytecode.length);
+
+            return (MethodHandles.Lookup) host.getMethod("lookup").invoke(null);
+        }
+    }
+}
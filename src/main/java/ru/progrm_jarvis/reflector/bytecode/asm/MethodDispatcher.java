@@ -0,0 +1,33 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Dispatcher invoking one of many methods identified by their indices whose implementations are generated at runtime.
+ * Unlike having a {@link MethodInvoker} per method, all invocations go through the single call site
+ * of {@link #invoke(int, Object, Object[])} no matter which method is invoked.
+ * The instance is ignored if the invoked method is {@code static}.
+ */
+public interface MethodDispatcher {
+
+    /**
+     * Gets the methods invoked by this dispatcher.
+     *
+     * @return unmodifiable list of invoked methods whose indices are the identifiers of the methods in this dispatcher
+     */
+    List<Method> getMethods();
+
+    /**
+     * Invokes the method.
+     *
+     * @param methodId index of the method in {@link #getMethods()}
+     * @param instance instance on which to invoke the method, may be {@code null} for {@code static} method
+     * @param arguments arguments to be passed to the method
+     * @return value returned by the method or {@code null} if it is {@code void}
+     * @throws IndexOutOfBoundsException if there is no method with the given identifier
+     * @throws IllegalArgumentException if the number of arguments differs from the number of parameters
+     * @throws NullPointerException if {@code instance} is {@code null} but the method is not static
+     */
+    Object invoke(int methodId, Object instance, Object[] arguments);
+}
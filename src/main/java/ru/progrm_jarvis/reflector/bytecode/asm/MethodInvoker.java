@@ -0,0 +1,134 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+/**
+ * Invoker of a particular method whose implementations are generated at runtime.
+ * Besides the generic {@link #invoke(Object, Object[])} it provides arity-specialized methods
+ * which do not require an array of arguments to be allocated,
+ * the ones not matching the method's number of parameters throw {@link IllegalArgumentException}.
+ * All methods ignore the instance if the method is {@code static}.
+ */
+public interface MethodInvoker {
+
+    /**
+     * Maximal number of method parameters for which there is an arity-specialized method
+     */
+    int MAX_SPECIALIZED_ARITY = 6;
+
+    /**
+     * Invokes the method.
+     *
+     * @param instance instance on which to invoke the method, may be {@code null} for {@code static} method
+     * @param arguments arguments to be passed to the method
+     * @return value returned by the method or {@code null} if it is {@code void}
+     * @throws IllegalArgumentException if the number of arguments differs from the number of parameters
+     * @throws NullPointerException if {@code instance} is {@code null} but the method is not static
+     */
+    Object invoke(Object instance, Object[] arguments);
+
+    /**
+     * Invokes the method having no parameters.
+     *
+     * @param instance instance on which to invoke the method, may be {@code null} for {@code static} method
+     * @return value returned by the method or {@code null} if it is {@code void}
+     * @throws IllegalArgumentException if the method's number of parameters is not 0
+     * @throws NullPointerException if {@code instance} is {@code null} but the method is not static
+     */
+    default Object invoke0(Object instance) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    /**
+     * Invokes the method having 1 parameter.
+     *
+     * @param instance instance on which to invoke the method, may be {@code null} for {@code static} method
+     * @param argument1 first argument to be passed to the method
+     * @return value returned by the method or {@code null} if it is {@code void}
+     * @throws IllegalArgumentException if the method's number of parameters is not 1
+     * @throws NullPointerException if {@code instance} is {@code null} but the method is not static
+     */
+    default Object invoke1(Object instance, Object argument1) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    /**
+     * Invokes the method having 2 parameters.
+     *
+     * @param instance instance on which to invoke the method, may be {@code null} for {@code static} method
+     * @param argument1 first argument to be passed to the method
+     * @param argument2 second argument to be passed to the method
+     * @return value returned by the method or {@code null} if it is {@code void}
+     * @throws IllegalArgumentException if the method's number of parameters is not 2
+     * @throws NullPointerException if {@code instance} is {@code null} but the method is not static
+     */
+    default Object invoke2(Object instance, Object argument1, Object argument2) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    /**
+     * Invokes the method having 3 parameters.
+     *
+     * @param instance instance on which to invoke the method, may be {@code null} for {@code static} method
+     * @param argument1 first argument to be passed to the method
+     * @param argument2 second argument to be passed to the method
+     * @param argument3 third argument to be passed to the method
+     * @return value returned by the method or {@code null} if it is {@code void}
+     * @throws IllegalArgumentException if the method's number of parameters is not 3
+     * @throws NullPointerException if {@code instance} is {@code null} but the method is not static
+     */
+    default Object invoke3(Object instance, Object argument1, Object argument2, Object argument3) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    /**
+     * Invokes the method having 4 parameters.
+     *
+     * @param instance instance on which to invoke the method, may be {@code null} for {@code static} method
+     * @param argument1 first argument to be passed to the method
+     * @param argument2 second argument to be passed to the method
+     * @param argument3 third argument to be passed to the method
+     * @param argument4 fourth argument to be passed to the method
+     * @return value returned by the method or {@code null} if it is {@code void}
+     * @throws IllegalArgumentException if the method's number of parameters is not 4
+     * @throws NullPointerException if {@code instance} is {@code null} but the method is not static
+     */
+    default Object invoke4(Object instance, Object argument1, Object argument2, Object argument3, Object argument4) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    /**
+     * Invokes the method having 5 parameters.
+     *
+     * @param instance instance on which to invoke the method, may be {@code null} for {@code static} method
+     * @param argument1 first argument to be passed to the method
+     * @param argument2 second argument to be passed to the method
+     * @param argument3 third argument to be passed to the method
+     * @param argument4 fourth argument to be passed to the method
+     * @param argument5 fifth argument to be passed to the method
+     * @return value returned by the method or {@code null} if it is {@code void}
+     * @throws IllegalArgumentException if the method's number of parameters is not 5
+     * @throws NullPointerException if {@code instance} is {@code null} but the method is not static
+     */
+    default Object invoke5(Object instance, Object argument1, Object argument2, Object argument3, Object argument4,
+                           Object argument5) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    /**
+     * Invokes the method having 6 parameters.
+     *
+     * @param instance instance on which to invoke the method, may be {@code null} for {@code static} method
+     * @param argument1 first argument to be passed to the method
+     * @param argument2 second argument to be passed to the method
+     * @param argument3 third argument to be passed to the method
+     * @param argument4 fourth argument to be passed to the method
+     * @param argument5 fifth argument to be passed to the method
+     * @param argument6 sixth argument to be passed to the method
+     * @return value returned by the method or {@code null} if it is {@code void}
+     * @throws IllegalArgumentException if the method's number of parameters is not 6
+     * @throws NullPointerException if {@code instance} is {@code null} but the method is not static
+     */
+    default Object invoke6(Object instance, Object argument1, Object argument2, Object argument3, Object argument4,
+                           Object argument5, Object argument6) {
+        throw new IllegalArgumentException("wrong number of arguments");
+    }
+}
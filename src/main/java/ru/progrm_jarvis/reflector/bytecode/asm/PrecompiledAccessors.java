@@ -0,0 +1,201 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.Type;
+
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Registry of accessors generated ahead of time (normally by {@code reflector-maven-plugin})
+ * so that they are loaded as ordinary classes instead of being generated and defined at runtime.
+ * <p>
+ * Precompiled accessors are listed in {@link #INDEX_RESOURCE} resources which are properties
+ * mapping {@link #key(Member) keys of members} to names of their accessors' classes.
+ * Indexes are read once per class loader from which the members can be accessed directly.
+ * Only accessors accessing members directly can be precompiled
+ * as others depend on data available only at runtime (such as method handles and field offsets).
+ */
+@UtilityClass
+public class PrecompiledAccessors {
+
+    /**
+     * Name of resources listing precompiled accessors
+     */
+    public final String INDEX_RESOURCE = "META-INF/reflector/precompiled-accessors.properties";
+
+    /**
+     * Prefix of names of precompiled accessors' classes
+     */
+    public final String CLASS_NAME_PREFIX = PrecompiledAccessors.class.getPackage().getName()
+            .concat(".$$precompiled$$.");
+
+    /**
+     * Indexes of precompiled accessors by class loaders from which they were read
+     */
+    private final Map<ClassLoader, Map<String, String>> INDEXES = new WeakHashMap<>();
+
+    /**
+     * Gets the key by which the accessor of the member is listed in indexes.
+     *
+     * @param member field, method or constructor
+     * @return key of the member
+     * @throws IllegalArgumentException if the member is neither a field nor a method nor a constructor
+     */
+    public String key(@NonNull final Member member) {
+        val owner = member.getDeclaringClass().getName();
+        if (member instanceof Field) return "field:" + owner + '#' + member.getName();
+        if (member instanceof Method) return "method:" + owner + '#' + member.getName()
+                + Type.getMethodDescriptor((Method) member);
+        if (member instanceof Constructor) return "constructor:" + owner + '#'
+                + Type.getConstructorDescriptor((Constructor<?>) member);
+
+        throw new IllegalArgumentException("Unsupported member " + member);
+    }
+
+    /**
+     * Gets the name of the class of the member's precompiled accessor
+     * which depends only on the member so that the same accessor generated by different builds has the same name.
+     *
+     * @param member field, method or constructor
+     * @return name of the accessor's class
+     * @throws IllegalArgumentException if the member is neither a field nor a method nor a constructor
+     */
+    public String className(@NonNull final Member member) {
+        val hash = UUID.nameUUIDFromBytes(key(member).getBytes(StandardCharsets.UTF_8)).toString().replace("-", "");
+        if (member instanceof Field) return CLASS_NAME_PREFIX + "FieldAccessor$" + hash;
+        if (member instanceof Method) return CLASS_NAME_PREFIX + "MethodInvoker$" + hash;
+
+        return CLASS_NAME_PREFIX + "ConstructorInvoker$" + hash;
+    }
+
+    /**
+     * Checks whether the accessor of the member can be precompiled.
+     *
+     * @param member field, method or constructor
+     * @return {@code true} if the member can be accessed directly by the generated accessor
+     * and {@code false} otherwise
+     */
+    public boolean isPrecompilable(@NonNull final Member member) {
+        return directAccessClassLoader(member) != null;
+    }
+
+    /**
+     * Generates bytecode of the member's accessor named by {@link #className(Member)}.
+     *
+     * @param member field, method or constructor
+     * @return bytecode of the accessor
+     * @throws IllegalArgumentException if the accessor of the member cannot be precompiled
+     */
+    public byte[] generateBytecode(@NonNull final Member member) {
+        val className = className(member);
+        if (member instanceof Field) return AsmFieldAccessorGenerator
+                .generateDirectBytecode((Field) member, className);
+        if (member instanceof Method) return AsmMethodInvokerGenerator
+                .generateDirectBytecode((Method) member, className);
+
+        return AsmConstructorInvokerGenerator.generateDirectBytecode((Constructor<?>) member, className);
+    }
+
+    /**
+     * Loads the precompiled accessor of the field.
+     *
+     * @param field field whose accessor should be loaded
+     * @return new instance of the precompiled accessor or {@code null} if there is none
+     */
+    @Nullable public FieldAccessor fieldAccessor(@NonNull final Field field) {
+        return (FieldAccessor) load(field);
+    }
+
+    /**
+     * Loads the precompiled invoker of the method.
+     *
+     * @param method method whose invoker should be loaded
+     * @return new instance of the precompiled invoker or {@code null} if there is none
+     */
+    @Nullable public MethodInvoker methodInvoker(@NonNull final Method method) {
+        return (MethodInvoker) load(method);
+    }
+
+    /**
+     * Loads the precompiled invoker of the constructor.
+     *
+     * @param constructor constructor whose invoker should be loaded
+     * @return new instance of the precompiled invoker or {@code null} if there is none
+     */
+    @Nullable public ConstructorInvoker constructorInvoker(@NonNull final Constructor<?> constructor) {
+        return (ConstructorInvoker) load(constructor);
+    }
+
+    /**
+     * Finds the class loader from which the member's accessor can access it directly.
+     *
+     * @param member field, method or constructor
+     * @return class loader for the accessor or {@code null} if it cannot access the member directly
+     */
+    @Nullable private ClassLoader directAccessClassLoader(@NonNull final Member member) {
+        if (member instanceof Field) return AsmFieldAccessorGenerator.findDirectAccessClassLoader((Field) member);
+        if (member instanceof Method) return AsmMethodInvokerGenerator.findDirectAccessClassLoader((Method) member);
+        if (member instanceof Constructor) {
+            val constructor = (Constructor<?>) member;
+            return Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())
+                    ? null : AsmConstructorInvokerGenerator.findDirectAccessClassLoader(constructor);
+        }
+
+        return null;
+    }
+
+    @Nullable
+    @SneakyThrows
+    private Object load(@NonNull final Member member) {
+        val classLoader = directAccessClassLoader(member);
+        if (classLoader == null) return null;
+
+        val className = index(classLoader).get(key(member));
+        if (className == null) return null;
+
+        return Class.forName(className, true, classLoader).newInstance();
+    }
+
+    /**
+     * Gets the index of precompiled accessors visible from the class loader reading it if it was not read yet.
+     *
+     * @param classLoader class loader from which the index resources are read
+     * @return index mapping keys of members to names of their accessors' classes
+     */
+    private Map<String, String> index(@NonNull final ClassLoader classLoader) {
+        synchronized (INDEXES) {
+            Map<String, String> index = INDEXES.get(classLoader);
+            if (index == null) INDEXES.put(classLoader, index = readIndex(classLoader));
+
+            return index;
+        }
+    }
+
+    @SneakyThrows
+    private Map<String, String> readIndex(@NonNull final ClassLoader classLoader) {
+        val resources = classLoader.getResources(INDEX_RESOURCE);
+        if (!resources.hasMoreElements()) return Collections.emptyMap();
+
+        final Map<String, String> index = new HashMap<>();
+        while (resources.hasMoreElements()) {
+            val properties = new Properties();
+            try (final InputStream input = resources.nextElement().openStream()) {
+                properties.load(input);
+            }
+            for (val key : properties.stringPropertyNames()) index.put(key, properties.getProperty(key));
+        }
+
+        return index;
+    }
+}
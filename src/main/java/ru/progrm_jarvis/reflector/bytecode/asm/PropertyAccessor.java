@@ -0,0 +1,258 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Accessor of all non-static fields declared by a particular class and its superclasses
+ * identified by their indices whose implementations are generated at runtime.
+ * Indices of the fields are their indices in {@link #getFields()}.
+ * Primitive-typed methods allow accessing fields of the corresponding types without boxing.
+ *
+ * @param <T> type of objects whose fields are accessed
+ */
+public interface PropertyAccessor<T> {
+
+    /**
+     * Gets the fields accessed by this accessor.
+     * The fields are shared by all users of the accessor so they should not be modified
+     * (for example, by making them accessible), copies should be used instead.
+     *
+     * @return unmodifiable list of accessed fields whose indices are the indices of the fields in this accessor
+     */
+    List<Field> getFields();
+
+    /**
+     * Gets the value of the field boxing it if it is primitive.
+     *
+     * @param instance instance whose field's value to get
+     * @param index index of the field
+     * @return value of the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     */
+    Object get(T instance, int index);
+
+    /**
+     * Sets the value of the field unboxing it if the field is primitive.
+     *
+     * @param instance instance whose field's value to set
+     * @param index index of the field
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * or {@code value} is {@code null} but the field is primitive
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * or {@code value} is not of the field's type
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     */
+    void set(T instance, int index, Object value);
+
+    /**
+     * Gets the value of the {@code boolean} field.
+     *
+     * @param instance instance whose field's value to get
+     * @param index index of the field
+     * @return value of the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code boolean}
+     */
+    boolean getBoolean(T instance, int index);
+
+    /**
+     * Sets the value of the {@code boolean} field.
+     *
+     * @param instance instance whose field's value to set
+     * @param index index of the field
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code boolean}
+     */
+    void setBoolean(T instance, int index, boolean value);
+
+    /**
+     * Gets the value of the {@code byte} field.
+     *
+     * @param instance instance whose field's value to get
+     * @param index index of the field
+     * @return value of the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code byte}
+     */
+    byte getByte(T instance, int index);
+
+    /**
+     * Sets the value of the {@code byte} field.
+     *
+     * @param instance instance whose field's value to set
+     * @param index index of the field
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code byte}
+     */
+    void setByte(T instance, int index, byte value);
+
+    /**
+     * Gets the value of the {@code char} field.
+     *
+     * @param instance instance whose field's value to get
+     * @param index index of the field
+     * @return value of the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code char}
+     */
+    char getChar(T instance, int index);
+
+    /**
+     * Sets the value of the {@code char} field.
+     *
+     * @param instance instance whose field's value to set
+     * @param index index of the field
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code char}
+     */
+    void setChar(T instance, int index, char value);
+
+    /**
+     * Gets the value of the {@code short} field.
+     *
+     * @param instance instance whose field's value to get
+     * @param index index of the field
+     * @return value of the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code short}
+     */
+    short getShort(T instance, int index);
+
+    /**
+     * Sets the value of the {@code short} field.
+     *
+     * @param instance instance whose field's value to set
+     * @param index index of the field
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code short}
+     */
+    void setShort(T instance, int index, short value);
+
+    /**
+     * Gets the value of the {@code int} field.
+     *
+     * @param instance instance whose field's value to get
+     * @param index index of the field
+     * @return value of the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code int}
+     */
+    int getInt(T instance, int index);
+
+    /**
+     * Sets the value of the {@code int} field.
+     *
+     * @param instance instance whose field's value to set
+     * @param index index of the field
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code int}
+     */
+    void setInt(T instance, int index, int value);
+
+    /**
+     * Gets the value of the {@code long} field.
+     *
+     * @param instance instance whose field's value to get
+     * @param index index of the field
+     * @return value of the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code long}
+     */
+    long getLong(T instance, int index);
+
+    /**
+     * Sets the value of the {@code long} field.
+     *
+     * @param instance instance whose field's value to set
+     * @param index index of the field
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code long}
+     */
+    void setLong(T instance, int index, long value);
+
+    /**
+     * Gets the value of the {@code float} field.
+     *
+     * @param instance instance whose field's value to get
+     * @param index index of the field
+     * @return value of the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code float}
+     */
+    float getFloat(T instance, int index);
+
+    /**
+     * Sets the value of the {@code float} field.
+     *
+     * @param instance instance whose field's value to set
+     * @param index index of the field
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code float}
+     */
+    void setFloat(T instance, int index, float value);
+
+    /**
+     * Gets the value of the {@code double} field.
+     *
+     * @param instance instance whose field's value to get
+     * @param index index of the field
+     * @return value of the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code double}
+     */
+    double getDouble(T instance, int index);
+
+    /**
+     * Sets the value of the {@code double} field.
+     *
+     * @param instance instance whose field's value to set
+     * @param index index of the field
+     * @param value value to set to the field
+     * @throws NullPointerException if {@code instance} is {@code null}
+     * @throws ClassCastException if {@code instance} is not an instance of the class
+     * @throws IndexOutOfBoundsException if there is no field with the given index
+     * @throws IllegalArgumentException if the field is not of type {@code double}
+     */
+    void setDouble(T instance, int index, double value);
+}
@@ -6,12 +6,20 @@ import lombok.val;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 @NoArgsConstructor
 public class SafeClassDefiner implements ClassDefiner {
 
+    /**
+     * Prefix of names of classes generated at runtime which are only defined by generated class loaders
+     */
+    private static final String GENERATED_CLASS_NAME_PREFIX = SafeClassDefiner.class.getPackage().getName()
+            .concat(".$$generated$$.");
+
     private final Map<ClassLoader, GeneratedClassLoader> loaders = Collections.synchronizedMap(new WeakHashMap<>());
 
     @Override
@@ -29,12 +37,40 @@ public class SafeClassDefiner implements ClassDefiner {
         return loader.define(null, bytecode);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The generated class loader is resolved once for all classes
+     * and the names are validated (the same way as by {@link #defineClass(ClassLoader, String, byte[])})
+     * before any class gets defined.
+     * Classes of the group may reference each other (including extending one another) in any order
+     * as the ones required for definition of others are defined on demand.
+     *
+     * @throws IllegalStateException if any of the classes is already defined
+     * or is being defined as part of another group
+     */
+    @Override
+    public Map<String, Class<?>> defineClasses(@NonNull final ClassLoader parentLoader,
+                                               @NonNull final Map<String, byte[]> classes) {
+        val loader = loaders.computeIfAbsent(parentLoader, GeneratedClassLoader::new);
+        for (val name : classes.keySet()) if (loader.hasClass(name)) throw new IllegalStateException(
+                "Class ".concat(name).concat(" is already defined!")
+        );
+
+        return loader.defineAll(classes);
+    }
+
     private static class GeneratedClassLoader extends ClassLoader {
 
         static {
             ClassLoader.registerAsParallelCapable();
         }
 
+        /**
+         * Bytecode of classes of groups being defined by their names
+         */
+        private final Map<String, byte[]> pendingClasses = new ConcurrentHashMap<>();
+
         protected GeneratedClassLoader(ClassLoader parent) {
             super(parent);
         }
@@ -55,20 +91,93 @@ public class SafeClassDefiner implements ClassDefiner {
             }
         }
 
+        private Map<String, Class<?>> defineAll(@NonNull final Map<String, byte[]> classes) {
+            val names = classes.keySet();
+            try {
+                for (val entry : classes.entrySet()) if (pendingClasses
+                        .putIfAbsent(entry.getKey(), entry.getValue()) != null) throw new IllegalStateException(
+                        "Class ".concat(entry.getKey()).concat(" is already being defined!")
+                );
+
+                val definedClasses = new LinkedHashMap<String, Class<?>>();
+                for (val name : names) definedClasses.put(name, definePending(name));
+
+                return definedClasses;
+            } finally {
+                for (val entry : classes.entrySet()) pendingClasses.remove(entry.getKey(), entry.getValue());
+            }
+        }
+
+        /**
+         * Defines the pending class unless it was already defined as a dependency of another one.
+         *
+         * @param name name of the class
+         * @return defined class
+         * @throws IllegalStateException if there is no such pending class
+         */
+        private Class<?> definePending(@NonNull final String name) {
+            synchronized (getClassLoadingLock(name)) {
+                val definedClass = findLoadedClass(name);
+                if (definedClass != null) return definedClass;
+
+                val data = pendingClasses.remove(name);
+                if (data == null) throw new IllegalStateException("Class ".concat(name).concat(" is not pending"));
+
+                return defineClass(name, data, 0, data.length);
+            }
+        }
+
+        @Override
+        protected Class<?> findClass(final String name) throws ClassNotFoundException {
+            // classes of a group being defined may depend on each other
+            if (pendingClasses.containsKey(name)) return definePending(name);
+
+            throw new ClassNotFoundException(name);
+        }
+
         @Override
         public Object getClassLoadingLock(final String className) {
             return super.getClassLoadingLock(className);
         }
 
+        /**
+         * Checks whether the class is visible from this class loader that is defined by it or by its parents.
+         * Classes generated at runtime are only looked up among the ones defined by generated class loaders
+         * so that checking their unique names does not require a failing attempt to load them.
+         *
+         * @param name name of the class
+         * @return {@code true} if the class is visible from this class loader and {@code false} otherwise
+         */
         public boolean hasClass(@NonNull final String name) {
-            synchronized (getClassLoadingLock(name)) {
-                try {
-                    Class.forName(name);
-                    return true;
-                } catch (ClassNotFoundException e) {
-                    return false;
+            if (isDefined(name)) return true;
+
+            if (name.startsWith(GENERATED_CLASS_NAME_PREFIX)) {
+                for (ClassLoader parent = getParent(); parent != null; parent = parent.getParent()) {
+                    if (parent instanceof GeneratedClassLoader && ((GeneratedClassLoader) parent).isDefined(name)) {
+                        return true;
+                    }
                 }
+
+                return false;
             }
+
+            try {
+                Class.forName(name, false, getParent());
+                return true;
+            } catch (final ClassNotFoundException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Checks whether the class is already defined by this class loader
+         * which unlike {@link #hasClass(String)} does not check its parents.
+         *
+         * @param name name of the class
+         * @return {@code true} if the class is already defined by this class loader and {@code false} otherwise
+         */
+        public boolean isDefined(@NonNull final String name) {
+            return findLoadedClass(name) != null;
         }
     }
-}
\ No newline at end of file
+}
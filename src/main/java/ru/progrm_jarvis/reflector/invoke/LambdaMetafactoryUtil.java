@@ -0,0 +1,257 @@
+package ru.progrm_jarvis.reflector.invoke;
+
+import com.google.common.primitives.Primitives;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.bytecode.asm.AsmUtil;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Utilities for creating implementations of functional interfaces bound to methods and constructors
+ * using {@link LambdaMetafactory} so that they behave like ordinary lambdas (method references).
+ * Unlike {@link MethodHandle}s which are not constants, such lambdas can be inlined by JIT.
+ * <p>
+ * Types of the functional interface's method should be adaptable to the member's ones,
+ * for example a method returning {@code int} may implement {@link java.util.function.Function}
+ * or {@link java.util.function.ToIntFunction} but a {@code void} method may only implement
+ * a functional interface whose method returns {@code void}. Instance methods take the instance
+ * as the first parameter of the functional interface's method.
+ * The functional interface should be visible from the class loader of the member's declaring class.
+ * <p>
+ * Lambdas are spun using the lookup of this class if the member, the functional interface and all the types used
+ * are accessible from it and using a private lookup in the member's declaring class otherwise.
+ * If neither is possible (such as for non-public members of classes in packages which are not open)
+ * the functional interface is implemented using {@link MethodHandleProxies} instead.
+ * Created lambdas are stored per member so that they are collected together with its declaring class.
+ */
+@UtilityClass
+public class LambdaMetafactoryUtil {
+
+    /**
+     * Full-privilege lookup of this class
+     */
+    private final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Lambdas invoking methods by their functional interfaces
+     */
+    private final ClassMemberRegistry<Method, Map<Class<?>, Object>> METHOD_LAMBDAS = ClassMemberRegistry.methods();
+
+    /**
+     * Lambdas invoking constructors by their functional interfaces
+     */
+    private final ClassMemberRegistry<Constructor<?>, Map<Class<?>, Object>> CONSTRUCTOR_LAMBDAS
+            = ClassMemberRegistry.constructors();
+
+    /**
+     * Creates the implementation of the functional interface invoking the method given
+     * or gets it from cache if one already exists.
+     *
+     * @param method method to be invoked by the implementation
+     * @param functionalInterface functional interface to implement
+     * @param <F> type of the functional interface
+     * @return implementation of the functional interface invoking the method
+     * @throws IllegalArgumentException if the class is not a functional interface
+     * or its method is not compatible with the method
+     */
+    public <F> F createLambda(@NonNull final Method method, @NonNull final Class<F> functionalInterface) {
+        return functionalInterface.cast(getCached(
+                METHOD_LAMBDAS.get(method, m -> new ConcurrentHashMap<>()), functionalInterface,
+                () -> spinLambda(method, MethodHandleUtil.methodHandleFrom(method), functionalInterface)
+        ));
+    }
+
+    /**
+     * Creates the implementation of the functional interface invoking the constructor given
+     * or gets it from cache if one already exists.
+     *
+     * @param constructor constructor to be invoked by the implementation
+     * @param functionalInterface functional interface to implement
+     * @param <F> type of the functional interface
+     * @return implementation of the functional interface invoking the constructor
+     * @throws IllegalArgumentException if the class is not a functional interface
+     * or its method is not compatible with the constructor
+     */
+    public <F> F createLambda(@NonNull final Constructor<?> constructor, @NonNull final Class<F> functionalInterface) {
+        return functionalInterface.cast(getCached(
+                CONSTRUCTOR_LAMBDAS.get(constructor, c -> new ConcurrentHashMap<>()), functionalInterface,
+                () -> spinLambda(constructor, MethodHandleUtil.methodHandleFrom(constructor), functionalInterface)
+        ));
+    }
+
+    /**
+     * Gets the lambda from the member's lambdas creating it if needed.
+     *
+     * @param lambdas lambdas of the member by their functional interfaces
+     * @param functionalInterface functional interface implemented by the lambda
+     * @param lambdaFactory function creating the lambda
+     * @return cached or created lambda
+     */
+    private Object getCached(@NonNull final Map<Class<?>, Object> lambdas, @NonNull final Class<?> functionalInterface,
+                             @NonNull final Supplier<Object> lambdaFactory) {
+        val lambda = lambdas.get(functionalInterface);
+        // computeIfAbsent() locks even if the lambda exists
+        return lambda == null ? lambdas.computeIfAbsent(functionalInterface, type -> lambdaFactory.get()) : lambda;
+    }
+
+    /**
+     * Creates the implementation of the functional interface using {@link LambdaMetafactory}.
+     *
+     * @param member member whose method handle is given
+     * @param methodHandle direct method handle of the member
+     * @param functionalInterface functional interface to implement
+     * @return implementation of the functional interface
+     */
+    @SneakyThrows
+    private Object spinLambda(@NonNull final Member member, @NonNull final MethodHandle methodHandle,
+                              @NonNull final Class<?> functionalInterface) {
+        val functionalMethod = findFunctionalMethod(functionalInterface);
+        val functionalMethodType = MethodType
+                .methodType(functionalMethod.getReturnType(), functionalMethod.getParameterTypes());
+
+        val instantiatedMethodType = instantiatedMethodType(methodHandle.type(), functionalMethodType);
+
+        val caller = callerLookup(member, methodHandle.type(), functionalInterface);
+        if (caller == null) return MethodHandleProxies.asInterfaceInstance(functionalInterface, methodHandle);
+
+        return LambdaMetafactory.metafactory(
+                caller, functionalMethod.getName(), MethodType.methodType(functionalInterface), functionalMethodType,
+                methodHandle, instantiatedMethodType
+        ).getTarget().invoke();
+    }
+
+    /**
+     * Finds the lookup in which the lambda can be spun.
+     *
+     * @param member member invoked by the lambda
+     * @param type type of the member's method handle
+     * @param functionalInterface functional interface implemented by the lambda
+     * @return lookup of this class if everything used by the lambda is accessible from it,
+     * private lookup in the member's declaring class if it can be obtained or {@code null} otherwise
+     */
+    @Nullable private MethodHandles.Lookup callerLookup(@NonNull final Member member, @NonNull final MethodType type,
+                                                        @NonNull final Class<?> functionalInterface) {
+        if (isAccessible(member, type, functionalInterface)) return LOOKUP;
+
+        try {
+            return MethodHandleUtil.privateLookupIn(member.getDeclaringClass());
+        } catch (final Exception e) {
+            // the package is not open to this module
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the lambda can be spun in the lookup of this class.
+     *
+     * @param member member invoked by the lambda
+     * @param type type of the member's method handle
+     * @param functionalInterface functional interface implemented by the lambda
+     * @return {@code true} if the member and all of the types are accessible and visible from this class
+     */
+    private boolean isAccessible(@NonNull final Member member, @NonNull final MethodType type,
+                                 @NonNull final Class<?> functionalInterface) {
+        if (!AsmUtil.isAccessible(member) || !isAccessible(functionalInterface)
+                || !isAccessible(type.returnType())) return false;
+        for (val parameterType : type.parameterArray()) if (!isAccessible(parameterType)) return false;
+
+        return true;
+    }
+
+    private boolean isAccessible(@NonNull final Class<?> type) {
+        return AsmUtil.isAccessible(type) && AsmUtil.isVisible(LambdaMetafactoryUtil.class.getClassLoader(), type);
+    }
+
+    /**
+     * Finds the single abstract method of the functional interface.
+     *
+     * @param functionalInterface functional interface whose method to find
+     * @return single abstract method of the functional interface
+     * @throws IllegalArgumentException if the class is not a functional interface
+     */
+    private Method findFunctionalMethod(@NonNull final Class<?> functionalInterface) {
+        if (!functionalInterface.isInterface()) throw new IllegalArgumentException(
+                functionalInterface + " is not an interface"
+        );
+
+        Method functionalMethod = null;
+        for (val method : functionalInterface.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method)) continue;
+
+            if (functionalMethod != null) throw new IllegalArgumentException(
+                    functionalInterface + " has more than one abstract method"
+            );
+            functionalMethod = method;
+        }
+        if (functionalMethod == null) throw new IllegalArgumentException(
+                functionalInterface + " has no abstract methods"
+        );
+
+        return functionalMethod;
+    }
+
+    /**
+     * Checks whether the method overrides a public method of {@link Object}
+     * (such methods may be declared abstract in functional interfaces).
+     *
+     * @param method method to check
+     * @return {@code true} if the method is a public method of {@link Object} and {@code false} otherwise
+     */
+    private boolean isObjectMethod(@NonNull final Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Computes the type to which the functional interface's method is specialized.
+     * Its primitive types are the ones of the functional method while reference ones are the member's
+     * (boxed if primitive).
+     *
+     * @param implementationType type of the member's method handle
+     * @param functionalMethodType erased type of the functional interface's method
+     * @return instantiated method type
+     * @throws IllegalArgumentException if the numbers of the types' parameters differ
+     */
+    private MethodType instantiatedMethodType(@NonNull final MethodType implementationType,
+                                              @NonNull final MethodType functionalMethodType) {
+        val parameterCount = functionalMethodType.parameterCount();
+        if (implementationType.parameterCount() != parameterCount) throw new IllegalArgumentException(
+                "Functional method type " + functionalMethodType
+                        + " has different number of parameters than " + implementationType
+        );
+
+        val parameterTypes = new Class<?>[parameterCount];
+        for (int i = 0; i < parameterCount; i++) parameterTypes[i] = instantiatedType(
+                implementationType.parameterType(i), functionalMethodType.parameterType(i)
+        );
+
+        return MethodType.methodType(instantiatedType(
+                implementationType.returnType(), functionalMethodType.returnType()
+        ), parameterTypes);
+    }
+
+    private Class<?> instantiatedType(@NonNull final Class<?> implementationType,
+                                      @NonNull final Class<?> functionalType) {
+        return functionalType.isPrimitive() ? functionalType : Primitives.wrap(implementationType);
+    }
+}
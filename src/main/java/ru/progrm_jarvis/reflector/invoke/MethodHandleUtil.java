@@ -2,7 +2,9 @@ package ru.progrm_jarvis.reflector.invoke;
 
 import lombok.*;
 import lombok.experimental.Accessors;
+import org.jetbrains.annotations.Nullable;
 import ru.progrm_jarvis.reflector.AccessHelper;
+import ru.progrm_jarvis.reflector.FinalFieldWriter;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
@@ -10,6 +12,7 @@ import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Objects;
 
 public class MethodHandleUtil {
@@ -23,34 +26,93 @@ public class MethodHandleUtil {
      */
             LOOKUP = MethodHandles.lookup();
 
+    /**
+     * Method handle of {@code MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)}
+     * or {@code null} if it is not available (Java 8)
+     */
+    @Nullable private static final MethodHandle PRIVATE_LOOKUP_IN;
+
+    /**
+     * Private constructor {@code Lookup(Class, int)} used to create private lookups
+     * if {@link #PRIVATE_LOOKUP_IN} is not available or {@code null} if it is not needed or cannot be accessed
+     */
+    @Nullable private static final Constructor<MethodHandles.Lookup> LOOKUP_CONSTRUCTOR;
+
+    /**
+     * Lookup modes of a lookup having full access
+     */
+    private static final int ALL_LOOKUP_MODES = MethodHandles.Lookup.PUBLIC | MethodHandles.Lookup.PRIVATE
+            | MethodHandles.Lookup.PROTECTED | MethodHandles.Lookup.PACKAGE;
+
+    static {
+        MethodHandle privateLookupIn;
+        try {
+            privateLookupIn = PUBLIC_LOOKUP.findStatic(MethodHandles.class, "privateLookupIn", MethodType.methodType(
+                    MethodHandles.Lookup.class, Class.class, MethodHandles.Lookup.class
+            ));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            privateLookupIn = null;
+        }
+        PRIVATE_LOOKUP_IN = privateLookupIn;
+
+        Constructor<MethodHandles.Lookup> lookupConstructor = null;
+        if (privateLookupIn == null) try {
+            lookupConstructor = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
+            lookupConstructor.setAccessible(true);
+        } catch (final NoSuchMethodException | RuntimeException e) {
+            lookupConstructor = null;
+        }
+        LOOKUP_CONSTRUCTOR = lookupConstructor;
+    }
+
     public static <T, R> MethodHandleBuilder<T, R> create() {
         return new MethodHandleBuilder<>();
     }
 
+    /**
+     * Creates a lookup having private access to the class given.
+     * This uses {@code MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)} if it is available
+     * and the private constructor of {@link MethodHandles.Lookup} otherwise (Java 8).
+     *
+     * @param clazz class to which the lookup should have private access
+     * @return lookup having private access to the class
+     * @throws IllegalAccessException if private access to the class cannot be obtained
+     */
+    @SneakyThrows
+    public static MethodHandles.Lookup privateLookupIn(@NonNull final Class<?> clazz) {
+        if (PRIVATE_LOOKUP_IN != null) return (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invokeExact(clazz, LOOKUP);
+        if (LOOKUP_CONSTRUCTOR != null) return LOOKUP_CONSTRUCTOR.newInstance(clazz, ALL_LOOKUP_MODES);
+
+        throw new IllegalAccessException("Could not obtain private lookup in " + clazz);
+    }
+
     @SneakyThrows
     public static MethodHandle methodHandleFrom(@NonNull final Method method) {
-        return AccessHelper.operateAndGet(method, LOOKUP::unreflect);
+        return LOOKUP.unreflect(AccessHelper.accessibleCopy(method));
     }
 
     @SneakyThrows
     public static MethodHandle methodHandleFrom(@NonNull final Constructor constructor) {
-        return AccessHelper.operateAndGet(constructor, LOOKUP::unreflectConstructor);
+        return LOOKUP.unreflectConstructor(AccessHelper.accessibleCopy(constructor));
     }
 
     @SneakyThrows
     public static MethodHandle methodHandleFromGetter(@NonNull final Field field) {
-        return AccessHelper.operateAndGet(field, LOOKUP::unreflectGetter);
+        return LOOKUP.unreflectGetter(AccessHelper.accessibleCopy(field));
     }
 
     @SneakyThrows
     public static MethodHandle methodHandleFromSetter(@NonNull final Field field) {
-        return AccessHelper.operateAndGet(field, LOOKUP::unreflectSetter);
+        // final fields cannot be set by a setter method handle
+        if (Modifier.isFinal(field.getModifiers())) return FinalFieldWriter.of(field).toMethodHandle();
+
+        return LOOKUP.unreflectSetter(AccessHelper.accessibleCopy(field));
     }
 
     @SneakyThrows
     public static MethodHandle methodHandleFromSpecial(@NonNull final Method method,
                                                        @NonNull final Class<?> specialCaller) {
-        return AccessHelper.operateAndGet(method, m -> LOOKUP.unreflectSpecial(m, specialCaller));
+        return LOOKUP.unreflectSpecial(AccessHelper.accessibleCopy(method), specialCaller);
     }
 
     /**
@@ -0,0 +1,394 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.profile;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.Reflector;
+import ru.progrm_jarvis.reflector.bytecode.asm.PrecompiledAccessors;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmConstructorWrapper;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmMethodWrapper;
+import ru.progrm_jarvis.reflector.wrapper.fast.*;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Profile of class members accessed by the application.
+ * <p>
+ * While recording, each lookup of a member by {@link Reflector} and each creation of a wrapper
+ * whose creation is worth warming up (ASM and fast wrappers) is counted per member and type of the object.
+ * Wrappers got from cache are not counted so that recording does not slow down their lookups.
+ * The profile recorded during a training run can be {@link #save(Path) saved} and then used on the next start
+ * to {@link #warmUp(Path) warm up} the same members, that is to create the same wrappers
+ * (generating their accessors) in parallel before they are actually needed.
+ * <p>
+ * Profiles are UTF-8 text files with an entry per line in form {@code <hits> <type> <member key>}
+ * where the type is the name of the class of the created object ({@code -} for members which were only looked up)
+ * and the key is the one given by {@link PrecompiledAccessors#key(Member)}. Entries are sorted by hits descending
+ * and lines starting with {@code #} are ignored.
+ * <p>
+ * Recorded members are strongly referenced by the profile so recording is only meant for training runs.
+ * It is started when this class is initialized if system property
+ * {@code ru.progrm_jarvis.reflector.profile.AccessProfile.File} is set to the path of the file
+ * to which the profile should be saved at shutdown.
+ */
+@UtilityClass
+public class AccessProfile {
+
+    /**
+     * Type of entries of members which were only looked up
+     */
+    private final String LOOKUP_TYPE = "-";
+
+    /**
+     * First line of saved profiles
+     */
+    private final String HEADER = "# reflector access profile: <hits> <type> <member key>";
+
+    /**
+     * Hits of recorded entries
+     */
+    private final Map<Entry, LongAdder> HITS = new ConcurrentHashMap<>();
+
+    /**
+     * Factories creating wrappers of the members by names of the types of the wrappers,
+     * only wrappers of these types are recorded and warmed up.
+     * Factories return {@code null} for members of other kinds.
+     */
+    private final Map<String, Function<Member, ?>> FACTORIES = new HashMap<>();
+
+    static {
+        fieldFactory(AsmFieldWrapper.class, AsmFieldWrapper::from);
+        methodFactory(AsmMethodWrapper.class, AsmMethodWrapper::from);
+        constructorFactory(AsmConstructorWrapper.class, AsmConstructorWrapper::from);
+
+        fieldFactory(FastFieldWrapper.class, FastFieldWrapper::from);
+        fieldFactory(FastBooleanFieldWrapper.class, FastBooleanFieldWrapper::from);
+        fieldFactory(FastByteFieldWrapper.class, FastByteFieldWrapper::from);
+        fieldFactory(FastCharFieldWrapper.class, FastCharFieldWrapper::from);
+        fieldFactory(FastShortFieldWrapper.class, FastShortFieldWrapper::from);
+        fieldFactory(FastIntFieldWrapper.class, FastIntFieldWrapper::from);
+        fieldFactory(FastLongFieldWrapper.class, FastLongFieldWrapper::from);
+        fieldFactory(FastFloatFieldWrapper.class, FastFloatFieldWrapper::from);
+        fieldFactory(FastDoubleFieldWrapper.class, FastDoubleFieldWrapper::from);
+        methodFactory(FastMethodWrapper.class, FastMethodWrapper::from);
+        constructorFactory(FastConstructorWrapper.class, FastConstructorWrapper::from);
+    }
+
+    /**
+     * Whether the shutdown hook saving the profile has been registered
+     */
+    private final AtomicBoolean SHUTDOWN_HOOK_REGISTERED = new AtomicBoolean();
+
+    /**
+     * Whether accessed members are being recorded
+     */
+    private volatile boolean recording;
+
+    /**
+     * File to which the profile is saved at shutdown or {@code null} if it should not be saved
+     */
+    @Nullable private volatile Path shutdownFile;
+
+    static {
+        val file = System.getProperty(AccessProfile.class.getName().concat(".File"));
+        if (file != null) startRecording(Paths.get(file));
+    }
+
+    /**
+     * Checks whether accessed members are being recorded.
+     *
+     * @return {@code true} if accessed members are being recorded and {@code false} otherwise
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Starts recording accessed members.
+     */
+    public void startRecording() {
+        recording = true;
+    }
+
+    /**
+     * Starts recording accessed members saving the profile to the given file at shutdown.
+     *
+     * @param file file to which the profile should be saved at shutdown
+     */
+    public void startRecording(@NonNull final Path file) {
+        shutdownFile = file;
+        if (SHUTDOWN_HOOK_REGISTERED.compareAndSet(false, true)) Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            val shutdownFile = AccessProfile.shutdownFile;
+            if (shutdownFile != null) save(shutdownFile);
+        }, "Reflector access profile saver"));
+
+        recording = true;
+    }
+
+    /**
+     * Stops recording accessed members and saving the profile at shutdown, the recorded profile is kept.
+     */
+    public void stopRecording() {
+        recording = false;
+        shutdownFile = null;
+    }
+
+    /**
+     * Discards the recorded profile.
+     */
+    public void clear() {
+        HITS.clear();
+    }
+
+    /**
+     * Records the access to the member if recording.
+     * Objects of types which cannot be {@link #warmUp(Path) warmed up} are not recorded.
+     *
+     * @param member accessed member
+     * @param type type of the object created for the member or {@code null} if the member was only looked up
+     */
+    public void record(@NonNull final Member member, @Nullable final Class<?> type) {
+        if (!recording || type != null && !FACTORIES.containsKey(type.getName())) return;
+
+        val entry = new Entry(member, typeName(type));
+        LongAdder hits = HITS.get(entry);
+        // computeIfAbsent() locks even if the entry exists
+        if (hits == null) hits = HITS.computeIfAbsent(entry, key -> new LongAdder());
+        hits.increment();
+    }
+
+    /**
+     * Records the creation of the wrapper of the member if recording.
+     * This is meant to be called by factories of wrappers only when a new wrapper is actually created.
+     *
+     * @param member wrapped member
+     * @param wrapper created wrapper
+     * @param <W> type of the wrapper
+     * @return the given wrapper
+     */
+    public <W> W created(@NonNull final Member member, @NonNull final W wrapper) {
+        if (recording) record(member, wrapper.getClass());
+
+        return wrapper;
+    }
+
+    /**
+     * Records the lookup of the member if recording.
+     *
+     * @param member looked up member, may be {@code null} if none was found
+     * @param <M> type of the member
+     * @return the given member
+     */
+    @Nullable public <M extends Member> M recorded(@Nullable final M member) {
+        if (member != null) record(member, null);
+
+        return member;
+    }
+
+    /**
+     * Gets the number of recorded accesses to the member.
+     *
+     * @param member accessed member
+     * @param type type of the object created for the member or {@code null} for lookups of the member
+     * @return number of recorded accesses
+     */
+    public long hits(@NonNull final Member member, @Nullable final Class<?> type) {
+        val hits = HITS.get(new Entry(member, typeName(type)));
+
+        return hits == null ? 0 : hits.sum();
+    }
+
+    /**
+     * Saves the recorded profile to the file replacing its content.
+     *
+     * @param file file to which the profile should be saved
+     */
+    @SneakyThrows
+    public void save(@NonNull final Path file) {
+        final List<Map.Entry<String, Long>> entries = new ArrayList<>(HITS.size());
+        for (val hits : HITS.entrySet()) {
+            val entry = hits.getKey();
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(
+                    entry.type + ' ' + PrecompiledAccessors.key(entry.member), hits.getValue().sum()
+            ));
+        }
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        final List<String> lines = new ArrayList<>(entries.size() + 1);
+        lines.add(HEADER);
+        for (val entry : entries) lines.add(entry.getValue() + " " + entry.getKey());
+
+        val directory = file.toAbsolutePath().getParent();
+        if (directory != null) Files.createDirectories(directory);
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Warms up members listed in the profile using the common pool
+     * and the context class loader of the current thread waiting for it to complete.
+     *
+     * @param file file from which the profile should be read
+     * @return number of warmed up entries
+     * @see #warmUp(Path, ClassLoader, ForkJoinPool) warming up asynchronously
+     */
+    public int warmUp(@NonNull final Path file) {
+        val classLoader = Thread.currentThread().getContextClassLoader();
+
+        return warmUp(
+                file, classLoader == null ? AccessProfile.class.getClassLoader() : classLoader,
+                ForkJoinPool.commonPool()
+        ).join();
+    }
+
+    /**
+     * Warms up members listed in the profile in parallel by looking them up and creating wrappers of recorded types.
+     * Only the types of wrappers which are recorded are accepted
+     * and classes declaring the members are loaded without being initialized.
+     * Entries which cannot be warmed up (such as members which no longer exist) are skipped.
+     *
+     * @param file file from which the profile should be read
+     * @param classLoader class loader from which classes of the profile are loaded
+     * @param pool pool in which members are warmed up
+     * @return task completed with the number of warmed up entries
+     */
+    @SneakyThrows
+    public ForkJoinTask<Integer> warmUp(@NonNull final Path file, @NonNull final ClassLoader classLoader,
+                                        @NonNull final ForkJoinPool pool) {
+        final List<ForkJoinTask<Boolean>> tasks = new ArrayList<>();
+        for (val line : Files.readAllLines(file, StandardCharsets.UTF_8)) if (!line.isEmpty()
+                && line.charAt(0) != '#') tasks.add(ForkJoinTask.adapt(() -> warmUpEntry(line, classLoader)));
+
+        return pool.submit(() -> {
+            ForkJoinTask.invokeAll(tasks);
+
+            int warmedUp = 0;
+            for (val task : tasks) if (task.join()) warmedUp++;
+
+            return warmedUp;
+        });
+    }
+
+    /**
+     * Warms up the entry of the profile.
+     *
+     * @param line line of the profile
+     * @param classLoader class loader from which classes of the entry are loaded
+     * @return {@code true} if the entry was warmed up and {@code false} otherwise
+     */
+    private boolean warmUpEntry(@NonNull final String line, @NonNull final ClassLoader classLoader) {
+        try {
+            val parts = line.split(" ", 3);
+            if (parts.length != 3) return false;
+
+            val member = member(parts[2], classLoader);
+            if (member == null) return false;
+            if (parts[1].equals(LOOKUP_TYPE)) return true;
+
+            val factory = FACTORIES.get(parts[1]);
+
+            return factory != null && factory.apply(member) != null;
+        } catch (final Exception | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Finds the member by its key.
+     *
+     * @param key key of the member given by {@link PrecompiledAccessors#key(Member)}
+     * @param classLoader class loader from which the class declaring the member is loaded
+     * @return found member or {@code null} if there is none
+     * @throws ClassNotFoundException if the class declaring the member cannot be found
+     */
+    @Nullable private Member member(@NonNull final String key,
+                                    @NonNull final ClassLoader classLoader) throws ClassNotFoundException {
+        val ownerStart = key.indexOf(':') + 1;
+        val ownerEnd = key.indexOf('#', ownerStart);
+        if (ownerStart == 0 || ownerEnd == -1) return null;
+
+        val owner = Class.forName(key.substring(ownerStart, ownerEnd), false, classLoader);
+        final Member[] members;
+        if (key.startsWith("field:")) members = owner.getDeclaredFields();
+        else if (key.startsWith("method:")) members = owner.getDeclaredMethods();
+        else if (key.startsWith("constructor:")) members = owner.getDeclaredConstructors();
+        else return null;
+
+        for (val member : members) if (key.equals(PrecompiledAccessors.key(member))) return member;
+
+        return null;
+    }
+
+    private void fieldFactory(@NonNull final Class<?> type, @NonNull final Function<Field, ?> factory) {
+        FACTORIES.put(type.getName(), member -> member instanceof Field ? factory.apply((Field) member) : null);
+    }
+
+    private void methodFactory(@NonNull final Class<?> type, @NonNull final Function<Method, ?> factory) {
+        FACTORIES.put(type.getName(), member -> member instanceof Method ? factory.apply((Method) member) : null);
+    }
+
+    private void constructorFactory(@NonNull final Class<?> type,
+                                    @NonNull final Function<Constructor<?>, ?> factory) {
+        FACTORIES.put(
+                type.getName(), member -> member instanceof Constructor ? factory.apply((Constructor<?>) member) : null
+        );
+    }
+
+    private String typeName(@Nullable final Class<?> type) {
+        return type == null ? LOOKUP_TYPE : type.getName();
+    }
+
+    /**
+     * Recorded access to a member
+     */
+    @Value
+    private static class Entry {
+
+        /**
+         * Accessed member
+         */
+        @NonNull Member member;
+
+        /**
+         * Name of the type of the object created for the member or {@link #LOOKUP_TYPE} for lookups
+         */
+        @NonNull String type;
+    }
+}
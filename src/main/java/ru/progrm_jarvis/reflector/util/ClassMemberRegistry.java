@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.util;
+
+import lombok.NonNull;
+import lombok.val;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Registry of objects associated with class members (such as wrappers of them).
+ * The objects are stored per declaring class using {@link ClassValue} so that they may be unloaded with the class
+ * and then per index of the member among the class's declared members in an {@link AtomicReferenceArray}.
+ * Thus lookups of already registered objects are lock-free and do not allocate.
+ * <p>
+ * If multiple threads concurrently request the object for the same member,
+ * the factory may be called more than once but only one of the created objects gets registered and returned.
+ *
+ * @param <M> type of members
+ * @param <V> type of objects associated with members
+ */
+public class ClassMemberRegistry<M extends Member, V> {
+
+    /**
+     * Entries of this registry per declaring class
+     */
+    @NonNull private final ClassValue<Entry<M, V>> entries;
+
+    /**
+     * Creates new class member registry.
+     *
+     * @param declaredMembersGetter function getting declared members of the class
+     */
+    public ClassMemberRegistry(@NonNull final Function<Class<?>, M[]> declaredMembersGetter) {
+        entries = new ClassValue<Entry<M, V>>() {
+            @Override
+            protected Entry<M, V> computeValue(final Class<?> type) {
+                return new Entry<>(declaredMembersGetter.apply(type));
+            }
+        };
+    }
+
+    /**
+     * Creates new registry of objects associated with fields.
+     *
+     * @param <V> type of objects associated with fields
+     * @return created registry
+     */
+    public static <V> ClassMemberRegistry<Field, V> fields() {
+        return new ClassMemberRegistry<>(Class::getDeclaredFields);
+    }
+
+    /**
+     * Creates new registry of objects associated with methods.
+     *
+     * @param <V> type of objects associated with methods
+     * @return created registry
+     */
+    public static <V> ClassMemberRegistry<Method, V> methods() {
+        return new ClassMemberRegistry<>(Class::getDeclaredMethods);
+    }
+
+    /**
+     * Creates new registry of objects associated with constructors.
+     *
+     * @param <V> type of objects associated with constructors
+     * @return created registry
+     */
+    public static <V> ClassMemberRegistry<Constructor<?>, V> constructors() {
+        return new ClassMemberRegistry<>(Class::getDeclaredConstructors);
+    }
+
+    /**
+     * Gets the object associated with the member creating and registering it if there is none.
+     * Members which are not returned by the declared members getter (such as synthetic members filtered by JVM)
+     * are not registered so that a new object is created each time.
+     *
+     * @param member member whose associated object to get
+     * @param factory function to create the object associated with the member
+     * @param <T> exact type of the member
+     * @return object associated with the member
+     */
+    public <T extends M> V get(@NonNull final T member, @NonNull final Function<? super T, ? extends V> factory) {
+        val entry = entries.get(member.getDeclaringClass());
+        val index = entry.indexOf(member);
+        if (index < 0) return factory.apply(member);
+
+        val values = entry.values;
+        V value = values.get(index);
+        if (value == null) {
+            value = factory.apply(member);
+            if (!values.compareAndSet(index, null, value)) value = values.get(index);
+        }
+
+        return value;
+    }
+
+    /**
+     * Members of the class and objects associated with them
+     *
+     * @param <M> type of members
+     * @param <V> type of objects associated with members
+     */
+    private static final class Entry<M extends Member, V> {
+
+        /**
+         * Declared members of the class
+         */
+        private final M[] members;
+
+        /**
+         * Indices of members by their names
+         */
+        private final Map<String, int[]> indices;
+
+        /**
+         * Objects associated with members, indices are the same as in {@link #members}
+         */
+        private final AtomicReferenceArray<V> values;
+
+        private Entry(@NonNull final M[] members) {
+            this.members = members;
+
+            val indices = new HashMap<String, int[]>();
+            for (int i = 0; i < members.length; i++) {
+                val name = members[i].getName();
+                val memberIndices = indices.get(name);
+                if (memberIndices == null) indices.put(name, new int[]{i});
+                else {
+                    val newIndices = Arrays.copyOf(memberIndices, memberIndices.length + 1);
+                    newIndices[memberIndices.length] = i;
+                    indices.put(name, newIndices);
+                }
+            }
+            this.indices = indices;
+
+            values = new AtomicReferenceArray<>(members.length);
+        }
+
+        /**
+         * Gets the index of the member among the members of this entry.
+         *
+         * @param member member whose index to get
+         * @return index of the member or {@code -1} if there is no such member
+         */
+        private int indexOf(@NonNull final Member member) {
+            val memberIndices = indices.get(member.getName());
+            if (memberIndices != null) for (val index : memberIndices) if (members[index].equals(member)) return index;
+
+            return -1;
+        }
+    }
+}
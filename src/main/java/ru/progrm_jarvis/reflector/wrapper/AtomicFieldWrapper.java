@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper;
+
+import lombok.NonNull;
+
+import java.lang.reflect.Field;
+import java.util.function.UnaryOperator;
+
+/**
+ * Wrapper for {@link Field} whose value can be updated atomically.
+ * Unlike default implementations of {@link FieldWrapper}, its read-modify-write operations
+ * ({@link #getAndUpdate(Object, Object)}, {@link #getAndCompute(Object, UnaryOperator)}
+ * and {@link #computeAndGet(Object, UnaryOperator)}) are atomic
+ * so that no updates are lost if the field is concurrently updated by multiple threads.
+ * <p>
+ * Operators given to computing methods may be applied multiple times if other threads update the field concurrently
+ * so they should be free of side effects.
+ *
+ * @param <T> type of class containing this field
+ * @param <V> type of value contained in this field
+ */
+public interface AtomicFieldWrapper<T, V> extends FieldWrapper<T, V> {
+
+    /**
+     * Atomically sets value of this field if its current value is the expected one.
+     * Values of non-primitive fields are compared by identity.
+     *
+     * @param instance instance of which field's value is set, may be {@code null} if this field is static
+     * @param expectedValue expected current value of this field
+     * @param value value to set to this field
+     * @return {@code true} if the value was set and {@code false} if the current value was not the expected one
+     * @throws NullPointerException if {@code object} is {@code null} but this field is not static
+     */
+    boolean compareAndSet(T instance, V expectedValue, V value);
+
+    /**
+     * Atomically sets value of this field returning previous value.
+     *
+     * @param instance instance of which field's value is set, may be {@code null} if this field is static
+     * @param value value to set to this field
+     * @return previous value of this field
+     * @throws NullPointerException if {@code object} is {@code null} but this field is not static
+     */
+    V getAndSet(T instance, V value);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is performed atomically.
+     */
+    @Override
+    default V getAndUpdate(final T instance, final V value) {
+        return getAndSet(instance, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is performed atomically.
+     */
+    @Override
+    default V getAndUpdate(final V value) {
+        return getAndSet(null, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is performed atomically so the operator may be applied multiple times.
+     */
+    @Override
+    V getAndCompute(T instance, @NonNull UnaryOperator<V> operator);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is performed atomically so the operator may be applied multiple times.
+     */
+    @Override
+    default V getAndCompute(@NonNull final UnaryOperator<V> operator) {
+        return getAndCompute(null, operator);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is performed atomically so the operator may be applied multiple times.
+     */
+    @Override
+    V computeAndGet(T instance, @NonNull UnaryOperator<V> operator);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is performed atomically so the operator may be applied multiple times.
+     */
+    @Override
+    default V computeAndGet(@NonNull final UnaryOperator<V> operator) {
+        return computeAndGet(null, operator);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper;
+
+import lombok.NonNull;
+
+import java.lang.reflect.Field;
+import java.util.function.IntUnaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * Wrapper for {@link Field} of type {@code int} whose value can be updated atomically without boxing.
+ * Methods of {@link AtomicFieldWrapper} delegate to their {@code int} counterparts.
+ *
+ * @param <T> type of class containing this field
+ */
+public interface AtomicIntFieldWrapper<T> extends IntFieldWrapper<T>, AtomicFieldWrapper<T, Integer> {
+
+    /**
+     * Atomically sets value of this field if its current value is the expected one.
+     *
+     * @param instance instance of which field's value is set, may be {@code null} if this field is static
+     * @param expectedValue expected current value of this field
+     * @param value value to set to this field
+     * @return {@code true} if the value was set and {@code false} if the current value was not the expected one
+     * @throws NullPointerException if {@code object} is {@code null} but this field is not static
+     */
+    boolean compareAndSetInt(T instance, int expectedValue, int value);
+
+    /**
+     * Atomically sets value of this field returning previous value.
+     *
+     * @param instance instance of which field's value is set, may be {@code null} if this field is static
+     * @param value value to set to this field
+     * @return previous value of this field
+     * @throws NullPointerException if {@code object} is {@code null} but this field is not static
+     */
+    int getAndSetInt(T instance, int value);
+
+    /**
+     * Atomically adds the given value to the value of this field returning previous value.
+     *
+     * @param instance instance of which field's value is updated, may be {@code null} if this field is static
+     * @param delta value to add to the value of this field
+     * @return previous value of this field
+     * @throws NullPointerException if {@code object} is {@code null} but this field is not static
+     */
+    int getAndAddInt(T instance, int delta);
+
+    /**
+     * Atomically adds the given value to the value of this field returning new value.
+     *
+     * @param instance instance of which field's value is updated, may be {@code null} if this field is static
+     * @param delta value to add to the value of this field
+     * @return new value of this field
+     * @throws NullPointerException if {@code object} is {@code null} but this field is not static
+     */
+    default int addAndGetInt(final T instance, final int delta) {
+        return getAndAddInt(instance, delta) + delta;
+    }
+
+    /**
+     * Atomically updates value of this field based on previous value using operator given returning previous value.
+     * The operator may be applied multiple times if other threads update the field concurrently.
+     *
+     * @param instance instance of which field's value is updated, may be {@code null} if this field is static
+     * @param operator operator to create new value based on old
+     * @return previous value of this field
+     * @throws NullPointerException if {@code object} is {@code null} but this field is not static
+     */
+    int getAndComputeInt(T instance, @NonNull IntUnaryOperator operator);
+
+    /**
+     * Atomically updates value of this field based on previous value using operator given returning new value.
+     * The operator may be applied multiple times if other threads update the field concurrently.
+     *
+     * @param instance instance of which field's value is updated, may be {@code null} if this field is static
+     * @param operator operator to create new value based on old
+     * @return new value of this field
+     * @throws NullPointerException if {@code object} is {@code null} but this field is not static
+     */
+    int computeAndGetInt(T instance, @NonNull IntUnaryOperator operator);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if {@code expectedValue} or {@code value} is {@code null}
+     */
+    @Override
+    default boolean compareAndSet(final T instance, final Integer expectedValue, final Integer value) {
+        return compareAndSetInt(instance, expectedValue, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    @Override
+    default Integer getAndSet(final T instance, final Integer value) {
+        return getAndSetInt(instance, value);
+    }
+
+    @Override
+    default Integer getAndCompute(final T instance, @NonNull final UnaryOperator<Integer> operator) {
+        return getAndComputeInt(instance, value -> operator.apply(value));
+    }
+
+    @Override
+    default Integer computeAndGet(final T instance, @NonNull final UnaryOperator<Integer> operator) {
+        return computeAndGetInt(instance, value -> operator.apply(value));
+    }
+}
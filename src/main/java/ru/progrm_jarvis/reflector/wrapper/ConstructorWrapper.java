@@ -34,4 +34,105 @@ public interface ConstructorWrapper<T> extends ReflectorWrapper<Constructor<T>>
      * @return object instantiated using constructor
      */
     T construct(@NonNull Object... arguments);
+
+    /**
+     * Creates new instance by invoking this constructor having no parameters ignoring any limitations if possible.
+     * Unlike {@link #construct(Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @return object instantiated using constructor
+     * @throws IllegalArgumentException if this constructor's number of parameters is not 0
+     */
+    default T construct0() {
+        return construct();
+    }
+
+    /**
+     * Creates new instance by invoking this constructor having 1 parameter ignoring any limitations if possible.
+     * Unlike {@link #construct(Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param argument1 first argument to be passed to constructor
+     * @return object instantiated using constructor
+     * @throws IllegalArgumentException if this constructor's number of parameters is not 1
+     */
+    default T construct1(final Object argument1) {
+        return construct(argument1);
+    }
+
+    /**
+     * Creates new instance by invoking this constructor having 2 parameters ignoring any limitations if possible.
+     * Unlike {@link #construct(Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param argument1 first argument to be passed to constructor
+     * @param argument2 second argument to be passed to constructor
+     * @return object instantiated using constructor
+     * @throws IllegalArgumentException if this constructor's number of parameters is not 2
+     */
+    default T construct2(final Object argument1, final Object argument2) {
+        return construct(argument1, argument2);
+    }
+
+    /**
+     * Creates new instance by invoking this constructor having 3 parameters ignoring any limitations if possible.
+     * Unlike {@link #construct(Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param argument1 first argument to be passed to constructor
+     * @param argument2 second argument to be passed to constructor
+     * @param argument3 third argument to be passed to constructor
+     * @return object instantiated using constructor
+     * @throws IllegalArgumentException if this constructor's number of parameters is not 3
+     */
+    default T construct3(final Object argument1, final Object argument2, final Object argument3) {
+        return construct(argument1, argument2, argument3);
+    }
+
+    /**
+     * Creates new instance by invoking this constructor having 4 parameters ignoring any limitations if possible.
+     * Unlike {@link #construct(Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param argument1 first argument to be passed to constructor
+     * @param argument2 second argument to be passed to constructor
+     * @param argument3 third argument to be passed to constructor
+     * @param argument4 fourth argument to be passed to constructor
+     * @return object instantiated using constructor
+     * @throws IllegalArgumentException if this constructor's number of parameters is not 4
+     */
+    default T construct4(final Object argument1, final Object argument2, final Object argument3,
+                         final Object argument4) {
+        return construct(argument1, argument2, argument3, argument4);
+    }
+
+    /**
+     * Creates new instance by invoking this constructor having 5 parameters ignoring any limitations if possible.
+     * Unlike {@link #construct(Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param argument1 first argument to be passed to constructor
+     * @param argument2 second argument to be passed to constructor
+     * @param argument3 third argument to be passed to constructor
+     * @param argument4 fourth argument to be passed to constructor
+     * @param argument5 fifth argument to be passed to constructor
+     * @return object instantiated using constructor
+     * @throws IllegalArgumentException if this constructor's number of parameters is not 5
+     */
+    default T construct5(final Object argument1, final Object argument2, final Object argument3, final Object argument4,
+                         final Object argument5) {
+        return construct(argument1, argument2, argument3, argument4, argument5);
+    }
+
+    /**
+     * Creates new instance by invoking this constructor having 6 parameters ignoring any limitations if possible.
+     * Unlike {@link #construct(Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param argument1 first argument to be passed to constructor
+     * @param argument2 second argument to be passed to constructor
+     * @param argument3 third argument to be passed to constructor
+     * @param argument4 fourth argument to be passed to constructor
+     * @param argument5 fifth argument to be passed to constructor
+     * @param argument6 sixth argument to be passed to constructor
+     * @return object instantiated using constructor
+     * @throws IllegalArgumentException if this constructor's number of parameters is not 6
+     */
+    default T construct6(final Object argument1, final Object argument2, final Object argument3, final Object argument4,
+                         final Object argument5, final Object argument6) {
+        return construct(argument1, argument2, argument3, argument4, argument5, argument6);
+    }
 }
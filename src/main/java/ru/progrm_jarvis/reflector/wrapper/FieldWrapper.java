@@ -24,6 +24,9 @@ import java.util.function.UnaryOperator;
 
 /**
  * Wrapper for {@link Field}
+ * <p>
+ * Default implementations of the methods updating the value based on the previous one
+ * get and set the value separately so they are not atomic, see {@link AtomicFieldWrapper} for atomic ones.
  *
  * @param <T> type of class containing this field
  * @param <V> type of value contained in this field
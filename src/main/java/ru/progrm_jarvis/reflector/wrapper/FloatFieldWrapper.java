@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper;
+
+import java.lang.reflect.Field;
+
+/**
+ * Wrapper for {@link Field} of type {@code float} whose value can be accessed without boxing.
+ * Methods of {@link FieldWrapper} delegate to their {@code float} counterparts.
+ *
+ * @param <T> type of class containing this field
+ */
+public interface FloatFieldWrapper<T> extends FieldWrapper<T, Float> {
+
+    /**
+     * Gets value of this field ignoring any limitations if possible.
+     *
+     * @param instance instance of which field's value is get
+     * @return value of this field
+     * @throws NullPointerException if {@code object} is {@code null} but this field is not static
+     */
+    float getFloat(T instance);
+
+    /**
+     * Gets value of this field on no instance (which means that static value is to be got)
+     * ignoring any limitations if possible.
+     *
+     * @return value of this static field
+     * @throws NullPointerException if this field is not static
+     */
+    float getFloat();
+
+    /**
+     * Sets value of this field ignoring any limitations if possible.
+     *
+     * @param instance instance of which field's value is set
+     * @param value value to set to this field
+     * @throws NullPointerException if {@code object} is {@code null} but this field is not static
+     */
+    void setFloat(T instance, float value);
+
+    /**
+     * Sets value of this field on no instance (which means that static value is to be set)
+     * ignoring any limitations if possible.
+     *
+     * @param value value to set to this static field
+     * @throws NullPointerException if this field is not static
+     */
+    void setFloat(float value);
+
+    @Override
+    default Float getValue(final T instance) {
+        return getFloat(instance);
+    }
+
+    @Override
+    default Float getValue() {
+        return getFloat();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    @Override
+    default void setValue(final T instance, final Float value) {
+        setFloat(instance, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    @Override
+    default void setValue(final Float value) {
+        setFloat(value);
+    }
+}
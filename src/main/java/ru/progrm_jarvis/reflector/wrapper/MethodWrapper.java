@@ -47,4 +47,119 @@ public interface MethodWrapper<T, R> extends ReflectorWrapper<Method> {
      * @throws NullPointerException if this field is not {@code static}
      */
     R invokeStatic(@NonNull Object... arguments);
+
+    /**
+     * Invokes this method having no parameters ignoring any limitations if possible.
+     * Unlike {@link #invoke(Object, Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param instance instance from which to declare method
+     * @return value returned by method
+     * @throws IllegalArgumentException if this method's number of parameters is not 0
+     * @throws NullPointerException if {@code instance} is {@code null} but this method is not static
+     */
+    default R invoke0(final T instance) {
+        return invoke(instance);
+    }
+
+    /**
+     * Invokes this method having 1 parameter ignoring any limitations if possible.
+     * Unlike {@link #invoke(Object, Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param instance instance from which to declare method
+     * @param argument1 first argument to be passed to this method
+     * @return value returned by method
+     * @throws IllegalArgumentException if this method's number of parameters is not 1
+     * @throws NullPointerException if {@code instance} is {@code null} but this method is not static
+     */
+    default R invoke1(final T instance, final Object argument1) {
+        return invoke(instance, argument1);
+    }
+
+    /**
+     * Invokes this method having 2 parameters ignoring any limitations if possible.
+     * Unlike {@link #invoke(Object, Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param instance instance from which to declare method
+     * @param argument1 first argument to be passed to this method
+     * @param argument2 second argument to be passed to this method
+     * @return value returned by method
+     * @throws IllegalArgumentException if this method's number of parameters is not 2
+     * @throws NullPointerException if {@code instance} is {@code null} but this method is not static
+     */
+    default R invoke2(final T instance, final Object argument1, final Object argument2) {
+        return invoke(instance, argument1, argument2);
+    }
+
+    /**
+     * Invokes this method having 3 parameters ignoring any limitations if possible.
+     * Unlike {@link #invoke(Object, Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param instance instance from which to declare method
+     * @param argument1 first argument to be passed to this method
+     * @param argument2 second argument to be passed to this method
+     * @param argument3 third argument to be passed to this method
+     * @return value returned by method
+     * @throws IllegalArgumentException if this method's number of parameters is not 3
+     * @throws NullPointerException if {@code instance} is {@code null} but this method is not static
+     */
+    default R invoke3(final T instance, final Object argument1, final Object argument2, final Object argument3) {
+        return invoke(instance, argument1, argument2, argument3);
+    }
+
+    /**
+     * Invokes this method having 4 parameters ignoring any limitations if possible.
+     * Unlike {@link #invoke(Object, Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param instance instance from which to declare method
+     * @param argument1 first argument to be passed to this method
+     * @param argument2 second argument to be passed to this method
+     * @param argument3 third argument to be passed to this method
+     * @param argument4 fourth argument to be passed to this method
+     * @return value returned by method
+     * @throws IllegalArgumentException if this method's number of parameters is not 4
+     * @throws NullPointerException if {@code instance} is {@code null} but this method is not static
+     */
+    default R invoke4(final T instance, final Object argument1, final Object argument2, final Object argument3,
+                      final Object argument4) {
+        return invoke(instance, argument1, argument2, argument3, argument4);
+    }
+
+    /**
+     * Invokes this method having 5 parameters ignoring any limitations if possible.
+     * Unlike {@link #invoke(Object, Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param instance instance from which to declare method
+     * @param argument1 first argument to be passed to this method
+     * @param argument2 second argument to be passed to this method
+     * @param argument3 third argument to be passed to this method
+     * @param argument4 fourth argument to be passed to this method
+     * @param argument5 fifth argument to be passed to this method
+     * @return value returned by method
+     * @throws IllegalArgumentException if this method's number of parameters is not 5
+     * @throws NullPointerException if {@code instance} is {@code null} but this method is not static
+     */
+    default R invoke5(final T instance, final Object argument1, final Object argument2, final Object argument3,
+                      final Object argument4, final Object argument5) {
+        return invoke(instance, argument1, argument2, argument3, argument4, argument5);
+    }
+
+    /**
+     * Invokes this method having 6 parameters ignoring any limitations if possible.
+     * Unlike {@link #invoke(Object, Object...)} this may not require an array of arguments to be allocated.
+     *
+     * @param instance instance from which to declare method
+     * @param argument1 first argument to be passed to this method
+     * @param argument2 second argument to be passed to this method
+     * @param argument3 third argument to be passed to this method
+     * @param argument4 fourth argument to be passed to this method
+     * @param argument5 fifth argument to be passed to this method
+     * @param argument6 sixth argument to be passed to this method
+     * @return value returned by method
+     * @throws IllegalArgumentException if this method's number of parameters is not 6
+     * @throws NullPointerException if {@code instance} is {@code null} but this method is not static
+     */
+    default R invoke6(final T instance, final Object argument1, final Object argument2, final Object argument3,
+                      final Object argument4, final Object argument5, final Object argument6) {
+        return invoke(instance, argument1, argument2, argument3, argument4, argument5, argument6);
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.asm;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.Value;
+import ru.progrm_jarvis.reflector.Reflector;
+import ru.progrm_jarvis.reflector.bytecode.asm.AsmConstructorInvokerGenerator;
+import ru.progrm_jarvis.reflector.bytecode.asm.ConstructorInvoker;
+import ru.progrm_jarvis.reflector.bytecode.asm.PrecompiledAccessors;
+import ru.progrm_jarvis.reflector.profile.AccessProfile;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.util.ObjectUtil;
+import ru.progrm_jarvis.reflector.wrapper.AbstractConstructorWrapper;
+
+import java.lang.reflect.Constructor;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class AsmConstructorWrapper<T>
+        extends AbstractConstructorWrapper<T> implements AsmReflectorWrapper<Constructor<T>> {
+
+    /**
+     * Registry of constructor wrappers
+     */
+    private static final ClassMemberRegistry<Constructor<?>, AsmConstructorWrapper<?>> REGISTRY
+            = ClassMemberRegistry.constructors();
+
+    /**
+     * Generator of constructor invokers
+     */
+    private static final AsmConstructorInvokerGenerator INVOKER_GENERATOR
+            = new AsmConstructorInvokerGenerator(Reflector.getCLASS_DEFINER());
+
+    @NonNull private ConstructorInvoker invoker;
+
+    protected AsmConstructorWrapper(@NonNull final Constructor<T> constructor,
+                                    @NonNull final ConstructorInvoker invoker) {
+        super(constructor);
+
+        this.invoker = invoker;
+    }
+
+    /**
+     * Creates new constructor wrapper instance for the constructor given or gets it from cache if one already exists.
+     * Creation of the wrapper requires generation of a new class unless its accessor has been precompiled
+     * (see {@link PrecompiledAccessors}).
+     *
+     * @param constructor constructor to get wrapped
+     * @param <T> type of class whose constructor it is
+     * @return constructor wrapper created or got from cache
+     * @throws IllegalArgumentException if the constructor belongs to an abstract class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AsmConstructorWrapper<T> from(@NonNull final Constructor<? extends T> constructor) {
+        return (AsmConstructorWrapper<T>) REGISTRY.get(
+                constructor, c -> AccessProfile.created(c, new AsmConstructorWrapper<>(
+                        c, ObjectUtil.orDefault(
+                                PrecompiledAccessors.constructorInvoker(c), () -> INVOKER_GENERATOR.generate(c)
+                        )
+                ))
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T construct(final Object... arguments) {
+        return (T) invoker.construct(arguments);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T construct0() {
+        return (T) invoker.construct0();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T construct1(final Object argument1) {
+        return (T) invoker.construct1(argument1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T construct2(final Object argument1, final Object argument2) {
+        return (T) invoker.construct2(argument1, argument2);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T construct3(final Object argument1, final Object argument2, final Object argument3) {
+        return (T) invoker.construct3(argument1, argument2, argument3);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T construct4(final Object argument1, final Object argument2, final Object argument3,
+                        final Object argument4) {
+        return (T) invoker.construct4(argument1, argument2, argument3, argument4);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T construct5(final Object argument1, final Object argument2, final Object argument3, final Object argument4,
+                        final Object argument5) {
+        return (T) invoker.construct5(argument1, argument2, argument3, argument4, argument5);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T construct6(final Object argument1, final Object argument2, final Object argument3, final Object argument4,
+                        final Object argument5, final Object argument6) {
+        return (T) invoker.construct6(argument1, argument2, argument3, argument4, argument5, argument6);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.asm;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.Value;
+import ru.progrm_jarvis.reflector.Reflector;
+import ru.progrm_jarvis.reflector.bytecode.asm.AsmFieldAccessorGenerator;
+import ru.progrm_jarvis.reflector.bytecode.asm.FieldAccessor;
+import ru.progrm_jarvis.reflector.bytecode.asm.PrecompiledAccessors;
+import ru.progrm_jarvis.reflector.profile.AccessProfile;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.util.ObjectUtil;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+
+import java.lang.reflect.Field;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class AsmFieldWrapper<T, V> extends AbstractFieldWrapper<T, V> implements AsmReflectorWrapper<Field> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, AsmFieldWrapper<?, ?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Generator of field accessors
+     */
+    private static final AsmFieldAccessorGenerator ACCESSOR_GENERATOR
+            = new AsmFieldAccessorGenerator(Reflector.getCLASS_DEFINER());
+
+    @NonNull private FieldAccessor accessor;
+
+    protected AsmFieldWrapper(@NonNull final Field field, @NonNull final FieldAccessor accessor) {
+        super(field);
+
+        this.accessor = accessor;
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     * Creation of the wrapper requires generation of a new class unless its accessor has been precompiled
+     * (see {@link PrecompiledAccessors}).
+     *
+     * @param field field to get wrapped
+     * @param <T> type containing this field
+     * @param <V> type of this field's value
+     * @return field wrapper created or got from cache
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> AsmFieldWrapper<T, V> from(@NonNull final Field field) {
+        return (AsmFieldWrapper<T, V>) REGISTRY.get(field, f -> AccessProfile.created(f, new AsmFieldWrapper<T, V>(
+                f, ObjectUtil.orDefault(PrecompiledAccessors.fieldAccessor(f), () -> ACCESSOR_GENERATOR.generate(f))
+        )));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValue(final T instance) {
+        return (V) accessor.get(instance);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValue() {
+        return (V) accessor.get(null);
+    }
+
+    @Override
+    public void setValue(final T instance, final V value) {
+        accessor.set(instance, value);
+    }
+
+    @Override
+    public void setValue(final V value) {
+        accessor.set(null, value);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.asm;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.Value;
+import ru.progrm_jarvis.reflector.Reflector;
+import ru.progrm_jarvis.reflector.bytecode.asm.AsmMethodInvokerGenerator;
+import ru.progrm_jarvis.reflector.bytecode.asm.MethodInvoker;
+import ru.progrm_jarvis.reflector.bytecode.asm.PrecompiledAccessors;
+import ru.progrm_jarvis.reflector.profile.AccessProfile;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.util.ObjectUtil;
+import ru.progrm_jarvis.reflector.wrapper.AbstractMethodWrapper;
+
+import java.lang.reflect.Method;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class AsmMethodWrapper<T, R> extends AbstractMethodWrapper<T, R> implements AsmReflectorWrapper<Method> {
+
+    /**
+     * Registry of method wrappers
+     */
+    private static final ClassMemberRegistry<Method, AsmMethodWrapper<?, ?>> REGISTRY
+            = ClassMemberRegistry.methods();
+
+    /**
+     * Generator of method invokers
+     */
+    private static final AsmMethodInvokerGenerator INVOKER_GENERATOR
+            = new AsmMethodInvokerGenerator(Reflector.getCLASS_DEFINER());
+
+    @NonNull private MethodInvoker invoker;
+
+    protected AsmMethodWrapper(@NonNull final Method method, @NonNull final MethodInvoker invoker) {
+        super(method);
+
+        this.invoker = invoker;
+    }
+
+    /**
+     * Creates new method wrapper instance for the method given or gets it from cache if one already exists.
+     * Creation of the wrapper requires generation of a new class unless its accessor has been precompiled
+     * (see {@link PrecompiledAccessors}).
+     *
+     * @param method method to get wrapped
+     * @param <T> type containing this method
+     * @param <R> type of value returned by this method
+     * @return method wrapper created or got from cache
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> AsmMethodWrapper<T, R> from(@NonNull final Method method) {
+        return (AsmMethodWrapper<T, R>) REGISTRY.get(method, m -> AccessProfile.created(m, new AsmMethodWrapper<T, R>(
+                m, ObjectUtil.orDefault(PrecompiledAccessors.methodInvoker(m), () -> INVOKER_GENERATOR.generate(m))
+        )));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R invoke(final T instance, final Object... arguments) {
+        return (R) invoker.invoke(instance, arguments);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R invokeStatic(final Object... arguments) {
+        return (R) invoker.invoke(null, arguments);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R invoke0(final T instance) {
+        return (R) invoker.invoke0(instance);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R invoke1(final T instance, final Object argument1) {
+        return (R) invoker.invoke1(instance, argument1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R invoke2(final T instance, final Object argument1, final Object argument2) {
+        return (R) invoker.invoke2(instance, argument1, argument2);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R invoke3(final T instance, final Object argument1, final Object argument2, final Object argument3) {
+        return (R) invoker.invoke3(instance, argument1, argument2, argument3);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R invoke4(final T instance, final Object argument1, final Object argument2, final Object argument3,
+                     final Object argument4) {
+        return (R) invoker.invoke4(instance, argument1, argument2, argument3, argument4);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R invoke5(final T instance, final Object argument1, final Object argument2, final Object argument3,
+                     final Object argument4, final Object argument5) {
+        return (R) invoker.invoke5(instance, argument1, argument2, argument3, argument4, argument5);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R invoke6(final T instance, final Object argument1, final Object argument2, final Object argument3,
+                     final Object argument4, final Object argument5, final Object argument6) {
+        return (R) invoker.invoke6(instance, argument1, argument2, argument3, argument4, argument5, argument6);
+    }
+}
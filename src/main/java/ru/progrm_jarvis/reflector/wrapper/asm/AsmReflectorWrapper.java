@@ -0,0 +1,30 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.asm;
+
+import ru.progrm_jarvis.reflector.wrapper.ReflectorWrapper;
+
+/**
+ * A {@link ReflectorWrapper<T>} implementation delegating to classes generated at runtime using ASM
+ * which access the wrapped object directly (without reflection) whenever possible
+ *
+ * @param <T> {@inheritDoc}
+ *
+ * @see ru.progrm_jarvis.reflector.bytecode.asm
+ */
+public interface AsmReflectorWrapper<T> extends ReflectorWrapper<T> {
+}
@@ -0,0 +1,4 @@
+/**
+ * Wrappers based on classes generated at runtime using ASM
+ */
+package ru.progrm_jarvis.reflector.wrapper.asm;
@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.fast;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.Value;
+import ru.progrm_jarvis.reflector.profile.AccessProfile;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.BooleanFieldWrapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class FastBooleanFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Boolean> implements BooleanFieldWrapper<T>, FastReflectorWrapper<Field> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, FastBooleanFieldWrapper<?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Getter of type {@code (Object)boolean}
+     */
+    @NonNull private MethodHandle getterHandle;
+
+    /**
+     * Setter of type {@code (Object, boolean)void}
+     */
+    @NonNull private MethodHandle setterHandle;
+
+    protected FastBooleanFieldWrapper(@NonNull final Field field, @NonNull final MethodHandle getterHandle,
+                                      @NonNull final MethodHandle setterHandle) {
+        super(field);
+
+        this.getterHandle = getterHandle;
+        this.setterHandle = setterHandle;
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field of type {@code boolean} to get wrapped
+     * @param <T> type containing this field
+     * @return field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is not of type {@code boolean}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> FastBooleanFieldWrapper<T> from(@NonNull final Field field) {
+        FastFieldWrappers.checkType(field, boolean.class);
+
+        return (FastBooleanFieldWrapper<T>) REGISTRY.get(
+                field, f -> AccessProfile.created(f, new FastBooleanFieldWrapper<T>(
+                        f, FastFieldWrappers.getterHandle(f), FastFieldWrappers.setterHandle(f)
+                ))
+        );
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean getBoolean(final T instance) {
+        return (boolean) getterHandle.invokeExact((Object) instance);
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean getBoolean() {
+        return (boolean) getterHandle.invokeExact((Object) null);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setBoolean(final T instance, final boolean value) {
+        setterHandle.invokeExact((Object) instance, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setBoolean(final boolean value) {
+        setterHandle.invokeExact((Object) null, value);
+    }
+}
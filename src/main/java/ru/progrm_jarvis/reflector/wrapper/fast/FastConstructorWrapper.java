@@ -16,16 +16,21 @@
 
 package ru.progrm_jarvis.reflector.wrapper.fast;
 
-import com.google.common.cache.Cache;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.Value;
+import lombok.val;
 import ru.progrm_jarvis.reflector.invoke.MethodHandleUtil;
-import ru.progrm_jarvis.reflector.util.Caches;
+import ru.progrm_jarvis.reflector.profile.AccessProfile;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
 import ru.progrm_jarvis.reflector.wrapper.AbstractConstructorWrapper;
 
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 
 @Value
@@ -34,31 +39,165 @@ public class FastConstructorWrapper<T>
         extends AbstractConstructorWrapper<T> implements FastReflectorWrapper<Constructor<T>> {
 
     /**
-     * Cache of method wrappers
+     * Registry of constructor wrappers
      */
-    private static final Cache<Constructor, FastConstructorWrapper<?>> CACHE = Caches.weakValuesCache();
+    private static final ClassMemberRegistry<Constructor<?>, FastConstructorWrapper<?>> REGISTRY
+            = ClassMemberRegistry.constructors();
+
+    /**
+     * Method handle of {@link #checkPrimitiveArgument(Object, String)}
+     */
+    private static final MethodHandle CHECK_PRIMITIVE_ARGUMENT;
+
+    static {
+        try {
+            CHECK_PRIMITIVE_ARGUMENT = MethodHandles.lookup().findStatic(
+                    FastConstructorWrapper.class, "checkPrimitiveArgument",
+                    MethodType.methodType(Object.class, Object.class, String.class)
+            );
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     @NonNull private MethodHandle constructorHandle;
 
+    /**
+     * Constructor handle adapted to type {@code (Object...)Object} with the number of parameters of the constructor
+     * which checks that arguments of primitive parameters are not {@code null}
+     */
+    @Getter(AccessLevel.NONE) @NonNull private MethodHandle genericConstructorHandle;
+
+    /**
+     * Constructor handle adapted to type {@code (Object[])Object}
+     */
+    @Getter(AccessLevel.NONE) @NonNull private MethodHandle spreadConstructorHandle;
+
+    /**
+     * Number of the constructor's parameters
+     */
+    @Getter(AccessLevel.NONE) private int arity;
+
     protected FastConstructorWrapper(@NonNull final Constructor<T> constructor,
                                      @NonNull final MethodHandle constructorHandle) {
         super(constructor);
 
         this.constructorHandle = constructorHandle;
+        arity = constructor.getParameterCount();
+
+        // as in Constructor#newInstance(Object...), null is not unboxed to primitive but is an illegal argument
+        MethodHandle genericConstructorHandle = constructorHandle.asType(MethodType.genericMethodType(arity));
+        val parameterTypes = constructor.getParameterTypes();
+        for (int i = 0; i < arity; i++) if (parameterTypes[i].isPrimitive()) {
+            genericConstructorHandle = MethodHandles.filterArguments(
+                    genericConstructorHandle, i, MethodHandles.insertArguments(
+                            CHECK_PRIMITIVE_ARGUMENT, 1,
+                            "Argument " + i + " of primitive type " + parameterTypes[i].getName() + " is null"
+                    )
+            );
+        }
+        this.genericConstructorHandle = genericConstructorHandle;
+        spreadConstructorHandle = genericConstructorHandle.asSpreader(Object[].class, arity);
     }
 
-    @SneakyThrows
     @SuppressWarnings("unchecked")
     public static <T> FastConstructorWrapper<T> from(@NonNull final Constructor<? extends T> constructor) {
-        return (FastConstructorWrapper<T>) CACHE.get(constructor, () -> new FastConstructorWrapper<>(
-                constructor, MethodHandleUtil.methodHandleFrom(constructor)
-        ));
+        return (FastConstructorWrapper<T>) REGISTRY.get(
+                constructor, c -> AccessProfile.created(c, new FastConstructorWrapper<>(
+                        c, MethodHandleUtil.methodHandleFrom(c)
+                ))
+        );
     }
 
     @Override
     @SneakyThrows
     @SuppressWarnings("unchecked")
     public T construct(final Object... arguments) {
-        return (T) constructorHandle.invokeWithArguments(arguments);
+        return (T) spreadConstructorHandle.invokeExact(arguments);
+    }
+
+    /**
+     * Checks that the argument of the primitive parameter is not {@code null}.
+     *
+     * @param argument argument of the primitive parameter
+     * @param message message of the exception thrown if the argument is {@code null}
+     * @return the given argument
+     * @throws IllegalArgumentException if the argument is {@code null}
+     */
+    private static Object checkPrimitiveArgument(final Object argument, final String message) {
+        if (argument == null) throw new IllegalArgumentException(message);
+
+        return argument;
+    }
+
+    /**
+     * Checks that the constructor has the given number of parameters.
+     *
+     * @param expectedArity expected number of the constructor's parameters
+     * @throws IllegalArgumentException if the constructor's number of parameters differs
+     */
+    private void checkArity(final int expectedArity) {
+        if (arity != expectedArity) throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public T construct0() {
+        checkArity(0);
+        return (T) genericConstructorHandle.invokeExact();
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public T construct1(final Object argument1) {
+        checkArity(1);
+        return (T) genericConstructorHandle.invokeExact(argument1);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public T construct2(final Object argument1, final Object argument2) {
+        checkArity(2);
+        return (T) genericConstructorHandle.invokeExact(argument1, argument2);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public T construct3(final Object argument1, final Object argument2, final Object argument3) {
+        checkArity(3);
+        return (T) genericConstructorHandle.invokeExact(argument1, argument2, argument3);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public T construct4(final Object argument1, final Object argument2, final Object argument3,
+                        final Object argument4) {
+        checkArity(4);
+        return (T) genericConstructorHandle.invokeExact(argument1, argument2, argument3, argument4);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public T construct5(final Object argument1, final Object argument2, final Object argument3, final Object argument4,
+                        final Object argument5) {
+        checkArity(5);
+        return (T) genericConstructorHandle.invokeExact(argument1, argument2, argument3, argument4, argument5);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public T construct6(final Object argument1, final Object argument2, final Object argument3, final Object argument4,
+                        final Object argument5, final Object argument6) {
+        checkArity(6);
+        return (T) genericConstructorHandle.invokeExact(
+                argument1, argument2, argument3, argument4, argument5, argument6
+        );
     }
 }
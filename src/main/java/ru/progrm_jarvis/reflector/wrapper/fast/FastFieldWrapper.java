@@ -16,13 +16,13 @@
 
 package ru.progrm_jarvis.reflector.wrapper.fast;
 
-import com.google.common.cache.Cache;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.Value;
 import ru.progrm_jarvis.reflector.invoke.MethodHandleUtil;
-import ru.progrm_jarvis.reflector.util.Caches;
+import ru.progrm_jarvis.reflector.profile.AccessProfile;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
 import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
 
 import java.lang.invoke.MethodHandle;
@@ -34,9 +34,10 @@ public class FastFieldWrapper<T, V>
         extends AbstractFieldWrapper<T, V> implements FastReflectorWrapper<Field> {
 
     /**
-     * Cache of method wrappers
+     * Registry of field wrappers
      */
-    private static final Cache<Field, FastFieldWrapper<?, ?>> CACHE = Caches.weakValuesCache();
+    private static final ClassMemberRegistry<Field, FastFieldWrapper<?, ?>> REGISTRY
+            = ClassMemberRegistry.fields();
 
     @NonNull private MethodHandle getterHandle;
     @NonNull private MethodHandle setterHandle;
@@ -49,14 +50,13 @@ public class FastFieldWrapper<T, V>
         this.setterHandle = setterHandle;
     }
 
-    @SneakyThrows
     @SuppressWarnings("unchecked")
     public static <T, V> FastFieldWrapper<T, V> from(@NonNull final Field field) {
-        return (FastFieldWrapper<T, V>) CACHE.get(field, () -> new FastFieldWrapper<T, V>(
-                field,
-                MethodHandleUtil.methodHandleFromGetter(field),
-                MethodHandleUtil.methodHandleFromSetter(field)
-        ));
+        return (FastFieldWrapper<T, V>) REGISTRY.get(field, f -> AccessProfile.created(f, new FastFieldWrapper<T, V>(
+                f,
+                MethodHandleUtil.methodHandleFromGetter(f),
+                MethodHandleUtil.methodHandleFromSetter(f)
+        )));
     }
 
     @Override
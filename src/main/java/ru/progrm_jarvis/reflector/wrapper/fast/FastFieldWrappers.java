@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.fast;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import ru.progrm_jarvis.reflector.invoke.MethodHandleUtil;
+import ru.progrm_jarvis.reflector.wrapper.FieldWrapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Factory of fast field wrappers choosing the implementation specialized for the field's type
+ */
+@UtilityClass
+public class FastFieldWrappers {
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     * Fields of primitive types are wrapped by their primitive specializations
+     * (such as {@link FastIntFieldWrapper} for {@code int}) and others by {@link FastFieldWrapper}.
+     *
+     * @param field field to get wrapped
+     * @param <T> type containing this field
+     * @param <V> type of this field's value
+     * @return field wrapper created or got from cache
+     */
+    @SuppressWarnings("unchecked")
+    public <T, V> FieldWrapper<T, V> from(@NonNull final Field field) {
+        val type = field.getType();
+        if (!type.isPrimitive()) return FastFieldWrapper.from(field);
+        if (type == boolean.class) return (FieldWrapper<T, V>) FastBooleanFieldWrapper.<T>from(field);
+        if (type == byte.class) return (FieldWrapper<T, V>) FastByteFieldWrapper.<T>from(field);
+        if (type == char.class) return (FieldWrapper<T, V>) FastCharFieldWrapper.<T>from(field);
+        if (type == short.class) return (FieldWrapper<T, V>) FastShortFieldWrapper.<T>from(field);
+        if (type == int.class) return (FieldWrapper<T, V>) FastIntFieldWrapper.<T>from(field);
+        if (type == long.class) return (FieldWrapper<T, V>) FastLongFieldWrapper.<T>from(field);
+        if (type == float.class) return (FieldWrapper<T, V>) FastFloatFieldWrapper.<T>from(field);
+        return (FieldWrapper<T, V>) FastDoubleFieldWrapper.<T>from(field);
+    }
+
+    /**
+     * Checks that the field is of the given type.
+     *
+     * @param field field to check
+     * @param type expected type of the field
+     * @throws IllegalArgumentException if the field is of other type
+     */
+    void checkType(@NonNull final Field field, @NonNull final Class<?> type) {
+        if (field.getType() != type) throw new IllegalArgumentException(
+                "Field " + field + " is not of type " + type.getName()
+        );
+    }
+
+    /**
+     * Creates the getter of the field of type {@code (Object)type} where the instance is ignored if it is static.
+     *
+     * @param field field for which to create the getter
+     * @return getter of the field
+     */
+    MethodHandle getterHandle(@NonNull final Field field) {
+        MethodHandle getter = MethodHandleUtil.methodHandleFromGetter(field);
+        if (Modifier.isStatic(field.getModifiers())) getter = MethodHandles.dropArguments(getter, 0, Object.class);
+
+        return getter.asType(MethodType.methodType(field.getType(), Object.class));
+    }
+
+    /**
+     * Creates the setter of the field of type {@code (Object, type)void} where the instance is ignored if it is static.
+     *
+     * @param field field for which to create the setter
+     * @return setter of the field
+     */
+    MethodHandle setterHandle(@NonNull final Field field) {
+        MethodHandle setter = MethodHandleUtil.methodHandleFromSetter(field);
+        if (Modifier.isStatic(field.getModifiers())) setter = MethodHandles.dropArguments(setter, 0, Object.class);
+
+        return setter.asType(MethodType.methodType(void.class, Object.class, field.getType()));
+    }
+}
@@ -16,10 +16,10 @@
 
 package ru.progrm_jarvis.reflector.wrapper.fast;
 
-import com.google.common.cache.Cache;
 import lombok.*;
 import ru.progrm_jarvis.reflector.invoke.MethodHandleUtil;
-import ru.progrm_jarvis.reflector.util.Caches;
+import ru.progrm_jarvis.reflector.profile.AccessProfile;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
 import ru.progrm_jarvis.reflector.wrapper.AbstractMethodWrapper;
 
 import java.lang.invoke.MethodHandle;
@@ -30,9 +30,10 @@ import java.lang.reflect.Method;
 public class FastMethodWrapper<T, R> extends AbstractMethodWrapper<T, R> implements FastReflectorWrapper<Method> {
 
     /**
-     * Cache of method wrappers
+     * Registry of method wrappers
      */
-    private static final Cache<Method, FastMethodWrapper<?, ?>> CACHE = Caches.weakValuesCache();
+    private static final ClassMemberRegistry<Method, FastMethodWrapper<?, ?>> REGISTRY
+            = ClassMemberRegistry.methods();
 
     @NonNull private MethodHandle methodHandle;
 
@@ -42,12 +43,11 @@ public class FastMethodWrapper<T, R> extends AbstractMethodWrapper<T, R> impleme
         this.methodHandle = methodHandle;
     }
 
-    @SneakyThrows
     @SuppressWarnings("unchecked")
     public static <T, R> FastMethodWrapper<T, R> from(@NonNull final Method method) {
-        return (FastMethodWrapper<T, R>) CACHE.get(method, () -> new FastMethodWrapper<>(
-                method, MethodHandleUtil.methodHandleFrom(method)
-        ));
+        return (FastMethodWrapper<T, R>) REGISTRY.get(method, m -> AccessProfile.created(m, new FastMethodWrapper<>(
+                m, MethodHandleUtil.methodHandleFrom(m)
+        )));
     }
 
     @Override
@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.reflection;
+
+import lombok.*;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.AccessHelper;
+import ru.progrm_jarvis.reflector.FinalFieldWriter;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.BooleanFieldWrapper;
+
+import java.lang.reflect.Field;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class ReflectionBooleanFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Boolean> implements BooleanFieldWrapper<T>, ReflectionReflectorWrapper<Field> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, ReflectionBooleanFieldWrapper<?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Copy of the field which is accessible
+     */
+    @Getter(AccessLevel.NONE) @NonNull private Field accessibleField;
+
+    /**
+     * Writer used if the field is {@code static final} so that it cannot be set via {@link #accessibleField},
+     * otherwise {@code null}
+     */
+    @Getter(AccessLevel.NONE) @Nullable private FinalFieldWriter staticFinalWriter;
+
+    protected ReflectionBooleanFieldWrapper(@NonNull final Field field) {
+        super(field);
+
+        accessibleField = AccessHelper.accessibleCopy(field);
+        staticFinalWriter = ReflectionFieldWrappers.isStaticFinal(field) ? FinalFieldWriter.of(field) : null;
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field of type {@code boolean} to get wrapped
+     * @param <T> type containing this field
+     * @return field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is not of type {@code boolean}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ReflectionBooleanFieldWrapper<T> from(@NonNull final Field field) {
+        ReflectionFieldWrappers.checkType(field, boolean.class);
+
+        return (ReflectionBooleanFieldWrapper<T>) REGISTRY.get(field, ReflectionBooleanFieldWrapper::new);
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean getBoolean(final T instance) {
+        return accessibleField.getBoolean(instance);
+    }
+
+    @Override
+    public boolean getBoolean() {
+        return getBoolean(null);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setBoolean(final T instance, final boolean value) {
+        if (staticFinalWriter != null) staticFinalWriter.setBoolean(null, value);
+        else accessibleField.setBoolean(instance, value);
+    }
+
+    @Override
+    public void setBoolean(final boolean value) {
+        setBoolean(null, value);
+    }
+}
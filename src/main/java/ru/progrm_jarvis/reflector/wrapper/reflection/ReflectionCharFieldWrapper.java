@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.reflection;
+
+import lombok.*;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.AccessHelper;
+import ru.progrm_jarvis.reflector.FinalFieldWriter;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.CharFieldWrapper;
+
+import java.lang.reflect.Field;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class ReflectionCharFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Character> implements CharFieldWrapper<T>, ReflectionReflectorWrapper<Field> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, ReflectionCharFieldWrapper<?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Copy of the field which is accessible
+     */
+    @Getter(AccessLevel.NONE) @NonNull private Field accessibleField;
+
+    /**
+     * Writer used if the field is {@code static final} so that it cannot be set via {@link #accessibleField},
+     * otherwise {@code null}
+     */
+    @Getter(AccessLevel.NONE) @Nullable private FinalFieldWriter staticFinalWriter;
+
+    protected ReflectionCharFieldWrapper(@NonNull final Field field) {
+        super(field);
+
+        accessibleField = AccessHelper.accessibleCopy(field);
+        staticFinalWriter = ReflectionFieldWrappers.isStaticFinal(field) ? FinalFieldWriter.of(field) : null;
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field of type {@code char} to get wrapped
+     * @param <T> type containing this field
+     * @return field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is not of type {@code char}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ReflectionCharFieldWrapper<T> from(@NonNull final Field field) {
+        ReflectionFieldWrappers.checkType(field, char.class);
+
+        return (ReflectionCharFieldWrapper<T>) REGISTRY.get(field, ReflectionCharFieldWrapper::new);
+    }
+
+    @Override
+    @SneakyThrows
+    public char getChar(final T instance) {
+        return accessibleField.getChar(instance);
+    }
+
+    @Override
+    public char getChar() {
+        return getChar(null);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setChar(final T instance, final char value) {
+        if (staticFinalWriter != null) staticFinalWriter.setChar(null, value);
+        else accessibleField.setChar(instance, value);
+    }
+
+    @Override
+    public void setChar(final char value) {
+        setChar(null, value);
+    }
+}
@@ -16,18 +16,13 @@
 
 package ru.progrm_jarvis.reflector.wrapper.reflection;
 
-import com.google.common.cache.Cache;
-import lombok.EqualsAndHashCode;
-import lombok.NonNull;
-import lombok.SneakyThrows;
-import lombok.Value;
+import lombok.*;
 import ru.progrm_jarvis.reflector.AccessHelper;
-import ru.progrm_jarvis.reflector.util.Caches;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
 import ru.progrm_jarvis.reflector.wrapper.AbstractConstructorWrapper;
 import ru.progrm_jarvis.reflector.wrapper.ConstructorWrapper;
 
 import java.lang.reflect.Constructor;
-import java.util.concurrent.ExecutionException;
 
 @Value
 @EqualsAndHashCode(callSuper = true)
@@ -35,12 +30,20 @@ public class ReflectionConstructorWrapper<T>
         extends AbstractConstructorWrapper<T> implements ReflectionReflectorWrapper<Constructor<T>> {
 
     /**
-     * Cache of constructor wrappers
+     * Registry of constructor wrappers
      */
-    private static final Cache<Constructor<?>, ReflectionConstructorWrapper<?>> CACHE = Caches.weakValuesCache();
+    private static final ClassMemberRegistry<Constructor<?>, ReflectionConstructorWrapper<?>> REGISTRY
+            = ClassMemberRegistry.constructors();
+
+    /**
+     * Copy of the constructor which is accessible
+     */
+    @Getter(AccessLevel.NONE) @NonNull private Constructor<T> accessibleConstructor;
 
     protected ReflectionConstructorWrapper(@NonNull final Constructor<T> constructor) {
         super(constructor);
+
+        accessibleConstructor = AccessHelper.accessibleCopy(constructor);
     }
 
     /**
@@ -52,17 +55,12 @@ public class ReflectionConstructorWrapper<T>
      */
     @SuppressWarnings("unchecked")
     public static <T> ConstructorWrapper<T> from(@NonNull final Constructor<T> constructor) {
-        try {
-            return (ConstructorWrapper<T>) CACHE
-                    .get(constructor, () -> new ReflectionConstructorWrapper<>(constructor));
-        } catch (final ExecutionException e) {
-            throw new RuntimeException("Could not obtain ConstructorWrapper<T> value methodHandleFrom cache");
-        }
+        return (ConstructorWrapper<T>) REGISTRY.get(constructor, ReflectionConstructorWrapper::new);
     }
 
     @Override
     @SneakyThrows
     public T construct(@NonNull final Object... arguments) {
-        return AccessHelper.accessAndGet(constructor, constructor -> constructor.newInstance(arguments));
+        return accessibleConstructor.newInstance(arguments);
     }
 }
@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.reflection;
+
+import lombok.*;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.AccessHelper;
+import ru.progrm_jarvis.reflector.FinalFieldWriter;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.DoubleFieldWrapper;
+
+import java.lang.reflect.Field;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class ReflectionDoubleFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Double> implements DoubleFieldWrapper<T>, ReflectionReflectorWrapper<Field> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, ReflectionDoubleFieldWrapper<?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Copy of the field which is accessible
+     */
+    @Getter(AccessLevel.NONE) @NonNull private Field accessibleField;
+
+    /**
+     * Writer used if the field is {@code static final} so that it cannot be set via {@link #accessibleField},
+     * otherwise {@code null}
+     */
+    @Getter(AccessLevel.NONE) @Nullable private FinalFieldWriter staticFinalWriter;
+
+    protected ReflectionDoubleFieldWrapper(@NonNull final Field field) {
+        super(field);
+
+        accessibleField = AccessHelper.accessibleCopy(field);
+        staticFinalWriter = ReflectionFieldWrappers.isStaticFinal(field) ? FinalFieldWriter.of(field) : null;
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field of type {@code double} to get wrapped
+     * @param <T> type containing this field
+     * @return field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is not of type {@code double}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ReflectionDoubleFieldWrapper<T> from(@NonNull final Field field) {
+        ReflectionFieldWrappers.checkType(field, double.class);
+
+        return (ReflectionDoubleFieldWrapper<T>) REGISTRY.get(field, ReflectionDoubleFieldWrapper::new);
+    }
+
+    @Override
+    @SneakyThrows
+    public double getDouble(final T instance) {
+        return accessibleField.getDouble(instance);
+    }
+
+    @Override
+    public double getDouble() {
+        return getDouble(null);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setDouble(final T instance, final double value) {
+        if (staticFinalWriter != null) staticFinalWriter.setDouble(null, value);
+        else accessibleField.setDouble(instance, value);
+    }
+
+    @Override
+    public void setDouble(final double value) {
+        setDouble(null, value);
+    }
+}
@@ -16,16 +16,15 @@
 
 package ru.progrm_jarvis.reflector.wrapper.reflection;
 
-import com.google.common.cache.Cache;
 import lombok.*;
 import org.jetbrains.annotations.Nullable;
 import ru.progrm_jarvis.reflector.AccessHelper;
-import ru.progrm_jarvis.reflector.util.Caches;
+import ru.progrm_jarvis.reflector.FinalFieldWriter;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
 import ru.progrm_jarvis.reflector.wrapper.FieldWrapper;
 import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
 
 import java.lang.reflect.Field;
-import java.util.concurrent.ExecutionException;
 import java.util.function.UnaryOperator;
 
 @Value
@@ -34,12 +33,27 @@ public class ReflectionFieldWrapper<T, V>
         extends AbstractFieldWrapper<T, V> implements ReflectionReflectorWrapper<Field> {
 
     /**
-     * Cache of field wrappers
+     * Registry of field wrappers
      */
-    private static final Cache<Field, ReflectionFieldWrapper<?, ?>> CACHE = Caches.weakValuesCache();
+    private static final ClassMemberRegistry<Field, ReflectionFieldWrapper<?, ?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Copy of the field which is accessible
+     */
+    @Getter(AccessLevel.NONE) @NonNull private Field accessibleField;
+
+    /**
+     * Writer used if the field is {@code static final} so that it cannot be set via {@link #accessibleField},
+     * otherwise {@code null}
+     */
+    @Getter(AccessLevel.NONE) @Nullable private FinalFieldWriter staticFinalWriter;
 
     protected ReflectionFieldWrapper(@NonNull final Field field) {
         super(field);
+
+        accessibleField = AccessHelper.accessibleCopy(field);
+        staticFinalWriter = ReflectionFieldWrappers.isStaticFinal(field) ? FinalFieldWriter.of(field) : null;
     }
 
     /**
@@ -52,11 +66,7 @@ public class ReflectionFieldWrapper<T, V>
      */
     @SuppressWarnings("unchecked")
     public static <T, V> FieldWrapper<T, V> from(@NonNull final Field field) {
-        try {
-            return (FieldWrapper<T, V>) CACHE.get(field, () -> new ReflectionFieldWrapper<>(field));
-        } catch (final ExecutionException e) {
-            throw new RuntimeException("Could not obtain FieldWrapper<V> value methodHandleFrom cache");
-        }
+        return (FieldWrapper<T, V>) REGISTRY.get(field, ReflectionFieldWrapper::new);
     }
 
     /**
@@ -70,7 +80,7 @@ public class ReflectionFieldWrapper<T, V>
     @SneakyThrows
     @SuppressWarnings("unchecked")
     public V getValue(@Nullable final T instance) {
-        return AccessHelper.accessAndGet(field, field -> (V) field.get(instance));
+        return (V) accessibleField.get(instance);
     }
 
     /**
@@ -94,7 +104,8 @@ public class ReflectionFieldWrapper<T, V>
     @Override
     @SneakyThrows
     public void setValue(@Nullable final T instance, @Nullable final V value) {
-        AccessHelper.operate(field, field -> field.set(instance, value));
+        if (staticFinalWriter != null) staticFinalWriter.set(null, value);
+        else accessibleField.set(instance, value);
     }
 
     /**
@@ -118,16 +129,11 @@ public class ReflectionFieldWrapper<T, V>
      * @throws NullPointerException if {@code object} is {@code null} but this field is not static
      */
     @Override
-    @SneakyThrows
-    @SuppressWarnings("unchecked")
     public V getAndUpdate(@Nullable final T instance, @Nullable final V value) {
-        return AccessHelper.operateAndGet(field, field -> {
-            val oldValue = (V) field.get(instance);
+        val oldValue = getValue(instance);
+        setValue(instance, value);
 
-            field.set(instance, value);
-
-            return oldValue;
-        });
+        return oldValue;
     }
 
 
@@ -145,16 +151,11 @@ public class ReflectionFieldWrapper<T, V>
      * @throws NullPointerException if {@code object} is {@code null} but this field is not static
      */
     @Override
-    @SneakyThrows
-    @SuppressWarnings("unchecked")
     public V getAndCompute(@Nullable final T instance, @NonNull final UnaryOperator<V> operator) {
-        return AccessHelper.operateAndGet(field, field -> {
-            val oldValue = (V) field.get(instance);
-
-            field.set(instance, operator.apply(oldValue));
+        val oldValue = getValue(instance);
+        setValue(instance, operator.apply(oldValue));
 
-            return oldValue;
-        });
+        return oldValue;
     }
 
     @Override
@@ -163,14 +164,11 @@ public class ReflectionFieldWrapper<T, V>
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public V computeAndGet(final T instance, final UnaryOperator<V> operator) {
-        return AccessHelper.operateAndGet(field, field -> {
-            val newValue = operator.apply((V) field.get(instance));
-            field.set(instance, newValue);
+        val newValue = operator.apply(getValue(instance));
+        setValue(instance, newValue);
 
-            return newValue;
-        });
+        return newValue;
     }
 
     @Override
@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.reflection;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import ru.progrm_jarvis.reflector.wrapper.FieldWrapper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Factory of reflection field wrappers choosing the implementation specialized for the field's type
+ */
+@UtilityClass
+public class ReflectionFieldWrappers {
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     * Fields of primitive types are wrapped by their primitive specializations
+     * (such as {@link ReflectionIntFieldWrapper} for {@code int}) and others by {@link ReflectionFieldWrapper}.
+     *
+     * @param field field to get wrapped
+     * @param <T> type containing this field
+     * @param <V> type of this field's value
+     * @return field wrapper created or got from cache
+     */
+    @SuppressWarnings("unchecked")
+    public <T, V> FieldWrapper<T, V> from(@NonNull final Field field) {
+        val type = field.getType();
+        if (!type.isPrimitive()) return ReflectionFieldWrapper.from(field);
+        if (type == boolean.class) return (FieldWrapper<T, V>) ReflectionBooleanFieldWrapper.<T>from(field);
+        if (type == byte.class) return (FieldWrapper<T, V>) ReflectionByteFieldWrapper.<T>from(field);
+        if (type == char.class) return (FieldWrapper<T, V>) ReflectionCharFieldWrapper.<T>from(field);
+        if (type == short.class) return (FieldWrapper<T, V>) ReflectionShortFieldWrapper.<T>from(field);
+        if (type == int.class) return (FieldWrapper<T, V>) ReflectionIntFieldWrapper.<T>from(field);
+        if (type == long.class) return (FieldWrapper<T, V>) ReflectionLongFieldWrapper.<T>from(field);
+        if (type == float.class) return (FieldWrapper<T, V>) ReflectionFloatFieldWrapper.<T>from(field);
+        return (FieldWrapper<T, V>) ReflectionDoubleFieldWrapper.<T>from(field);
+    }
+
+    /**
+     * Checks that the field is of the given type.
+     *
+     * @param field field to check
+     * @param type expected type of the field
+     * @throws IllegalArgumentException if the field is of other type
+     */
+    void checkType(@NonNull final Field field, @NonNull final Class<?> type) {
+        if (field.getType() != type) throw new IllegalArgumentException(
+                "Field " + field + " is not of type " + type.getName()
+        );
+    }
+
+    /**
+     * Checks whether the field is both {@code static} and {@code final}
+     * which means that it cannot be set even if it is accessible.
+     *
+     * @param field field to check
+     * @return {@code true} if the field is {@code static final} and {@code false} otherwise
+     */
+    boolean isStaticFinal(@NonNull final Field field) {
+        val modifiers = field.getModifiers();
+
+        return Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.reflection;
+
+import lombok.*;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.AccessHelper;
+import ru.progrm_jarvis.reflector.FinalFieldWriter;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.FloatFieldWrapper;
+
+import java.lang.reflect.Field;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class ReflectionFloatFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Float> implements FloatFieldWrapper<T>, ReflectionReflectorWrapper<Field> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, ReflectionFloatFieldWrapper<?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Copy of the field which is accessible
+     */
+    @Getter(AccessLevel.NONE) @NonNull private Field accessibleField;
+
+    /**
+     * Writer used if the field is {@code static final} so that it cannot be set via {@link #accessibleField},
+     * otherwise {@code null}
+     */
+    @Getter(AccessLevel.NONE) @Nullable private FinalFieldWriter staticFinalWriter;
+
+    protected ReflectionFloatFieldWrapper(@NonNull final Field field) {
+        super(field);
+
+        accessibleField = AccessHelper.accessibleCopy(field);
+        staticFinalWriter = ReflectionFieldWrappers.isStaticFinal(field) ? FinalFieldWriter.of(field) : null;
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field of type {@code float} to get wrapped
+     * @param <T> type containing this field
+     * @return field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is not of type {@code float}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ReflectionFloatFieldWrapper<T> from(@NonNull final Field field) {
+        ReflectionFieldWrappers.checkType(field, float.class);
+
+        return (ReflectionFloatFieldWrapper<T>) REGISTRY.get(field, ReflectionFloatFieldWrapper::new);
+    }
+
+    @Override
+    @SneakyThrows
+    public float getFloat(final T instance) {
+        return accessibleField.getFloat(instance);
+    }
+
+    @Override
+    public float getFloat() {
+        return getFloat(null);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setFloat(final T instance, final float value) {
+        if (staticFinalWriter != null) staticFinalWriter.setFloat(null, value);
+        else accessibleField.setFloat(instance, value);
+    }
+
+    @Override
+    public void setFloat(final float value) {
+        setFloat(null, value);
+    }
+}
@@ -16,19 +16,14 @@
 
 package ru.progrm_jarvis.reflector.wrapper.reflection;
 
-import com.google.common.cache.Cache;
-import lombok.EqualsAndHashCode;
-import lombok.NonNull;
-import lombok.SneakyThrows;
-import lombok.Value;
+import lombok.*;
 import org.jetbrains.annotations.Nullable;
 import ru.progrm_jarvis.reflector.AccessHelper;
-import ru.progrm_jarvis.reflector.util.Caches;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
 import ru.progrm_jarvis.reflector.wrapper.AbstractMethodWrapper;
 import ru.progrm_jarvis.reflector.wrapper.MethodWrapper;
 
 import java.lang.reflect.Method;
-import java.util.concurrent.ExecutionException;
 
 @Value
 @EqualsAndHashCode(callSuper = true)
@@ -36,12 +31,20 @@ public class ReflectionMethodWrapper<T, R>
         extends AbstractMethodWrapper<T, R> implements ReflectionReflectorWrapper<Method> {
 
     /**
-     * Cache of method wrappers
+     * Registry of method wrappers
      */
-    private static final Cache<Method, ReflectionMethodWrapper<?, ?>> CACHE = Caches.weakValuesCache();
+    private static final ClassMemberRegistry<Method, ReflectionMethodWrapper<?, ?>> REGISTRY
+            = ClassMemberRegistry.methods();
+
+    /**
+     * Copy of the method which is accessible
+     */
+    @Getter(AccessLevel.NONE) @NonNull private Method accessibleMethod;
 
     protected ReflectionMethodWrapper(@NonNull final Method method) {
         super(method);
+
+        accessibleMethod = AccessHelper.accessibleCopy(method);
     }
 
     /**
@@ -54,19 +57,14 @@ public class ReflectionMethodWrapper<T, R>
      */
     @SuppressWarnings("unchecked")
     public static <T, R> MethodWrapper<T, R> from(@NonNull final Method method) {
-        try {
-            return ((MethodWrapper<T, R>) CACHE
-                    .get(method, () -> new ReflectionMethodWrapper<>(method)));
-        } catch (final ExecutionException e) {
-            throw new RuntimeException("Could not obtain MethodWrapper<R> value methodHandleFrom cache");
-        }
+        return (MethodWrapper<T, R>) REGISTRY.get(method, ReflectionMethodWrapper::new);
     }
 
     @Override
     @SneakyThrows
     @SuppressWarnings("unchecked")
     public R invoke(@Nullable final T instance, @NonNull final Object... arguments) {
-        return AccessHelper.accessAndGet(method, method -> (R) method.invoke(instance, arguments));
+        return (R) accessibleMethod.invoke(instance, arguments);
     }
 
     @Override
@@ -0,0 +1,181 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.tiered;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractConstructorWrapper;
+import ru.progrm_jarvis.reflector.wrapper.ConstructorWrapper;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmConstructorWrapper;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmReflectorWrapper;
+import ru.progrm_jarvis.reflector.wrapper.reflection.ReflectionConstructorWrapper;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * {@link TieredReflectorWrapper Tiered} constructor wrapper which delegates to {@link ReflectionConstructorWrapper}
+ * until its invocations exceed the threshold and to {@link AsmConstructorWrapper} after that.
+ *
+ * @param <T> type of class whose constructor it is
+ */
+@EqualsAndHashCode(callSuper = true, of = "threshold")
+public class TieredConstructorWrapper<T>
+        extends AbstractConstructorWrapper<T> implements TieredReflectorWrapper<Constructor<T>> {
+
+    /**
+     * Registry of constructor wrappers using {@link TieredWrappers#DEFAULT_THRESHOLD default threshold}
+     */
+    private static final ClassMemberRegistry<Constructor<?>, TieredConstructorWrapper<?>> REGISTRY
+            = ClassMemberRegistry.constructors();
+
+    /**
+     * Number of invocations after which this wrapper switches to the generated accessor
+     */
+    private final int threshold;
+
+    /**
+     * Approximate number of invocations counted
+     *
+     * @see TieredReflectorWrapper counting of the uses
+     */
+    private int invocations;
+
+    /**
+     * Wrapper to which the invocations are delegated
+     */
+    @NonNull private volatile ConstructorWrapper<T> delegate;
+
+    /**
+     * Throwable thrown on attempt to generate the accessor
+     */
+    @Nullable private volatile Throwable upgradeFailure;
+
+    protected TieredConstructorWrapper(@NonNull final Constructor<T> constructor, final int threshold) {
+        super(constructor);
+
+        this.threshold = TieredWrappers.checkThreshold(threshold);
+        delegate = ReflectionConstructorWrapper.from(constructor);
+    }
+
+    /**
+     * Creates new constructor wrapper instance for the constructor given using {@link TieredWrappers#DEFAULT_THRESHOLD}
+     * or gets it from cache if one already exists.
+     *
+     * @param constructor constructor to get wrapped
+     * @param <T> type of class whose constructor it is
+     * @return constructor wrapper created or got from cache
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TieredConstructorWrapper<T> from(@NonNull final Constructor<T> constructor) {
+        return (TieredConstructorWrapper<T>) REGISTRY.get(
+                constructor, c -> new TieredConstructorWrapper<>(c, TieredWrappers.DEFAULT_THRESHOLD)
+        );
+    }
+
+    /**
+     * Creates new constructor wrapper instance for the constructor given using the specified threshold.
+     * Unlike {@link #from(Constructor)}, the created wrapper is not cached.
+     *
+     * @param constructor constructor to get wrapped
+     * @param threshold number of invocations after which the wrapper switches to the generated accessor
+     * @param <T> type of class whose constructor it is
+     * @return created constructor wrapper
+     * @throws IllegalArgumentException if the threshold is negative
+     */
+    public static <T> TieredConstructorWrapper<T> from(@NonNull final Constructor<T> constructor,
+                                                       final int threshold) {
+        return new TieredConstructorWrapper<>(constructor, threshold);
+    }
+
+    @Override
+    public boolean isUpgraded() {
+        return delegate instanceof AsmReflectorWrapper;
+    }
+
+    @Override
+    public Throwable getUpgradeFailure() {
+        return upgradeFailure;
+    }
+
+    /**
+     * Counts the invocation switching to the generated accessor if the threshold is exceeded.
+     *
+     * @return wrapper to which the invocation should be delegated
+     */
+    private ConstructorWrapper<T> delegate() {
+        if (invocations <= threshold && ++invocations > threshold) upgrade();
+
+        return delegate;
+    }
+
+    /**
+     * Switches to the generated accessor or stores the reason for which it cannot be generated.
+     */
+    private void upgrade() {
+        try {
+            delegate = AsmConstructorWrapper.from(constructor);
+        } catch (final Exception | LinkageError e) {
+            // reflection keeps being used if the accessor cannot be generated
+            upgradeFailure = e;
+        }
+    }
+
+    @Override
+    public T construct(@NonNull final Object... arguments) {
+        return delegate().construct(arguments);
+    }
+
+    @Override
+    public T construct0() {
+        return delegate().construct0();
+    }
+
+    @Override
+    public T construct1(final Object argument1) {
+        return delegate().construct1(argument1);
+    }
+
+    @Override
+    public T construct2(final Object argument1, final Object argument2) {
+        return delegate().construct2(argument1, argument2);
+    }
+
+    @Override
+    public T construct3(final Object argument1, final Object argument2, final Object argument3) {
+        return delegate().construct3(argument1, argument2, argument3);
+    }
+
+    @Override
+    public T construct4(final Object argument1, final Object argument2, final Object argument3,
+                        final Object argument4) {
+        return delegate().construct4(argument1, argument2, argument3, argument4);
+    }
+
+    @Override
+    public T construct5(final Object argument1, final Object argument2, final Object argument3, final Object argument4,
+                        final Object argument5) {
+        return delegate().construct5(argument1, argument2, argument3, argument4, argument5);
+    }
+
+    @Override
+    public T construct6(final Object argument1, final Object argument2, final Object argument3, final Object argument4,
+                        final Object argument5, final Object argument6) {
+        return delegate().construct6(argument1, argument2, argument3, argument4, argument5, argument6);
+    }
+}
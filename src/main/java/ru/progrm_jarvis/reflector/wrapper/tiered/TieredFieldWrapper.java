@@ -0,0 +1,160 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.tiered;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.FieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmReflectorWrapper;
+import ru.progrm_jarvis.reflector.wrapper.reflection.ReflectionFieldWrappers;
+
+import java.lang.reflect.Field;
+
+/**
+ * {@link TieredReflectorWrapper Tiered} field wrapper which delegates to
+ * {@link ReflectionFieldWrappers#from(Field) reflection field wrapper} until its accesses exceed the threshold
+ * and to {@link AsmFieldWrapper} after that.
+ *
+ * @param <T> type containing this field
+ * @param <V> type of this field's value
+ */
+@EqualsAndHashCode(callSuper = true, of = "threshold")
+public class TieredFieldWrapper<T, V> extends AbstractFieldWrapper<T, V> implements TieredReflectorWrapper<Field> {
+
+    /**
+     * Registry of field wrappers using {@link TieredWrappers#DEFAULT_THRESHOLD default threshold}
+     */
+    private static final ClassMemberRegistry<Field, TieredFieldWrapper<?, ?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Number of accesses after which this wrapper switches to the generated accessor
+     */
+    private final int threshold;
+
+    /**
+     * Approximate number of accesses counted
+     *
+     * @see TieredReflectorWrapper counting of the uses
+     */
+    private int accesses;
+
+    /**
+     * Wrapper to which the accesses are delegated
+     */
+    @NonNull private volatile FieldWrapper<T, V> delegate;
+
+    /**
+     * Throwable thrown on attempt to generate the accessor
+     */
+    @Nullable private volatile Throwable upgradeFailure;
+
+    protected TieredFieldWrapper(@NonNull final Field field, final int threshold) {
+        super(field);
+
+        this.threshold = TieredWrappers.checkThreshold(threshold);
+        delegate = ReflectionFieldWrappers.from(field);
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given using {@link TieredWrappers#DEFAULT_THRESHOLD}
+     * or gets it from cache if one already exists.
+     *
+     * @param field field to get wrapped
+     * @param <T> type containing this field
+     * @param <V> type of this field's value
+     * @return field wrapper created or got from cache
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> TieredFieldWrapper<T, V> from(@NonNull final Field field) {
+        return (TieredFieldWrapper<T, V>) REGISTRY.get(
+                field, f -> new TieredFieldWrapper<>(f, TieredWrappers.DEFAULT_THRESHOLD)
+        );
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given using the specified threshold.
+     * Unlike {@link #from(Field)}, the created wrapper is not cached.
+     *
+     * @param field field to get wrapped
+     * @param threshold number of accesses after which the wrapper switches to the generated accessor
+     * @param <T> type containing this field
+     * @param <V> type of this field's value
+     * @return created field wrapper
+     * @throws IllegalArgumentException if the threshold is negative
+     */
+    public static <T, V> TieredFieldWrapper<T, V> from(@NonNull final Field field, final int threshold) {
+        return new TieredFieldWrapper<>(field, threshold);
+    }
+
+    @Override
+    public boolean isUpgraded() {
+        return delegate instanceof AsmReflectorWrapper;
+    }
+
+    @Override
+    public Throwable getUpgradeFailure() {
+        return upgradeFailure;
+    }
+
+    /**
+     * Counts the access switching to the generated accessor if the threshold is exceeded.
+     *
+     * @return wrapper to which the access should be delegated
+     */
+    private FieldWrapper<T, V> delegate() {
+        if (accesses <= threshold && ++accesses > threshold) upgrade();
+
+        return delegate;
+    }
+
+    /**
+     * Switches to the generated accessor or stores the reason for which it cannot be generated.
+     */
+    private void upgrade() {
+        try {
+            delegate = AsmFieldWrapper.from(field);
+        } catch (final Exception | LinkageError e) {
+            // reflection keeps being used if the accessor cannot be generated
+            upgradeFailure = e;
+        }
+    }
+
+    @Override
+    public V getValue(final T instance) {
+        return delegate().getValue(instance);
+    }
+
+    @Override
+    public V getValue() {
+        return delegate().getValue();
+    }
+
+    @Override
+    public void setValue(final T instance, final V value) {
+        delegate().setValue(instance, value);
+    }
+
+    @Override
+    public void setValue(final V value) {
+        delegate().setValue(value);
+    }
+}
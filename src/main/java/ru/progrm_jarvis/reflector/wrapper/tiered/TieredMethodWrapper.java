@@ -0,0 +1,187 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.tiered;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractMethodWrapper;
+import ru.progrm_jarvis.reflector.wrapper.MethodWrapper;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmMethodWrapper;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmReflectorWrapper;
+import ru.progrm_jarvis.reflector.wrapper.reflection.ReflectionMethodWrapper;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link TieredReflectorWrapper Tiered} method wrapper which delegates to {@link ReflectionMethodWrapper}
+ * until its invocations exceed the threshold and to {@link AsmMethodWrapper} after that.
+ *
+ * @param <T> type containing this method
+ * @param <R> type of value returned by this method
+ */
+@EqualsAndHashCode(callSuper = true, of = "threshold")
+public class TieredMethodWrapper<T, R> extends AbstractMethodWrapper<T, R> implements TieredReflectorWrapper<Method> {
+
+    /**
+     * Registry of method wrappers using {@link TieredWrappers#DEFAULT_THRESHOLD default threshold}
+     */
+    private static final ClassMemberRegistry<Method, TieredMethodWrapper<?, ?>> REGISTRY
+            = ClassMemberRegistry.methods();
+
+    /**
+     * Number of invocations after which this wrapper switches to the generated accessor
+     */
+    private final int threshold;
+
+    /**
+     * Approximate number of invocations counted
+     *
+     * @see TieredReflectorWrapper counting of the uses
+     */
+    private int invocations;
+
+    /**
+     * Wrapper to which the invocations are delegated
+     */
+    @NonNull private volatile MethodWrapper<T, R> delegate;
+
+    /**
+     * Throwable thrown on attempt to generate the accessor
+     */
+    @Nullable private volatile Throwable upgradeFailure;
+
+    protected TieredMethodWrapper(@NonNull final Method method, final int threshold) {
+        super(method);
+
+        this.threshold = TieredWrappers.checkThreshold(threshold);
+        delegate = ReflectionMethodWrapper.from(method);
+    }
+
+    /**
+     * Creates new method wrapper instance for the method given using {@link TieredWrappers#DEFAULT_THRESHOLD}
+     * or gets it from cache if one already exists.
+     *
+     * @param method method to get wrapped
+     * @param <T> type containing this method
+     * @param <R> type of value returned by this method
+     * @return method wrapper created or got from cache
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> TieredMethodWrapper<T, R> from(@NonNull final Method method) {
+        return (TieredMethodWrapper<T, R>) REGISTRY.get(
+                method, m -> new TieredMethodWrapper<>(m, TieredWrappers.DEFAULT_THRESHOLD)
+        );
+    }
+
+    /**
+     * Creates new method wrapper instance for the method given using the specified threshold.
+     * Unlike {@link #from(Method)}, the created wrapper is not cached.
+     *
+     * @param method method to get wrapped
+     * @param threshold number of invocations after which the wrapper switches to the generated accessor
+     * @param <T> type containing this method
+     * @param <R> type of value returned by this method
+     * @return created method wrapper
+     * @throws IllegalArgumentException if the threshold is negative
+     */
+    public static <T, R> TieredMethodWrapper<T, R> from(@NonNull final Method method, final int threshold) {
+        return new TieredMethodWrapper<>(method, threshold);
+    }
+
+    @Override
+    public boolean isUpgraded() {
+        return delegate instanceof AsmReflectorWrapper;
+    }
+
+    @Override
+    public Throwable getUpgradeFailure() {
+        return upgradeFailure;
+    }
+
+    /**
+     * Counts the invocation switching to the generated accessor if the threshold is exceeded.
+     *
+     * @return wrapper to which the invocation should be delegated
+     */
+    private MethodWrapper<T, R> delegate() {
+        if (invocations <= threshold && ++invocations > threshold) upgrade();
+
+        return delegate;
+    }
+
+    /**
+     * Switches to the generated accessor or stores the reason for which it cannot be generated.
+     */
+    private void upgrade() {
+        try {
+            delegate = AsmMethodWrapper.from(method);
+        } catch (final Exception | LinkageError e) {
+            // reflection keeps being used if the accessor cannot be generated
+            upgradeFailure = e;
+        }
+    }
+
+    @Override
+    public R invoke(final T instance, @NonNull final Object... arguments) {
+        return delegate().invoke(instance, arguments);
+    }
+
+    @Override
+    public R invokeStatic(@NonNull final Object... arguments) {
+        return delegate().invokeStatic(arguments);
+    }
+
+    @Override
+    public R invoke0(final T instance) {
+        return delegate().invoke0(instance);
+    }
+
+    @Override
+    public R invoke1(final T instance, final Object argument1) {
+        return delegate().invoke1(instance, argument1);
+    }
+
+    @Override
+    public R invoke2(final T instance, final Object argument1, final Object argument2) {
+        return delegate().invoke2(instance, argument1, argument2);
+    }
+
+    @Override
+    public R invoke3(final T instance, final Object argument1, final Object argument2, final Object argument3) {
+        return delegate().invoke3(instance, argument1, argument2, argument3);
+    }
+
+    @Override
+    public R invoke4(final T instance, final Object argument1, final Object argument2, final Object argument3,
+                     final Object argument4) {
+        return delegate().invoke4(instance, argument1, argument2, argument3, argument4);
+    }
+
+    @Override
+    public R invoke5(final T instance, final Object argument1, final Object argument2, final Object argument3,
+                     final Object argument4, final Object argument5) {
+        return delegate().invoke5(instance, argument1, argument2, argument3, argument4, argument5);
+    }
+
+    @Override
+    public R invoke6(final T instance, final Object argument1, final Object argument2, final Object argument3,
+                     final Object argument4, final Object argument5, final Object argument6) {
+        return delegate().invoke6(instance, argument1, argument2, argument3, argument4, argument5, argument6);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.tiered;
+
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.wrapper.ReflectorWrapper;
+
+/**
+ * A {@link ReflectorWrapper<T>} implementation which uses reflection until it is invoked
+ * more times than its threshold allows and then switches to a generated accessor
+ * (similarly to inflation of reflective accessors performed by JVM itself)
+ * so that members used rarely do not cause classes to be generated
+ * <p>
+ * The uses are counted by a plain (non-volatile and non-atomic) counter as this is done on every use
+ * while the threshold is only a heuristic. So the count is intentionally approximate:
+ * increments performed concurrently may get lost which only delays the switch,
+ * and the switch may be attempted by several threads at once which is harmless as generated accessors are cached.
+ * The counter stops being updated once the threshold is exceeded so that it cannot overflow.
+ *
+ * @param <T> {@inheritDoc}
+ *
+ * @see ru.progrm_jarvis.reflector.wrapper.asm.AsmReflectorWrapper
+ */
+public interface TieredReflectorWrapper<T> extends ReflectorWrapper<T> {
+
+    /**
+     * Checks whether this wrapper has switched to a generated accessor.
+     *
+     * @return {@code true} if this wrapper uses a generated accessor and {@code false} if it uses reflection
+     */
+    boolean isUpgraded();
+
+    /**
+     * Gets the reason for which this wrapper could not switch to a generated accessor and keeps using reflection.
+     *
+     * @return throwable thrown on attempt to generate the accessor
+     * or {@code null} if there was no such attempt or it was successful
+     */
+    @Nullable Throwable getUpgradeFailure();
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.tiered;
+
+import lombok.experimental.UtilityClass;
+import ru.progrm_jarvis.reflector.util.ObjectUtil;
+
+/**
+ * Utilities common for {@link TieredReflectorWrapper tiered wrappers}.
+ */
+@UtilityClass
+public class TieredWrappers {
+
+    /**
+     * Number of invocations after which tiered wrappers created without explicit threshold
+     * switch to generated accessors, it can be changed using system property
+     * {@code ru.progrm_jarvis.reflector.wrapper.tiered.TieredWrappers.Threshold}
+     */
+    public final int DEFAULT_THRESHOLD = Integer.parseInt(ObjectUtil.orDefault(System.getProperty(
+            TieredWrappers.class.getName().concat(".Threshold")), "15"
+    ));
+
+    /**
+     * Checks that the threshold is valid.
+     *
+     * @param threshold number of invocations after which a wrapper should switch to a generated accessor
+     * @return the given threshold
+     * @throws IllegalArgumentException if the threshold is negative
+     */
+    int checkThreshold(final int threshold) {
+        if (threshold < 0) throw new IllegalArgumentException("Threshold should be non-negative, got " + threshold);
+
+        return threshold;
+    }
+}
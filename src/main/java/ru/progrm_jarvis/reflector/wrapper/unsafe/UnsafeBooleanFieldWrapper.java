@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.unsafe;
+
+import lombok.*;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.UnsafeUtil;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.BooleanFieldWrapper;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class UnsafeBooleanFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Boolean> implements BooleanFieldWrapper<T>, UnsafeReflectorWrapper<Field> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, UnsafeBooleanFieldWrapper<?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Unsafe used for accessing the field
+     */
+    private static final Unsafe UNSAFE = UnsafeUtil.UNSAFE;
+
+    /**
+     * Base of the field if it is static or {@code null} otherwise
+     */
+    @Getter(AccessLevel.NONE) @Nullable private Object staticBase;
+
+    /**
+     * Offset of the field
+     */
+    @Getter(AccessLevel.NONE) private long offset;
+
+    protected UnsafeBooleanFieldWrapper(@NonNull final Field field) {
+        super(field);
+
+        staticBase = UnsafeFieldWrappers.staticBase(field);
+        offset = UnsafeFieldWrappers.offset(field);
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field of type {@code boolean} to get wrapped
+     * @param <T> type containing this field
+     * @return field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is not of type {@code boolean}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> UnsafeBooleanFieldWrapper<T> from(@NonNull final Field field) {
+        UnsafeFieldWrappers.checkType(field, boolean.class);
+
+        return (UnsafeBooleanFieldWrapper<T>) REGISTRY.get(field, UnsafeBooleanFieldWrapper::new);
+    }
+
+    @Override
+    public boolean getBoolean(final T instance) {
+        return UNSAFE.getBoolean(UnsafeFieldWrappers.target(staticBase, instance, field), offset);
+    }
+
+    @Override
+    public boolean getBoolean() {
+        return getBoolean(null);
+    }
+
+    @Override
+    public void setBoolean(final T instance, final boolean value) {
+        UNSAFE.putBoolean(UnsafeFieldWrappers.target(staticBase, instance, field), offset, value);
+    }
+
+    @Override
+    public void setBoolean(final boolean value) {
+        setBoolean(null, value);
+    }
+
+    /**
+     * Gets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is get, ignored if this field is static
+     * @return value of this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    public boolean getBooleanVolatile(final T instance) {
+        return UNSAFE.getBooleanVolatile(UnsafeFieldWrappers.target(staticBase, instance, field), offset);
+    }
+
+    /**
+     * Sets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is set, ignored if this field is static
+     * @param value value to set to this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    public void setBooleanVolatile(final T instance, final boolean value) {
+        UNSAFE.putBooleanVolatile(UnsafeFieldWrappers.target(staticBase, instance, field), offset, value);
+    }
+}
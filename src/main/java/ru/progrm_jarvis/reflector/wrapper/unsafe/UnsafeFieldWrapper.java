@@ -0,0 +1,202 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.unsafe;
+
+import lombok.*;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.UnsafeUtil;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.AtomicFieldWrapper;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.util.function.UnaryOperator;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class UnsafeFieldWrapper<T, V>
+        extends AbstractFieldWrapper<T, V> implements AtomicFieldWrapper<T, V>, UnsafeReflectorWrapper<Field> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, UnsafeFieldWrapper<?, ?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Unsafe used for accessing the field
+     */
+    private static final Unsafe UNSAFE = UnsafeUtil.UNSAFE;
+
+    /**
+     * Base of the field if it is static or {@code null} otherwise
+     */
+    @Getter(AccessLevel.NONE) @Nullable private Object staticBase;
+
+    /**
+     * Offset of the field
+     */
+    @Getter(AccessLevel.NONE) private long offset;
+
+    /**
+     * Type of the field used for checking the values set to it
+     */
+    @Getter(AccessLevel.NONE) private Class<?> type;
+
+    protected UnsafeFieldWrapper(@NonNull final Field field) {
+        super(field);
+
+        type = field.getType();
+
+        staticBase = UnsafeFieldWrappers.staticBase(field);
+        offset = UnsafeFieldWrappers.offset(field);
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field of non-primitive type to get wrapped
+     * @param <T> type containing this field
+     * @param <V> type of this field's value
+     * @return field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is of primitive type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> UnsafeFieldWrapper<T, V> from(@NonNull final Field field) {
+        if (field.getType().isPrimitive()) throw new IllegalArgumentException(
+                "Field " + field + " is of primitive type " + field.getType().getName()
+        );
+
+        return (UnsafeFieldWrapper<T, V>) REGISTRY.get(field, UnsafeFieldWrapper::new);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValue(final T instance) {
+        return (V) UNSAFE.getObject(UnsafeFieldWrappers.target(staticBase, instance, field), offset);
+    }
+
+    @Override
+    public V getValue() {
+        return getValue(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the value is not an instance of this field's type
+     */
+    @Override
+    public void setValue(final T instance, final V value) {
+        UNSAFE.putObject(UnsafeFieldWrappers.target(staticBase, instance, field), offset, type.cast(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the value is not an instance of this field's type
+     */
+    @Override
+    public void setValue(final V value) {
+        setValue(null, value);
+    }
+
+    /**
+     * Gets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is get, ignored if this field is static
+     * @return value of this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    @SuppressWarnings("unchecked")
+    public V getValueVolatile(final T instance) {
+        return (V) UNSAFE.getObjectVolatile(UnsafeFieldWrappers.target(staticBase, instance, field), offset);
+    }
+
+    /**
+     * Sets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is set, ignored if this field is static
+     * @param value value to set to this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     * @throws ClassCastException if the value is not an instance of this field's type
+     */
+    public void setValueVolatile(final T instance, final V value) {
+        UNSAFE.putObjectVolatile(UnsafeFieldWrappers.target(staticBase, instance, field), offset, type.cast(value));
+    }
+
+    /**
+     * Sets value of this field without guaranteeing its immediate visibility to other threads
+     * but preventing it from being reordered with previous writes (as {@code lazySet} of atomics).
+     *
+     * @param instance instance of which field's value is set, ignored if this field is static
+     * @param value value to set to this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     * @throws ClassCastException if the value is not an instance of this field's type
+     */
+    public void setValueOrdered(final T instance, final V value) {
+        UNSAFE.putOrderedObject(UnsafeFieldWrappers.target(staticBase, instance, field), offset, type.cast(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the value is not an instance of this field's type
+     */
+    @Override
+    public boolean compareAndSet(final T instance, final V expectedValue, final V value) {
+        return UNSAFE.compareAndSwapObject(
+                UnsafeFieldWrappers.target(staticBase, instance, field), offset, expectedValue, type.cast(value)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ClassCastException if the value is not an instance of this field's type
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getAndSet(final T instance, final V value) {
+        return (V) UNSAFE.getAndSetObject(
+                UnsafeFieldWrappers.target(staticBase, instance, field), offset, type.cast(value)
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getAndCompute(final T instance, @NonNull final UnaryOperator<V> operator) {
+        val target = UnsafeFieldWrappers.target(staticBase, instance, field);
+        V previousValue;
+        do previousValue = (V) UNSAFE.getObjectVolatile(target, offset);
+        while (!UNSAFE.compareAndSwapObject(target, offset, previousValue, type.cast(operator.apply(previousValue))));
+
+        return previousValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V computeAndGet(final T instance, @NonNull final UnaryOperator<V> operator) {
+        val target = UnsafeFieldWrappers.target(staticBase, instance, field);
+        V previousValue, newValue;
+        do newValue = (V) type.cast(operator.apply(previousValue = (V) UNSAFE.getObjectVolatile(target, offset)));
+        while (!UNSAFE.compareAndSwapObject(target, offset, previousValue, newValue));
+
+        return newValue;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.unsafe;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.UnsafeUtil;
+import ru.progrm_jarvis.reflector.wrapper.AtomicFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.FieldWrapper;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Factory of {@link Unsafe}-based field wrappers choosing the implementation specialized for the field's type.
+ * <p>
+ * Offsets of fields are resolved once when their wrappers are created and then used
+ * for accessing the fields' memory directly. As the offsets are only valid for the fields' declaring classes,
+ * on access to non-static fields the instance is checked not to be {@code null} (throwing
+ * {@link NullPointerException}) and to be an instance of the declaring class (throwing {@link ClassCastException}),
+ * while values written to non-primitive fields are checked to be of the field's type
+ * (throwing {@link ClassCastException}). Other checks (such as of the fields being final) are not performed.
+ */
+@UtilityClass
+public class UnsafeFieldWrappers {
+
+    /**
+     * Unsafe used for accessing fields
+     */
+    private final Unsafe UNSAFE = UnsafeUtil.UNSAFE;
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     * Fields of primitive types are wrapped by their primitive specializations
+     * (such as {@link UnsafeIntFieldWrapper} for {@code int}) and others by {@link UnsafeFieldWrapper}.
+     *
+     * @param field field to get wrapped
+     * @param <T> type containing this field
+     * @param <V> type of this field's value
+     * @return field wrapper created or got from cache
+     * @throws UnsupportedOperationException if {@link Unsafe} is not available
+     */
+    @SuppressWarnings("unchecked")
+    public <T, V> FieldWrapper<T, V> from(@NonNull final Field field) {
+        val type = field.getType();
+        if (!type.isPrimitive()) return UnsafeFieldWrapper.from(field);
+        if (type == boolean.class) return (FieldWrapper<T, V>) UnsafeBooleanFieldWrapper.<T>from(field);
+        if (type == byte.class) return (FieldWrapper<T, V>) UnsafeByteFieldWrapper.<T>from(field);
+        if (type == char.class) return (FieldWrapper<T, V>) UnsafeCharFieldWrapper.<T>from(field);
+        if (type == short.class) return (FieldWrapper<T, V>) UnsafeShortFieldWrapper.<T>from(field);
+        if (type == int.class) return (FieldWrapper<T, V>) UnsafeIntFieldWrapper.<T>from(field);
+        if (type == long.class) return (FieldWrapper<T, V>) UnsafeLongFieldWrapper.<T>from(field);
+        if (type == float.class) return (FieldWrapper<T, V>) UnsafeFloatFieldWrapper.<T>from(field);
+        return (FieldWrapper<T, V>) UnsafeDoubleFieldWrapper.<T>from(field);
+    }
+
+    /**
+     * Creates new atomic field wrapper instance for the field given or gets it from cache if one already exists.
+     * Fields of types {@code int} and {@code long} are wrapped by their primitive specializations
+     * ({@link UnsafeIntFieldWrapper} and {@link UnsafeLongFieldWrapper}) and non-primitive ones
+     * by {@link UnsafeFieldWrapper}.
+     *
+     * @param field field to get wrapped
+     * @param <T> type containing this field
+     * @param <V> type of this field's value
+     * @return atomic field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is of primitive type other than {@code int} or {@code long}
+     * @throws UnsupportedOperationException if {@link Unsafe} is not available
+     */
+    @SuppressWarnings("unchecked")
+    public <T, V> AtomicFieldWrapper<T, V> atomicFrom(@NonNull final Field field) {
+        val type = field.getType();
+        if (!type.isPrimitive()) return UnsafeFieldWrapper.from(field);
+        if (type == int.class) return (AtomicFieldWrapper<T, V>) UnsafeIntFieldWrapper.<T>from(field);
+        if (type == long.class) return (AtomicFieldWrapper<T, V>) UnsafeLongFieldWrapper.<T>from(field);
+
+        throw new IllegalArgumentException("Field " + field + " of type " + type.getName() + " cannot be atomic");
+    }
+
+    /**
+     * Checks that the field is of the given type.
+     *
+     * @param field field to check
+     * @param type expected type of the field
+     * @throws IllegalArgumentException if the field is of other type
+     */
+    void checkType(@NonNull final Field field, @NonNull final Class<?> type) {
+        if (field.getType() != type) throw new IllegalArgumentException(
+                "Field " + field + " is not of type " + type.getName()
+        );
+    }
+
+    /**
+     * Gets the base of the field initializing its declaring class if it is static.
+     *
+     * @param field field whose base to get
+     * @return the base of the field if it is static or {@code null} otherwise
+     * @throws UnsupportedOperationException if {@link Unsafe} is not available
+     */
+    @Nullable
+    Object staticBase(@NonNull final Field field) {
+        if (UNSAFE == null) throw new UnsupportedOperationException("Unsafe is not available");
+        if (!Modifier.isStatic(field.getModifiers())) return null;
+
+        // the static base and offset may only be used after the class has been initialized
+        UNSAFE.ensureClassInitialized(field.getDeclaringClass());
+
+        return UNSAFE.staticFieldBase(field);
+    }
+
+    /**
+     * Gets the offset of the field.
+     *
+     * @param field field whose offset to get
+     * @return offset of the field
+     * @throws UnsupportedOperationException if {@link Unsafe} is not available
+     */
+    long offset(@NonNull final Field field) {
+        if (UNSAFE == null) throw new UnsupportedOperationException("Unsafe is not available");
+
+        return Modifier.isStatic(field.getModifiers())
+                ? UNSAFE.staticFieldOffset(field) : UNSAFE.objectFieldOffset(field);
+    }
+
+    /**
+     * Gets the object to which the field belongs.
+     *
+     * @param staticBase base of the field if it is static or {@code null} otherwise
+     * @param instance instance whose field is accessed, ignored if the field is static
+     * @param field accessed field
+     * @return the base of the field if it is static or the instance otherwise
+     * @throws NullPointerException if {@code instance} is {@code null} but the field is not static
+     * @throws ClassCastException if {@code instance} is not an instance of the class declaring the field
+     */
+    Object target(@Nullable final Object staticBase, @Nullable final Object instance, final Field field) {
+        if (staticBase != null) return staticBase;
+        // null instance would make Unsafe treat the offset as an absolute address
+        if (instance == null) throw new NullPointerException("Instance is null but field " + field + " is not static");
+
+        // the offset is only valid for instances of the declaring class so others' memory would get corrupted
+        return field.getDeclaringClass().cast(instance);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.unsafe;
+
+import lombok.*;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.UnsafeUtil;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.FloatFieldWrapper;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class UnsafeFloatFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Float> implements FloatFieldWrapper<T>, UnsafeReflectorWrapper<Field> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, UnsafeFloatFieldWrapper<?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Unsafe used for accessing the field
+     */
+    private static final Unsafe UNSAFE = UnsafeUtil.UNSAFE;
+
+    /**
+     * Base of the field if it is static or {@code null} otherwise
+     */
+    @Getter(AccessLevel.NONE) @Nullable private Object staticBase;
+
+    /**
+     * Offset of the field
+     */
+    @Getter(AccessLevel.NONE) private long offset;
+
+    protected UnsafeFloatFieldWrapper(@NonNull final Field field) {
+        super(field);
+
+        staticBase = UnsafeFieldWrappers.staticBase(field);
+        offset = UnsafeFieldWrappers.offset(field);
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field of type {@code float} to get wrapped
+     * @param <T> type containing this field
+     * @return field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is not of type {@code float}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> UnsafeFloatFieldWrapper<T> from(@NonNull final Field field) {
+        UnsafeFieldWrappers.checkType(field, float.class);
+
+        return (UnsafeFloatFieldWrapper<T>) REGISTRY.get(field, UnsafeFloatFieldWrapper::new);
+    }
+
+    @Override
+    public float getFloat(final T instance) {
+        return UNSAFE.getFloat(UnsafeFieldWrappers.target(staticBase, instance, field), offset);
+    }
+
+    @Override
+    public float getFloat() {
+        return getFloat(null);
+    }
+
+    @Override
+    public void setFloat(final T instance, final float value) {
+        UNSAFE.putFloat(UnsafeFieldWrappers.target(staticBase, instance, field), offset, value);
+    }
+
+    @Override
+    public void setFloat(final float value) {
+        setFloat(null, value);
+    }
+
+    /**
+     * Gets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is get, ignored if this field is static
+     * @return value of this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    public float getFloatVolatile(final T instance) {
+        return UNSAFE.getFloatVolatile(UnsafeFieldWrappers.target(staticBase, instance, field), offset);
+    }
+
+    /**
+     * Sets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is set, ignored if this field is static
+     * @param value value to set to this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    public void setFloatVolatile(final T instance, final float value) {
+        UNSAFE.putFloatVolatile(UnsafeFieldWrappers.target(staticBase, instance, field), offset, value);
+    }
+}
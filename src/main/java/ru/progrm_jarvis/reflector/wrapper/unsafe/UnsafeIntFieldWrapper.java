@@ -0,0 +1,168 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.unsafe;
+
+import lombok.*;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.UnsafeUtil;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.AtomicIntFieldWrapper;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.util.function.IntUnaryOperator;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class UnsafeIntFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Integer> implements AtomicIntFieldWrapper<T>, UnsafeReflectorWrapper<Field> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, UnsafeIntFieldWrapper<?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Unsafe used for accessing the field
+     */
+    private static final Unsafe UNSAFE = UnsafeUtil.UNSAFE;
+
+    /**
+     * Base of the field if it is static or {@code null} otherwise
+     */
+    @Getter(AccessLevel.NONE) @Nullable private Object staticBase;
+
+    /**
+     * Offset of the field
+     */
+    @Getter(AccessLevel.NONE) private long offset;
+
+    protected UnsafeIntFieldWrapper(@NonNull final Field field) {
+        super(field);
+
+        staticBase = UnsafeFieldWrappers.staticBase(field);
+        offset = UnsafeFieldWrappers.offset(field);
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field of type {@code int} to get wrapped
+     * @param <T> type containing this field
+     * @return field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is not of type {@code int}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> UnsafeIntFieldWrapper<T> from(@NonNull final Field field) {
+        UnsafeFieldWrappers.checkType(field, int.class);
+
+        return (UnsafeIntFieldWrapper<T>) REGISTRY.get(field, UnsafeIntFieldWrapper::new);
+    }
+
+    @Override
+    public int getInt(final T instance) {
+        return UNSAFE.getInt(UnsafeFieldWrappers.target(staticBase, instance, field), offset);
+    }
+
+    @Override
+    public int getInt() {
+        return getInt(null);
+    }
+
+    @Override
+    public void setInt(final T instance, final int value) {
+        UNSAFE.putInt(UnsafeFieldWrappers.target(staticBase, instance, field), offset, value);
+    }
+
+    @Override
+    public void setInt(final int value) {
+        setInt(null, value);
+    }
+
+    /**
+     * Gets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is get, ignored if this field is static
+     * @return value of this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    public int getIntVolatile(final T instance) {
+        return UNSAFE.getIntVolatile(UnsafeFieldWrappers.target(staticBase, instance, field), offset);
+    }
+
+    /**
+     * Sets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is set, ignored if this field is static
+     * @param value value to set to this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    public void setIntVolatile(final T instance, final int value) {
+        UNSAFE.putIntVolatile(UnsafeFieldWrappers.target(staticBase, instance, field), offset, value);
+    }
+
+    /**
+     * Sets value of this field without guaranteeing its immediate visibility to other threads
+     * but preventing it from being reordered with previous writes (as {@code lazySet} of atomics).
+     *
+     * @param instance instance of which field's value is set, ignored if this field is static
+     * @param value value to set to this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    public void setIntOrdered(final T instance, final int value) {
+        UNSAFE.putOrderedInt(UnsafeFieldWrappers.target(staticBase, instance, field), offset, value);
+    }
+
+    @Override
+    public boolean compareAndSetInt(final T instance, final int expectedValue, final int value) {
+        return UNSAFE.compareAndSwapInt(
+                UnsafeFieldWrappers.target(staticBase, instance, field), offset, expectedValue, value
+        );
+    }
+
+    @Override
+    public int getAndSetInt(final T instance, final int value) {
+        return UNSAFE.getAndSetInt(UnsafeFieldWrappers.target(staticBase, instance, field), offset, value);
+    }
+
+    @Override
+    public int getAndAddInt(final T instance, final int delta) {
+        return UNSAFE.getAndAddInt(UnsafeFieldWrappers.target(staticBase, instance, field), offset, delta);
+    }
+
+    @Override
+    public int getAndComputeInt(final T instance, @NonNull final IntUnaryOperator operator) {
+        val target = UnsafeFieldWrappers.target(staticBase, instance, field);
+        int previousValue;
+        do previousValue = UNSAFE.getIntVolatile(target, offset);
+        while (!UNSAFE.compareAndSwapInt(target, offset, previousValue, operator.applyAsInt(previousValue)));
+
+        return previousValue;
+    }
+
+    @Override
+    public int computeAndGetInt(final T instance, @NonNull final IntUnaryOperator operator) {
+        val target = UnsafeFieldWrappers.target(staticBase, instance, field);
+        int previousValue, newValue;
+        do newValue = operator.applyAsInt(previousValue = UNSAFE.getIntVolatile(target, offset));
+        while (!UNSAFE.compareAndSwapInt(target, offset, previousValue, newValue));
+
+        return newValue;
+    }
+}
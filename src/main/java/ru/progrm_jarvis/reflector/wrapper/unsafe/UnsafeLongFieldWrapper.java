@@ -0,0 +1,168 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.unsafe;
+
+import lombok.*;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.reflector.UnsafeUtil;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.AtomicLongFieldWrapper;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.util.function.LongUnaryOperator;
+
+@Value
+@EqualsAndHashCode(callSuper = true)
+public class UnsafeLongFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Long> implements AtomicLongFieldWrapper<T>, UnsafeReflectorWrapper<Field> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, UnsafeLongFieldWrapper<?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Unsafe used for accessing the field
+     */
+    private static final Unsafe UNSAFE = UnsafeUtil.UNSAFE;
+
+    /**
+     * Base of the field if it is static or {@code null} otherwise
+     */
+    @Getter(AccessLevel.NONE) @Nullable private Object staticBase;
+
+    /**
+     * Offset of the field
+     */
+    @Getter(AccessLevel.NONE) private long offset;
+
+    protected UnsafeLongFieldWrapper(@NonNull final Field field) {
+        super(field);
+
+        staticBase = UnsafeFieldWrappers.staticBase(field);
+        offset = UnsafeFieldWrappers.offset(field);
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field of type {@code long} to get wrapped
+     * @param <T> type containing this field
+     * @return field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is not of type {@code long}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> UnsafeLongFieldWrapper<T> from(@NonNull final Field field) {
+        UnsafeFieldWrappers.checkType(field, long.class);
+
+        return (UnsafeLongFieldWrapper<T>) REGISTRY.get(field, UnsafeLongFieldWrapper::new);
+    }
+
+    @Override
+    public long getLong(final T instance) {
+        return UNSAFE.getLong(UnsafeFieldWrappers.target(staticBase, instance, field), offset);
+    }
+
+    @Override
+    public long getLong() {
+        return getLong(null);
+    }
+
+    @Override
+    public void setLong(final T instance, final long value) {
+        UNSAFE.putLong(UnsafeFieldWrappers.target(staticBase, instance, field), offset, value);
+    }
+
+    @Override
+    public void setLong(final long value) {
+        setLong(null, value);
+    }
+
+    /**
+     * Gets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is get, ignored if this field is static
+     * @return value of this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    public long getLongVolatile(final T instance) {
+        return UNSAFE.getLongVolatile(UnsafeFieldWrappers.target(staticBase, instance, field), offset);
+    }
+
+    /**
+     * Sets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is set, ignored if this field is static
+     * @param value value to set to this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    public void setLongVolatile(final T instance, final long value) {
+        UNSAFE.putLongVolatile(UnsafeFieldWrappers.target(staticBase, instance, field), offset, value);
+    }
+
+    /**
+     * Sets value of this field without guaranteeing its immediate visibility to other threads
+     * but preventing it from being reordered with previous writes (as {@code lazySet} of atomics).
+     *
+     * @param instance instance of which field's value is set, ignored if this field is static
+     * @param value value to set to this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    public void setLongOrdered(final T instance, final long value) {
+        UNSAFE.putOrderedLong(UnsafeFieldWrappers.target(staticBase, instance, field), offset, value);
+    }
+
+    @Override
+    public boolean compareAndSetLong(final T instance, final long expectedValue, final long value) {
+        return UNSAFE.compareAndSwapLong(
+                UnsafeFieldWrappers.target(staticBase, instance, field), offset, expectedValue, value
+        );
+    }
+
+    @Override
+    public long getAndSetLong(final T instance, final long value) {
+        return UNSAFE.getAndSetLong(UnsafeFieldWrappers.target(staticBase, instance, field), offset, value);
+    }
+
+    @Override
+    public long getAndAddLong(final T instance, final long delta) {
+        return UNSAFE.getAndAddLong(UnsafeFieldWrappers.target(staticBase, instance, field), offset, delta);
+    }
+
+    @Override
+    public long getAndComputeLong(final T instance, @NonNull final LongUnaryOperator operator) {
+        val target = UnsafeFieldWrappers.target(staticBase, instance, field);
+        long previousValue;
+        do previousValue = UNSAFE.getLongVolatile(target, offset);
+        while (!UNSAFE.compareAndSwapLong(target, offset, previousValue, operator.applyAsLong(previousValue)));
+
+        return previousValue;
+    }
+
+    @Override
+    public long computeAndGetLong(final T instance, @NonNull final LongUnaryOperator operator) {
+        val target = UnsafeFieldWrappers.target(staticBase, instance, field);
+        long previousValue, newValue;
+        do newValue = operator.applyAsLong(previousValue = UNSAFE.getLongVolatile(target, offset));
+        while (!UNSAFE.compareAndSwapLong(target, offset, previousValue, newValue));
+
+        return newValue;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.unsafe;
+
+import ru.progrm_jarvis.reflector.wrapper.ReflectorWrapper;
+
+
+/**
+ * An {@link sun.misc.Unsafe}-based {@link ReflectorWrapper<T>} implementation for direct access to memory
+ * of reflection-related objects without performing any access or type checks
+ *
+ * @param <T> {@inheritDoc}
+ *
+ * @see sun.misc.Unsafe
+ */
+public interface UnsafeReflectorWrapper<T> extends ReflectorWrapper<T> {
+}
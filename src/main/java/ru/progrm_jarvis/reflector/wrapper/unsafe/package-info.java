@@ -0,0 +1,4 @@
+/**
+ * Wrappers based on {@link sun.misc.Unsafe} accessing fields by their offsets
+ */
+package ru.progrm_jarvis.reflector.wrapper.unsafe;
@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.varhandle;
+
+import ru.progrm_jarvis.reflector.wrapper.AtomicFieldWrapper;
+
+import java.lang.reflect.Field;
+
+/**
+ * Wrapper for {@link Field} based on {@code java.lang.invoke.VarHandle}.
+ * Plain access is provided by {@link #getValue(Object)} and {@link #setValue(Object, Object)}
+ * while other access modes are provided by the methods named after them.
+ * <p>
+ * Wrappers of {@code int} and {@code long} fields also implement
+ * {@link ru.progrm_jarvis.reflector.wrapper.AtomicIntFieldWrapper}
+ * and {@link ru.progrm_jarvis.reflector.wrapper.AtomicLongFieldWrapper} respectively.
+ * Wrappers of {@code final} fields can only read them.
+ *
+ * @param <T> type of class containing this field
+ * @param <V> type of value contained in this field
+ */
+public interface VarHandleFieldWrapper<T, V> extends AtomicFieldWrapper<T, V>, VarHandleReflectorWrapper<Field> {
+
+    /**
+     * Gets value of this field in opaque mode which guarantees only atomicity and coherence of accesses to it.
+     *
+     * @param instance instance of which field's value is get, ignored if this field is static
+     * @return value of this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    V getValueOpaque(T instance);
+
+    /**
+     * Sets value of this field in opaque mode which guarantees only atomicity and coherence of accesses to it.
+     *
+     * @param instance instance of which field's value is set, ignored if this field is static
+     * @param value value to set to this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    void setValueOpaque(T instance, V value);
+
+    /**
+     * Gets value of this field with acquire semantics
+     * so that subsequent accesses are not reordered before it.
+     *
+     * @param instance instance of which field's value is get, ignored if this field is static
+     * @return value of this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    V getValueAcquire(T instance);
+
+    /**
+     * Sets value of this field with release semantics
+     * so that prior accesses are not reordered after it.
+     *
+     * @param instance instance of which field's value is set, ignored if this field is static
+     * @param value value to set to this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    void setValueRelease(T instance, V value);
+
+    /**
+     * Gets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is get, ignored if this field is static
+     * @return value of this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    V getValueVolatile(T instance);
+
+    /**
+     * Sets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is set, ignored if this field is static
+     * @param value value to set to this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    void setValueVolatile(T instance, V value);
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.varhandle;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.lang.reflect.Field;
+
+/**
+ * Factory of {@link VarHandleFieldWrapper}s.
+ * This implementation is used on Java 8 where {@code java.lang.invoke.VarHandle} is not available
+ * and is replaced by the one from the Java 9 layer of the multi-release jar on newer versions.
+ */
+@UtilityClass
+public class VarHandleFieldWrappers {
+
+    /**
+     * Checks whether {@code java.lang.invoke.VarHandle}-based wrappers are available.
+     *
+     * @return {@code true} if the wrappers are available and {@code false} otherwise
+     */
+    public boolean isAvailable() {
+        return false;
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field to get wrapped
+     * @param <T> type containing this field
+     * @param <V> type of this field's value
+     * @return field wrapper created or got from cache
+     * @throws UnsupportedOperationException if the wrappers are not {@link #isAvailable() available}
+     */
+    public <T, V> VarHandleFieldWrapper<T, V> from(@NonNull final Field field) {
+        throw new UnsupportedOperationException("VarHandles are available only on Java 9+");
+    }
+}
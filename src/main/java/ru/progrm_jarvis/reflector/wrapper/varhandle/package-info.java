@@ -0,0 +1,24 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+/**
+ * Wrappers based on {@code java.lang.invoke.VarHandle} available on Java 9+
+ * whose implementations are located in the Java 9 layer of the multi-release jar.
+ * They are meant for access modes and atomic operations which other wrappers do not provide,
+ * plain access is not faster than the one of {@link ru.progrm_jarvis.reflector.wrapper.fast fast wrappers}
+ * as var handles stored in fields of the wrappers are neither constant nor invoked exactly.
+ */
+package ru.progrm_jarvis.reflector.wrapper.varhandle;
@@ -0,0 +1,161 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.varhandle;
+
+import lombok.*;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link VarHandleFieldWrapper} of a field of any type, values of primitive fields are boxed.
+ *
+ * @param <T> type of class containing this field
+ * @param <V> type of value contained in this field
+ */
+@Value
+@EqualsAndHashCode(callSuper = true)
+class ObjectVarHandleFieldWrapper<T, V> extends AbstractFieldWrapper<T, V> implements VarHandleFieldWrapper<T, V> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, ObjectVarHandleFieldWrapper<?, ?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Var handle of the field
+     */
+    @Getter(AccessLevel.NONE) @NonNull private VarHandle handle;
+
+    /**
+     * Whether or not the field is static so that its var handle has no coordinates
+     */
+    @Getter(AccessLevel.NONE) private boolean isStatic;
+
+    protected ObjectVarHandleFieldWrapper(@NonNull final Field field) {
+        super(field);
+
+        handle = VarHandleFieldWrappers.varHandle(field);
+        isStatic = Modifier.isStatic(field.getModifiers());
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field to get wrapped
+     * @param <T> type containing this field
+     * @param <V> type of this field's value
+     * @return field wrapper created or got from cache
+     */
+    @SuppressWarnings("unchecked")
+    static <T, V> ObjectVarHandleFieldWrapper<T, V> from(@NonNull final Field field) {
+        return (ObjectVarHandleFieldWrapper<T, V>) REGISTRY.get(field, ObjectVarHandleFieldWrapper::new);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValue(final T instance) {
+        return (V) (isStatic ? handle.get() : handle.get(instance));
+    }
+
+    @Override
+    public V getValue() {
+        return getValue(null);
+    }
+
+    @Override
+    public void setValue(final T instance, final V value) {
+        if (isStatic) handle.set(value);
+        else handle.set(instance, value);
+    }
+
+    @Override
+    public void setValue(final V value) {
+        setValue(null, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValueOpaque(final T instance) {
+        return (V) (isStatic ? handle.getOpaque() : handle.getOpaque(instance));
+    }
+
+    @Override
+    public void setValueOpaque(final T instance, final V value) {
+        if (isStatic) handle.setOpaque(value);
+        else handle.setOpaque(instance, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValueAcquire(final T instance) {
+        return (V) (isStatic ? handle.getAcquire() : handle.getAcquire(instance));
+    }
+
+    @Override
+    public void setValueRelease(final T instance, final V value) {
+        if (isStatic) handle.setRelease(value);
+        else handle.setRelease(instance, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValueVolatile(final T instance) {
+        return (V) (isStatic ? handle.getVolatile() : handle.getVolatile(instance));
+    }
+
+    @Override
+    public void setValueVolatile(final T instance, final V value) {
+        if (isStatic) handle.setVolatile(value);
+        else handle.setVolatile(instance, value);
+    }
+
+    @Override
+    public boolean compareAndSet(final T instance, final V expectedValue, final V value) {
+        return isStatic
+                ? handle.compareAndSet(expectedValue, value) : handle.compareAndSet(instance, expectedValue, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getAndSet(final T instance, final V value) {
+        return (V) (isStatic ? handle.getAndSet(value) : handle.getAndSet(instance, value));
+    }
+
+    @Override
+    public V getAndCompute(final T instance, @NonNull final UnaryOperator<V> operator) {
+        V previousValue;
+        do previousValue = getValueVolatile(instance);
+        while (!compareAndSet(instance, previousValue, operator.apply(previousValue)));
+
+        return previousValue;
+    }
+
+    @Override
+    public V computeAndGet(final T instance, @NonNull final UnaryOperator<V> operator) {
+        V previousValue, newValue;
+        do newValue = operator.apply(previousValue = getValueVolatile(instance));
+        while (!compareAndSet(instance, previousValue, newValue));
+
+        return newValue;
+    }
+}
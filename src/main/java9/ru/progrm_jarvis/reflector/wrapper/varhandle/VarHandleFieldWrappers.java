@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.varhandle;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import ru.progrm_jarvis.reflector.invoke.MethodHandleUtil;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+
+/**
+ * Factory of {@link VarHandleFieldWrapper}s choosing the implementation specialized for the field's type.
+ * This implementation is used on Java 9+ replacing the one of the Java 8 layer of the multi-release jar.
+ */
+@UtilityClass
+public class VarHandleFieldWrappers {
+
+    /**
+     * Checks whether {@link VarHandle}-based wrappers are available.
+     *
+     * @return {@code true} as the wrappers are always available on Java 9+
+     */
+    public boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     * Fields of types {@code int} and {@code long} are wrapped by their primitive specializations
+     * ({@link VarHandleIntFieldWrapper} and {@link VarHandleLongFieldWrapper}) and others
+     * by {@link ObjectVarHandleFieldWrapper}.
+     *
+     * @param field field to get wrapped
+     * @param <T> type containing this field
+     * @param <V> type of this field's value
+     * @return field wrapper created or got from cache
+     */
+    @SuppressWarnings("unchecked")
+    public <T, V> VarHandleFieldWrapper<T, V> from(@NonNull final Field field) {
+        val type = field.getType();
+        if (type == int.class) return (VarHandleFieldWrapper<T, V>) VarHandleIntFieldWrapper.<T>from(field);
+        if (type == long.class) return (VarHandleFieldWrapper<T, V>) VarHandleLongFieldWrapper.<T>from(field);
+        return ObjectVarHandleFieldWrapper.from(field);
+    }
+
+    /**
+     * Creates the var handle of the field having private access to it.
+     * Its coordinates are empty for static fields and the instance for others.
+     *
+     * @param field field for which to create the var handle
+     * @return var handle of the field
+     */
+    @SneakyThrows
+    VarHandle varHandle(@NonNull final Field field) {
+        return MethodHandleUtil.privateLookupIn(field.getDeclaringClass()).unreflectVarHandle(field);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.varhandle;
+
+import lombok.*;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.AtomicIntFieldWrapper;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * {@link VarHandleFieldWrapper} of a field of type {@code int} accessing its value without boxing.
+ *
+ * @param <T> type of class containing this field
+ */
+@Value
+@EqualsAndHashCode(callSuper = true)
+class VarHandleIntFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Integer>
+        implements AtomicIntFieldWrapper<T>, VarHandleFieldWrapper<T, Integer> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, VarHandleIntFieldWrapper<?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Var handle of the field
+     */
+    @Getter(AccessLevel.NONE) @NonNull private VarHandle handle;
+
+    /**
+     * Whether or not the field is static so that its var handle has no coordinates
+     */
+    @Getter(AccessLevel.NONE) private boolean isStatic;
+
+    protected VarHandleIntFieldWrapper(@NonNull final Field field) {
+        super(field);
+
+        handle = VarHandleFieldWrappers.varHandle(field);
+        isStatic = Modifier.isStatic(field.getModifiers());
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field of type {@code int} to get wrapped
+     * @param <T> type containing this field
+     * @return field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is not of type {@code int}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> VarHandleIntFieldWrapper<T> from(@NonNull final Field field) {
+        if (field.getType() != int.class) throw new IllegalArgumentException(
+                "Field " + field + " is not of type int"
+        );
+
+        return (VarHandleIntFieldWrapper<T>) REGISTRY.get(field, VarHandleIntFieldWrapper::new);
+    }
+
+    @Override
+    public int getInt(final T instance) {
+        return isStatic ? (int) handle.get() : (int) handle.get(instance);
+    }
+
+    @Override
+    public int getInt() {
+        return getInt(null);
+    }
+
+    @Override
+    public void setInt(final T instance, final int value) {
+        if (isStatic) handle.set(value);
+        else handle.set(instance, value);
+    }
+
+    @Override
+    public void setInt(final int value) {
+        setInt(null, value);
+    }
+
+    @Override
+    public Integer getValueOpaque(final T instance) {
+        return isStatic ? (int) handle.getOpaque() : (int) handle.getOpaque(instance);
+    }
+
+    @Override
+    public void setValueOpaque(final T instance, final Integer value) {
+        if (isStatic) handle.setOpaque((int) value);
+        else handle.setOpaque(instance, (int) value);
+    }
+
+    @Override
+    public Integer getValueAcquire(final T instance) {
+        return isStatic ? (int) handle.getAcquire() : (int) handle.getAcquire(instance);
+    }
+
+    @Override
+    public void setValueRelease(final T instance, final Integer value) {
+        if (isStatic) handle.setRelease((int) value);
+        else handle.setRelease(instance, (int) value);
+    }
+
+    @Override
+    public Integer getValueVolatile(final T instance) {
+        return getIntVolatile(instance);
+    }
+
+    @Override
+    public void setValueVolatile(final T instance, final Integer value) {
+        if (isStatic) handle.setVolatile((int) value);
+        else handle.setVolatile(instance, (int) value);
+    }
+
+    /**
+     * Gets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is get, ignored if this field is static
+     * @return value of this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    private int getIntVolatile(final T instance) {
+        return isStatic ? (int) handle.getVolatile() : (int) handle.getVolatile(instance);
+    }
+
+    @Override
+    public boolean compareAndSetInt(final T instance, final int expectedValue, final int value) {
+        return isStatic
+                ? handle.compareAndSet(expectedValue, value) : handle.compareAndSet(instance, expectedValue, value);
+    }
+
+    @Override
+    public int getAndSetInt(final T instance, final int value) {
+        return isStatic ? (int) handle.getAndSet(value) : (int) handle.getAndSet(instance, value);
+    }
+
+    @Override
+    public int getAndAddInt(final T instance, final int delta) {
+        return isStatic ? (int) handle.getAndAdd(delta) : (int) handle.getAndAdd(instance, delta);
+    }
+
+    @Override
+    public int getAndComputeInt(final T instance, @NonNull final IntUnaryOperator operator) {
+        int previousValue;
+        do previousValue = getIntVolatile(instance);
+        while (!compareAndSetInt(instance, previousValue, operator.applyAsInt(previousValue)));
+
+        return previousValue;
+    }
+
+    @Override
+    public int computeAndGetInt(final T instance, @NonNull final IntUnaryOperator operator) {
+        int previousValue, newValue;
+        do newValue = operator.applyAsInt(previousValue = getIntVolatile(instance));
+        while (!compareAndSetInt(instance, previousValue, newValue));
+
+        return newValue;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.varhandle;
+
+import lombok.*;
+import ru.progrm_jarvis.reflector.util.ClassMemberRegistry;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.AtomicLongFieldWrapper;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * {@link VarHandleFieldWrapper} of a field of type {@code long} accessing its value without boxing.
+ *
+ * @param <T> type of class containing this field
+ */
+@Value
+@EqualsAndHashCode(callSuper = true)
+class VarHandleLongFieldWrapper<T>
+        extends AbstractFieldWrapper<T, Long>
+        implements AtomicLongFieldWrapper<T>, VarHandleFieldWrapper<T, Long> {
+
+    /**
+     * Registry of field wrappers
+     */
+    private static final ClassMemberRegistry<Field, VarHandleLongFieldWrapper<?>> REGISTRY
+            = ClassMemberRegistry.fields();
+
+    /**
+     * Var handle of the field
+     */
+    @Getter(AccessLevel.NONE) @NonNull private VarHandle handle;
+
+    /**
+     * Whether or not the field is static so that its var handle has no coordinates
+     */
+    @Getter(AccessLevel.NONE) private boolean isStatic;
+
+    protected VarHandleLongFieldWrapper(@NonNull final Field field) {
+        super(field);
+
+        handle = VarHandleFieldWrappers.varHandle(field);
+        isStatic = Modifier.isStatic(field.getModifiers());
+    }
+
+    /**
+     * Creates new field wrapper instance for the field given or gets it from cache if one already exists.
+     *
+     * @param field field of type {@code long} to get wrapped
+     * @param <T> type containing this field
+     * @return field wrapper created or got from cache
+     * @throws IllegalArgumentException if the field is not of type {@code long}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> VarHandleLongFieldWrapper<T> from(@NonNull final Field field) {
+        if (field.getType() != long.class) throw new IllegalArgumentException(
+                "Field " + field + " is not of type long"
+        );
+
+        return (VarHandleLongFieldWrapper<T>) REGISTRY.get(field, VarHandleLongFieldWrapper::new);
+    }
+
+    @Override
+    public long getLong(final T instance) {
+        return isStatic ? (long) handle.get() : (long) handle.get(instance);
+    }
+
+    @Override
+    public long getLong() {
+        return getLong(null);
+    }
+
+    @Override
+    public void setLong(final T instance, final long value) {
+        if (isStatic) handle.set(value);
+        else handle.set(instance, value);
+    }
+
+    @Override
+    public void setLong(final long value) {
+        setLong(null, value);
+    }
+
+    @Override
+    public Long getValueOpaque(final T instance) {
+        return isStatic ? (long) handle.getOpaque() : (long) handle.getOpaque(instance);
+    }
+
+    @Override
+    public void setValueOpaque(final T instance, final Long value) {
+        if (isStatic) handle.setOpaque((long) value);
+        else handle.setOpaque(instance, (long) value);
+    }
+
+    @Override
+    public Long getValueAcquire(final T instance) {
+        return isStatic ? (long) handle.getAcquire() : (long) handle.getAcquire(instance);
+    }
+
+    @Override
+    public void setValueRelease(final T instance, final Long value) {
+        if (isStatic) handle.setRelease((long) value);
+        else handle.setRelease(instance, (long) value);
+    }
+
+    @Override
+    public Long getValueVolatile(final T instance) {
+        return getLongVolatile(instance);
+    }
+
+    @Override
+    public void setValueVolatile(final T instance, final Long value) {
+        if (isStatic) handle.setVolatile((long) value);
+        else handle.setVolatile(instance, (long) value);
+    }
+
+    /**
+     * Gets value of this field with volatile semantics.
+     *
+     * @param instance instance of which field's value is get, ignored if this field is static
+     * @return value of this field
+     * @throws NullPointerException if {@code instance} is {@code null} but this field is not static
+     */
+    private long getLongVolatile(final T instance) {
+        return isStatic ? (long) handle.getVolatile() : (long) handle.getVolatile(instance);
+    }
+
+    @Override
+    public boolean compareAndSetLong(final T instance, final long expectedValue, final long value) {
+        return isStatic
+                ? handle.compareAndSet(expectedValue, value) : handle.compareAndSet(instance, expectedValue, value);
+    }
+
+    @Override
+    public long getAndSetLong(final T instance, final long value) {
+        return isStatic ? (long) handle.getAndSet(value) : (long) handle.getAndSet(instance, value);
+    }
+
+    @Override
+    public long getAndAddLong(final T instance, final long delta) {
+        return isStatic ? (long) handle.getAndAdd(delta) : (long) handle.getAndAdd(instance, delta);
+    }
+
+    @Override
+    public long getAndComputeLong(final T instance, @NonNull final LongUnaryOperator operator) {
+        long previousValue;
+        do previousValue = getLongVolatile(instance);
+        while (!compareAndSetLong(instance, previousValue, operator.applyAsLong(previousValue)));
+
+        return previousValue;
+    }
+
+    @Override
+    public long computeAndGetLong(final T instance, @NonNull final LongUnaryOperator operator) {
+        long previousValue, newValue;
+        do newValue = operator.applyAsLong(previousValue = getLongVolatile(instance));
+        while (!compareAndSetLong(instance, previousValue, newValue));
+
+        return newValue;
+    }
+}
@@ -19,7 +19,7 @@ package ru.progrm_jarvis.reflector;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.*;
 import static ru.progrm_jarvis.reflector.AccessHelper.operate;
 
 class AccessHelperTest {
@@ -45,6 +45,33 @@ class AccessHelperTest {
         operate(Object1.class.getDeclaredConstructor(), constructor -> constructor.newInstance());
     }
 
+    @Test
+    void testAccessibleCopy() throws Throwable {
+        val object = new Object1();
+
+        val field = Object1.class.getDeclaredField("field");
+        val fieldCopy = AccessHelper.accessibleCopy(field);
+        assertEquals(field, fieldCopy);
+        assertNotSame(field, fieldCopy);
+        assertTrue(fieldCopy.isAccessible());
+        assertFalse(field.isAccessible());
+        assertEquals(0, fieldCopy.get(object));
+
+        val method = Object1.class.getDeclaredMethod("foo");
+        val methodCopy = AccessHelper.accessibleCopy(method);
+        assertEquals(method, methodCopy);
+        assertTrue(methodCopy.isAccessible());
+        assertFalse(method.isAccessible());
+        methodCopy.invoke(object);
+
+        val constructor = Object1.class.getDeclaredConstructor();
+        val constructorCopy = AccessHelper.accessibleCopy(constructor);
+        assertEquals(constructor, constructorCopy);
+        assertTrue(constructorCopy.isAccessible());
+        assertFalse(constructor.isAccessible());
+        assertNotNull(constructorCopy.newInstance());
+    }
+
     private static class Object1 {
         private Object1() {}
 
@@ -0,0 +1,104 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FinalFieldWriterTest {
+
+    @Test
+    void testInstanceFields() throws Throwable {
+        val object = new Object1();
+
+        val stringWriter = FinalFieldWriter.of(Object1.class.getDeclaredField("string"));
+        assertSame(stringWriter, FinalFieldWriter.of(Object1.class.getDeclaredField("string")));
+        stringWriter.set(object, "bar");
+        assertEquals("bar", object.getString());
+        stringWriter.set(object, null);
+        assertNull(object.getString());
+        assertThrows(IllegalArgumentException.class, () -> stringWriter.set(object, 1));
+        assertThrows(IllegalArgumentException.class, () -> stringWriter.set("foo", "bar"));
+        assertThrows(NullPointerException.class, () -> stringWriter.set(null, "bar"));
+
+        val intWriter = FinalFieldWriter.of(Object1.class.getDeclaredField("number"));
+        intWriter.setInt(object, 12);
+        assertEquals(12, object.getNumber());
+        intWriter.set(object, 13);
+        assertEquals(13, object.getNumber());
+        intWriter.set(object, (short) 15);
+        assertEquals(15, object.getNumber());
+        intWriter.set(object, 'a');
+        assertEquals('a', object.getNumber());
+        assertThrows(IllegalArgumentException.class, () -> intWriter.set(object, 1L));
+        assertThrows(IllegalArgumentException.class, () -> intWriter.set(object, 1F));
+        assertThrows(IllegalArgumentException.class, () -> intWriter.set(object, null));
+        assertThrows(IllegalArgumentException.class, () -> intWriter.setLong(object, 1L));
+
+        val setter = intWriter.toMethodHandle();
+        setter.invokeExact(object, 14);
+        assertEquals(14, object.getNumber());
+    }
+
+    @Test
+    void testStaticFields() throws Throwable {
+        val field = Object2.class.getDeclaredField("VALUE");
+        assertTrue(Modifier.isFinal(field.getModifiers()));
+
+        val writer = FinalFieldWriter.of(field);
+        writer.setLong(null, 2);
+        assertEquals(2, Object2.getValue());
+        writer.set("ignored", 3L);
+        assertEquals(3, Object2.getValue());
+        writer.set(null, 5);
+        assertEquals(5, Object2.getValue());
+        writer.set(null, (byte) 6);
+        assertEquals(6, Object2.getValue());
+        assertThrows(IllegalArgumentException.class, () -> writer.set(null, 7D));
+        assertThrows(IllegalArgumentException.class, () -> writer.set(null, true));
+
+        val setter = writer.toMethodHandle();
+        setter.invokeExact(4L);
+        assertEquals(4, Object2.getValue());
+    }
+
+    private static class Object1 {
+        private final String string = String.valueOf("foo");
+
+        private final int number = Integer.parseInt("1");
+
+        private String getString() {
+            return string;
+        }
+
+        private int getNumber() {
+            return number;
+        }
+    }
+
+    private static class Object2 {
+        private static final long VALUE = Long.parseLong("1");
+
+        private static long getValue() {
+            return VALUE;
+        }
+    }
+}
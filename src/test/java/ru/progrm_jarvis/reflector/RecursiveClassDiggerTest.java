@@ -16,11 +16,17 @@
 
 package ru.progrm_jarvis.reflector;
 
+import lombok.val;
 import org.junit.jupiter.api.Test;
 import ru.progrm_jarvis.reflector.util.ValueContainer;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class RecursiveClassDiggerTest {
 
@@ -70,6 +76,65 @@ class RecursiveClassDiggerTest {
                 .orElse(null));
     }
 
+    @Test
+    void testDigWithInterfacesDiamond() throws Throwable {
+        val visited = new ArrayList<Class<?>>();
+        assertNull(RecursiveClassDigger.<Void, Throwable>digWithInterfaces(Object5.class, clazz -> {
+            visited.add(clazz);
+            return null;
+        }, Object.class).orElse(null));
+        assertEquals(Arrays.asList(
+                Object5.class, Object4.class, Object2.class, Object1.class, Object.class,
+                Interface2.class, Interface1.class, Interface3.class
+        ), visited);
+        assertEquals(visited, RecursiveClassDigger.getHierarchyWithInterfaces(Object5.class));
+
+        visited.clear();
+        assertNull(RecursiveClassDigger.<Void, Throwable>digWithInterfaces(Object5.class, clazz -> {
+            visited.add(clazz);
+            return null;
+        }, Object2.class).orElse(null));
+        assertEquals(Arrays.asList(
+                Object5.class, Object4.class, Object2.class, Interface2.class, Interface1.class, Interface3.class
+        ), visited);
+
+        assertEquals(Interface1.class, RecursiveClassDigger.<Void, Throwable>digWithInterfaces(Object5.class,
+                clazz -> clazz.getSimpleName().equals("Interface1") ? ValueContainer.empty() : null, Object2.class)
+                .orElseThrow(AssertionError::new).getOwner());
+    }
+
+    @Test
+    void testStreamWithInterfaces() {
+        val members = new Integer[100];
+        for (int i = 0; i < members.length; i++) members[i] = i;
+
+        val hierarchySpliterator = RecursiveClassDigger.streamWithInterfaces(
+                Object5.class, clazz -> clazz == Object2.class ? members : new Integer[0], Object.class
+        ).spliterator();
+        assertFalse(hierarchySpliterator.hasCharacteristics(Spliterator.SIZED));
+        assertNotNull(hierarchySpliterator.trySplit());
+
+        assertEquals(
+                IntStream.range(0, members.length).boxed().collect(Collectors.toList()),
+                RecursiveClassDigger.streamWithInterfaces(
+                        Object5.class, clazz -> clazz == Object2.class ? members : new Integer[0], Object.class
+                ).parallel().map(ClassMember::getValue).collect(Collectors.toList())
+        );
+        assertTrue(RecursiveClassDigger.streamWithInterfaces(
+                Object5.class, clazz -> clazz == Object2.class ? members : new Integer[0], Object.class
+        ).allMatch(member -> member.getOwner() == Object2.class));
+
+        // single class is split by its members
+        val classSpliterator = RecursiveClassDigger
+                .streamWithInterfaces(Interface3.class, clazz -> members, null).spliterator();
+        val prefix = classSpliterator.trySplit();
+        assertNotNull(prefix);
+        assertTrue(prefix.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(classSpliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(50, prefix.estimateSize());
+        assertEquals(50, classSpliterator.estimateSize());
+    }
+
     private abstract class Object1 {
     }
 
@@ -90,4 +155,7 @@ class RecursiveClassDiggerTest {
 
     private abstract class Object4 extends Object2 implements Interface2, Interface3 {
     }
+
+    private abstract class Object5 extends Object4 implements Interface1, Interface3 {
+    }
 }
\ No newline at end of file
@@ -16,9 +16,15 @@
 
 package ru.progrm_jarvis.reflector;
 
+import lombok.val;
 import org.junit.jupiter.api.Test;
+import ru.progrm_jarvis.reflector.bytecode.asm.FieldCopier;
 
+import java.util.Arrays;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static ru.progrm_jarvis.reflector.Reflector.newUnsafeInstance;
@@ -149,6 +155,274 @@ class ReflectorTest {
         );
     }
 
+    @Test
+    void testCachedDigging() throws Exception {
+        val checks = new AtomicInteger();
+        val key = new Object();
+
+        int foundChecks = 0;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(
+                    Optional.of(new ClassMember<>(Object1.class, Object1.class.getDeclaredField("foo"))),
+                    Reflector.digForField(Object3.class, field -> {
+                        checks.incrementAndGet();
+                        return field.getName().equals("foo");
+                    }, Object.class, key)
+            );
+            if (i == 0) foundChecks = checks.get();
+            else assertEquals(foundChecks, checks.get());
+        }
+        assertTrue(foundChecks > 0);
+        // other bound is another search
+        assertFalse(Reflector.digForField(Object3.class, field -> {
+            checks.incrementAndGet();
+            return field.getName().equals("foo");
+        }, Object2.class, key).isPresent());
+        assertTrue(checks.get() > foundChecks);
+
+        checks.set(0);
+        for (int i = 0; i < 3; i++) assertFalse(Reflector.digForMethod(Object4.class, method -> {
+            checks.incrementAndGet();
+            return false;
+        }, Object.class, key).isPresent());
+        val missingChecks = checks.get();
+        assertTrue(missingChecks > 0);
+        assertFalse(Reflector.digForMethod(Object4.class, method -> true, Object.class, key).isPresent());
+        assertEquals(missingChecks, checks.get());
+
+        assertEquals(
+                Optional.of(new ClassMember<>(Object2.class, Object2.class.getDeclaredConstructor())),
+                Reflector.digForConstructor(Object3.class,
+                        constructor -> constructor.getName().endsWith("$Object2"), Object.class, "Object2")
+        );
+        assertEquals(
+                Optional.of(new ClassMember<>(Object2.class, Object2.class.getDeclaredConstructor())),
+                Reflector.digForConstructor(Object3.class, constructor -> false, Object.class, "Object2")
+        );
+
+        // cached members are copied so that their accessibility is not shared
+        val constructor = Reflector.digForConstructor(Object3.class, constructor1 -> false, Object.class, "Object2")
+                .orElseThrow(AssertionError::new).getValue();
+        constructor.setAccessible(true);
+        val constructorCopy = Reflector.digForConstructor(Object3.class, constructor1 -> false, Object.class, "Object2")
+                .orElseThrow(AssertionError::new).getValue();
+        assertNotSame(constructor, constructorCopy);
+        assertEquals(constructor, constructorCopy);
+        assertFalse(constructorCopy.isAccessible());
+    }
+
+    @Test
+    void testStreaming() throws Exception {
+        assertEquals(Arrays.asList(
+                new ClassMember<>(Object3.class, Object3.class.getDeclaredField("baz")),
+                new ClassMember<>(Object2.class, Object2.class.getDeclaredField("bar")),
+                new ClassMember<>(Object1.class, Object1.class.getDeclaredField("foo"))
+        ), Reflector.streamFields(Object3.class, Object.class)
+                .filter(field -> !field.getValue().isSynthetic())
+                .collect(Collectors.toList()));
+
+        assertEquals(
+                Arrays.asList("baz", "bar"),
+                Reflector.streamFields(Object3.class, Object2.class)
+                        .map(field -> field.getValue().getName())
+                        .filter(name -> !name.startsWith("$"))
+                        .collect(Collectors.toList())
+        );
+
+        assertEquals(
+                Arrays.asList("method1", "bar", "foo", "i2", "i1", "i3"),
+                Reflector.streamMethods(Object4.class, Object.class)
+                        .filter(method -> method.getOwner() != Object.class && !method.getValue().isSynthetic())
+                        .map(method -> method.getValue().getName())
+                        .collect(Collectors.toList())
+        );
+
+        assertEquals(
+                Reflector.streamMethods(Object4.class, Object.class).collect(Collectors.toList()),
+                Reflector.streamMethods(Object4.class, Object.class).parallel().collect(Collectors.toList())
+        );
+
+        assertEquals(
+                Arrays.asList(Object3.class, Object2.class, Object1.class, Object.class),
+                Reflector.streamConstructors(Object3.class, Object.class)
+                        .map(ClassMember::getOwner)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    void testInstantiation() {
+        val instantiator = Reflector.getInstantiator(CopiedObject.class);
+        assertSame(instantiator, Reflector.getInstantiator(CopiedObject.class));
+
+        for (val creator : Arrays.asList(
+                instantiator,
+                Instantiators.unsafeInstantiator(CopiedObject.class),
+                Instantiators.serializationInstantiator(CopiedObject.class)
+        )) {
+            assertNotNull(creator);
+
+            val instance = creator.newInstance();
+            assertSame(CopiedObject.class, instance.getClass());
+            assertNotSame(instance, creator.newInstance());
+            assertEquals(0, ((CopiedParent) instance).id);
+            assertNull(instance.name);
+            assertNull(instance.values);
+        }
+
+        assertEquals(0, Reflector.newEmptyInstance(Object99.class).value);
+        assertThrows(IllegalArgumentException.class, () -> Reflector.getInstantiator(Object1.class));
+        assertThrows(IllegalArgumentException.class, () -> Reflector.getInstantiator(Runnable.class));
+        assertThrows(IllegalArgumentException.class, () -> Reflector.getInstantiator(int[].class));
+    }
+
+    @Test
+    void testFieldCopying() {
+        val copier = Reflector.getFieldCopier(CopiedObject.class);
+        assertSame(copier, Reflector.getFieldCopier(CopiedObject.class));
+
+        val source = new CopiedObject(1, "foo", 'a');
+        ((CopiedParent) source).version = 2;
+        val target = new CopiedObject(0, null, 'b');
+        copier.copy(source, target);
+
+        assertEquals(1, ((CopiedParent) target).id);
+        assertEquals(2, ((CopiedParent) target).version);
+        assertEquals("foo", target.name);
+        assertSame(source.values, target.values);
+        assertEquals('a', target.letter);
+
+        val copy = Reflector.shallowCopy(source);
+        assertNotSame(source, copy);
+        assertEquals(1, ((CopiedParent) copy).id);
+        assertEquals("foo", copy.name);
+        assertSame(source.values, copy.values);
+
+        assertThrows(NullPointerException.class, () -> copier.copy(source, null));
+        assertThrows(ClassCastException.class, () -> ((FieldCopier<Object>) (FieldCopier<?>) copier)
+                .copy(source, new Object()));
+        assertThrows(IllegalArgumentException.class, () -> Reflector.getFieldCopier(int[].class));
+    }
+
+    @Test
+    void testPropertyAccessor() throws Exception {
+        val accessor = Reflector.getPropertyAccessor(CopiedObject.class);
+        assertSame(accessor, Reflector.getPropertyAccessor(CopiedObject.class));
+        assertEquals(Arrays.asList(
+                CopiedObject.class.getDeclaredField("name"),
+                CopiedObject.class.getDeclaredField("values"),
+                CopiedObject.class.getDeclaredField("letter"),
+                CopiedParent.class.getDeclaredField("id"),
+                CopiedParent.class.getDeclaredField("version")
+        ), accessor.getFields());
+
+        val instance = new CopiedObject(1, "foo", 'a');
+        assertEquals("foo", accessor.get(instance, 0));
+        assertEquals('a', accessor.get(instance, 2));
+        assertEquals('a', accessor.getChar(instance, 2));
+        assertEquals(1, accessor.getInt(instance, 3));
+
+        accessor.set(instance, 0, "bar");
+        assertEquals("bar", instance.name);
+        accessor.set(instance, 3, 2);
+        assertEquals(2, ((CopiedParent) instance).id);
+        accessor.setLong(instance, 4, 3L);
+        assertEquals(3L, accessor.get(instance, 4));
+        accessor.setChar(instance, 2, 'b');
+        assertEquals('b', instance.letter);
+
+        assertThrows(ClassCastException.class, () -> accessor.set(instance, 0, 1));
+        assertThrows(NullPointerException.class, () -> accessor.set(instance, 3, null));
+        assertThrows(IllegalArgumentException.class, () -> accessor.getInt(instance, 0));
+        assertThrows(IllegalArgumentException.class, () -> accessor.setDouble(instance, 3, 1.5));
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.get(instance, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.getInt(instance, -1));
+        assertThrows(NullPointerException.class, () -> accessor.get(null, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> Reflector.getPropertyAccessor(Object.class)
+                .get(new Object(), 0));
+    }
+
+    @Test
+    void testMethodDispatcher() throws Exception {
+        val methods = Arrays.asList(
+                DispatchedObject.class.getDeclaredMethod("add", int.class),
+                DispatchedObject.class.getDeclaredMethod("name"),
+                DispatchedObject.class.getDeclaredMethod("concat", String.class, Object.class),
+                Object.class.getDeclaredMethod("hashCode"),
+                DispatchedObject.class.getDeclaredMethod("fail")
+        );
+        val dispatcher = Reflector.newMethodDispatcher(DispatchedObject.class, methods);
+        assertEquals(methods, dispatcher.getMethods());
+
+        val instance = new DispatchedObject();
+        assertEquals(5, dispatcher.invoke(0, instance, new Object[]{5}));
+        assertEquals(8, dispatcher.invoke(0, instance, new Object[]{3}));
+        assertEquals("dispatched", dispatcher.invoke(1, null, new Object[0]));
+        assertEquals("a1", dispatcher.invoke(2, null, new Object[]{"a", 1}));
+        assertEquals(instance.hashCode(), dispatcher.invoke(3, instance, new Object[0]));
+        assertThrows(UnsupportedOperationException.class, () -> dispatcher.invoke(4, instance, new Object[0]));
+
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.invoke(0, instance, new Object[0]));
+        assertThrows(NullPointerException.class, () -> dispatcher.invoke(0, null, new Object[]{1}));
+        assertThrows(IndexOutOfBoundsException.class, () -> dispatcher.invoke(5, instance, new Object[0]));
+        assertThrows(IllegalArgumentException.class, () -> Reflector.newMethodDispatcher(
+                Object.class, methods
+        ));
+    }
+
+    @Test
+    void testGetAnyField() throws Exception {
+        assertEquals(Object3.class.getDeclaredField("baz"), Reflector.getAnyField(Object3.class, "baz"));
+        assertEquals(Object2.class.getDeclaredField("bar"), Reflector.getAnyField(Object3.class, "bar"));
+        assertEquals(Object1.class.getDeclaredField("foo"), Reflector.getAnyField(Object3.class, "foo"));
+        assertEquals(Object4.class.getDeclaredField("field1"), Reflector.getAnyField(Object4.class, "field1"));
+
+        // each lookup returns a copy so that changing its accessibility does not affect other callers
+        assertNotSame(Reflector.getAnyField(Object3.class, "foo"), Reflector.getAnyField(Object3.class, "foo"));
+        Reflector.getAnyField(Object3.class, "foo").setAccessible(true);
+        assertFalse(Reflector.getAnyField(Object3.class, "foo").isAccessible());
+
+        assertFalse(Reflector.getAnyFieldOptional(Object4.class, "lol").isPresent());
+        assertThrows(NoSuchElementException.class, () -> Reflector.getAnyField(Object4.class, "lol"));
+    }
+
+    @Test
+    void testGetAnyMethod() throws Exception {
+        assertEquals(Object3.class.getDeclaredMethod("baz"), Reflector.getAnyMethod(Object3.class, "baz"));
+        assertEquals(Object2.class.getDeclaredMethod("bar"), Reflector.getAnyMethod(Object3.class, "bar"));
+        assertEquals(Object1.class.getDeclaredMethod("foo"), Reflector.getAnyMethod(Object3.class, "foo"));
+        assertEquals(Interface3.class.getDeclaredMethod("i3"), Reflector.getAnyMethod(Object4.class, "i3"));
+        assertEquals(Interface2.class.getDeclaredMethod("i2"), Reflector.getAnyMethod(Object4.class, "i2"));
+        assertEquals(Interface1.class.getDeclaredMethod("i1"), Reflector.getAnyMethod(Object4.class, "i1"));
+        assertEquals(Object.class.getDeclaredMethod("hashCode"), Reflector.getAnyMethod(Object4.class, "hashCode"));
+        assertNotSame(Reflector.getAnyMethod(Object3.class, "foo"), Reflector.getAnyMethod(Object3.class, "foo"));
+
+        assertFalse(Reflector.getAnyMethodOptional(Object4.class, "lol").isPresent());
+        assertThrows(NullPointerException.class, () -> Reflector.getAnyMethod(Object4.class, "lol"));
+
+        assertEquals(
+                Object.class.getDeclaredMethod("wait", long.class, int.class),
+                Reflector.getAnyMethod(Object4.class, "wait", long.class, int.class)
+        );
+        assertEquals(
+                Object.class.getDeclaredMethod("wait"), Reflector.getAnyMethod(Object4.class, "wait", new Class<?>[0])
+        );
+        assertFalse(Reflector.getAnyMethodOptional(Object4.class, "wait", int.class).isPresent());
+        assertThrows(NullPointerException.class, () -> Reflector.getAnyMethod(Object4.class, "i1", int.class));
+    }
+
+    @Test
+    void testGetAnyConstructor() throws Exception {
+        assertEquals(Object3.class.getDeclaredConstructor(), Reflector.getAnyConstructor(Object3.class));
+        assertEquals(
+                Object5.class.getDeclaredConstructor(ReflectorTest.class),
+                Reflector.getAnyConstructor(Object5.class, ReflectorTest.class)
+        );
+
+        assertFalse(Reflector.getAnyConstructorOptional(Object3.class, int.class).isPresent());
+        assertThrows(NullPointerException.class, () -> Reflector.getAnyConstructor(Object3.class, int.class));
+    }
+
     @Test
     void testUnsafeInstance() {
         assertNotEquals(new Object99(), newUnsafeInstance(Object99.class));
@@ -203,6 +477,50 @@ class ReflectorTest {
         public Object5() {}
     }
 
+    private static class CopiedParent {
+        private final int id;
+        private volatile long version;
+
+        private CopiedParent(final int id) {
+            this.id = id;
+        }
+    }
+
+    private static final class CopiedObject extends CopiedParent {
+        private static int instances;
+
+        private final String name;
+        private final int[] values = {1, 2, 3};
+        private char letter;
+
+        private CopiedObject(final int id, final String name, final char letter) {
+            super(id);
+            this.name = name;
+            this.letter = letter;
+            instances++;
+        }
+    }
+
+    private static final class DispatchedObject {
+        private int sum;
+
+        private int add(final int value) {
+            return sum += value;
+        }
+
+        private static String name() {
+            return "dispatched";
+        }
+
+        private static String concat(final String prefix, final Object suffix) {
+            return prefix + suffix;
+        }
+
+        private void fail() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     public class Object99 {
         private int value;
 
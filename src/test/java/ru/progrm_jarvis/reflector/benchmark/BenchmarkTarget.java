@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.benchmark;
+
+/**
+ * Class whose members are accessed by benchmarks.
+ * Its members are package-private so that direct access is possible as a baseline.
+ */
+@SuppressWarnings("WeakerAccess")
+public class BenchmarkTarget {
+
+    int intField = 1;
+    String stringField = "foo";
+
+    public BenchmarkTarget() {}
+
+    public BenchmarkTarget(final int intField, final String stringField) {
+        this.intField = intField;
+        this.stringField = stringField;
+    }
+
+    int intMethod0() {
+        return intField;
+    }
+
+    int intMethod1(final int a) {
+        return intField + a;
+    }
+
+    int intMethod3(final int a, final int b, final int c) {
+        return intField + a + b + c;
+    }
+
+    String stringMethod0() {
+        return stringField;
+    }
+
+    String stringMethod1(final String a) {
+        return a;
+    }
+
+    String stringMethod3(final String a, final String b, final String c) {
+        return c;
+    }
+}
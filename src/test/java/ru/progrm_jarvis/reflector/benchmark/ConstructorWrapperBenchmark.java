@@ -0,0 +1,188 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.benchmark;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.*;
+import ru.progrm_jarvis.reflector.Reflector;
+import ru.progrm_jarvis.reflector.bytecode.asm.EmptyConstructorCreator;
+import ru.progrm_jarvis.reflector.wrapper.ConstructorWrapper;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmConstructorWrapper;
+import ru.progrm_jarvis.reflector.wrapper.fast.FastConstructorWrapper;
+import ru.progrm_jarvis.reflector.wrapper.reflection.ReflectionConstructorWrapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of object instantiation performed by different {@link ConstructorWrapper} implementations
+ * compared to direct instantiation, {@link Constructor} and a {@code static final} {@link MethodHandle}.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConstructorWrapperBenchmark {
+
+    private static final Constructor<BenchmarkTarget> CONSTRUCTOR_0, CONSTRUCTOR_2;
+
+    private static final MethodHandle HANDLE_0, HANDLE_2;
+
+    private static final ConstructorWrapper<BenchmarkTarget> FAST_CONSTRUCTOR_0, FAST_CONSTRUCTOR_2,
+            ASM_CONSTRUCTOR_0, ASM_CONSTRUCTOR_2, REFLECTION_CONSTRUCTOR_0, REFLECTION_CONSTRUCTOR_2;
+
+    private static final EmptyConstructorCreator<BenchmarkTarget> INSTANTIATOR
+            = Reflector.getInstantiator(BenchmarkTarget.class);
+
+    static {
+        try {
+            CONSTRUCTOR_0 = BenchmarkTarget.class.getDeclaredConstructor();
+            CONSTRUCTOR_2 = BenchmarkTarget.class.getDeclaredConstructor(int.class, String.class);
+
+            val lookup = MethodHandles.lookup();
+            HANDLE_0 = lookup.unreflectConstructor(CONSTRUCTOR_0);
+            HANDLE_2 = lookup.unreflectConstructor(CONSTRUCTOR_2);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+
+        FAST_CONSTRUCTOR_0 = FastConstructorWrapper.from(CONSTRUCTOR_0);
+        FAST_CONSTRUCTOR_2 = FastConstructorWrapper.from(CONSTRUCTOR_2);
+        ASM_CONSTRUCTOR_0 = AsmConstructorWrapper.from(CONSTRUCTOR_0);
+        ASM_CONSTRUCTOR_2 = AsmConstructorWrapper.from(CONSTRUCTOR_2);
+        REFLECTION_CONSTRUCTOR_0 = ReflectionConstructorWrapper.from(CONSTRUCTOR_0);
+        REFLECTION_CONSTRUCTOR_2 = ReflectionConstructorWrapper.from(CONSTRUCTOR_2);
+    }
+
+    private int intValue;
+    private String stringValue;
+
+    @Setup
+    public void setUp() {
+        intValue = 1;
+        stringValue = "foo";
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // 0 arguments
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public BenchmarkTarget construct0Direct() {
+        return new BenchmarkTarget();
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct0Constructor()
+            throws IllegalAccessException, InvocationTargetException, InstantiationException {
+        return CONSTRUCTOR_0.newInstance();
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct0MethodHandle() throws Throwable {
+        return (BenchmarkTarget) HANDLE_0.invokeExact();
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct0FastWrapper() {
+        return FAST_CONSTRUCTOR_0.construct();
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct0FastWrapperSpecialized() {
+        return FAST_CONSTRUCTOR_0.construct0();
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct0AsmWrapper() {
+        return ASM_CONSTRUCTOR_0.construct();
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct0AsmWrapperSpecialized() {
+        return ASM_CONSTRUCTOR_0.construct0();
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct0ReflectionWrapper() {
+        return REFLECTION_CONSTRUCTOR_0.construct();
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // 2 arguments
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public BenchmarkTarget construct2Direct() {
+        return new BenchmarkTarget(intValue, stringValue);
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct2Constructor()
+            throws IllegalAccessException, InvocationTargetException, InstantiationException {
+        return CONSTRUCTOR_2.newInstance(intValue, stringValue);
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct2MethodHandle() throws Throwable {
+        return (BenchmarkTarget) HANDLE_2.invokeExact(intValue, stringValue);
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct2FastWrapper() {
+        return FAST_CONSTRUCTOR_2.construct(intValue, stringValue);
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct2FastWrapperSpecialized() {
+        return FAST_CONSTRUCTOR_2.construct2(intValue, stringValue);
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct2AsmWrapper() {
+        return ASM_CONSTRUCTOR_2.construct(intValue, stringValue);
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct2AsmWrapperSpecialized() {
+        return ASM_CONSTRUCTOR_2.construct2(intValue, stringValue);
+    }
+
+    @Benchmark
+    public BenchmarkTarget construct2ReflectionWrapper() {
+        return REFLECTION_CONSTRUCTOR_2.construct(intValue, stringValue);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // No constructor
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public BenchmarkTarget instantiateUnsafe() {
+        return Reflector.newUnsafeInstance(BenchmarkTarget.class);
+    }
+
+    @Benchmark
+    public BenchmarkTarget instantiateInstantiator() {
+        return INSTANTIATOR.newInstance();
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.benchmark;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.*;
+import ru.progrm_jarvis.reflector.wrapper.FieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.IntFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.fast.FastFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.fast.FastIntFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.reflection.ReflectionFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.reflection.ReflectionIntFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.unsafe.UnsafeFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.unsafe.UnsafeIntFieldWrapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of field access performed by different {@link FieldWrapper} implementations
+ * compared to direct access, {@link Field} and a {@code static final} {@link MethodHandle}.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@SuppressWarnings("unchecked")
+public class FieldWrapperBenchmark {
+
+    private static final Field INT_FIELD, STRING_FIELD;
+
+    private static final MethodHandle INT_GETTER, INT_SETTER, STRING_GETTER, STRING_SETTER;
+
+    private static final FieldWrapper<BenchmarkTarget, Integer> FAST_INT_FIELD, REFLECTION_INT_FIELD, ASM_INT_FIELD;
+    private static final FieldWrapper<BenchmarkTarget, String> FAST_STRING_FIELD, REFLECTION_STRING_FIELD,
+            ASM_STRING_FIELD, UNSAFE_STRING_FIELD;
+    private static final IntFieldWrapper<BenchmarkTarget> FAST_INT_FIELD_PRIMITIVE, REFLECTION_INT_FIELD_PRIMITIVE,
+            UNSAFE_INT_FIELD_PRIMITIVE;
+
+    static {
+        try {
+            INT_FIELD = BenchmarkTarget.class.getDeclaredField("intField");
+            INT_FIELD.setAccessible(true);
+            STRING_FIELD = BenchmarkTarget.class.getDeclaredField("stringField");
+            STRING_FIELD.setAccessible(true);
+
+            val lookup = MethodHandles.lookup();
+            INT_GETTER = lookup.unreflectGetter(INT_FIELD);
+            INT_SETTER = lookup.unreflectSetter(INT_FIELD);
+            STRING_GETTER = lookup.unreflectGetter(STRING_FIELD);
+            STRING_SETTER = lookup.unreflectSetter(STRING_FIELD);
+        } catch (final NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+
+        FAST_INT_FIELD = FastFieldWrapper.from(INT_FIELD);
+        REFLECTION_INT_FIELD = ReflectionFieldWrapper.from(INT_FIELD);
+        FAST_STRING_FIELD = FastFieldWrapper.from(STRING_FIELD);
+        REFLECTION_STRING_FIELD = ReflectionFieldWrapper.from(STRING_FIELD);
+        ASM_INT_FIELD = AsmFieldWrapper.from(INT_FIELD);
+        ASM_STRING_FIELD = AsmFieldWrapper.from(STRING_FIELD);
+        FAST_INT_FIELD_PRIMITIVE = FastIntFieldWrapper.from(INT_FIELD);
+        REFLECTION_INT_FIELD_PRIMITIVE = ReflectionIntFieldWrapper.from(INT_FIELD);
+        UNSAFE_INT_FIELD_PRIMITIVE = UnsafeIntFieldWrapper.from(INT_FIELD);
+        UNSAFE_STRING_FIELD = UnsafeFieldWrapper.from(STRING_FIELD);
+    }
+
+    private BenchmarkTarget target;
+    private int intValue;
+    private String stringValue;
+
+    @Setup
+    public void setUp() {
+        target = new BenchmarkTarget();
+        intValue = 123;
+        stringValue = "bar";
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive get
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public int intGetDirect() {
+        return target.intField;
+    }
+
+    @Benchmark
+    public Object intGetField() throws IllegalAccessException {
+        return INT_FIELD.get(target);
+    }
+
+    @Benchmark
+    public int intGetMethodHandle() throws Throwable {
+        return (int) INT_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public Integer intGetFastWrapper() {
+        return FAST_INT_FIELD.getValue(target);
+    }
+
+    @Benchmark
+    public Integer intGetReflectionWrapper() {
+        return REFLECTION_INT_FIELD.getValue(target);
+    }
+
+    @Benchmark
+    public Integer intGetAsmWrapper() {
+        return ASM_INT_FIELD.getValue(target);
+    }
+
+    @Benchmark
+    public int intGetFastPrimitiveWrapper() {
+        return FAST_INT_FIELD_PRIMITIVE.getInt(target);
+    }
+
+    @Benchmark
+    public int intGetReflectionPrimitiveWrapper() {
+        return REFLECTION_INT_FIELD_PRIMITIVE.getInt(target);
+    }
+
+    @Benchmark
+    public int intGetUnsafePrimitiveWrapper() {
+        return UNSAFE_INT_FIELD_PRIMITIVE.getInt(target);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive set
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public void intSetDirect() {
+        target.intField = intValue;
+    }
+
+    @Benchmark
+    public void intSetField() throws IllegalAccessException {
+        INT_FIELD.set(target, intValue);
+    }
+
+    @Benchmark
+    public void intSetMethodHandle() throws Throwable {
+        INT_SETTER.invokeExact(target, intValue);
+    }
+
+    @Benchmark
+    public void intSetFastWrapper() {
+        FAST_INT_FIELD.setValue(target, intValue);
+    }
+
+    @Benchmark
+    public void intSetReflectionWrapper() {
+        REFLECTION_INT_FIELD.setValue(target, intValue);
+    }
+
+    @Benchmark
+    public void intSetAsmWrapper() {
+        ASM_INT_FIELD.setValue(target, intValue);
+    }
+
+    @Benchmark
+    public void intSetFastPrimitiveWrapper() {
+        FAST_INT_FIELD_PRIMITIVE.setInt(target, intValue);
+    }
+
+    @Benchmark
+    public void intSetReflectionPrimitiveWrapper() {
+        REFLECTION_INT_FIELD_PRIMITIVE.setInt(target, intValue);
+    }
+
+    @Benchmark
+    public void intSetUnsafePrimitiveWrapper() {
+        UNSAFE_INT_FIELD_PRIMITIVE.setInt(target, intValue);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Reference get
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public String stringGetDirect() {
+        return target.stringField;
+    }
+
+    @Benchmark
+    public Object stringGetField() throws IllegalAccessException {
+        return STRING_FIELD.get(target);
+    }
+
+    @Benchmark
+    public String stringGetMethodHandle() throws Throwable {
+        return (String) STRING_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public String stringGetFastWrapper() {
+        return FAST_STRING_FIELD.getValue(target);
+    }
+
+    @Benchmark
+    public String stringGetReflectionWrapper() {
+        return REFLECTION_STRING_FIELD.getValue(target);
+    }
+
+    @Benchmark
+    public String stringGetAsmWrapper() {
+        return ASM_STRING_FIELD.getValue(target);
+    }
+
+    @Benchmark
+    public String stringGetUnsafeWrapper() {
+        return UNSAFE_STRING_FIELD.getValue(target);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Reference set
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public void stringSetDirect() {
+        target.stringField = stringValue;
+    }
+
+    @Benchmark
+    public void stringSetField() throws IllegalAccessException {
+        STRING_FIELD.set(target, stringValue);
+    }
+
+    @Benchmark
+    public void stringSetMethodHandle() throws Throwable {
+        STRING_SETTER.invokeExact(target, stringValue);
+    }
+
+    @Benchmark
+    public void stringSetFastWrapper() {
+        FAST_STRING_FIELD.setValue(target, stringValue);
+    }
+
+    @Benchmark
+    public void stringSetReflectionWrapper() {
+        REFLECTION_STRING_FIELD.setValue(target, stringValue);
+    }
+
+    @Benchmark
+    public void stringSetAsmWrapper() {
+        ASM_STRING_FIELD.setValue(target, stringValue);
+    }
+
+    @Benchmark
+    public void stringSetUnsafeWrapper() {
+        UNSAFE_STRING_FIELD.setValue(target, stringValue);
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.benchmark;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.*;
+import ru.progrm_jarvis.reflector.invoke.LambdaMetafactoryUtil;
+import ru.progrm_jarvis.reflector.wrapper.MethodWrapper;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmMethodWrapper;
+import ru.progrm_jarvis.reflector.wrapper.fast.FastMethodWrapper;
+import ru.progrm_jarvis.reflector.wrapper.reflection.ReflectionMethodWrapper;
+import ru.progrm_jarvis.reflector.wrapper.tiered.TieredMethodWrapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Benchmarks of method invocation performed by different {@link MethodWrapper} implementations
+ * compared to direct invocation, {@link Method} and a {@code static final} {@link MethodHandle}
+ * for primitive and reference return types and for different numbers of arguments.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@SuppressWarnings("unchecked")
+public class MethodWrapperBenchmark {
+
+    private static final Method INT_METHOD_0, INT_METHOD_1, INT_METHOD_3,
+            STRING_METHOD_0, STRING_METHOD_1, STRING_METHOD_3;
+
+    private static final MethodHandle INT_HANDLE_0, INT_HANDLE_1, INT_HANDLE_3,
+            STRING_HANDLE_0, STRING_HANDLE_1, STRING_HANDLE_3;
+
+    private static final MethodWrapper<BenchmarkTarget, Integer> FAST_INT_METHOD_0, FAST_INT_METHOD_1,
+            FAST_INT_METHOD_3, REFLECTION_INT_METHOD_0, REFLECTION_INT_METHOD_1, REFLECTION_INT_METHOD_3,
+            ASM_INT_METHOD_0, ASM_INT_METHOD_1, ASM_INT_METHOD_3, TIERED_INT_METHOD_0;
+
+    private static final MethodWrapper<BenchmarkTarget, String> FAST_STRING_METHOD_0, FAST_STRING_METHOD_1,
+            FAST_STRING_METHOD_3, REFLECTION_STRING_METHOD_0, REFLECTION_STRING_METHOD_1,
+            REFLECTION_STRING_METHOD_3, ASM_STRING_METHOD_0, ASM_STRING_METHOD_1, ASM_STRING_METHOD_3;
+
+    private static final ToIntFunction<BenchmarkTarget> INT_LAMBDA_0;
+    private static final BiFunction<BenchmarkTarget, String, String> STRING_LAMBDA_1;
+
+    static {
+        try {
+            INT_METHOD_0 = accessibleMethod("intMethod0");
+            INT_METHOD_1 = accessibleMethod("intMethod1", int.class);
+            INT_METHOD_3 = accessibleMethod("intMethod3", int.class, int.class, int.class);
+            STRING_METHOD_0 = accessibleMethod("stringMethod0");
+            STRING_METHOD_1 = accessibleMethod("stringMethod1", String.class);
+            STRING_METHOD_3 = accessibleMethod("stringMethod3", String.class, String.class, String.class);
+
+            val lookup = MethodHandles.lookup();
+            INT_HANDLE_0 = lookup.unreflect(INT_METHOD_0);
+            INT_HANDLE_1 = lookup.unreflect(INT_METHOD_1);
+            INT_HANDLE_3 = lookup.unreflect(INT_METHOD_3);
+            STRING_HANDLE_0 = lookup.unreflect(STRING_METHOD_0);
+            STRING_HANDLE_1 = lookup.unreflect(STRING_METHOD_1);
+            STRING_HANDLE_3 = lookup.unreflect(STRING_METHOD_3);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+
+        FAST_INT_METHOD_0 = FastMethodWrapper.from(INT_METHOD_0);
+        FAST_INT_METHOD_1 = FastMethodWrapper.from(INT_METHOD_1);
+        FAST_INT_METHOD_3 = FastMethodWrapper.from(INT_METHOD_3);
+        REFLECTION_INT_METHOD_0 = ReflectionMethodWrapper.from(INT_METHOD_0);
+        REFLECTION_INT_METHOD_1 = ReflectionMethodWrapper.from(INT_METHOD_1);
+        REFLECTION_INT_METHOD_3 = ReflectionMethodWrapper.from(INT_METHOD_3);
+        ASM_INT_METHOD_0 = AsmMethodWrapper.from(INT_METHOD_0);
+        ASM_INT_METHOD_1 = AsmMethodWrapper.from(INT_METHOD_1);
+        ASM_INT_METHOD_3 = AsmMethodWrapper.from(INT_METHOD_3);
+        TIERED_INT_METHOD_0 = TieredMethodWrapper.from(INT_METHOD_0);
+
+        FAST_STRING_METHOD_0 = FastMethodWrapper.from(STRING_METHOD_0);
+        FAST_STRING_METHOD_1 = FastMethodWrapper.from(STRING_METHOD_1);
+        FAST_STRING_METHOD_3 = FastMethodWrapper.from(STRING_METHOD_3);
+        REFLECTION_STRING_METHOD_0 = ReflectionMethodWrapper.from(STRING_METHOD_0);
+        REFLECTION_STRING_METHOD_1 = ReflectionMethodWrapper.from(STRING_METHOD_1);
+        REFLECTION_STRING_METHOD_3 = ReflectionMethodWrapper.from(STRING_METHOD_3);
+        ASM_STRING_METHOD_0 = AsmMethodWrapper.from(STRING_METHOD_0);
+        ASM_STRING_METHOD_1 = AsmMethodWrapper.from(STRING_METHOD_1);
+        ASM_STRING_METHOD_3 = AsmMethodWrapper.from(STRING_METHOD_3);
+
+        INT_LAMBDA_0 = LambdaMetafactoryUtil.createLambda(INT_METHOD_0, ToIntFunction.class);
+        STRING_LAMBDA_1 = LambdaMetafactoryUtil.createLambda(STRING_METHOD_1, BiFunction.class);
+    }
+
+    private static Method accessibleMethod(final String name,
+                                           final Class<?>... parameterTypes) throws NoSuchMethodException {
+        val method = BenchmarkTarget.class.getDeclaredMethod(name, parameterTypes);
+        method.setAccessible(true);
+
+        return method;
+    }
+
+    private BenchmarkTarget target;
+    private int a, b, c;
+    private String x, y, z;
+
+    @Setup
+    public void setUp() {
+        target = new BenchmarkTarget();
+        a = 1;
+        b = 2;
+        c = 3;
+        x = "x";
+        y = "y";
+        z = "z";
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive, 0 arguments
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public int int0Direct() {
+        return target.intMethod0();
+    }
+
+    @Benchmark
+    public Object int0Method() throws InvocationTargetException, IllegalAccessException {
+        return INT_METHOD_0.invoke(target);
+    }
+
+    @Benchmark
+    public int int0MethodHandle() throws Throwable {
+        return (int) INT_HANDLE_0.invokeExact(target);
+    }
+
+    @Benchmark
+    public Integer int0FastWrapper() {
+        return FAST_INT_METHOD_0.invoke(target);
+    }
+
+    @Benchmark
+    public Integer int0ReflectionWrapper() {
+        return REFLECTION_INT_METHOD_0.invoke(target);
+    }
+
+    @Benchmark
+    public Integer int0AsmWrapper() {
+        return ASM_INT_METHOD_0.invoke(target);
+    }
+
+    @Benchmark
+    public Integer int0AsmWrapperSpecialized() {
+        return ASM_INT_METHOD_0.invoke0(target);
+    }
+
+    @Benchmark
+    public Integer int0TieredWrapper() {
+        return TIERED_INT_METHOD_0.invoke0(target);
+    }
+
+    @Benchmark
+    public int int0Lambda() {
+        return INT_LAMBDA_0.applyAsInt(target);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive, 1 argument
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public int int1Direct() {
+        return target.intMethod1(a);
+    }
+
+    @Benchmark
+    public Object int1Method() throws InvocationTargetException, IllegalAccessException {
+        return INT_METHOD_1.invoke(target, a);
+    }
+
+    @Benchmark
+    public int int1MethodHandle() throws Throwable {
+        return (int) INT_HANDLE_1.invokeExact(target, a);
+    }
+
+    @Benchmark
+    public Integer int1FastWrapper() {
+        return FAST_INT_METHOD_1.invoke(target, a);
+    }
+
+    @Benchmark
+    public Integer int1ReflectionWrapper() {
+        return REFLECTION_INT_METHOD_1.invoke(target, a);
+    }
+
+    @Benchmark
+    public Integer int1AsmWrapper() {
+        return ASM_INT_METHOD_1.invoke(target, a);
+    }
+
+    @Benchmark
+    public Integer int1AsmWrapperSpecialized() {
+        return ASM_INT_METHOD_1.invoke1(target, a);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Primitive, 3 arguments
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public int int3Direct() {
+        return target.intMethod3(a, b, c);
+    }
+
+    @Benchmark
+    public Object int3Method() throws InvocationTargetException, IllegalAccessException {
+        return INT_METHOD_3.invoke(target, a, b, c);
+    }
+
+    @Benchmark
+    public int int3MethodHandle() throws Throwable {
+        return (int) INT_HANDLE_3.invokeExact(target, a, b, c);
+    }
+
+    @Benchmark
+    public Integer int3FastWrapper() {
+        return FAST_INT_METHOD_3.invoke(target, a, b, c);
+    }
+
+    @Benchmark
+    public Integer int3ReflectionWrapper() {
+        return REFLECTION_INT_METHOD_3.invoke(target, a, b, c);
+    }
+
+    @Benchmark
+    public Integer int3AsmWrapper() {
+        return ASM_INT_METHOD_3.invoke(target, a, b, c);
+    }
+
+    @Benchmark
+    public Integer int3AsmWrapperSpecialized() {
+        return ASM_INT_METHOD_3.invoke3(target, a, b, c);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Reference, 0 arguments
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public String string0Direct() {
+        return target.stringMethod0();
+    }
+
+    @Benchmark
+    public Object string0Method() throws InvocationTargetException, IllegalAccessException {
+        return STRING_METHOD_0.invoke(target);
+    }
+
+    @Benchmark
+    public String string0MethodHandle() throws Throwable {
+        return (String) STRING_HANDLE_0.invokeExact(target);
+    }
+
+    @Benchmark
+    public String string0FastWrapper() {
+        return FAST_STRING_METHOD_0.invoke(target);
+    }
+
+    @Benchmark
+    public String string0ReflectionWrapper() {
+        return REFLECTION_STRING_METHOD_0.invoke(target);
+    }
+
+    @Benchmark
+    public String string0AsmWrapper() {
+        return ASM_STRING_METHOD_0.invoke(target);
+    }
+
+    @Benchmark
+    public String string0AsmWrapperSpecialized() {
+        return ASM_STRING_METHOD_0.invoke0(target);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Reference, 1 argument
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public String string1Direct() {
+        return target.stringMethod1(x);
+    }
+
+    @Benchmark
+    public Object string1Method() throws InvocationTargetException, IllegalAccessException {
+        return STRING_METHOD_1.invoke(target, x);
+    }
+
+    @Benchmark
+    public String string1MethodHandle() throws Throwable {
+        return (String) STRING_HANDLE_1.invokeExact(target, x);
+    }
+
+    @Benchmark
+    public String string1FastWrapper() {
+        return FAST_STRING_METHOD_1.invoke(target, x);
+    }
+
+    @Benchmark
+    public String string1ReflectionWrapper() {
+        return REFLECTION_STRING_METHOD_1.invoke(target, x);
+    }
+
+    @Benchmark
+    public String string1AsmWrapper() {
+        return ASM_STRING_METHOD_1.invoke(target, x);
+    }
+
+    @Benchmark
+    public String string1AsmWrapperSpecialized() {
+        return ASM_STRING_METHOD_1.invoke1(target, x);
+    }
+
+    @Benchmark
+    public String string1Lambda() {
+        return STRING_LAMBDA_1.apply(target, x);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Reference, 3 arguments
+    ///////////////////////////////////////////////////////////////////////////
+
+    @Benchmark
+    public String string3Direct() {
+        return target.stringMethod3(x, y, z);
+    }
+
+    @Benchmark
+    public Object string3Method() throws InvocationTargetException, IllegalAccessException {
+        return STRING_METHOD_3.invoke(target, x, y, z);
+    }
+
+    @Benchmark
+    public String string3MethodHandle() throws Throwable {
+        return (String) STRING_HANDLE_3.invokeExact(target, x, y, z);
+    }
+
+    @Benchmark
+    public String string3FastWrapper() {
+        return FAST_STRING_METHOD_3.invoke(target, x, y, z);
+    }
+
+    @Benchmark
+    public String string3ReflectionWrapper() {
+        return REFLECTION_STRING_METHOD_3.invoke(target, x, y, z);
+    }
+
+    @Benchmark
+    public String string3AsmWrapper() {
+        return ASM_STRING_METHOD_3.invoke(target, x, y, z);
+    }
+
+    @Benchmark
+    public String string3AsmWrapperSpecialized() {
+        return ASM_STRING_METHOD_3.invoke3(target, x, y, z);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+/**
+ * <a href="https://openjdk.java.net/projects/code-tools/jmh/">JMH</a> benchmarks of Reflector's wrappers.
+ * These are run using {@code benchmark} profile: {@code mvn -P benchmark verify}
+ * (JMH arguments may be passed using {@code jmh.args} property).
+ */
+package ru.progrm_jarvis.reflector.benchmark;
@@ -0,0 +1,50 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsmMethodDispatcherGeneratorTest {
+
+    @Test
+    void testHugeDispatcher() throws Exception {
+        val bytecode = new AtomicReference<byte[]>();
+        val definer = new SafeClassDefiner();
+        val generator = new AsmMethodDispatcherGenerator((parentLoader, className, classBytecode) -> {
+            bytecode.set(classBytecode);
+            return definer.defineClass(parentLoader, className, classBytecode);
+        });
+
+        val add = DispatchedObject.class.getDeclaredMethod("add", int.class);
+        val toString = Object.class.getDeclaredMethod("toString");
+        val methodCount = 1000;
+        val methods = new ArrayList<Method>(methodCount);
+        for (int i = 0; i < methodCount; i++) methods.add(i % 2 == 0 ? add : toString);
+
+        val dispatcher = generator.generate(DispatchedObject.class, methods);
+        assertEquals(methods, dispatcher.getMethods());
+
+        val instance = new DispatchedObject();
+        for (int id = 0; id < methodCount; id += 2) {
+            assertEquals(id + 1, dispatcher.invoke(id, instance, new Object[]{id}));
+            assertEquals(instance.toString(), dispatcher.invoke(id + 1, instance, new Object[0]));
+        }
+        for (val id : new int[]{-1, methodCount, methodCount + 1, 1 << 16, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+            assertThrows(IndexOutOfBoundsException.class, () -> dispatcher.invoke(id, instance, new Object[0]));
+        }
+
+        assertTrue(ClassFileUtil.assertNoHugeMethods(bytecode.get()).containsKey("invoke"));
+    }
+
+    public static class DispatchedObject {
+
+        public int add(final int value) {
+            return value + 1;
+        }
+    }
+}
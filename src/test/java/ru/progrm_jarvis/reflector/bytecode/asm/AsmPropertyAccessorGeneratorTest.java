@@ -0,0 +1,77 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.objectweb.asm.Opcodes.*;
+
+class AsmPropertyAccessorGeneratorTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testManyFields() throws Exception {
+        val fieldCount = 400;
+        val className = getClass().getName().concat("$ManyFields");
+        final Class<?> clazz;
+        {
+            val classWriter = AsmUtil.newClassWriter();
+            classWriter.visit(
+                    V1_8, ACC_PUBLIC | ACC_SUPER, AsmUtil.internalName(className), null,
+                    AsmUtil.OBJECT_INTERNAL_NAME, null
+            );
+            AsmUtil.generateEmptyConstructor(classWriter);
+            for (int i = 0; i < fieldCount; i++) classWriter
+                    .visitField(ACC_PRIVATE, "field" + i, i % 2 == 0 ? "I" : "Ljava/lang/String;", null, null)
+                    .visitEnd();
+            classWriter.visitEnd();
+            clazz = new SafeClassDefiner()
+                    .defineClass(getClass().getClassLoader(), className, classWriter.toByteArray());
+        }
+
+        val bytecode = new AtomicReference<byte[]>();
+        val definer = new SafeClassDefiner();
+        val generator = new AsmPropertyAccessorGenerator((parentLoader, generatedClassName, classBytecode) -> {
+            bytecode.set(classBytecode);
+            return definer.defineClass(parentLoader, generatedClassName, classBytecode);
+        });
+
+        val accessor = (PropertyAccessor<Object>) generator.generate(clazz);
+        val fields = accessor.getFields();
+        assertEquals(fieldCount, fields.size());
+
+        val instance = clazz.newInstance();
+        for (int index = 0; index < fieldCount; index++) {
+            val id = index;
+            // fields of the accessor should not be modified
+            val field = clazz.getDeclaredField(fields.get(index).getName());
+            field.setAccessible(true);
+            if (field.getType() == int.class) {
+                accessor.setInt(instance, index, index);
+                assertEquals(index, field.getInt(instance));
+                assertEquals(index, accessor.getInt(instance, index));
+                accessor.set(instance, index, -index);
+                assertEquals(-index, accessor.get(instance, index));
+                assertThrows(IllegalArgumentException.class, () -> accessor.getLong(instance, id));
+            } else {
+                accessor.set(instance, index, "value" + index);
+                assertEquals("value" + index, field.get(instance));
+                assertEquals("value" + index, accessor.get(instance, index));
+                assertThrows(ClassCastException.class, () -> accessor.set(instance, id, id));
+                assertThrows(IllegalArgumentException.class, () -> accessor.setInt(instance, id, id));
+            }
+        }
+        for (val index : new int[]{-1, fieldCount, fieldCount + 1, 1 << 16, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+            assertThrows(IndexOutOfBoundsException.class, () -> accessor.get(instance, index));
+            assertThrows(IndexOutOfBoundsException.class, () -> accessor.set(instance, index, null));
+            assertThrows(IndexOutOfBoundsException.class, () -> accessor.getInt(instance, index));
+        }
+        assertThrows(ClassCastException.class, () -> accessor.get(new Object(), 0));
+
+        val codeLengths = ClassFileUtil.assertNoHugeMethods(bytecode.get());
+        assertTrue(codeLengths.containsKey("get"));
+        assertTrue(codeLengths.containsKey("setInt"));
+    }
+}
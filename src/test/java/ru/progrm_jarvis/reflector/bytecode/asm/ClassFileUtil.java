@@ -0,0 +1,75 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.objectweb.asm.ClassReader;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Utilities for inspecting generated class files in tests.
+ */
+@UtilityClass
+class ClassFileUtil {
+
+    /**
+     * Default value of {@code -XX:HugeMethodLimit} above which methods are not compiled by JIT
+     */
+    final int HUGE_METHOD_LIMIT = 8000;
+
+    /**
+     * Gets the lengths of the code of the methods of the class.
+     *
+     * @param bytecode bytecode of the class
+     * @return lengths of the code of the methods by their names
+     */
+    Map<String, Integer> codeLengths(final byte[] bytecode) {
+        val reader = new ClassReader(bytecode);
+        val buffer = new char[reader.getMaxStringLength()];
+
+        // access flags, this and super classes are followed by interfaces
+        int offset = reader.header + 6;
+        offset += 2 + 2 * reader.readUnsignedShort(offset);
+
+        val fieldCount = reader.readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < fieldCount; i++) {
+            val attributeCount = reader.readUnsignedShort(offset + 6);
+            offset += 8;
+            for (int j = 0; j < attributeCount; j++) offset += 6 + reader.readInt(offset + 2);
+        }
+
+        val codeLengths = new HashMap<String, Integer>();
+        val methodCount = reader.readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < methodCount; i++) {
+            val name = reader.readUTF8(offset + 2, buffer);
+            val attributeCount = reader.readUnsignedShort(offset + 6);
+            offset += 8;
+            for (int j = 0; j < attributeCount; j++) {
+                // Code attribute starts with max_stack and max_locals followed by code_length
+                if ("Code".equals(reader.readUTF8(offset, buffer))) codeLengths.put(name, reader.readInt(offset + 10));
+                offset += 6 + reader.readInt(offset + 2);
+            }
+        }
+
+        return codeLengths;
+    }
+
+    /**
+     * Checks that none of the methods of the class exceeds {@link #HUGE_METHOD_LIMIT}.
+     *
+     * @param bytecode bytecode of the class
+     * @return lengths of the code of the methods by their names
+     * @throws AssertionError if any of the methods is too long
+     */
+    Map<String, Integer> assertNoHugeMethods(final byte[] bytecode) {
+        val codeLengths = codeLengths(bytecode);
+        for (val codeLength : codeLengths.entrySet()) if (codeLength.getValue() >= HUGE_METHOD_LIMIT) {
+            throw new AssertionError("Method " + codeLength.getKey() + " is " + codeLength.getValue() + " bytes long");
+        }
+
+        return codeLengths;
+    }
+}
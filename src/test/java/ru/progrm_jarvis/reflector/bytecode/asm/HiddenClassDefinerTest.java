@@ -0,0 +1,125 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Type;
+import ru.progrm_jarvis.reflector.Reflector;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmFieldWrapper;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.objectweb.asm.Opcodes.*;
+
+class HiddenClassDefinerTest {
+
+    private static final String CLASSNAME = HiddenClassDefinerTest.class.getTypeName().concat("$Generated");
+
+    private static byte[] generateSupplier(final String value) {
+        val classWriter = AsmUtil.newClassWriter();
+        classWriter.visit(
+                V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, AsmUtil.internalName(CLASSNAME), null,
+                AsmUtil.OBJECT_INTERNAL_NAME, new String[]{Type.getInternalName(Supplier.class)}
+        );
+        AsmUtil.generateEmptyConstructor(classWriter);
+        val method = classWriter.visitMethod(ACC_PUBLIC, "get", "()Ljava/lang/Object;", null, null);
+        method.visitCode();
+        method.visitLdcInsn(value);
+        method.visitInsn(ARETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+        classWriter.visitEnd();
+
+        return classWriter.toByteArray();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testDefineClass() throws Exception {
+        assumeTrue(HiddenClassDefiner.isAvailable());
+
+        val definer = new HiddenClassDefiner();
+        val loader = HiddenClassDefinerTest.class.getClassLoader();
+
+        // names do not have to be unique
+        val first = definer.defineClass(loader, CLASSNAME, generateSupplier("foo"));
+        val second = definer.defineClass(loader, CLASSNAME, generateSupplier("bar"));
+        assertNotSame(first, second);
+        assertTrue(first.getName().startsWith(CLASSNAME));
+        assertEquals(HiddenClassDefinerTest.class.getPackage().getName(), first.getPackage().getName());
+
+        assertEquals("foo", ((Supplier<String>) first.newInstance()).get());
+        assertEquals("bar", ((Supplier<String>) second.newInstance()).get());
+        assertThrows(ClassNotFoundException.class, () -> Class.forName(first.getName(), false, first.getClassLoader()));
+    }
+
+    @Test
+    void testGeneratedInvoker() throws Exception {
+        assumeTrue(HiddenClassDefiner.isAvailable());
+
+        val generator = new AsmMethodInvokerGenerator(new HiddenClassDefiner());
+        // private method is invoked using a method handle stored as a constant
+        val invoker = generator.generate(HiddenClassDefinerTest.class.getDeclaredMethod("concat", String.class));
+        assertEquals("foobar", invoker.invoke1(null, "bar"));
+
+        val publicInvoker = generator.generate(String.class.getMethod("length"));
+        assertEquals(3, publicInvoker.invoke0("foo"));
+    }
+
+    @Test
+    void testAccessorUnloading() throws Exception {
+        assumeTrue(Reflector.getCLASS_DEFINER() instanceof HiddenClassDefiner);
+
+        val references = createThrowawayAccessor();
+        for (int i = 0; i < 100 && references[0].get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        for (val reference : references) assertNull(reference.get());
+    }
+
+    /**
+     * Creates the accessor of the field of the class defined by a throwaway class loader.
+     *
+     * @return weak references to the class loader, the class and the class of the accessor
+     */
+    private static Reference<?>[] createThrowawayAccessor() throws Exception {
+        val className = HiddenClassDefinerTest.class.getTypeName().concat("$Throwaway");
+        val classWriter = AsmUtil.newClassWriter();
+        classWriter.visit(
+                V1_8, ACC_PUBLIC | ACC_SUPER, AsmUtil.internalName(className), null, AsmUtil.OBJECT_INTERNAL_NAME, null
+        );
+        AsmUtil.generateEmptyConstructor(classWriter);
+        classWriter.visitField(ACC_PUBLIC, "value", "I", null, null).visitEnd();
+        classWriter.visitEnd();
+        val bytecode = classWriter.toByteArray();
+
+        val loader = new ClassLoader(HiddenClassDefinerTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(final String name) throws ClassNotFoundException {
+                if (name.equals(className)) return defineClass(name, bytecode, 0, bytecode.length);
+
+                return super.findClass(name);
+            }
+        };
+        val clazz = loader.loadClass(className);
+        val instance = clazz.newInstance();
+
+        val wrapper = AsmFieldWrapper.from(clazz.getField("value"));
+        wrapper.setValue(instance, 5);
+        assertEquals(5, wrapper.getValue(instance));
+
+        return new Reference<?>[]{
+                new WeakReference<>(loader), new WeakReference<>(clazz),
+                new WeakReference<>(wrapper.getAccessor().getClass())
+        };
+    }
+
+    private static String concat(final String value) {
+        return "foo".concat(value);
+    }
+}
@@ -0,0 +1,118 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmMethodWrapper;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrecompiledAccessorsTest {
+
+    @Test
+    void testKey() throws NoSuchMethodException, NoSuchFieldException {
+        assertEquals(
+                "method:java.util.ArrayList#get(I)Ljava/lang/Object;",
+                PrecompiledAccessors.key(ArrayList.class.getMethod("get", int.class))
+        );
+        assertEquals(
+                "constructor:java.util.ArrayList#(I)V",
+                PrecompiledAccessors.key(ArrayList.class.getConstructor(int.class))
+        );
+        assertEquals(
+                "field:" + PublicClass.class.getName() + "#value",
+                PrecompiledAccessors.key(PublicClass.class.getField("value"))
+        );
+
+        val method = PublicClass.class.getMethod("add", int.class);
+        assertEquals(PrecompiledAccessors.className(method), PrecompiledAccessors.className(method));
+        assertTrue(PrecompiledAccessors.className(method).startsWith(PrecompiledAccessors.CLASS_NAME_PREFIX));
+    }
+
+    @Test
+    void testGenerateBytecode() throws Exception {
+        val definer = new SafeClassDefiner();
+        val loader = PrecompiledAccessorsTest.class.getClassLoader();
+        val instance = new PublicClass();
+
+        {
+            val method = PublicClass.class.getMethod("add", int.class);
+            assertTrue(PrecompiledAccessors.isPrecompilable(method));
+            val invoker = (MethodInvoker) definer.defineClass(
+                    loader, PrecompiledAccessors.className(method), PrecompiledAccessors.generateBytecode(method)
+            ).newInstance();
+            assertEquals(3, invoker.invoke1(instance, 3));
+        }
+
+        {
+            val field = PublicClass.class.getField("value");
+            assertTrue(PrecompiledAccessors.isPrecompilable(field));
+            val accessor = (FieldAccessor) definer.defineClass(
+                    loader, PrecompiledAccessors.className(field), PrecompiledAccessors.generateBytecode(field)
+            ).newInstance();
+            accessor.set(instance, 5);
+            assertEquals(5, accessor.get(instance));
+        }
+
+        {
+            val constructor = PublicClass.class.getConstructor();
+            assertTrue(PrecompiledAccessors.isPrecompilable(constructor));
+            val invoker = (ConstructorInvoker) definer.defineClass(
+                    loader, PrecompiledAccessors.className(constructor),
+                    PrecompiledAccessors.generateBytecode(constructor)
+            ).newInstance();
+            assertTrue(invoker.construct0() instanceof PublicClass);
+        }
+
+        {
+            val method = PublicClass.class.getDeclaredMethod("hidden");
+            assertFalse(PrecompiledAccessors.isPrecompilable(method));
+            assertThrows(IllegalArgumentException.class, () -> PrecompiledAccessors.generateBytecode(method));
+        }
+    }
+
+    @Test
+    void testLoad() throws NoSuchMethodException {
+        val method = PublicClass.class.getMethod("precompiled");
+        assertTrue(PrecompiledAccessors.methodInvoker(method) instanceof PrecompiledInvoker);
+        assertNull(PrecompiledAccessors.methodInvoker(PublicClass.class.getMethod("add", int.class)));
+        assertNull(PrecompiledAccessors.methodInvoker(PublicClass.class.getDeclaredMethod("hidden")));
+
+        // the wrapper uses the precompiled invoker instead of generating one
+        assertEquals(-1, AsmMethodWrapper.from(method).invoke0(new PublicClass()));
+    }
+
+    public static class PublicClass {
+        public int value;
+
+        public int add(final int delta) {
+            return value += delta;
+        }
+
+        public int precompiled() {
+            return 1;
+        }
+
+        private int hidden() {
+            return 2;
+        }
+    }
+
+    /**
+     * Invoker of {@link PublicClass#precompiled()} listed in the test index,
+     * it returns a different value so that it can be told apart from a generated one.
+     */
+    public static final class PrecompiledInvoker implements MethodInvoker {
+
+        @Override
+        public Object invoke(final Object instance, final Object[] arguments) {
+            return -1;
+        }
+
+        @Override
+        public Object invoke0(final Object instance) {
+            return -1;
+        }
+    }
+}
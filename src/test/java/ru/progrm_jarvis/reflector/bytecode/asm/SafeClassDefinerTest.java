@@ -0,0 +1,102 @@
+package ru.progrm_jarvis.reflector.bytecode.asm;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.objectweb.asm.Opcodes.*;
+
+class SafeClassDefinerTest {
+
+    private static final String CLASSNAME_PREFIX = SafeClassDefinerTest.class.getTypeName().concat("$Generated");
+
+    private static byte[] generateClass(final String name, final String superName) {
+        val classWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(
+                V1_8, ACC_PUBLIC | ACC_SUPER, AsmUtil.internalName(name), null, AsmUtil.internalName(superName), null
+        );
+        val constructor = classWriter.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, AsmUtil.internalName(superName), "<init>", "()V", false);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+        classWriter.visitEnd();
+
+        return classWriter.toByteArray();
+    }
+
+    @Test
+    void testDefineClasses() throws Exception {
+        val definer = new SafeClassDefiner();
+        val loader = SafeClassDefinerTest.class.getClassLoader();
+
+        val parentName = CLASSNAME_PREFIX.concat("Parent");
+        val childName = CLASSNAME_PREFIX.concat("Child");
+        val classes = new LinkedHashMap<String, byte[]>();
+        // the child goes first so that its parent has to be defined on demand
+        classes.put(childName, generateClass(childName, parentName));
+        classes.put(parentName, generateClass(parentName, "java.lang.Object"));
+
+        val definedClasses = definer.defineClasses(loader, classes);
+        assertEquals(classes.keySet(), definedClasses.keySet());
+
+        val parent = definedClasses.get(parentName);
+        val child = definedClasses.get(childName);
+        assertEquals(parentName, parent.getName());
+        assertSame(parent, child.getSuperclass());
+        assertSame(parent.getClassLoader(), child.getClassLoader());
+        assertTrue(parent.isInstance(child.newInstance()));
+
+        assertThrows(IllegalStateException.class, () -> definer.defineClasses(loader, Collections.singletonMap(
+                parentName, generateClass(parentName, "java.lang.Object")
+        )));
+    }
+
+    @Test
+    void testNameValidation() {
+        val definer = new SafeClassDefiner();
+        val loader = SafeClassDefinerTest.class.getClassLoader();
+
+        // classes visible from the parent loader are rejected by both single and batch definition
+        val visibleName = SafeClassDefinerTest.class.getName();
+        assertThrows(IllegalStateException.class, () -> definer.defineClass(
+                loader, visibleName, generateClass(visibleName, "java.lang.Object")
+        ));
+        assertThrows(IllegalStateException.class, () -> definer.defineClasses(loader, Collections.singletonMap(
+                visibleName, generateClass(visibleName, "java.lang.Object")
+        )));
+
+        // classes generated at runtime are rejected if they are defined by this or any parent generated loader
+        val generatedName = SafeClassDefinerTest.class.getPackage().getName()
+                .concat(".$$generated$$.SafeClassDefinerTest$Generated");
+        val generatedClass = definer.defineClass(
+                loader, generatedName, generateClass(generatedName, "java.lang.Object")
+        );
+        assertThrows(IllegalStateException.class, () -> definer.defineClass(
+                loader, generatedName, generateClass(generatedName, "java.lang.Object")
+        ));
+        assertThrows(IllegalStateException.class, () -> definer.defineClasses(
+                generatedClass.getClassLoader(),
+                Collections.singletonMap(generatedName, generateClass(generatedName, "java.lang.Object"))
+        ));
+    }
+
+    @Test
+    void testDefaultDefineClasses() {
+        val definer = new SafeClassDefiner();
+        final ClassDefiner defaultDefiner = definer::defineClass;
+
+        val name = CLASSNAME_PREFIX.concat("Single");
+        val definedClasses = defaultDefiner.defineClasses(
+                SafeClassDefinerTest.class.getClassLoader(),
+                Collections.singletonMap(name, generateClass(name, "java.lang.Object"))
+        );
+        assertEquals(name, definedClasses.get(name).getName());
+    }
+}
@@ -0,0 +1,109 @@
+package ru.progrm_jarvis.reflector.invoke;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.progrm_jarvis.reflector.invoke.LambdaMetafactoryUtil.createLambda;
+
+class LambdaMetafactoryUtilTest {
+
+    @Test
+    void testCreateLambdaFromMethod() throws NoSuchMethodException {
+        val instance = new PrivateStaticClass(2);
+
+        {
+            val method = PrivateStaticClass.class.getDeclaredMethod("multiply", int.class);
+
+            val function = createLambda(method, BiFunction.class);
+            assertEquals(6, function.apply(instance, 3));
+            assertSame(function, createLambda(method, BiFunction.class));
+
+            @SuppressWarnings("unchecked") final ToIntBiFunction<PrivateStaticClass, Integer> toIntFunction
+                    = createLambda(method, ToIntBiFunction.class);
+            assertEquals(8, toIntFunction.applyAsInt(instance, 4));
+        }
+
+        {
+            @SuppressWarnings("unchecked") final IntBinaryOperator operator = createLambda(
+                    PrivateStaticClass.class.getDeclaredMethod("sum", int.class, int.class), IntBinaryOperator.class
+            );
+            assertEquals(5, operator.applyAsInt(2, 3));
+        }
+
+        {
+            @SuppressWarnings("unchecked") final Consumer<PrivateStaticClass> consumer = createLambda(
+                    PrivateStaticClass.class.getDeclaredMethod("increment"), Consumer.class
+            );
+            consumer.accept(instance);
+            assertEquals(3, instance.value);
+        }
+
+        {
+            @SuppressWarnings("unchecked") final Function<List<?>, Integer> size = createLambda(
+                    List.class.getMethod("size"), Function.class
+            );
+            assertEquals(0, (int) size.apply(new ArrayList<>()));
+        }
+    }
+
+    @Test
+    void testCreateLambdaFromConstructor() throws NoSuchMethodException {
+        {
+            @SuppressWarnings("unchecked") final Supplier<PrivateStaticClass> supplier = createLambda(
+                    PrivateStaticClass.class.getDeclaredConstructor(), Supplier.class
+            );
+            assertEquals(1, supplier.get().value);
+        }
+
+        {
+            @SuppressWarnings("unchecked") final IntFunction<PrivateStaticClass> function = createLambda(
+                    PrivateStaticClass.class.getDeclaredConstructor(int.class), IntFunction.class
+            );
+            assertEquals(7, function.apply(7).value);
+        }
+    }
+
+    @Test
+    void testCreateLambdaWithInvalidInterface() throws NoSuchMethodException {
+        val method = PrivateStaticClass.class.getDeclaredMethod("multiply", int.class);
+
+        assertThrows(NullPointerException.class, () -> createLambda(method, null));
+        assertThrows(NullPointerException.class, () -> createLambda((Method) null, Function.class));
+        assertThrows(IllegalArgumentException.class, () -> createLambda(method, Object.class));
+        assertThrows(IllegalArgumentException.class, () -> createLambda(method, List.class));
+        assertThrows(IllegalArgumentException.class, () -> createLambda(method, Supplier.class));
+        // Comparator declares equals(Object) which should not be treated as its functional method
+        assertNotNull(createLambda(method, Comparator.class));
+    }
+
+    private static class PrivateStaticClass {
+        private int value;
+
+        private PrivateStaticClass() {
+            this(1);
+        }
+
+        private PrivateStaticClass(final int value) {
+            this.value = value;
+        }
+
+        private static int sum(final int a, final int b) {
+            return a + b;
+        }
+
+        private int multiply(final int multiplier) {
+            return value * multiplier;
+        }
+
+        private void increment() {
+            value++;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.profile;
+
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.progrm_jarvis.reflector.Reflector;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.asm.AsmMethodWrapper;
+import ru.progrm_jarvis.reflector.wrapper.fast.FastFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.reflection.ReflectionFieldWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessProfileTest {
+
+    private static final AtomicBoolean INITIALIZED = new AtomicBoolean();
+
+    @AfterEach
+    void tearDown() {
+        AccessProfile.stopRecording();
+        AccessProfile.clear();
+    }
+
+    @Test
+    void testRecord() throws NoSuchFieldException {
+        val field = Sample.class.getDeclaredField("value");
+        val otherField = Sample.class.getDeclaredField("other");
+        assertFalse(AccessProfile.isRecording());
+
+        AccessProfile.startRecording();
+        assertTrue(AccessProfile.isRecording());
+        // only creation of the wrapper is recorded but not getting it from cache
+        FastFieldWrapper.from(field);
+        FastFieldWrapper.from(field);
+        assertEquals(1, AccessProfile.hits(field, FastFieldWrapper.class));
+        assertEquals(field, Reflector.getDeclaredField(Sample.class, "value"));
+        assertEquals(field, Reflector.getAnyField(Sample.class, "value"));
+        assertEquals(2, AccessProfile.hits(field, null));
+
+        // wrappers which cannot be warmed up are not recorded
+        ReflectionFieldWrapper.from(field);
+        assertEquals(0, AccessProfile.hits(field, ReflectionFieldWrapper.class));
+        AccessProfile.record(field, String.class);
+        assertEquals(0, AccessProfile.hits(field, String.class));
+
+        AccessProfile.stopRecording();
+        AsmFieldWrapper.from(otherField);
+        assertEquals(0, AccessProfile.hits(otherField, AsmFieldWrapper.class));
+    }
+
+    @Test
+    void testSaveAndWarmUp(@TempDir final Path directory) throws NoSuchMethodException, IOException {
+        val method = Sample.class.getDeclaredMethod("get");
+        val constructor = Sample.class.getDeclaredConstructor();
+
+        AccessProfile.startRecording();
+        for (int i = 0; i < 3; i++) AsmMethodWrapper.from(method);
+        for (int i = 0; i < 2; i++) Reflector.getDeclaredConstructor(Sample.class);
+        AccessProfile.stopRecording();
+
+        val file = directory.resolve("profile").resolve("access.profile");
+        AccessProfile.save(file);
+        assertEquals(Arrays.asList(
+                Files.readAllLines(file, StandardCharsets.UTF_8).get(0),
+                "2 - constructor:" + Sample.class.getName() + "#()V",
+                "1 " + AsmMethodWrapper.class.getName() + " method:" + Sample.class.getName() + "#get()I"
+        ), Files.readAllLines(file, StandardCharsets.UTF_8));
+
+        // entries which cannot be warmed up are skipped
+        Files.write(file, Arrays.asList(
+                "1 - method:" + Sample.class.getName() + "#removed()V", "1 - field:no.such.Class#value", "malformed",
+                "1 " + AsmFieldWrapper.class.getName() + " method:" + Sample.class.getName() + "#get()I",
+                "1 " + ReflectionFieldWrapper.class.getName() + " field:" + Sample.class.getName() + "#value",
+                // neither the type nor the class declaring the member are initialized
+                "1 " + Initialized.class.getName() + " method:" + Initialized.class.getName() + "#run()V"
+        ), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        AccessProfile.clear();
+        AccessProfile.startRecording();
+        val pool = new ForkJoinPool(2);
+        try {
+            assertEquals(2, (int) AccessProfile.warmUp(file, getClass().getClassLoader(), pool).join());
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(0, AccessProfile.hits(constructor, null));
+        assertEquals(2, AccessProfile.warmUp(file));
+        assertFalse(INITIALIZED.get());
+    }
+
+    public static class Sample {
+
+        public int value, other;
+
+        public int get() {
+            return value;
+        }
+    }
+
+    public static class Initialized {
+
+        static {
+            INITIALIZED.set(true);
+        }
+
+        public static void run() {}
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.util;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassMemberRegistryTest {
+
+    @Test
+    void testFields() throws NoSuchFieldException {
+        val registry = ClassMemberRegistry.<String>fields();
+        val counter = new AtomicInteger();
+
+        val value = registry.get(
+                TestClass.class.getDeclaredField("a"), field -> field.getName() + counter.incrementAndGet()
+        );
+        assertEquals("a1", value);
+        // other instance of the same field
+        assertSame(value, registry.get(TestClass.class.getDeclaredField("a"), field -> "unexpected"));
+        assertEquals("b2", registry.get(
+                TestClass.class.getDeclaredField("b"), field -> field.getName() + counter.incrementAndGet()
+        ));
+        assertEquals(2, counter.get());
+
+        assertThrows(NullPointerException.class, () -> registry.get(null, field -> ""));
+        assertThrows(NullPointerException.class, () -> registry.get(TestClass.class.getDeclaredField("a"), null));
+    }
+
+    @Test
+    void testOverloadedMethods() throws NoSuchMethodException {
+        val registry = ClassMemberRegistry.<Method>methods();
+
+        val noArgs = TestClass.class.getDeclaredMethod("foo");
+        val intArg = TestClass.class.getDeclaredMethod("foo", int.class);
+        val stringArg = TestClass.class.getDeclaredMethod("foo", String.class);
+
+        assertSame(noArgs, registry.get(noArgs, method -> method));
+        assertSame(intArg, registry.get(intArg, method -> method));
+        assertSame(stringArg, registry.get(stringArg, method -> method));
+
+        assertSame(noArgs, registry.get(TestClass.class.getDeclaredMethod("foo"), method -> method));
+        assertSame(intArg, registry.get(TestClass.class.getDeclaredMethod("foo", int.class), method -> method));
+        assertSame(stringArg, registry.get(TestClass.class.getDeclaredMethod("foo", String.class), method -> method));
+    }
+
+    @Test
+    void testConstructors() throws NoSuchMethodException {
+        val registry = ClassMemberRegistry.<Integer>constructors();
+
+        assertEquals(0, (int) registry.get(TestClass.class.getDeclaredConstructor(), constructor -> 0));
+        assertEquals(1, (int) registry.get(TestClass.class.getDeclaredConstructor(int.class), constructor -> 1));
+        assertEquals(0, (int) registry.get(TestClass.class.getDeclaredConstructor(), constructor -> 2));
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestClass {
+        private int a, b;
+
+        private TestClass() {}
+
+        private TestClass(final int a) {
+            this.a = a;
+        }
+
+        private void foo() {}
+
+        private void foo(final int value) {}
+
+        private void foo(final String value) {}
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of constructor wrappers which are common for all families of constructor wrappers.
+ */
+public abstract class AbstractConstructorWrapperTest {
+
+    /**
+     * Tested factory of constructor wrappers
+     */
+    private final Function<Constructor<?>, ConstructorWrapper<?>> factory;
+
+    protected AbstractConstructorWrapperTest(final Function<Constructor<?>, ConstructorWrapper<?>> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates the wrapper of the constructor using the tested factory.
+     *
+     * @param constructor constructor to wrap
+     * @param <T> type of class whose constructor it is
+     * @return created wrapper
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> ConstructorWrapper<T> wrapper(final Constructor<T> constructor) {
+        return (ConstructorWrapper<T>) factory.apply(constructor);
+    }
+
+    @Test
+    void testFrom() throws NoSuchMethodException {
+        assertThrows(NullPointerException.class, () -> factory.apply(null));
+
+        val constructor = PrivateStaticClass.class.getDeclaredConstructor(int.class);
+        assertSame(wrapper(constructor), wrapper(constructor));
+    }
+
+    @Test
+    void testPrivateConstructors() throws NoSuchMethodException {
+        {
+            val constructor = wrapper(PrivateStaticClass.class.getDeclaredConstructor());
+
+            assertEquals(0, constructor.construct().value);
+            assertEquals(0, constructor.construct0().value);
+            assertThrows(IllegalArgumentException.class, () -> constructor.construct(1));
+            assertThrows(IllegalArgumentException.class, () -> constructor.construct1(1));
+        }
+
+        {
+            val constructor = wrapper(PrivateStaticClass.class.getDeclaredConstructor(int.class));
+
+            assertEquals(2, constructor.construct(2).value);
+            assertEquals(3, constructor.construct1(3).value);
+
+            assertThrows(IllegalArgumentException.class, () -> constructor.construct1(null));
+            assertThrows(IllegalArgumentException.class, () -> constructor.construct((Object) null));
+            assertThrows(ClassCastException.class, () -> constructor.construct1("1"));
+            assertThrows(IllegalArgumentException.class, () -> constructor.construct0());
+            assertThrows(IllegalArgumentException.class, () -> constructor.construct2(1, 2));
+        }
+
+        {
+            val constructor = wrapper(PrivateStaticClass.class.getDeclaredConstructor(String.class));
+
+            assertThrows(IOException.class, () -> constructor.construct("foo"));
+            assertThrows(IOException.class, () -> constructor.construct1("foo"));
+        }
+    }
+
+    @Test
+    void testPublicConstructors() throws NoSuchMethodException {
+        {
+            val constructor = wrapper(PublicStaticClass.class.getDeclaredConstructor(
+                    int.class, int.class, int.class, int.class, int.class, int.class
+            ));
+
+            assertEquals(21L, constructor.construct(1, 2, 3, 4, 5, 6).sum);
+            assertEquals(6L, constructor.construct6(1, 1, 1, 1, 1, 1).sum);
+            assertThrows(IllegalArgumentException.class, () -> constructor.construct5(1, 2, 3, 4, 5));
+        }
+
+        {
+            val constructor = wrapper(PublicStaticClass.class.getDeclaredConstructor(long.class, String.class));
+
+            assertEquals(4L, constructor.construct2(1L, "foo").sum);
+            assertThrows(ClassCastException.class, () -> constructor.construct2("1", "foo"));
+            assertThrows(IllegalArgumentException.class, () -> constructor.construct2(null, "foo"));
+            assertEquals(3L, constructor.construct(3L, "").sum);
+        }
+
+        {
+            @SuppressWarnings("rawtypes") final ConstructorWrapper<ArrayList> constructor
+                    = wrapper(ArrayList.class.getConstructor(int.class));
+
+            assertTrue(constructor.construct1(10).isEmpty());
+        }
+    }
+
+    protected static class PrivateStaticClass {
+        private final int value;
+
+        private PrivateStaticClass() {
+            this(0);
+        }
+
+        private PrivateStaticClass(final int value) {
+            this.value = value;
+        }
+
+        @SuppressWarnings("unused")
+        private PrivateStaticClass(final String value) throws IOException {
+            throw new IOException(value);
+        }
+    }
+
+    public static class PublicStaticClass {
+        public final long sum;
+
+        public PublicStaticClass(final int a, final int b, final int c, final int d, final int e, final int f) {
+            sum = a + b + c + d + e + f;
+        }
+
+        public PublicStaticClass(final long a, final String b) {
+            sum = a + b.length();
+        }
+    }
+}
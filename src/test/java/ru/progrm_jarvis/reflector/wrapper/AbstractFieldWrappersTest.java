@@ -0,0 +1,145 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of field wrappers' factories choosing the implementation specialized for the field's type
+ * which are common for all families of field wrappers.
+ */
+public abstract class AbstractFieldWrappersTest {
+
+    /**
+     * Tested factory of field wrappers
+     */
+    private final Function<Field, FieldWrapper<?, ?>> factory;
+
+    protected AbstractFieldWrappersTest(final Function<Field, FieldWrapper<?, ?>> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates the wrapper of the field of {@link PrivateStaticClass} using the tested factory.
+     *
+     * @param name name of the field
+     * @param <W> expected type of the wrapper
+     * @return created wrapper
+     * @throws NoSuchFieldException if there is no field with the given name
+     */
+    @SuppressWarnings("unchecked")
+    protected <W extends FieldWrapper<PrivateStaticClass, ?>> W wrapper(final String name) throws NoSuchFieldException {
+        return (W) factory.apply(PrivateStaticClass.class.getDeclaredField(name));
+    }
+
+    @Test
+    void testFrom() throws NoSuchFieldException {
+        assertThrows(NullPointerException.class, () -> factory.apply(null));
+
+        assertTrue(wrapper("booleanField") instanceof BooleanFieldWrapper);
+        assertTrue(wrapper("charField") instanceof CharFieldWrapper);
+        assertTrue(wrapper("intField") instanceof IntFieldWrapper);
+        assertTrue(wrapper("staticLongField") instanceof LongFieldWrapper);
+        assertTrue(wrapper("doubleField") instanceof DoubleFieldWrapper);
+
+        assertSame(wrapper("intField"), wrapper("intField"));
+    }
+
+    @Test
+    void testPrimitiveAccess() throws NoSuchFieldException {
+        val instance = new PrivateStaticClass();
+
+        {
+            final IntFieldWrapper<PrivateStaticClass> field = wrapper("intField");
+
+            assertEquals(1, field.getInt(instance));
+            field.setInt(instance, 2);
+            assertEquals(2, field.getInt(instance));
+            assertEquals(2, (int) field.getValue(instance));
+            field.setValue(instance, 3);
+            assertEquals(3, instance.intField);
+
+            assertThrows(NullPointerException.class, () -> field.getInt(null));
+            assertThrows(NullPointerException.class, () -> field.setValue(instance, null));
+        }
+
+        {
+            final BooleanFieldWrapper<PrivateStaticClass> field = wrapper("booleanField");
+
+            assertTrue(field.getBoolean(instance));
+            field.setBoolean(instance, false);
+            assertFalse(field.getBoolean(instance));
+        }
+
+        {
+            final CharFieldWrapper<PrivateStaticClass> field = wrapper("charField");
+
+            assertEquals('a', field.getChar(instance));
+            field.setChar(instance, 'b');
+            assertEquals('b', field.getChar(instance));
+        }
+
+        {
+            final DoubleFieldWrapper<PrivateStaticClass> field = wrapper("doubleField");
+
+            assertEquals(1.5, field.getDouble(instance));
+            field.setDouble(instance, 2.5);
+            assertEquals(2.5, field.getDouble(instance));
+        }
+    }
+
+    @Test
+    void testStaticPrimitiveAccess() throws NoSuchFieldException {
+        {
+            final LongFieldWrapper<PrivateStaticClass> field = wrapper("staticLongField");
+
+            // static fields are shared by tests of all families
+            assertEquals(PrivateStaticClass.staticLongField, field.getLong());
+            field.setLong(20L);
+            assertEquals(20L, field.getLong(null));
+            field.setLong(null, 30L);
+            assertEquals(30L, (long) field.getValue());
+            assertEquals(30L, PrivateStaticClass.staticLongField);
+        }
+
+        {
+            final ShortFieldWrapper<PrivateStaticClass> field = wrapper("staticFinalShortField");
+
+            assertEquals(PrivateStaticClass.staticFinalShortField, field.getShort());
+            field.setShort((short) 6);
+            assertEquals((short) 6, field.getShort());
+            assertEquals((short) 6, PrivateStaticClass.staticFinalShortField);
+        }
+    }
+
+    protected static class PrivateStaticClass {
+        private static long staticLongField = 10;
+        private static final short staticFinalShortField = Short.valueOf((short) 5);
+
+        private boolean booleanField = true;
+        private char charField = 'a';
+        private int intField = 1;
+        private double doubleField = 1.5;
+        private String stringField = "foo";
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import ru.progrm_jarvis.reflector.wrapper.reflection.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReflectionFieldWrappersTest extends AbstractFieldWrappersTest {
+
+    ReflectionFieldWrappersTest() {
+        super(ReflectionFieldWrappers::from);
+    }
+
+    @Test
+    void testImplementations() throws NoSuchFieldException {
+        assertTrue(wrapper("booleanField") instanceof ReflectionBooleanFieldWrapper);
+        assertTrue(wrapper("charField") instanceof ReflectionCharFieldWrapper);
+        assertTrue(wrapper("intField") instanceof ReflectionIntFieldWrapper);
+        assertTrue(wrapper("staticLongField") instanceof ReflectionLongFieldWrapper);
+        assertTrue(wrapper("doubleField") instanceof ReflectionDoubleFieldWrapper);
+        assertTrue(wrapper("stringField") instanceof ReflectionFieldWrapper);
+
+        val field = PrivateStaticClass.class.getDeclaredField("intField");
+        assertSame(ReflectionIntFieldWrapper.from(field), wrapper("intField"));
+        assertThrows(IllegalArgumentException.class, () -> ReflectionLongFieldWrapper.from(field));
+    }
+}
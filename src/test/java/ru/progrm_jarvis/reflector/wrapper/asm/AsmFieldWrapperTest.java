@@ -0,0 +1,164 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.asm;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.progrm_jarvis.reflector.wrapper.asm.AsmFieldWrapper.from;
+
+class AsmFieldWrapperTest {
+
+    @Test
+    void testFrom() throws NoSuchFieldException {
+        assertThrows(NullPointerException.class, () -> from(null));
+
+        val field = PrivateStaticClass.class.getDeclaredField("intField");
+        assertSame(from(field), from(field));
+    }
+
+    @Test
+    void testPrivateFields() throws NoSuchFieldException {
+        val instance = new PrivateStaticClass();
+
+        {
+            val field = AsmFieldWrapper.<PrivateStaticClass, Integer>from(
+                    PrivateStaticClass.class.getDeclaredField("intField")
+            );
+
+            assertEquals(1, (int) field.getValue(instance));
+            field.setValue(instance, 2);
+            assertEquals(2, (int) field.getValue(instance));
+            assertEquals(2, instance.intField);
+
+            assertThrows(NullPointerException.class, field::getValue);
+            assertThrows(NullPointerException.class, () -> field.getValue(null));
+            assertThrows(NullPointerException.class, () -> field.setValue(3));
+            assertThrows(NullPointerException.class, () -> field.setValue(instance, null));
+        }
+
+        {
+            val field = AsmFieldWrapper.<Object, Object>from(
+                    PrivateStaticClass.class.getDeclaredField("stringField")
+            );
+
+            assertEquals("foo", field.getValue(instance));
+            field.setValue(instance, "bar");
+            assertEquals("bar", field.getValue(instance));
+            field.setValue(instance, null);
+            assertNull(field.getValue(instance));
+
+            assertThrows(ClassCastException.class, () -> field.setValue(instance, 1));
+            assertThrows(ClassCastException.class, () -> field.getValue(new Object()));
+        }
+
+        {
+            val field = AsmFieldWrapper.<PrivateStaticClass, Long>from(
+                    PrivateStaticClass.class.getDeclaredField("volatileLongField")
+            );
+
+            assertEquals(3L, (long) field.getValue(instance));
+            field.setValue(instance, Long.MAX_VALUE);
+            assertEquals(Long.MAX_VALUE, (long) field.getValue(instance));
+        }
+
+        {
+            val field = AsmFieldWrapper.<PrivateStaticClass, Double>from(
+                    PrivateStaticClass.class.getDeclaredField("staticDoubleField")
+            );
+
+            assertEquals(1.5, (double) field.getValue());
+            assertEquals(1.5, (double) field.getValue(null));
+            assertEquals(1.5, (double) field.getValue(instance));
+            field.setValue(2.5);
+            assertEquals(2.5, (double) field.getValue());
+            field.setValue(instance, 3.5);
+            assertEquals(3.5, PrivateStaticClass.staticDoubleField);
+        }
+    }
+
+    @Test
+    void testFinalFields() throws NoSuchFieldException {
+        val instance = new PrivateStaticClass();
+
+        {
+            val field = AsmFieldWrapper.<PrivateStaticClass, Character>from(
+                    PrivateStaticClass.class.getDeclaredField("finalCharField")
+            );
+
+            assertEquals('a', (char) field.getValue(instance));
+            field.setValue(instance, 'b');
+            assertEquals('b', (char) field.getValue(instance));
+        }
+
+        {
+            val field = AsmFieldWrapper.<PrivateStaticClass, Object>from(
+                    PrivateStaticClass.class.getDeclaredField("staticFinalObjectField")
+            );
+
+            val value = new Object();
+            field.setValue(value);
+            assertSame(value, field.getValue());
+        }
+    }
+
+    @Test
+    void testPublicFields() throws NoSuchFieldException {
+        val instance = new PublicStaticClass();
+
+        {
+            val field = AsmFieldWrapper.<PublicStaticClass, Boolean>from(
+                    PublicStaticClass.class.getDeclaredField("booleanField")
+            );
+
+            assertTrue(field.getValue(instance));
+            field.setValue(instance, false);
+            assertFalse(field.getValue(instance));
+
+            assertThrows(NullPointerException.class, () -> field.getValue(null));
+            assertThrows(NullPointerException.class, () -> field.setValue(instance, null));
+        }
+
+        {
+            val field = AsmFieldWrapper.<PublicStaticClass, String>from(
+                    PublicStaticClass.class.getDeclaredField("staticStringField")
+            );
+
+            assertEquals("hello", field.getValue());
+            field.setValue(instance, "world");
+            assertEquals("world", field.getValue(null));
+            assertEquals("world", PublicStaticClass.staticStringField);
+        }
+    }
+
+    private static class PrivateStaticClass {
+        private static double staticDoubleField = 1.5;
+        private static final Object staticFinalObjectField = new Object();
+
+        private int intField = 1;
+        private String stringField = "foo";
+        private volatile long volatileLongField = 3;
+        private final char finalCharField = 'a';
+    }
+
+    public static class PublicStaticClass {
+        public static String staticStringField = "hello";
+
+        public boolean booleanField = true;
+    }
+}
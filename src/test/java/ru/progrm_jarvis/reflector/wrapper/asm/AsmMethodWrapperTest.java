@@ -0,0 +1,159 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.asm;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.progrm_jarvis.reflector.wrapper.asm.AsmMethodWrapper.from;
+
+class AsmMethodWrapperTest {
+
+    @Test
+    void testFrom() throws NoSuchMethodException {
+        assertThrows(NullPointerException.class, () -> from(null));
+
+        val method = PrivateStaticClass.class.getDeclaredMethod("intMethod", int.class);
+        assertSame(from(method), from(method));
+    }
+
+    @Test
+    void testPrivateMethods() throws NoSuchMethodException {
+        val instance = new PrivateStaticClass();
+
+        {
+            val method = AsmMethodWrapper.<PrivateStaticClass, Integer>from(
+                    PrivateStaticClass.class.getDeclaredMethod("intMethod", int.class)
+            );
+
+            assertEquals(3, (int) method.invoke(instance, 2));
+            assertEquals(4, (int) method.invoke1(instance, 3));
+
+            assertThrows(NullPointerException.class, () -> method.invoke(null, 1));
+            assertThrows(IllegalArgumentException.class, () -> method.invoke1(instance, null));
+            assertThrows(IllegalArgumentException.class, () -> method.invoke(instance, (Object) null));
+            assertThrows(ClassCastException.class, () -> method.invoke1(instance, "1"));
+            assertThrows(IllegalArgumentException.class, () -> method.invoke(instance));
+            assertThrows(IllegalArgumentException.class, () -> method.invoke0(instance));
+            assertThrows(IllegalArgumentException.class, () -> method.invoke2(instance, 1, 2));
+        }
+
+        {
+            val method = AsmMethodWrapper.<PrivateStaticClass, String>from(
+                    PrivateStaticClass.class.getDeclaredMethod("staticMethod", String.class, String.class)
+            );
+
+            assertEquals("ab", method.invokeStatic("a", "b"));
+            assertEquals("cd", method.invoke(null, "c", "d"));
+            assertEquals("ef", method.invoke2(instance, "e", "f"));
+        }
+
+        {
+            val method = AsmMethodWrapper.<PrivateStaticClass, Void>from(
+                    PrivateStaticClass.class.getDeclaredMethod("voidMethod")
+            );
+
+            assertNull(method.invoke(instance));
+            assertNull(method.invoke0(instance));
+            assertEquals(3, instance.counter);
+        }
+
+        {
+            val method = AsmMethodWrapper.<PrivateStaticClass, Void>from(
+                    PrivateStaticClass.class.getDeclaredMethod("throwingMethod")
+            );
+
+            assertThrows(IOException.class, () -> method.invoke(instance));
+            assertThrows(IOException.class, () -> method.invoke0(instance));
+        }
+    }
+
+    @Test
+    void testPublicMethods() throws NoSuchMethodException {
+        val instance = new PublicStaticClass();
+
+        {
+            val method = AsmMethodWrapper.<PublicStaticClass, Long>from(
+                    PublicStaticClass.class.getDeclaredMethod("longMethod", long.class, int.class)
+            );
+
+            assertEquals(12L, (long) method.invoke(instance, 10L, 2));
+            assertEquals(5L, (long) method.invoke2(instance, 4L, 1));
+
+            assertThrows(NullPointerException.class, () -> method.invoke2(null, 1L, 1));
+            assertThrows(ClassCastException.class, () -> method.invoke2(instance, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> method.invoke2(instance, null, 1));
+            assertThrows(IllegalArgumentException.class, () -> method.invoke(instance, 1L, null));
+            assertThrows(IllegalArgumentException.class, () -> method.invoke1(instance, 1L));
+        }
+
+        {
+            val method = AsmMethodWrapper.<PublicStaticClass, Integer>from(PublicStaticClass.class.getDeclaredMethod(
+                    "sum", int.class, int.class, int.class, int.class, int.class, int.class, int.class
+            ));
+
+            assertEquals(28, (int) method.invoke(instance, 1, 2, 3, 4, 5, 6, 7));
+            assertEquals(7, (int) method.invokeStatic(1, 1, 1, 1, 1, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> method.invoke6(instance, 1, 2, 3, 4, 5, 6));
+        }
+
+        {
+            val method = AsmMethodWrapper.<List<String>, Boolean>from(List.class.getMethod("add", Object.class));
+
+            val list = new ArrayList<String>();
+            assertTrue(method.invoke1(list, "foo"));
+            assertTrue(method.invoke(list, "bar"));
+            assertEquals(2, list.size());
+        }
+    }
+
+    private static class PrivateStaticClass {
+        private int counter = 1;
+
+        private static String staticMethod(final String a, final String b) {
+            return a + b;
+        }
+
+        private int intMethod(final int value) {
+            return counter + value;
+        }
+
+        private void voidMethod() {
+            counter++;
+        }
+
+        private void throwingMethod() throws IOException {
+            throw new IOException();
+        }
+    }
+
+    public static class PublicStaticClass {
+        public static int sum(final int a, final int b, final int c, final int d,
+                              final int e, final int f, final int g) {
+            return a + b + c + d + e + f + g;
+        }
+
+        public long longMethod(final long a, final int b) {
+            return a + b;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.fast;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrappersTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastFieldWrappersTest extends AbstractFieldWrappersTest {
+
+    FastFieldWrappersTest() {
+        super(FastFieldWrappers::from);
+    }
+
+    @Test
+    void testImplementations() throws NoSuchFieldException {
+        assertTrue(wrapper("booleanField") instanceof FastBooleanFieldWrapper);
+        assertTrue(wrapper("charField") instanceof FastCharFieldWrapper);
+        assertTrue(wrapper("intField") instanceof FastIntFieldWrapper);
+        assertTrue(wrapper("staticLongField") instanceof FastLongFieldWrapper);
+        assertTrue(wrapper("doubleField") instanceof FastDoubleFieldWrapper);
+        assertTrue(wrapper("stringField") instanceof FastFieldWrapper);
+
+        val field = PrivateStaticClass.class.getDeclaredField("intField");
+        assertSame(FastIntFieldWrapper.from(field), wrapper("intField"));
+        assertThrows(IllegalArgumentException.class, () -> FastLongFieldWrapper.from(field));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.tiered;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredWrappersTest {
+
+    @Test
+    void testFrom() throws NoSuchMethodException, NoSuchFieldException {
+        val method = PrivateStaticClass.class.getDeclaredMethod("add", int.class);
+        assertSame(TieredMethodWrapper.from(method), TieredMethodWrapper.from(method));
+        assertNotSame(TieredMethodWrapper.from(method, 1), TieredMethodWrapper.from(method, 1));
+        assertThrows(IllegalArgumentException.class, () -> TieredMethodWrapper.from(method, -1));
+
+        val field = PrivateStaticClass.class.getDeclaredField("value");
+        assertSame(TieredFieldWrapper.from(field), TieredFieldWrapper.from(field));
+
+        val constructor = PrivateStaticClass.class.getDeclaredConstructor(int.class);
+        assertSame(TieredConstructorWrapper.from(constructor), TieredConstructorWrapper.from(constructor));
+    }
+
+    @Test
+    void testMethodUpgrade() throws NoSuchMethodException {
+        val instance = new PrivateStaticClass(0);
+        val method = TieredMethodWrapper.<PrivateStaticClass, Integer>from(
+                PrivateStaticClass.class.getDeclaredMethod("add", int.class), 3
+        );
+
+        for (int i = 1; i <= 3; i++) {
+            assertEquals(i, (int) method.invoke1(instance, 1));
+            assertFalse(method.isUpgraded());
+        }
+        assertEquals(4, (int) method.invoke(instance, 1));
+        assertTrue(method.isUpgraded());
+        assertEquals(5, (int) method.invoke1(instance, 1));
+        assertThrows(IllegalArgumentException.class, () -> method.invoke0(instance));
+    }
+
+    @Test
+    void testFieldUpgrade() throws NoSuchFieldException {
+        val instance = new PrivateStaticClass(1);
+        val field = TieredFieldWrapper.<PrivateStaticClass, Integer>from(
+                PrivateStaticClass.class.getDeclaredField("value"), 1
+        );
+
+        assertEquals(1, (int) field.getValue(instance));
+        assertFalse(field.isUpgraded());
+        field.setValue(instance, 2);
+        assertTrue(field.isUpgraded());
+        assertEquals(2, (int) field.getValue(instance));
+    }
+
+    @Test
+    void testConstructorUpgrade() throws NoSuchMethodException {
+        {
+            val constructor = TieredConstructorWrapper.from(
+                    PrivateStaticClass.class.getDeclaredConstructor(int.class), 0
+            );
+
+            assertFalse(constructor.isUpgraded());
+            assertEquals(1, constructor.construct1(1).value);
+            assertTrue(constructor.isUpgraded());
+            assertNull(constructor.getUpgradeFailure());
+            assertEquals(2, constructor.construct(2).value);
+        }
+
+        {
+            // accessor of a constructor of an abstract class cannot be generated so reflection is kept
+            val constructor = TieredConstructorWrapper.from(AbstractClass.class.getDeclaredConstructor(), 0);
+
+            assertThrows(InstantiationException.class, constructor::construct0);
+            assertFalse(constructor.isUpgraded());
+            assertNotNull(constructor.getUpgradeFailure());
+        }
+    }
+
+    private static class PrivateStaticClass {
+        private int value;
+
+        private PrivateStaticClass(final int value) {
+            this.value = value;
+        }
+
+        private int add(final int delta) {
+            return value += delta;
+        }
+    }
+
+    private abstract static class AbstractClass {}
+}
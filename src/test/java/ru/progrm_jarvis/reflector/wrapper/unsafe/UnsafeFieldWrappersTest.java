@@ -0,0 +1,243 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.unsafe;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import ru.progrm_jarvis.reflector.wrapper.AtomicFieldWrapper;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnsafeFieldWrappersTest {
+
+    @Test
+    void testFrom() throws NoSuchFieldException {
+        assertThrows(NullPointerException.class, () -> UnsafeFieldWrappers.from(null));
+
+        assertTrue(UnsafeFieldWrappers.from(PrivateStaticClass.class.getDeclaredField("booleanField"))
+                instanceof UnsafeBooleanFieldWrapper);
+        assertTrue(UnsafeFieldWrappers.from(PrivateStaticClass.class.getDeclaredField("charField"))
+                instanceof UnsafeCharFieldWrapper);
+        assertTrue(UnsafeFieldWrappers.from(PrivateStaticClass.class.getDeclaredField("intField"))
+                instanceof UnsafeIntFieldWrapper);
+        assertTrue(UnsafeFieldWrappers.from(PrivateStaticClass.class.getDeclaredField("staticLongField"))
+                instanceof UnsafeLongFieldWrapper);
+        assertTrue(UnsafeFieldWrappers.from(PrivateStaticClass.class.getDeclaredField("doubleField"))
+                instanceof UnsafeDoubleFieldWrapper);
+        assertTrue(UnsafeFieldWrappers.from(PrivateStaticClass.class.getDeclaredField("stringField"))
+                instanceof UnsafeFieldWrapper);
+
+        val field = PrivateStaticClass.class.getDeclaredField("intField");
+        assertSame(UnsafeIntFieldWrapper.from(field), UnsafeIntFieldWrapper.from(field));
+        assertThrows(IllegalArgumentException.class, () -> UnsafeLongFieldWrapper.from(field));
+        assertThrows(IllegalArgumentException.class, () -> UnsafeFieldWrapper.from(field));
+    }
+
+    @Test
+    void testPrimitiveAccess() throws NoSuchFieldException {
+        val instance = new PrivateStaticClass();
+
+        {
+            val field = UnsafeIntFieldWrapper.<PrivateStaticClass>from(
+                    PrivateStaticClass.class.getDeclaredField("intField")
+            );
+
+            assertEquals(1, field.getInt(instance));
+            field.setInt(instance, 2);
+            assertEquals(2, field.getInt(instance));
+            assertEquals(2, (int) field.getValue(instance));
+            field.setValue(instance, 3);
+            assertEquals(3, instance.intField);
+
+            field.setIntVolatile(instance, 4);
+            assertEquals(4, field.getIntVolatile(instance));
+            field.setIntOrdered(instance, 5);
+            assertEquals(5, field.getInt(instance));
+            assertTrue(field.compareAndSetInt(instance, 5, 6));
+            assertFalse(field.compareAndSetInt(instance, 5, 7));
+            assertEquals(6, instance.intField);
+
+            assertThrows(NullPointerException.class, () -> field.getInt(null));
+            assertThrows(NullPointerException.class, () -> field.setValue(instance, null));
+            @SuppressWarnings("rawtypes") final UnsafeIntFieldWrapper rawField = field;
+            assertThrows(ClassCastException.class, () -> rawField.setInt("not an instance", 7));
+        }
+
+        {
+            val field = UnsafeBooleanFieldWrapper.<PrivateStaticClass>from(
+                    PrivateStaticClass.class.getDeclaredField("booleanField")
+            );
+
+            assertTrue(field.getBoolean(instance));
+            field.setBoolean(instance, false);
+            assertFalse(field.getBoolean(instance));
+            field.setBooleanVolatile(instance, true);
+            assertTrue(field.getBooleanVolatile(instance));
+        }
+
+        {
+            val field = UnsafeCharFieldWrapper.<PrivateStaticClass>from(
+                    PrivateStaticClass.class.getDeclaredField("charField")
+            );
+
+            assertEquals('a', field.getChar(instance));
+            field.setChar(instance, 'b');
+            assertEquals('b', field.getChar(instance));
+        }
+
+        {
+            val field = UnsafeDoubleFieldWrapper.<PrivateStaticClass>from(
+                    PrivateStaticClass.class.getDeclaredField("doubleField")
+            );
+
+            assertEquals(1.5, field.getDouble(instance));
+            field.setDouble(instance, 2.5);
+            assertEquals(2.5, field.getDouble(instance));
+        }
+    }
+
+    @Test
+    void testStaticPrimitiveAccess() throws NoSuchFieldException {
+        {
+            val field = UnsafeLongFieldWrapper.<PrivateStaticClass>from(
+                    PrivateStaticClass.class.getDeclaredField("staticLongField")
+            );
+
+            assertEquals(10L, field.getLong());
+            field.setLong(20L);
+            assertEquals(20L, field.getLong(null));
+            field.setLong(null, 30L);
+            assertEquals(30L, (long) field.getValue());
+            assertTrue(field.compareAndSetLong(null, 30L, 40L));
+            assertEquals(40L, field.getLongVolatile(null));
+        }
+
+        {
+            val field = UnsafeShortFieldWrapper.<PrivateStaticClass>from(
+                    PrivateStaticClass.class.getDeclaredField("staticFinalShortField")
+            );
+
+            assertEquals((short) 5, field.getShort());
+            field.setShort((short) 6);
+            assertEquals((short) 6, field.getShort());
+        }
+    }
+
+    @Test
+    void testObjectAccess() throws NoSuchFieldException {
+        val instance = new PrivateStaticClass();
+        val field = UnsafeFieldWrapper.<PrivateStaticClass, String>from(
+                PrivateStaticClass.class.getDeclaredField("stringField")
+        );
+
+        assertEquals("foo", field.getValue(instance));
+        field.setValue(instance, "bar");
+        assertEquals("bar", instance.stringField);
+        field.setValueVolatile(instance, "baz");
+        assertEquals("baz", field.getValueVolatile(instance));
+        field.setValueOrdered(instance, null);
+        assertNull(field.getValue(instance));
+
+        val value = "qux";
+        assertTrue(field.compareAndSet(instance, null, value));
+        assertFalse(field.compareAndSet(instance, null, "quux"));
+        assertSame(value, instance.stringField);
+
+        assertThrows(NullPointerException.class, () -> field.getValue());
+
+        @SuppressWarnings("rawtypes") final UnsafeFieldWrapper rawField = field;
+        assertThrows(ClassCastException.class, () -> rawField.getValue("not an instance"));
+        assertThrows(ClassCastException.class, () -> rawField.setValue(instance, 1));
+        assertThrows(ClassCastException.class, () -> rawField.compareAndSet(instance, value, 1));
+        assertThrows(ClassCastException.class, () -> rawField.getAndSet(instance, 1));
+        assertSame(value, instance.stringField);
+    }
+
+    @Test
+    void testAtomicAccess() throws NoSuchFieldException, InterruptedException {
+        assertThrows(IllegalArgumentException.class, () -> UnsafeFieldWrappers.atomicFrom(
+                PrivateStaticClass.class.getDeclaredField("doubleField")
+        ));
+        assertTrue(UnsafeFieldWrappers.atomicFrom(PrivateStaticClass.class.getDeclaredField("intField"))
+                instanceof UnsafeIntFieldWrapper);
+
+        val instance = new PrivateStaticClass();
+
+        {
+            val field = UnsafeIntFieldWrapper.<PrivateStaticClass>from(
+                    PrivateStaticClass.class.getDeclaredField("intField")
+            );
+
+            assertEquals(1, field.getAndSetInt(instance, 2));
+            assertEquals(2, field.getAndAddInt(instance, 3));
+            assertEquals(8, field.addAndGetInt(instance, 3));
+            assertEquals(8, field.getAndComputeInt(instance, value -> value * 2));
+            assertEquals(17, field.computeAndGetInt(instance, value -> value + 1));
+            assertEquals(17, (int) field.getAndUpdate(instance, 1));
+            assertEquals(2, (int) field.computeAndGet(instance, value -> value + 1));
+            assertTrue(field.compareAndSet(instance, 2, 0));
+
+            val threads = new ArrayList<Thread>();
+            for (int i = 0; i < 4; i++) threads.add(new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    field.getAndAddInt(instance, 1);
+                    field.computeAndGetInt(instance, value -> value + 1);
+                }
+            }));
+            for (val thread : threads) thread.start();
+            for (val thread : threads) thread.join();
+
+            assertEquals(80_000, instance.intField);
+        }
+
+        {
+            val field = UnsafeFieldWrappers.<PrivateStaticClass, Long>atomicFrom(
+                    PrivateStaticClass.class.getDeclaredField("staticLongField")
+            );
+
+            field.setValue(10L);
+            assertEquals(10L, (long) field.getAndSet(null, 20L));
+            assertEquals(20L, (long) field.getAndCompute(value -> value + 1));
+            assertTrue(field.compareAndSet(null, 21L, 22L));
+            assertEquals(22L, (long) field.getValue());
+        }
+
+        {
+            final AtomicFieldWrapper<PrivateStaticClass, String> field = UnsafeFieldWrapper.from(
+                    PrivateStaticClass.class.getDeclaredField("stringField")
+            );
+
+            assertEquals("foo", field.getAndSet(instance, "bar"));
+            assertEquals("barbaz", field.computeAndGet(instance, value -> value + "baz"));
+            assertEquals("barbaz", field.getAndUpdate(instance, "qux"));
+            assertEquals("qux", instance.stringField);
+        }
+    }
+
+    private static class PrivateStaticClass {
+        private static long staticLongField = 10;
+        private static final short staticFinalShortField = Short.valueOf((short) 5);
+
+        private boolean booleanField = true;
+        private char charField = 'a';
+        private int intField = 1;
+        private double doubleField = 1.5;
+        private String stringField = "foo";
+    }
+}
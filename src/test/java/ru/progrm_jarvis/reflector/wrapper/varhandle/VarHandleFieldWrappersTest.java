@@ -0,0 +1,135 @@
+/*
+ *  Copyright 2018 Petr P.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package ru.progrm_jarvis.reflector.wrapper.varhandle;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import ru.progrm_jarvis.reflector.wrapper.AtomicIntFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.AtomicLongFieldWrapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VarHandleFieldWrappersTest {
+
+    @Test
+    void testUnavailable() throws NoSuchFieldException {
+        assumeFalse(VarHandleFieldWrappers.isAvailable());
+
+        val field = PrivateStaticClass.class.getDeclaredField("intField");
+        assertThrows(UnsupportedOperationException.class, () -> VarHandleFieldWrappers.from(field));
+    }
+
+    @Test
+    void testFrom() throws NoSuchFieldException {
+        assumeTrue(VarHandleFieldWrappers.isAvailable());
+
+        assertThrows(NullPointerException.class, () -> VarHandleFieldWrappers.from(null));
+
+        val intField = PrivateStaticClass.class.getDeclaredField("intField");
+        assertTrue(VarHandleFieldWrappers.from(intField) instanceof AtomicIntFieldWrapper);
+        assertSame(VarHandleFieldWrappers.from(intField), VarHandleFieldWrappers.from(intField));
+        assertTrue(VarHandleFieldWrappers.from(PrivateStaticClass.class.getDeclaredField("staticLongField"))
+                instanceof AtomicLongFieldWrapper);
+    }
+
+    @Test
+    void testPrimitiveAccess() throws NoSuchFieldException {
+        assumeTrue(VarHandleFieldWrappers.isAvailable());
+
+        val instance = new PrivateStaticClass();
+
+        {
+            val field = (AtomicIntFieldWrapper<PrivateStaticClass>) VarHandleFieldWrappers
+                    .<PrivateStaticClass, Integer>from(PrivateStaticClass.class.getDeclaredField("intField"));
+            val varHandleField = (VarHandleFieldWrapper<PrivateStaticClass, Integer>) field;
+
+            assertEquals(1, field.getInt(instance));
+            field.setInt(instance, 2);
+            assertEquals(2, (int) varHandleField.getValueOpaque(instance));
+            varHandleField.setValueRelease(instance, 3);
+            assertEquals(3, (int) varHandleField.getValueAcquire(instance));
+            varHandleField.setValueVolatile(instance, 4);
+            assertEquals(4, instance.intField);
+
+            assertTrue(field.compareAndSetInt(instance, 4, 5));
+            assertFalse(field.compareAndSetInt(instance, 4, 6));
+            assertEquals(5, field.getAndAddInt(instance, 2));
+            assertEquals(10, field.computeAndGetInt(instance, value -> value + 3));
+            assertEquals(10, field.getAndSetInt(instance, 0));
+            assertEquals(0, instance.intField);
+
+            assertThrows(NullPointerException.class, () -> field.getInt(null));
+            assertThrows(NullPointerException.class, () -> field.setValue(instance, null));
+        }
+
+        {
+            val field = (AtomicLongFieldWrapper<PrivateStaticClass>) VarHandleFieldWrappers
+                    .<PrivateStaticClass, Long>from(PrivateStaticClass.class.getDeclaredField("staticLongField"));
+
+            field.setLong(1L);
+            assertEquals(1L, field.getLong());
+            assertEquals(1L, field.getAndAddLong(null, 2L));
+            assertEquals(6L, field.computeAndGetLong(instance, value -> value * 2));
+            assertEquals(6L, PrivateStaticClass.staticLongField);
+        }
+    }
+
+    @Test
+    void testObjectAccess() throws NoSuchFieldException {
+        assumeTrue(VarHandleFieldWrappers.isAvailable());
+
+        val instance = new PrivateStaticClass();
+
+        {
+            val field = VarHandleFieldWrappers.<PrivateStaticClass, String>from(
+                    PrivateStaticClass.class.getDeclaredField("stringField")
+            );
+
+            assertEquals("foo", field.getValue(instance));
+            field.setValueOpaque(instance, "bar");
+            assertEquals("bar", field.getValueVolatile(instance));
+            assertEquals("bar", field.getAndSet(instance, "baz"));
+            assertEquals("baz!", field.computeAndGet(instance, value -> value + '!'));
+            assertEquals("baz!", instance.stringField);
+
+            @SuppressWarnings("unchecked") val rawField = (VarHandleFieldWrapper<Object, String>) (Object) field;
+            assertThrows(ClassCastException.class, () -> rawField.setValue(new Object(), "qux"));
+        }
+
+        {
+            val field = VarHandleFieldWrappers.<PrivateStaticClass, String>from(
+                    PrivateStaticClass.class.getDeclaredField("finalStringField")
+            );
+
+            assertEquals("final", field.getValue(instance));
+            assertThrows(UnsupportedOperationException.class, () -> field.setValue(instance, "changed"));
+        }
+    }
+
+    private static class PrivateStaticClass {
+
+        private static long staticLongField;
+
+        private int intField = 1;
+
+        private String stringField = "foo";
+
+        private final String finalStringField = "final";
+    }
+}